@@ -0,0 +1,66 @@
+package com.zsxq.sdk.benchmark;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.exception.ZsxqException;
+import com.zsxq.sdk.http.ResponseDecoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 信封解析基准：小响应和业务错误响应的固定开销
+ *
+ * 大多数写接口和状态类接口的 resp_data 只有几个字段，此时耗时主要来自信封本身
+ * （succeeded / code / error 的解析和异常构造），而不是数据反序列化。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnvelopeBenchmark {
+
+    private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+
+    private byte[] small;
+    private byte[] error;
+    private ResponseDecoder decoder;
+
+    @Setup
+    public void setUp() {
+        small = Fixtures.smallSuccess();
+        error = Fixtures.errorEnvelope();
+        Gson gson = new GsonBuilder()
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .create();
+        decoder = new ResponseDecoder(gson);
+    }
+
+    @Benchmark
+    public Object smallSuccess() throws IOException {
+        return decoder.decode(reader(small), MAP_TYPE, "bench");
+    }
+
+    @Benchmark
+    public Object businessError() throws IOException {
+        try {
+            return decoder.decode(reader(error), MAP_TYPE, "bench");
+        } catch (ZsxqException e) {
+            return e;
+        }
+    }
+
+    private static InputStreamReader reader(byte[] body) {
+        return new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,181 @@
+package com.zsxq.sdk.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * 基准测试用的响应数据
+ *
+ * 结构与真实接口一致（包括 SDK 模型中没有的字段，如 latest_likes、show_comments、user_specific），
+ * 使用固定随机种子生成，保证每次运行的数据完全相同。
+ */
+public final class Fixtures {
+
+    private static final String TEXT_SEED = "今天和大家分享一下我们在知识星球运营中的一些经验。"
+            + "首先是内容节奏，每周固定三次更新，周一发布行业观察，周三做问答整理，周五复盘本周的精华话题；"
+            + "其次是打卡活动，训练营按 21 天为一个周期，配合积分榜提高参与度。欢迎大家在评论区补充 👍";
+
+    private Fixtures() {
+    }
+
+    /**
+     * 话题列表响应（/v2/groups/{id}/topics）
+     */
+    public static byte[] topicsPage(int count) {
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder(count * 2048);
+        sb.append("{\"succeeded\":true,\"resp_data\":{\"topics\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(',');
+            appendTopic(sb, random, i);
+        }
+        sb.append("]}}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendTopic(StringBuilder sb, Random random, int index) {
+        long topicId = 1_000_000_000_000_000L + random.nextInt(Integer.MAX_VALUE) * 1000L + index;
+        sb.append("{\"topic_id\":").append(topicId)
+                .append(",\"topic_uid\":\"").append(Long.toHexString(topicId)).append('"')
+                .append(",\"group\":{\"group_id\":88885121521552,\"name\":\"SDK 开发者交流\",\"type\":\"pay\","
+                        + "\"background_url\":\"https://images.zsxq.com/bg.jpg\"}")
+                .append(",\"type\":\"talk\"")
+                .append(",\"talk\":{\"owner\":");
+        appendUser(sb, random);
+        sb.append(",\"text\":\"").append(text(random)).append("\",\"images\":[");
+        int images = random.nextInt(4);
+        for (int i = 0; i < images; i++) {
+            if (i > 0) sb.append(',');
+            long imageId = 2_000_000_000_000L + random.nextInt(1_000_000);
+            sb.append("{\"image_id\":").append(imageId).append(",\"type\":\"jpg\"");
+            appendImageSize(sb, "thumbnail", imageId, 216);
+            appendImageSize(sb, "large", imageId, 1080);
+            appendImageSize(sb, "original", imageId, 2160);
+            sb.append('}');
+        }
+        sb.append("]}")
+                .append(",\"latest_likes\":[");
+        for (int i = 0; i < 3; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"create_time\":\"").append(time(random)).append("\",\"owner\":");
+            appendUser(sb, random);
+            sb.append('}');
+        }
+        sb.append("],\"show_comments\":[");
+        for (int i = 0; i < 2; i++) {
+            if (i > 0) sb.append(',');
+            appendComment(sb, random);
+        }
+        sb.append("],\"likes_count\":").append(random.nextInt(500))
+                .append(",\"rewards_count\":").append(random.nextInt(10))
+                .append(",\"comments_count\":").append(random.nextInt(200))
+                .append(",\"reading_count\":").append(random.nextInt(20000))
+                .append(",\"readers_count\":").append(random.nextInt(5000))
+                .append(",\"digested\":").append(random.nextBoolean())
+                .append(",\"sticky\":false")
+                .append(",\"create_time\":\"").append(time(random)).append('"')
+                .append(",\"user_specific\":{\"liked\":false,\"subscribed\":false}")
+                .append('}');
+    }
+
+    /**
+     * 评论列表响应（/v2/topics/{id}/comments）
+     */
+    public static byte[] commentsPage(int count) {
+        Random random = new Random(7);
+        StringBuilder sb = new StringBuilder(count * 768);
+        sb.append("{\"succeeded\":true,\"resp_data\":{\"comments\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(',');
+            appendComment(sb, random);
+        }
+        sb.append("]}}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendComment(StringBuilder sb, Random random) {
+        sb.append("{\"comment_id\":").append(3_000_000_000_000_000L + random.nextInt(Integer.MAX_VALUE))
+                .append(",\"create_time\":\"").append(time(random)).append('"')
+                .append(",\"owner\":");
+        appendUser(sb, random);
+        sb.append(",\"text\":\"").append(text(random), 0, 40 + random.nextInt(60)).append('"')
+                .append(",\"likes_count\":").append(random.nextInt(50))
+                .append(",\"rewards_count\":0,\"sticky\":").append(random.nextInt(20) == 0)
+                .append('}');
+    }
+
+    /**
+     * 打卡项目列表响应（/v2/groups/{id}/checkins）
+     */
+    public static byte[] checkinsPage(int count) {
+        Random random = new Random(21);
+        StringBuilder sb = new StringBuilder(count * 1024);
+        sb.append("{\"succeeded\":true,\"resp_data\":{\"checkins\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"checkin_id\":").append(100_000 + random.nextInt(900_000))
+                    .append(",\"group\":{\"group_id\":88885121521552,\"name\":\"SDK 开发者交流\"}")
+                    .append(",\"owner\":");
+            appendUser(sb, random);
+            sb.append(",\"title\":\"21 天读书打卡第 ").append(i + 1).append(" 期\"")
+                    .append(",\"text\":\"").append(text(random), 0, 80).append('"')
+                    .append(",\"cover_url\":\"https://images.zsxq.com/checkin/").append(i).append(".jpg\"")
+                    .append(",\"status\":\"").append(random.nextBoolean() ? "ongoing" : "closed").append('"')
+                    .append(",\"checkin_days\":21,\"type\":\"accumulated\"")
+                    .append(",\"joined_count\":").append(random.nextInt(3000))
+                    .append(",\"create_time\":\"").append(time(random)).append('"')
+                    .append(",\"begin_time\":\"").append(time(random)).append('"')
+                    .append(",\"end_time\":\"").append(time(random)).append('"')
+                    .append(",\"validity\":{\"long_period\":false,\"expiration_time\":\"").append(time(random))
+                    .append("\"}}");
+        }
+        sb.append("]}}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 小响应：只有几个标量字段的 resp_data（如未读数、开关类接口）
+     */
+    public static byte[] smallSuccess() {
+        return ("{\"succeeded\":true,\"resp_data\":{\"unread_topics_count\":{\"88885121521552\":3,"
+                + "\"51122858222824\":0},\"updated\":true}}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 业务错误响应（频率限制）
+     */
+    public static byte[] errorEnvelope() {
+        return "{\"succeeded\":false,\"code\":40001,\"error\":\"操作过于频繁，请稍后再试\",\"resp_data\":{}}"
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendUser(StringBuilder sb, Random random) {
+        long userId = 400_000_000_000_000L + random.nextInt(Integer.MAX_VALUE);
+        sb.append("{\"user_id\":").append(userId)
+                .append(",\"name\":\"星球成员").append(random.nextInt(10000)).append('"')
+                .append(",\"alias\":\"\",\"avatar_url\":\"https://images.zsxq.com/avatar/").append(userId)
+                .append(".jpg\",\"location\":\"上海\",\"description\":\"\"}");
+    }
+
+    private static void appendImageSize(StringBuilder sb, String name, long imageId, int width) {
+        sb.append(",\"").append(name).append("\":{\"url\":\"https://images.zsxq.com/").append(imageId)
+                .append('_').append(width).append(".jpg\",\"width\":").append(width)
+                .append(",\"height\":").append(width * 3 / 4)
+                .append(",\"size\":").append(width * 120L).append('}');
+    }
+
+    private static String text(Random random) {
+        int repeat = 1 + random.nextInt(3);
+        StringBuilder sb = new StringBuilder(TEXT_SEED.length() * repeat);
+        for (int i = 0; i < repeat; i++) {
+            sb.append(TEXT_SEED).append("\\n");
+        }
+        return sb.toString();
+    }
+
+    private static String time(Random random) {
+        return String.format("2025-%02d-%02dT%02d:%02d:%02d.%03d+0800",
+                1 + random.nextInt(12), 1 + random.nextInt(28), random.nextInt(24),
+                random.nextInt(60), random.nextInt(60), random.nextInt(1000));
+    }
+}
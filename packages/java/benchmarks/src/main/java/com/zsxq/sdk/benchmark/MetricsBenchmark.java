@@ -0,0 +1,52 @@
+package com.zsxq.sdk.benchmark;
+
+import com.zsxq.sdk.metrics.MetricsRegistry;
+import com.zsxq.sdk.metrics.PrometheusExporter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 指标记录开销：8 线程并发记录同一批接口的耗时和字节数，以及一次 Prometheus 导出
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsBenchmark {
+
+    private static final String[] PATHS = {
+            "/v2/groups/{id}/topics",
+            "/v2/topics/{id}",
+            "/v2/topics/{id}/comments",
+            "/v2/groups/{id}/checkins",
+    };
+
+    private MetricsRegistry registry;
+    private PrometheusExporter exporter;
+
+    @Setup
+    public void setUp() {
+        registry = new MetricsRegistry();
+        exporter = new PrometheusExporter(registry);
+        for (String path : PATHS) {
+            registry.endpoint("GET", path).recordSuccess(TimeUnit.MILLISECONDS.toNanos(40));
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void record() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        registry.endpoint("GET", PATHS[random.nextInt(PATHS.length)])
+                .recordSuccess(random.nextLong(TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Benchmark
+    public String scrape() {
+        return exporter.scrape();
+    }
+}
@@ -0,0 +1,101 @@
+package com.zsxq.sdk.benchmark;
+
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.http.RequestPreparer;
+import okhttp3.Headers;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 请求预处理基准：每个已签名请求的请求 ID + 请求头 + HMAC 签名
+ *
+ * legacy 复刻了旧的 buildHeaders：UUID.randomUUID()、每次重建固定请求头、
+ * 每次 Mac.getInstance + init、Integer.toHexString 编码。
+ * 默认 8 个线程并发执行，可用 -t 调整：
+ * <pre>
+ * java -jar target/benchmarks.jar RequestPreparationBenchmark -prof gc -t 16
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class RequestPreparationBenchmark {
+
+    private static final String PATH = "/v2/groups/51122858222824/topics";
+    private static final String BODY = "{\"req_data\":{\"title\":\"每日打卡\",\"validity\":{\"duration\":7}}}";
+
+    private ZsxqConfig config;
+    private RequestPreparer preparer;
+
+    @Setup
+    public void setUp() {
+        config = ZsxqConfig.builder()
+                .token("D047A423-A6A3-4A54-8B1D-3A2B6C7F8E9D_1A2B3C4D5E6F7A8B")
+                .deviceId("0f2b8a3e-7c1d-4e5f-9a6b-1c2d3e4f5a6b")
+                .build();
+        preparer = new RequestPreparer(config);
+    }
+
+    @Benchmark
+    public Headers legacyGet() throws Exception {
+        return legacyHeaders("GET", PATH, null, UUID.randomUUID().toString());
+    }
+
+    @Benchmark
+    public Headers preparedGet() {
+        return preparer.headers("GET", PATH, null, preparer.nextRequestId());
+    }
+
+    @Benchmark
+    public Headers legacyPost() throws Exception {
+        return legacyHeaders("POST", PATH, BODY, UUID.randomUUID().toString());
+    }
+
+    @Benchmark
+    public Headers preparedPost() {
+        return preparer.headers("POST", PATH, BODY, preparer.nextRequestId());
+    }
+
+    private Headers legacyHeaders(String method, String path, String body, String requestId) throws Exception {
+        String timestamp = String.valueOf(System.currentTimeMillis() / 1000);
+        Headers.Builder builder = new Headers.Builder()
+                .add("User-Agent", "xiaomiquan/" + config.getAppVersion() + " SDK/1.0.0")
+                .add("authorization", config.getToken())
+                .add("x-request-id", requestId)
+                .add("x-version", config.getAppVersion())
+                .add("x-aduid", config.getDeviceId());
+        if ("POST".equals(method) || "PUT".equals(method)) {
+            builder.add("Content-Type", "application/json; charset=utf-8");
+        }
+
+        StringBuilder signData = new StringBuilder()
+                .append(timestamp).append("\n")
+                .append(method.toUpperCase()).append("\n")
+                .append(path);
+        if (body != null && !body.isEmpty()) {
+            signData.append("\n").append(body);
+        }
+        Mac mac = Mac.getInstance("HmacSHA1");
+        mac.init(new SecretKeySpec("zsxq-sdk-secret".getBytes(StandardCharsets.UTF_8), "HmacSHA1"));
+        byte[] hash = mac.doFinal(signData.toString().getBytes(StandardCharsets.UTF_8));
+        StringBuilder hexString = new StringBuilder();
+        for (byte b : hash) {
+            String hex = Integer.toHexString(0xff & b);
+            if (hex.length() == 1) hexString.append('0');
+            hexString.append(hex);
+        }
+
+        builder.add("x-timestamp", timestamp);
+        builder.add("x-signature", hexString.toString());
+        return builder.build();
+    }
+}
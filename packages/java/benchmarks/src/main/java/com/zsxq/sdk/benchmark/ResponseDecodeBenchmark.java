@@ -0,0 +1,77 @@
+package com.zsxq.sdk.benchmark;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.http.ResponseDecoder;
+import com.zsxq.sdk.model.Topic;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 响应信封解码基准：旧的 String + JsonObject 树 vs 流式 ResponseDecoder
+ *
+ * 运行（附带分配统计）：
+ * <pre>
+ * java -jar target/benchmarks.jar ResponseDecodeBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseDecodeBenchmark {
+
+    private static final Type TOPICS_TYPE = new TypeToken<Map<String, List<Topic>>>() {}.getType();
+
+    @Param({"20", "100", "500"})
+    public int pageSize;
+
+    private byte[] body;
+    private Gson gson;
+    private ResponseDecoder decoder;
+
+    @Setup
+    public void setUp() {
+        body = Fixtures.topicsPage(pageSize);
+        gson = new GsonBuilder()
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .create();
+        decoder = new ResponseDecoder(gson);
+    }
+
+    /**
+     * 旧实现：整个响应体读成 String，再解析为 JsonObject 树，最后从子树反序列化
+     */
+    @Benchmark
+    public Object treeDecode() {
+        String responseBody = new String(body, StandardCharsets.UTF_8);
+        JsonObject jsonResponse = JsonParser.parseString(responseBody).getAsJsonObject();
+        if (!jsonResponse.get("succeeded").getAsBoolean()) {
+            throw new IllegalStateException();
+        }
+        return gson.fromJson(jsonResponse.get("resp_data"), TOPICS_TYPE);
+    }
+
+    /**
+     * 新实现：从字节流单次解码
+     */
+    @Benchmark
+    public Object streamingDecode() throws IOException {
+        return decoder.decode(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8),
+                TOPICS_TYPE, "bench");
+    }
+}
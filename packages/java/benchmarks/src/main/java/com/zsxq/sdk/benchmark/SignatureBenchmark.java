@@ -0,0 +1,72 @@
+package com.zsxq.sdk.benchmark;
+
+import com.zsxq.sdk.http.RequestSigner;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 签名基准：每次 Mac.getInstance + init vs 线程私有的 RequestSigner
+ *
+ * bodySize 为 0 时对应 GET；非 0 时为带中文内容的 POST 请求体。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SignatureBenchmark {
+
+    private static final String SECRET = "zsxq-sdk-secret";
+    private static final String TIMESTAMP = "1735372800";
+    private static final String PATH = "/v2/groups/88885121521552/checkins";
+
+    @Param({"0", "256", "4096"})
+    public int bodySize;
+
+    private String body;
+    private RequestSigner signer;
+
+    @Setup
+    public void setUp() {
+        if (bodySize > 0) {
+            StringBuilder sb = new StringBuilder("{\"req_data\":{\"title\":\"21 天读书打卡\",\"text\":\"");
+            while (sb.length() < bodySize - 4) {
+                sb.append("每天阅读三十分钟并分享笔记 ");
+            }
+            body = sb.append("\"}}").toString();
+        }
+        signer = new RequestSigner(SECRET);
+    }
+
+    @Benchmark
+    public String legacy() throws Exception {
+        String method = body != null ? "POST" : "GET";
+        StringBuilder signData = new StringBuilder()
+                .append(TIMESTAMP).append("\n")
+                .append(method.toUpperCase()).append("\n")
+                .append(PATH);
+        if (body != null && !body.isEmpty()) {
+            signData.append("\n").append(body);
+        }
+        Mac mac = Mac.getInstance("HmacSHA1");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA1"));
+        byte[] hash = mac.doFinal(signData.toString().getBytes(StandardCharsets.UTF_8));
+        StringBuilder hexString = new StringBuilder();
+        for (byte b : hash) {
+            String hex = Integer.toHexString(0xff & b);
+            if (hex.length() == 1) hexString.append('0');
+            hexString.append(hex);
+        }
+        return hexString.toString();
+    }
+
+    @Benchmark
+    public String signer() {
+        return signer.sign(TIMESTAMP, body != null ? "POST" : "GET", PATH, body);
+    }
+}
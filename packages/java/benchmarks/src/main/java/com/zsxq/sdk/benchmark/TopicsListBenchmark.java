@@ -0,0 +1,82 @@
+package com.zsxq.sdk.benchmark;
+
+import com.zsxq.sdk.client.ZsxqClient;
+import com.zsxq.sdk.client.ZsxqClientBuilder;
+import com.zsxq.sdk.model.Topic;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 端到端基准：TopicsRequest.list 对本地 MockWebServer
+ *
+ * 覆盖完整调用链（请求 ID、请求头、签名、OkHttp、解码），不含真实网络延迟。
+ * 多线程运行可观察连接池和客户端内部的竞争：
+ * <pre>
+ * java -jar target/benchmarks.jar TopicsListBenchmark -t 8
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TopicsListBenchmark {
+
+    private static final long GROUP_ID = 88885121521552L;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private MockWebServer server;
+    private ZsxqClient client;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] body = Fixtures.topicsPage(pageSize);
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse()
+                        .setHeader("Content-Type", "application/json; charset=utf-8")
+                        .setBody(new Buffer().write(body));
+            }
+        });
+        server.start();
+
+        client = new ZsxqClientBuilder()
+                .token("D047A423-A6A3-4A54-8B1D-3A2B6C7F8E9D_1A2B3C4D5E6F7A8B")
+                .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                .retry(0)
+                .build();
+    }
+
+    /**
+     * MockWebServer 会保留每个收到的请求，每轮迭代后清空，避免内存增长影响结果
+     */
+    @TearDown(Level.Iteration)
+    public void drainRecordedRequests() throws InterruptedException {
+        while (server.takeRequest(0, TimeUnit.MILLISECONDS) != null) {
+            // discard
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Benchmark
+    public List<Topic> list() {
+        return client.topics().list(GROUP_ID);
+    }
+}
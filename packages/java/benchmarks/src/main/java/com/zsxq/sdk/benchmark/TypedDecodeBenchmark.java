@@ -0,0 +1,78 @@
+package com.zsxq.sdk.benchmark;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.http.ResponseDecoder;
+import com.zsxq.sdk.model.Checkin;
+import com.zsxq.sdk.model.Comment;
+import com.zsxq.sdk.model.Topic;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 类型化解码基准：话题 / 评论 / 打卡项目列表，不同页大小
+ *
+ * 与请求模块相同，响应从字节流直接解码到模型列表。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypedDecodeBenchmark {
+
+    private static final Type TOPICS_TYPE = new TypeToken<Map<String, List<Topic>>>() {}.getType();
+    private static final Type COMMENTS_TYPE = new TypeToken<Map<String, List<Comment>>>() {}.getType();
+    private static final Type CHECKINS_TYPE = new TypeToken<Map<String, List<Checkin>>>() {}.getType();
+
+    @Param({"topics", "comments", "checkins"})
+    public String kind;
+
+    @Param({"1", "20", "100"})
+    public int pageSize;
+
+    private byte[] body;
+    private Type type;
+    private ResponseDecoder decoder;
+
+    @Setup
+    public void setUp() {
+        switch (kind) {
+            case "topics":
+                body = Fixtures.topicsPage(pageSize);
+                type = TOPICS_TYPE;
+                break;
+            case "comments":
+                body = Fixtures.commentsPage(pageSize);
+                type = COMMENTS_TYPE;
+                break;
+            case "checkins":
+                body = Fixtures.checkinsPage(pageSize);
+                type = CHECKINS_TYPE;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown kind: " + kind);
+        }
+        Gson gson = new GsonBuilder()
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .create();
+        decoder = new ResponseDecoder(gson);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return decoder.decode(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8),
+                type, "bench");
+    }
+}
@@ -0,0 +1,84 @@
+package com.zsxq.sdk.client;
+
+import com.zsxq.sdk.http.HttpClient;
+import com.zsxq.sdk.request.*;
+
+/**
+ * 知识星球 SDK 异步客户端
+ *
+ * 通过 {@link ZsxqClient#async()} 获取，与同步客户端共享同一个 HTTP 连接池。
+ * 所有方法返回 CompletableFuture，请求基于 OkHttp enqueue 发送，不阻塞调用线程：
+ * <pre>
+ * client.async().topics().list(groupId)
+ *     .thenAccept(topics -&gt; ...);
+ * </pre>
+ */
+public class AsyncZsxqClient {
+
+    private final AsyncGroupsRequest groups;
+    private final AsyncTopicsRequest topics;
+    private final AsyncUsersRequest users;
+    private final AsyncCheckinsRequest checkins;
+    private final AsyncDashboardRequest dashboard;
+    private final AsyncRankingRequest ranking;
+    private final AsyncMiscRequest misc;
+
+    AsyncZsxqClient(HttpClient httpClient) {
+        this.groups = new AsyncGroupsRequest(httpClient);
+        this.topics = new AsyncTopicsRequest(httpClient);
+        this.users = new AsyncUsersRequest(httpClient);
+        this.checkins = new AsyncCheckinsRequest(httpClient);
+        this.dashboard = new AsyncDashboardRequest(httpClient);
+        this.ranking = new AsyncRankingRequest(httpClient);
+        this.misc = new AsyncMiscRequest(httpClient);
+    }
+
+    /**
+     * 星球管理
+     */
+    public AsyncGroupsRequest groups() {
+        return groups;
+    }
+
+    /**
+     * 话题管理
+     */
+    public AsyncTopicsRequest topics() {
+        return topics;
+    }
+
+    /**
+     * 用户管理
+     */
+    public AsyncUsersRequest users() {
+        return users;
+    }
+
+    /**
+     * 打卡管理
+     */
+    public AsyncCheckinsRequest checkins() {
+        return checkins;
+    }
+
+    /**
+     * 数据面板
+     */
+    public AsyncDashboardRequest dashboard() {
+        return dashboard;
+    }
+
+    /**
+     * 排行榜
+     */
+    public AsyncRankingRequest ranking() {
+        return ranking;
+    }
+
+    /**
+     * 杂项功能
+     */
+    public AsyncMiscRequest misc() {
+        return misc;
+    }
+}
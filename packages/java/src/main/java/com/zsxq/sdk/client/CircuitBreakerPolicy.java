@@ -0,0 +1,66 @@
+package com.zsxq.sdk.client;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 熔断策略：按路径模板（如 /v2/groups/{id}/topics）分别统计最近的调用
+ *
+ * 最近 windowSize 次调用中失败率或慢调用率达到阈值时熔断，熔断期间该接口的请求立即抛出
+ * {@link com.zsxq.sdk.exception.CircuitOpenException}，不再等待超时和重试；
+ * openDuration 之后进入半开状态，放行 halfOpenProbes 个探测请求，全部成功则恢复，任一失败则再次熔断。
+ * 网络错误和 5xx 计为失败，业务错误说明服务端正常响应，计为成功，限流错误不计入。
+ */
+@Getter
+@Builder(toBuilder = true)
+public class CircuitBreakerPolicy {
+
+    /**
+     * 滑动窗口大小（最近的调用次数）
+     */
+    @Builder.Default
+    private final int windowSize = 20;
+
+    /**
+     * 窗口内至少有这么多次调用才计算失败率
+     */
+    @Builder.Default
+    private final int minimumCalls = 10;
+
+    /**
+     * 失败率阈值（0~1）
+     */
+    @Builder.Default
+    private final double failureRateThreshold = 0.5;
+
+    /**
+     * 慢调用阈值（毫秒），耗时不低于该值的调用计为慢调用
+     */
+    @Builder.Default
+    private final long slowCallDuration = 5_000;
+
+    /**
+     * 慢调用率阈值（0~1）
+     */
+    @Builder.Default
+    private final double slowCallRateThreshold = 0.8;
+
+    /**
+     * 熔断持续时间（毫秒），之后进入半开状态
+     */
+    @Builder.Default
+    private final long openDuration = 30_000;
+
+    /**
+     * 半开状态放行的探测请求数
+     */
+    @Builder.Default
+    private final int halfOpenProbes = 3;
+
+    /**
+     * 默认策略：窗口 20 次、至少 10 次调用、失败率 50% 或慢调用（5 秒）率 80% 时熔断 30 秒，半开探测 3 次
+     */
+    public static CircuitBreakerPolicy defaults() {
+        return CircuitBreakerPolicy.builder().build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.zsxq.sdk.client;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 连接管理配置：连接池、调度器并发上限、协议和单次调用超时
+ *
+ * 默认值与 OkHttp 默认值一致。高并发 fan-out 场景可使用 {@link #highThroughput()}，
+ * 或在其基础上调整：
+ * <pre>
+ * ConnectionProfile profile = ConnectionProfile.builder()
+ *     .maxRequestsPerHost(32)
+ *     .maxIdleConnections(32)
+ *     .callTimeout(30000)
+ *     .build();
+ * </pre>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class ConnectionProfile {
+
+    /**
+     * 连接池最多保留的空闲连接数
+     */
+    @Builder.Default
+    private final int maxIdleConnections = 5;
+
+    /**
+     * 空闲连接保活时间（毫秒）
+     */
+    @Builder.Default
+    private final long keepAlive = 300_000;
+
+    /**
+     * 异步调用的最大并发数（所有主机合计）
+     */
+    @Builder.Default
+    private final int maxRequests = 64;
+
+    /**
+     * 异步调用对单个主机的最大并发数
+     */
+    @Builder.Default
+    private final int maxRequestsPerHost = 5;
+
+    /**
+     * 是否优先使用 HTTP/2（通过 ALPN 协商，服务端不支持时回退到 HTTP/1.1）
+     * 设置为 false 时只使用 HTTP/1.1
+     */
+    @Builder.Default
+    private final boolean http2 = true;
+
+    /**
+     * HTTP/2 连接的 ping 间隔（毫秒），0 表示不发送
+     */
+    @Builder.Default
+    private final int pingInterval = 0;
+
+    /**
+     * 单次调用的总超时（毫秒，包含 DNS、连接、发送和读取响应体），0 表示不限制
+     * 每次重试单独计时
+     */
+    @Builder.Default
+    private final int callTimeout = 0;
+
+    /**
+     * 默认配置（与 OkHttp 默认值一致）
+     */
+    public static ConnectionProfile defaults() {
+        return ConnectionProfile.builder().build();
+    }
+
+    /**
+     * 高并发配置：单主机 64 并发、保留 64 个空闲连接、优先 HTTP/2 并每 30 秒 ping 一次
+     */
+    public static ConnectionProfile highThroughput() {
+        return ConnectionProfile.builder()
+                .maxRequests(256)
+                .maxRequestsPerHost(64)
+                .maxIdleConnections(64)
+                .pingInterval(30_000)
+                .build();
+    }
+}
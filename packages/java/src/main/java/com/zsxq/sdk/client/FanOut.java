@@ -0,0 +1,81 @@
+package com.zsxq.sdk.client;
+
+import com.zsxq.sdk.http.VirtualThreads;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 并发执行一批阻塞调用
+ *
+ * 虚拟线程模式下每个调用一个虚拟线程；否则使用最多 {@link #PLATFORM_PARALLELISM} 个平台线程的临时线程池。
+ */
+final class FanOut {
+
+    static final int PLATFORM_PARALLELISM = 8;
+
+    private static final AtomicInteger POOL_SEQUENCE = new AtomicInteger();
+
+    private FanOut() {
+    }
+
+    /**
+     * 并发执行并按输入顺序返回结果
+     *
+     * 任一调用失败时取消其余调用，并抛出最先失败（按输入顺序）的异常
+     */
+    static <T, R> List<R> run(Collection<? extends T> inputs, Function<? super T, ? extends R> call,
+                              boolean virtualThreads) {
+        if (inputs.isEmpty()) {
+            return new ArrayList<>();
+        }
+        ExecutorService executor = virtualThreads
+                ? VirtualThreads.newThreadPerTaskExecutor("zsxq-fanout-")
+                : newPlatformPool(Math.min(inputs.size(), PLATFORM_PARALLELISM));
+        List<Future<? extends R>> futures = new ArrayList<>(inputs.size());
+        try {
+            for (T input : inputs) {
+                futures.add(executor.submit(() -> call.apply(input)));
+            }
+            List<R> results = new ArrayList<>(futures.size());
+            for (Future<? extends R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for fan-out calls");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static ExecutorService newPlatformPool(int threads) {
+        int pool = POOL_SEQUENCE.incrementAndGet();
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "zsxq-fanout-" + pool + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
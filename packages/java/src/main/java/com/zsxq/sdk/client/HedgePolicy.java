@@ -0,0 +1,76 @@
+package com.zsxq.sdk.client;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.util.Set;
+
+/**
+ * GET 对冲请求策略
+ *
+ * 请求发出后超过该路径模板近期延迟的 percentile 分位数仍未返回时，再发出一个相同的请求，
+ * 先返回的结果生效并取消另一个。对冲请求数不超过 GET 请求数的 maxHedgeRatio，
+ * 本地限流器没有空余令牌或最近收到过限流错误时不对冲，避免对冲把请求推向服务端限流。
+ *
+ * <pre>
+ * HedgePolicy policy = HedgePolicy.builder()
+ *     .family("topics")
+ *     .family("groups")
+ *     .percentile(0.95)
+ *     .build();
+ * </pre>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class HedgePolicy {
+
+    /**
+     * 启用对冲的接口族（路径中的资源名，如 "topics"），为空时所有 GET 都启用
+     */
+    @Singular
+    private final Set<String> families;
+
+    /**
+     * 以该分位数的近期延迟作为对冲等待时间
+     */
+    @Builder.Default
+    private final double percentile = 0.95;
+
+    /**
+     * 对冲等待时间下限（毫秒）
+     */
+    @Builder.Default
+    private final long minDelay = 20;
+
+    /**
+     * 对冲等待时间上限（毫秒）
+     */
+    @Builder.Default
+    private final long maxDelay = 2_000;
+
+    /**
+     * 路径模板至少有这么多延迟样本后才开始对冲
+     */
+    @Builder.Default
+    private final int minSamples = 20;
+
+    /**
+     * 对冲请求数占 GET 请求数的比例上限
+     */
+    @Builder.Default
+    private final double maxHedgeRatio = 0.05;
+
+    /**
+     * 收到限流错误后暂停对冲的时间（毫秒）
+     */
+    @Builder.Default
+    private final long throttleCooldown = 10_000;
+
+    /**
+     * 默认策略：所有 GET，p95 延迟（20ms~2s），对冲比例不超过 5%
+     */
+    public static HedgePolicy defaults() {
+        return HedgePolicy.builder().build();
+    }
+}
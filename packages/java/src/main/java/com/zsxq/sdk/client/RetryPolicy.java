@@ -0,0 +1,66 @@
+package com.zsxq.sdk.client;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 重试策略：退避上限、重试预算、整体截止时间和限流重试
+ *
+ * 重试次数和基础间隔仍由 retryCount / retryDelay 配置。每次重试的等待时间采用去相关抖动
+ * （decorrelated jitter）：在 [基础间隔, 上次等待 × 3] 之间随机取值，不超过 {@link #getMaxDelay()}。
+ *
+ * <pre>
+ * RetryPolicy policy = RetryPolicy.builder()
+ *     .deadline(15000)          // 包含全部重试在内最多 15 秒
+ *     .retryOnRateLimit(true)   // 40001 也重试，但至少等待 rateLimitDelay
+ *     .build();
+ * </pre>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class RetryPolicy {
+
+    /**
+     * 单次重试的最长等待时间（毫秒）
+     */
+    @Builder.Default
+    private final long maxDelay = 30_000;
+
+    /**
+     * 重试预算比例：长期来看重试数不超过请求数的该比例（所有请求共享），避免故障期间重试放大流量
+     */
+    @Builder.Default
+    private final double budgetRatio = 0.2;
+
+    /**
+     * 重试预算的储备（预算桶容量），请求量很少时也允许这么多次重试
+     */
+    @Builder.Default
+    private final int budgetReserve = 10;
+
+    /**
+     * 单次调用的整体截止时间（毫秒，包含全部尝试和等待），0 表示不限制
+     * 剩余时间不足以完成下一次等待时不再重试，每次尝试的超时也不会超过剩余时间
+     */
+    @Builder.Default
+    private final long deadline = 0;
+
+    /**
+     * 是否重试限流错误（40001），默认直接抛出 RateLimitException
+     */
+    @Builder.Default
+    private final boolean retryOnRateLimit = false;
+
+    /**
+     * 限流错误重试的最短等待时间（毫秒）
+     */
+    @Builder.Default
+    private final long rateLimitDelay = 5_000;
+
+    /**
+     * 默认策略：退避上限 30 秒、重试预算 20%（储备 10 次）、不限制截止时间、不重试限流错误
+     */
+    public static RetryPolicy defaults() {
+        return RetryPolicy.builder().build();
+    }
+}
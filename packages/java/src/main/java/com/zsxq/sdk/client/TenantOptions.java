@@ -0,0 +1,42 @@
+package com.zsxq.sdk.client;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * {@link ZsxqClientPool} 中单个 Token 的配置
+ *
+ * <pre>
+ * ZsxqClient vip = pool.client("token", TenantOptions.builder()
+ *     .weight(3)
+ *     .rateLimit(10.0)
+ *     .build());
+ * </pre>
+ */
+@Getter
+@Builder
+public class TenantOptions {
+
+    /**
+     * 公平调度权重，共享并发名额紧张时按权重比例分配
+     */
+    @Builder.Default
+    private final double weight = 1.0;
+
+    /**
+     * 该 Token 的客户端级限流（每秒请求数），为 null 时使用池的 rateLimit 配置
+     */
+    private final Double rateLimit;
+
+    /**
+     * 设备 ID，为 null 时随机生成
+     */
+    private final String deviceId;
+
+    /**
+     * 默认配置（权重 1，使用池的限流配置）
+     */
+    public static TenantOptions defaults() {
+        return TenantOptions.builder().build();
+    }
+}
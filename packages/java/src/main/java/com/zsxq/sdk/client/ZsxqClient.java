@@ -1,8 +1,19 @@
 package com.zsxq.sdk.client;
 
+import com.zsxq.sdk.http.AdaptiveRateLimiter;
+import com.zsxq.sdk.http.CacheStats;
+import com.zsxq.sdk.http.CircuitBreaker;
+import com.zsxq.sdk.http.HedgeStats;
+import com.zsxq.sdk.http.HttpCacheStats;
 import com.zsxq.sdk.http.HttpClient;
+import com.zsxq.sdk.metrics.MetricsRegistry;
+import com.zsxq.sdk.metrics.RequestRecorder;
 import com.zsxq.sdk.request.*;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
 /**
  * 知识星球 SDK 主客户端
  *
@@ -17,10 +28,15 @@ import com.zsxq.sdk.request.*;
  *
  * // 获取话题
  * List&lt;Topic&gt; topics = client.topics().list(groupId);
+ *
+ * // 异步获取话题
+ * CompletableFuture&lt;List&lt;Topic&gt;&gt; future = client.async().topics().list(groupId);
  * </pre>
  */
 public class ZsxqClient {
 
+    private final HttpClient httpClient;
+    private final boolean virtualThreads;
     private final GroupsRequest groups;
     private final TopicsRequest topics;
     private final UsersRequest users;
@@ -28,9 +44,15 @@ public class ZsxqClient {
     private final DashboardRequest dashboard;
     private final RankingRequest ranking;
     private final MiscRequest misc;
+    private final AsyncZsxqClient async;
 
     ZsxqClient(ZsxqConfig config) {
-        HttpClient httpClient = new HttpClient(config);
+        this(new HttpClient(config), config.isVirtualThreads());
+    }
+
+    ZsxqClient(HttpClient httpClient, boolean virtualThreads) {
+        this.httpClient = httpClient;
+        this.virtualThreads = virtualThreads;
 
         this.groups = new GroupsRequest(httpClient);
         this.topics = new TopicsRequest(httpClient);
@@ -39,6 +61,7 @@ public class ZsxqClient {
         this.dashboard = new DashboardRequest(httpClient);
         this.ranking = new RankingRequest(httpClient);
         this.misc = new MiscRequest(httpClient);
+        this.async = new AsyncZsxqClient(httpClient);
     }
 
     /**
@@ -89,4 +112,78 @@ public class ZsxqClient {
     public MiscRequest misc() {
         return misc;
     }
+
+    /**
+     * 异步 API（返回 CompletableFuture）
+     */
+    public AsyncZsxqClient async() {
+        return async;
+    }
+
+    /**
+     * 限流器（未配置限流时为空列表），可读取当前速率和被限流次数
+     */
+    public List<AdaptiveRateLimiter> rateLimiters() {
+        return httpClient.getRateLimiters();
+    }
+
+    /**
+     * 熔断器（未开启熔断时为空列表），每个访问过的路径模板一个
+     */
+    public List<CircuitBreaker> circuitBreakers() {
+        return httpClient.getCircuitBreakers();
+    }
+
+    /**
+     * GET 对冲统计，未开启对冲时返回 null
+     */
+    public HedgeStats hedgeStats() {
+        return httpClient.getHedgeStats();
+    }
+
+    /**
+     * 最近请求的飞行记录器，未开启时返回 null
+     */
+    public RequestRecorder requestRecorder() {
+        return httpClient.getRequestRecorder();
+    }
+
+    /**
+     * 响应缓存统计，未配置缓存时返回 null
+     */
+    public CacheStats cacheStats() {
+        return httpClient.getCacheStats();
+    }
+
+    /**
+     * 条件请求和磁盘缓存统计，两者均未开启时返回 null
+     */
+    public HttpCacheStats httpCacheStats() {
+        return httpClient.getHttpCacheStats();
+    }
+
+    /**
+     * 并发执行一批同步调用，按输入顺序返回结果
+     *
+     * 虚拟线程模式下每个调用一个虚拟线程，否则最多使用 8 个平台线程。
+     * 任一调用失败时取消其余调用并抛出该异常。
+     *
+     * <pre>
+     * List&lt;Topic&gt; topics = client.fanOut(topicIds, id -&gt; client.topics().get(id));
+     * </pre>
+     */
+    public <T, R> List<R> fanOut(Collection<? extends T> inputs, Function<? super T, ? extends R> call) {
+        return FanOut.run(inputs, call, virtualThreads);
+    }
+
+    /**
+     * 请求指标注册表，未开启指标时返回 null
+     */
+    public MetricsRegistry metrics() {
+        return httpClient.getMetrics();
+    }
+
+    HttpClient httpClient() {
+        return httpClient;
+    }
 }
@@ -1,5 +1,18 @@
 package com.zsxq.sdk.client;
 
+import com.zsxq.sdk.http.RateLimitListener;
+import com.zsxq.sdk.http.RequestIdGenerator;
+import com.zsxq.sdk.http.ResponseCache;
+import com.zsxq.sdk.http.VirtualThreads;
+import com.zsxq.sdk.metrics.CallTimingListener;
+import com.zsxq.sdk.metrics.MetricsRegistry;
+import com.zsxq.sdk.metrics.RequestRecorder;
+import okhttp3.OkHttpClient;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * ZsxqClient 构建器
  *
@@ -19,10 +32,32 @@ public class ZsxqClientBuilder {
     private int timeout = 10000;
     private int retryCount = 3;
     private int retryDelay = 1000;
+    private RetryPolicy retryPolicy = RetryPolicy.defaults();
+    private CircuitBreakerPolicy circuitBreakerPolicy;
+    private HedgePolicy hedgePolicy;
     private String deviceId;
     private String appVersion = "2.83.0";
     private String signatureKey;
     private boolean signatureEnabled = true;
+    private RequestIdGenerator requestIdGenerator = RequestIdGenerator.fast();
+    private Double rateLimit;
+    private final Map<String, Double> endpointRateLimits = new LinkedHashMap<>();
+    private RateLimitListener rateLimitListener;
+    private boolean coalesceGets = false;
+    private final Map<String, Long> cacheTtls = new LinkedHashMap<>();
+    private long staleWhileRevalidate = 0;
+    private int cacheMaximumSize = 1000;
+    private ResponseCache responseCache;
+    private int conditionalCacheSize = 0;
+    private File httpCacheDirectory;
+    private long httpCacheMaxSize = 50L * 1024 * 1024;
+    private MetricsRegistry metricsRegistry;
+    private boolean phaseTimings = false;
+    private CallTimingListener callTimingListener;
+    private RequestRecorder requestRecorder;
+    private boolean virtualThreads = false;
+    private ConnectionProfile connectionProfile;
+    private OkHttpClient okHttpClient;
 
     /**
      * 设置认证 Token（必需）
@@ -81,6 +116,47 @@ public class ZsxqClientBuilder {
         return this;
     }
 
+    /**
+     * 设置重试策略（退避上限、重试预算、整体截止时间、是否重试限流错误）
+     */
+    public ZsxqClientBuilder retryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        return this;
+    }
+
+    /**
+     * 按默认策略开启熔断，见 {@link CircuitBreakerPolicy#defaults()}
+     */
+    public ZsxqClientBuilder circuitBreaker() {
+        return circuitBreaker(CircuitBreakerPolicy.defaults());
+    }
+
+    /**
+     * 开启按路径模板的熔断：某个接口持续失败或变慢时，对它的请求立即抛出
+     * {@link com.zsxq.sdk.exception.CircuitOpenException}，其他接口不受影响
+     */
+    public ZsxqClientBuilder circuitBreaker(CircuitBreakerPolicy policy) {
+        this.circuitBreakerPolicy = policy;
+        return this;
+    }
+
+    /**
+     * 按默认策略对所有 GET 开启对冲，见 {@link HedgePolicy#defaults()}
+     */
+    public ZsxqClientBuilder hedgeGets() {
+        return hedgeGets(HedgePolicy.defaults());
+    }
+
+    /**
+     * 开启 GET 对冲：原请求超过近期延迟分位数仍未返回时再发出一个相同请求，先返回的生效
+     *
+     * 用于降低尾延迟。对冲请求经由异步调度器发送，同步调用在当前线程等待结果
+     */
+    public ZsxqClientBuilder hedgeGets(HedgePolicy policy) {
+        this.hedgePolicy = policy;
+        return this;
+    }
+
     /**
      * 设置设备 ID
      */
@@ -123,32 +199,302 @@ public class ZsxqClientBuilder {
         return this;
     }
 
+    /**
+     * 设置请求 ID 生成器
+     * 默认使用 {@link RequestIdGenerator#fast()}，需要 SecureRandom 时可使用 {@link RequestIdGenerator#uuid()}
+     */
+    public ZsxqClientBuilder requestIdGenerator(RequestIdGenerator generator) {
+        this.requestIdGenerator = generator;
+        return this;
+    }
+
+    /**
+     * 设置客户端级限流（请求/秒）
+     *
+     * 限流器以该值为上限，收到 40001 时速率减半，之后逐步恢复到上限
+     */
+    public ZsxqClientBuilder rateLimit(double permitsPerSecond) {
+        this.rateLimit = permitsPerSecond;
+        return this;
+    }
+
+    /**
+     * 设置接口族限流（请求/秒）
+     *
+     * 接口族以路径段名称标识，例如 "checkins" 匹配 /v2/groups/{id}/checkins 下的所有接口；
+     * 路径匹配多个接口族时取最靠后的路径段。该限流与客户端级限流同时生效。
+     *
+     * @param family 接口族名称，如 "topics"、"checkins"、"comments"
+     */
+    public ZsxqClientBuilder rateLimit(String family, double permitsPerSecond) {
+        this.endpointRateLimits.put(family, permitsPerSecond);
+        return this;
+    }
+
+    /**
+     * 设置限流事件监听器
+     */
+    public ZsxqClientBuilder rateLimitListener(RateLimitListener listener) {
+        this.rateLimitListener = listener;
+        return this;
+    }
+
+    /**
+     * 开启 GET 请求合并（便捷方法）
+     */
+    public ZsxqClientBuilder coalesceGets() {
+        this.coalesceGets = true;
+        return this;
+    }
+
+    /**
+     * 启用或禁用 GET 请求合并
+     *
+     * 开启后，并发的相同 GET（路径和查询参数都相同）只发出一次请求，所有调用方共享同一个解码结果。
+     * 结果对象在调用方之间共享，不应修改。默认关闭。
+     */
+    public ZsxqClientBuilder coalesceGets(boolean enabled) {
+        this.coalesceGets = enabled;
+        return this;
+    }
+
+    /**
+     * 缓存接口族的 GET 响应
+     *
+     * 接口族与限流相同，以路径段名称标识，例如 "menus"、"columns"、"hashtags"、"sticky"、"settings"；
+     * 未配置 TTL 的接口不缓存。缓存的对象在调用方之间共享，不应修改。
+     *
+     * @param family 接口族名称
+     * @param ttlMillis 缓存有效期（毫秒）
+     */
+    public ZsxqClientBuilder cache(String family, long ttlMillis) {
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("ttlMillis must be positive: " + ttlMillis);
+        }
+        this.cacheTtls.put(family, ttlMillis);
+        return this;
+    }
+
+    /**
+     * 设置缓存过期后仍可返回旧值的时间窗口（毫秒）
+     *
+     * 窗口内的请求立即返回旧值，同时在后台刷新一次；超出窗口后重新同步请求
+     */
+    public ZsxqClientBuilder staleWhileRevalidate(long windowMillis) {
+        this.staleWhileRevalidate = windowMillis;
+        return this;
+    }
+
+    /**
+     * 设置默认内存缓存的最大条目数（默认 1000）
+     */
+    public ZsxqClientBuilder cacheMaximumSize(int maximumSize) {
+        this.cacheMaximumSize = maximumSize;
+        return this;
+    }
+
+    /**
+     * 使用自定义缓存存储替换默认的 {@link com.zsxq.sdk.http.InMemoryResponseCache}
+     */
+    public ZsxqClientBuilder responseCache(ResponseCache cache) {
+        this.responseCache = cache;
+        return this;
+    }
+
+    /**
+     * 开启条件请求，保留最近 1000 个带 ETag / Last-Modified 的 GET 响应
+     */
+    public ZsxqClientBuilder conditionalGets() {
+        return conditionalGets(1000);
+    }
+
+    /**
+     * 开启条件请求：GET 响应带有 ETag 或 Last-Modified 时保留解码结果，下次请求同一 URL 时发送
+     * If-None-Match / If-Modified-Since，服务端返回 304 时直接返回保留的对象，不再下载和解析。
+     * 返回的对象在调用方之间共享，不应修改。
+     *
+     * @param maxEntries 保留的响应数（LRU 淘汰）
+     */
+    public ZsxqClientBuilder conditionalGets(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.conditionalCacheSize = maxEntries;
+        return this;
+    }
+
+    /**
+     * 开启 OkHttp 磁盘缓存，按 HTTP 缓存语义（Cache-Control、ETag、Last-Modified）缓存 GET 响应，进程重启后仍然有效
+     *
+     * @param directory 缓存目录，不应与其他进程共用
+     * @param maxSizeBytes 缓存最大字节数
+     */
+    public ZsxqClientBuilder httpCache(File directory, long maxSizeBytes) {
+        if (maxSizeBytes <= 0) {
+            throw new IllegalArgumentException("maxSizeBytes must be positive: " + maxSizeBytes);
+        }
+        this.httpCacheDirectory = directory;
+        this.httpCacheMaxSize = maxSizeBytes;
+        return this;
+    }
+
+    /**
+     * 开启请求指标（便捷方法），使用新的注册表
+     */
+    public ZsxqClientBuilder enableMetrics() {
+        this.metricsRegistry = new MetricsRegistry();
+        return this;
+    }
+
+    /**
+     * 把请求指标记录到指定注册表，多个客户端可共享同一个注册表
+     *
+     * 按 HTTP 方法和路径模板记录请求数、延迟直方图、重试次数、错误码和响应字节数，
+     * 可通过 {@link com.zsxq.sdk.metrics.PrometheusExporter} 导出
+     */
+    public ZsxqClientBuilder metrics(MetricsRegistry registry) {
+        this.metricsRegistry = registry;
+        return this;
+    }
+
+    /**
+     * 开启分阶段计时：每次请求尝试按 {@link com.zsxq.sdk.metrics.Phase} 拆分耗时（请求头与签名、排队、DNS、
+     * 连接、TLS、服务端、读取响应体、解码），按接口累计到指标注册表，需同时开启指标
+     */
+    public ZsxqClientBuilder phaseTimings() {
+        this.phaseTimings = true;
+        return this;
+    }
+
+    /**
+     * 设置分阶段计时监听器，每次请求尝试结束后回调（不需要开启指标）
+     */
+    public ZsxqClientBuilder callTimingListener(CallTimingListener listener) {
+        this.callTimingListener = listener;
+        return this;
+    }
+
+    /**
+     * 开启请求记录：在内存环形缓冲中保存最近 2048 次请求尝试的摘要（请求 ID、路径、状态码、耗时、错误码），
+     * 通过 {@link ZsxqClient#requestRecorder()} 导出
+     */
+    public ZsxqClientBuilder recordRequests() {
+        this.requestRecorder = new RequestRecorder();
+        return this;
+    }
+
+    /**
+     * 使用指定的请求记录器（可设置容量、记录请求体和响应体、出错时自动导出）
+     */
+    public ZsxqClientBuilder requestRecorder(RequestRecorder recorder) {
+        this.requestRecorder = recorder;
+        return this;
+    }
+
+    /**
+     * 使用虚拟线程执行（需要 Java 21+）
+     *
+     * OkHttp 的异步调度器改为每个调用一个虚拟线程，{@link ZsxqClient#fanOut} 为每个调用启动一个虚拟线程。
+     * 同步 API 本身即可在虚拟线程中大量并发调用，请求路径上不使用 synchronized，不会固定载体线程。
+     *
+     * @throws UnsupportedOperationException 运行时低于 Java 21（在 build() 时抛出）
+     */
+    public ZsxqClientBuilder virtualThreads() {
+        this.virtualThreads = true;
+        return this;
+    }
+
+    /**
+     * 设置连接管理配置（连接池、调度器并发上限、HTTP/2、单次调用超时）
+     *
+     * 高并发 fan-out 场景可使用 {@link ConnectionProfile#highThroughput()}
+     */
+    public ZsxqClientBuilder connectionProfile(ConnectionProfile connectionProfile) {
+        this.connectionProfile = connectionProfile;
+        return this;
+    }
+
+    /**
+     * 复用应用已有的 OkHttpClient，共享其连接池、调度器、超时和 TLS 配置
+     *
+     * 设置后 timeout、connectionProfile 和 virtualThreads 对 HTTP 层不再生效，
+     * SDK 只在其基础上追加自身的监听器，不会修改传入的实例
+     */
+    public ZsxqClientBuilder okHttpClient(OkHttpClient okHttpClient) {
+        this.okHttpClient = okHttpClient;
+        return this;
+    }
+
     /**
      * 构建 ZsxqClient 实例
      *
-     * @throws IllegalArgumentException 如果 Token 未设置
+     * @throws IllegalArgumentException 如果 Token 未设置，或同时设置了 connectionProfile 和 okHttpClient
      */
     public ZsxqClient build() {
         if (token == null || token.isEmpty()) {
             throw new IllegalArgumentException("Token is required. Use token() to set it.");
         }
 
+        return new ZsxqClient(newConfig());
+    }
+
+    /**
+     * 构建多 Token 客户端池，当前构建器的配置作为所有 Token 的模板
+     *
+     * token() 和 deviceId() 不使用；rateLimit() 和 rateLimit(family, rps) 成为每个 Token 各自的限流预算
+     *
+     * @throws IllegalArgumentException 如果同时设置了 connectionProfile 和 okHttpClient
+     */
+    public ZsxqClientPool buildPool() {
+        return new ZsxqClientPool(newConfig());
+    }
+
+    private ZsxqConfig newConfig() {
+        if (virtualThreads && !VirtualThreads.isSupported()) {
+            throw new UnsupportedOperationException("virtualThreads() requires Java 21+, running on "
+                    + System.getProperty("java.version"));
+        }
+
+        if (okHttpClient != null && connectionProfile != null) {
+            throw new IllegalArgumentException("connectionProfile() cannot be combined with okHttpClient()");
+        }
+
         if (deviceId == null) {
             deviceId = java.util.UUID.randomUUID().toString();
         }
 
-        ZsxqConfig config = ZsxqConfig.builder()
+        return ZsxqConfig.builder()
                 .token(token)
                 .baseUrl(baseUrl)
                 .timeout(timeout)
                 .retryCount(retryCount)
                 .retryDelay(retryDelay)
+                .retryPolicy(retryPolicy)
+                .circuitBreakerPolicy(circuitBreakerPolicy)
+                .hedgePolicy(hedgePolicy)
                 .deviceId(deviceId)
                 .appVersion(appVersion)
                 .signatureKey(signatureKey)
                 .signatureEnabled(signatureEnabled)
+                .requestIdGenerator(requestIdGenerator)
+                .rateLimit(rateLimit)
+                .endpointRateLimits(new LinkedHashMap<>(endpointRateLimits))
+                .rateLimitListener(rateLimitListener)
+                .coalesceGets(coalesceGets)
+                .cacheTtls(new LinkedHashMap<>(cacheTtls))
+                .staleWhileRevalidate(staleWhileRevalidate)
+                .cacheMaximumSize(cacheMaximumSize)
+                .responseCache(responseCache)
+                .conditionalCacheSize(conditionalCacheSize)
+                .httpCacheDirectory(httpCacheDirectory)
+                .httpCacheMaxSize(httpCacheMaxSize)
+                .metricsRegistry(metricsRegistry)
+                .phaseTimings(phaseTimings)
+                .callTimingListener(callTimingListener)
+                .requestRecorder(requestRecorder)
+                .virtualThreads(virtualThreads)
+                .connectionProfile(connectionProfile != null ? connectionProfile : ConnectionProfile.defaults())
+                .okHttpClient(okHttpClient)
                 .build();
-
-        return new ZsxqClient(config);
     }
 }
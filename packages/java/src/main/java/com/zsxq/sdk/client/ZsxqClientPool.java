@@ -0,0 +1,132 @@
+package com.zsxq.sdk.client;
+
+import com.zsxq.sdk.http.CacheStats;
+import com.zsxq.sdk.http.HttpCacheStats;
+import com.zsxq.sdk.http.HttpClient;
+import com.zsxq.sdk.http.SharedTransport;
+import com.zsxq.sdk.metrics.MetricsRegistry;
+import com.zsxq.sdk.metrics.RequestRecorder;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 多 Token 客户端池：为大量账号提供轻量的 {@link ZsxqClient} 视图
+ *
+ * 所有视图共享同一个连接池、调度器、解码器、签名器、响应缓存和指标注册表，
+ * 每个 Token 只额外持有自己的请求头模板和限流器，账号数量增加时连接数和内存基本不变。
+ * 缓存和请求合并按 Token 隔离，不同账号之间不会看到彼此的数据。
+ *
+ * 所有 Token 的请求共享 {@link ConnectionProfile#getMaxRequestsPerHost()} 个并发名额，
+ * 名额紧张时按 {@link TenantOptions#getWeight()} 加权公平分配，单个账号的批量任务不会饿死其他账号。
+ *
+ * <pre>
+ * ZsxqClientPool pool = new ZsxqClientBuilder()
+ *     .rateLimit(5)  // 每个 Token 各自的限流预算
+ *     .connectionProfile(ConnectionProfile.highThroughput())
+ *     .buildPool();
+ *
+ * ZsxqClient alice = pool.client(aliceToken);
+ * ZsxqClient bob = pool.client(bobToken, TenantOptions.builder().weight(2).build());
+ * </pre>
+ */
+public class ZsxqClientPool {
+
+    private final ZsxqConfig template;
+    private final SharedTransport transport;
+    private final ConcurrentMap<String, ZsxqClient> clients = new ConcurrentHashMap<>();
+
+    ZsxqClientPool(ZsxqConfig template) {
+        this.template = template;
+        this.transport = new SharedTransport(template);
+    }
+
+    /**
+     * 获取 Token 对应的客户端（使用默认选项），同一 Token 返回同一个实例
+     */
+    public ZsxqClient client(String token) {
+        return client(token, TenantOptions.defaults());
+    }
+
+    /**
+     * 获取 Token 对应的客户端，同一 Token 返回同一个实例（已存在时忽略 options）
+     *
+     * @param options 为 null 时使用默认值
+     * @throws IllegalArgumentException Token 为空或权重不是正数
+     */
+    public ZsxqClient client(String token, TenantOptions options) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("Token is required");
+        }
+        TenantOptions opts = options != null ? options : TenantOptions.defaults();
+        if (!(opts.getWeight() > 0)) {
+            throw new IllegalArgumentException("weight must be positive: " + opts.getWeight());
+        }
+        return clients.computeIfAbsent(token, t -> newClient(t, opts));
+    }
+
+    /**
+     * 移除 Token 对应的客户端并清除其缓存，已持有的实例仍可继续使用
+     *
+     * @return 是否存在该 Token
+     */
+    public boolean remove(String token) {
+        ZsxqClient removed = clients.remove(token);
+        if (removed != null) {
+            removed.httpClient().invalidateCache("");
+        }
+        return removed != null;
+    }
+
+    /**
+     * 当前池中的 Token 数
+     */
+    public int size() {
+        return clients.size();
+    }
+
+    /**
+     * 等待共享并发名额的请求数
+     */
+    public int queuedRequests() {
+        return transport.getQueuedRequests();
+    }
+
+    /**
+     * 响应缓存统计（所有 Token 合计），未配置缓存时返回 null
+     */
+    public CacheStats cacheStats() {
+        return transport.getCacheStats();
+    }
+
+    /**
+     * 条件请求和磁盘缓存统计（所有 Token 合计），两者均未开启时返回 null
+     */
+    public HttpCacheStats httpCacheStats() {
+        return transport.getHttpCacheStats();
+    }
+
+    /**
+     * 请求指标注册表（所有 Token 合计），未开启指标时返回 null
+     */
+    public MetricsRegistry metrics() {
+        return template.getMetricsRegistry();
+    }
+
+    /**
+     * 最近请求的飞行记录器（所有 Token 共用），未开启时返回 null
+     */
+    public RequestRecorder requestRecorder() {
+        return template.getRequestRecorder();
+    }
+
+    private ZsxqClient newClient(String token, TenantOptions options) {
+        ZsxqConfig config = template.toBuilder()
+                .token(token)
+                .deviceId(options.getDeviceId() != null ? options.getDeviceId() : UUID.randomUUID().toString())
+                .rateLimit(options.getRateLimit() != null ? options.getRateLimit() : template.getRateLimit())
+                .build();
+        return new ZsxqClient(new HttpClient(config, transport, options.getWeight()), template.isVirtualThreads());
+    }
+}
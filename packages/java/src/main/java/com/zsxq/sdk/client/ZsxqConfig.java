@@ -1,13 +1,24 @@
 package com.zsxq.sdk.client;
 
+import com.zsxq.sdk.http.RateLimitListener;
+import com.zsxq.sdk.http.RequestIdGenerator;
+import com.zsxq.sdk.http.ResponseCache;
+import com.zsxq.sdk.metrics.CallTimingListener;
+import com.zsxq.sdk.metrics.MetricsRegistry;
+import com.zsxq.sdk.metrics.RequestRecorder;
 import lombok.Builder;
 import lombok.Getter;
+import okhttp3.OkHttpClient;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * SDK 配置
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class ZsxqConfig {
 
     /**
@@ -39,6 +50,22 @@ public class ZsxqConfig {
     @Builder.Default
     private final int retryDelay = 1000;
 
+    /**
+     * 重试策略（退避上限、重试预算、截止时间、限流重试）
+     */
+    @Builder.Default
+    private final RetryPolicy retryPolicy = RetryPolicy.defaults();
+
+    /**
+     * 熔断策略（按路径模板熔断），为 null 时不启用
+     */
+    private final CircuitBreakerPolicy circuitBreakerPolicy;
+
+    /**
+     * GET 对冲策略，为 null 时不启用
+     */
+    private final HedgePolicy hedgePolicy;
+
     /**
      * 设备 ID
      */
@@ -63,4 +90,115 @@ public class ZsxqConfig {
      */
     @Builder.Default
     private final boolean signatureEnabled = true;
+
+    /**
+     * 请求 ID 生成器
+     * 默认使用基于 ThreadLocalRandom 的 UUID 格式生成器
+     */
+    @Builder.Default
+    private final RequestIdGenerator requestIdGenerator = RequestIdGenerator.fast();
+
+    /**
+     * 客户端级限流（请求/秒），为 null 时不限流
+     */
+    private final Double rateLimit;
+
+    /**
+     * 按接口族限流（接口族名称 → 请求/秒），接口族以路径段名称标识，如 "checkins"
+     */
+    @Builder.Default
+    private final Map<String, Double> endpointRateLimits = Collections.emptyMap();
+
+    /**
+     * 限流事件监听器（可选）
+     */
+    private final RateLimitListener rateLimitListener;
+
+    /**
+     * 是否合并并发的相同 GET 请求（single-flight）
+     * 开启后同一时刻的相同请求共享一次调用和同一个解码结果，调用方不应修改返回的对象
+     */
+    @Builder.Default
+    private final boolean coalesceGets = false;
+
+    /**
+     * GET 响应缓存 TTL（接口族名称 → 毫秒），为空时不缓存
+     * 接口族以路径段名称标识，如 "menus"、"settings"
+     */
+    @Builder.Default
+    private final Map<String, Long> cacheTtls = Collections.emptyMap();
+
+    /**
+     * 缓存过期后仍可返回旧值的时间窗口（毫秒），期间在后台刷新；0 表示过期即重新请求
+     */
+    @Builder.Default
+    private final long staleWhileRevalidate = 0;
+
+    /**
+     * 默认内存缓存的最大条目数
+     */
+    @Builder.Default
+    private final int cacheMaximumSize = 1000;
+
+    /**
+     * 自定义缓存存储（可选），默认使用 {@link com.zsxq.sdk.http.InMemoryResponseCache}
+     */
+    private final ResponseCache responseCache;
+
+    /**
+     * 条件请求保留的已解码响应数，为 0 时不发送条件请求
+     */
+    @Builder.Default
+    private final int conditionalCacheSize = 0;
+
+    /**
+     * OkHttp 磁盘缓存目录（可选），为 null 时不使用磁盘缓存
+     */
+    private final File httpCacheDirectory;
+
+    /**
+     * OkHttp 磁盘缓存最大字节数
+     */
+    @Builder.Default
+    private final long httpCacheMaxSize = 50L * 1024 * 1024;
+
+    /**
+     * 请求指标注册表（可选），为 null 时不记录指标
+     */
+    private final MetricsRegistry metricsRegistry;
+
+    /**
+     * 是否把分阶段耗时写入指标注册表
+     */
+    @Builder.Default
+    private final boolean phaseTimings = false;
+
+    /**
+     * 分阶段计时监听器（可选）
+     */
+    private final CallTimingListener callTimingListener;
+
+    /**
+     * 最近请求的飞行记录器（可选），为 null 时不记录
+     */
+    private final RequestRecorder requestRecorder;
+
+    /**
+     * 是否使用虚拟线程（需要 Java 21+）
+     * 开启后 OkHttp 异步调度和 fan-out 调用均为每个任务一个虚拟线程
+     */
+    @Builder.Default
+    private final boolean virtualThreads = false;
+
+    /**
+     * 连接管理配置（连接池、调度器并发上限、HTTP/2、单次调用超时）
+     */
+    @Builder.Default
+    private final ConnectionProfile connectionProfile = ConnectionProfile.defaults();
+
+    /**
+     * 共享的 OkHttpClient（可选）
+     * 设置后复用其连接池、调度器、超时和 TLS 配置，timeout、connectionProfile 和 virtualThreads 不再生效
+     */
+    private final OkHttpClient okHttpClient;
 }
@@ -0,0 +1,30 @@
+package com.zsxq.sdk.exception;
+
+/**
+ * 熔断异常：接口处于熔断状态，请求未发出即失败
+ */
+public class CircuitOpenException extends NetworkException {
+
+    private final String endpoint;
+    private final long retryAfterMillis;
+
+    public CircuitOpenException(String endpoint, long retryAfterMillis, String requestId) {
+        super("Circuit breaker open for " + endpoint + ", retry after " + retryAfterMillis + "ms", null, requestId);
+        this.endpoint = endpoint;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /**
+     * 熔断的路径模板
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * 预计进入半开状态前的剩余时间（毫秒），半开且探测名额已满时为 0
+     */
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -0,0 +1,69 @@
+package com.zsxq.sdk.export;
+
+import com.google.gson.Gson;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 导出进度：导出的数据集、话题游标、已完成的数据集、各文件已提交的长度和条数、被截断的数据集
+ *
+ * 以 JSON 保存在导出目录的 checkpoint.json 中，先写临时文件再原子替换。
+ */
+final class ExportCheckpoint {
+
+    static final String FILE_NAME = "checkpoint.json";
+
+    long groupId;
+    /** 本次导出包含的数据集，继续时必须相同 */
+    Set<GroupExporter.Dataset> datasets;
+    /** 下一页话题的 end_time，为 null 时从最新话题开始 */
+    String topicsCursor;
+    /** 已写入的、create_time 等于游标的话题 ID，用于去掉翻页边界的重复话题 */
+    List<Long> boundaryIds = new ArrayList<>();
+    boolean topicsDone;
+    boolean checkinsDone;
+    boolean membersDone;
+    boolean completed;
+    Map<GroupExporter.Dataset, Long> lengths = new EnumMap<>(GroupExporter.Dataset.class);
+    Map<GroupExporter.Dataset, Long> counts = new EnumMap<>(GroupExporter.Dataset.class);
+    /** 因接口无法继续翻页而可能缺少记录的数据集 */
+    Set<GroupExporter.Dataset> truncated = EnumSet.noneOf(GroupExporter.Dataset.class);
+
+    static ExportCheckpoint load(Path dir, Gson gson) throws IOException {
+        Path path = dir.resolve(FILE_NAME);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        return gson.fromJson(Files.readString(path, StandardCharsets.UTF_8), ExportCheckpoint.class);
+    }
+
+    void save(Path dir, Gson gson) throws IOException {
+        Path tmp = dir.resolve(FILE_NAME + ".tmp");
+        Files.writeString(tmp, gson.toJson(this), StandardCharsets.UTF_8);
+        try {
+            Files.move(tmp, dir.resolve(FILE_NAME), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, dir.resolve(FILE_NAME), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    long length(GroupExporter.Dataset dataset) {
+        return lengths.getOrDefault(dataset, 0L);
+    }
+
+    long count(GroupExporter.Dataset dataset) {
+        return counts.getOrDefault(dataset, 0L);
+    }
+}
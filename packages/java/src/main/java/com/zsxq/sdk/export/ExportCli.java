@@ -0,0 +1,107 @@
+package com.zsxq.sdk.export;
+
+import com.zsxq.sdk.client.ZsxqClient;
+import com.zsxq.sdk.client.ZsxqClientBuilder;
+import com.zsxq.sdk.exception.RateLimitException;
+import com.zsxq.sdk.exception.ZsxqException;
+
+import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 命令行导出工具
+ *
+ * SDK 的 jar 不包含依赖，需要带上完整的 classpath：
+ *
+ * <pre>
+ * mvn -q dependency:build-classpath -Dmdep.includeScope=runtime -Dmdep.outputFile=cp.txt
+ * ZSXQ_TOKEN=... java -cp "target/zsxq-sdk-&lt;version&gt;.jar:$(cat cp.txt)" com.zsxq.sdk.export.ExportCli \
+ *     &lt;groupId&gt; &lt;dir&gt; [--page-size N] [--checkpoint-every N] [--only topics,comments,checkins,members]
+ * </pre>
+ *
+ * 被限流或出错时退出码为 2，再次运行同样的命令即可从断点继续。
+ */
+public final class ExportCli {
+
+    private static final String USAGE = "usage: ExportCli <groupId> <dir> [--page-size N] [--checkpoint-every N]"
+            + " [--only topics,comments,checkins,members]";
+
+    private ExportCli() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    static int run(String[] args) {
+        if (args.length < 2) {
+            System.err.println(USAGE);
+            return 1;
+        }
+        String token = System.getenv("ZSXQ_TOKEN");
+        if (token == null || token.isEmpty()) {
+            System.err.println("ZSXQ_TOKEN is not set");
+            return 1;
+        }
+        GroupExporter exporter;
+        ZsxqClient client = new ZsxqClientBuilder().token(token).build();
+        try {
+            exporter = new GroupExporter(client, Long.parseLong(args[0]), Paths.get(args[1]));
+            for (int i = 2; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--page-size":
+                        exporter.pageSize(Integer.parseInt(value));
+                        break;
+                    case "--checkpoint-every":
+                        exporter.checkpointEvery(Integer.parseInt(value));
+                        break;
+                    case "--only":
+                        exporter.datasets(parseDatasets(value));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("unknown option " + option);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            return 1;
+        }
+
+        try {
+            ExportSummary summary = exporter.run();
+            System.err.println("export finished: " + summary.getCounts());
+            if (!summary.getTruncated().isEmpty()) {
+                System.err.println("may be incomplete (API paging limit): " + summary.getTruncated());
+            }
+            return 0;
+        } catch (IllegalStateException e) {
+            System.err.println(e.getMessage());
+            return 1;
+        } catch (RateLimitException e) {
+            System.err.println("rate limited, progress saved; rerun the same command to resume");
+            return 2;
+        } catch (ZsxqException e) {
+            System.err.println("export failed (" + e.getCode() + " " + e.getMessage()
+                    + "), progress saved; rerun the same command to resume");
+            return 2;
+        }
+    }
+
+    private static Set<GroupExporter.Dataset> parseDatasets(String value) {
+        Set<GroupExporter.Dataset> datasets = EnumSet.noneOf(GroupExporter.Dataset.class);
+        for (String name : value.split(",")) {
+            if (!name.isBlank()) {
+                datasets.add(GroupExporter.Dataset.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            }
+        }
+        return datasets;
+    }
+}
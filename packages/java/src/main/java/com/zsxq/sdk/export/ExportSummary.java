@@ -0,0 +1,64 @@
+package com.zsxq.sdk.export;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 导出结果：各数据集累计写入的条数（包括此前中断的运行），以及因接口无法继续翻页而可能缺少记录的数据集
+ */
+public final class ExportSummary {
+
+    private final Path directory;
+    private final Map<GroupExporter.Dataset, Long> counts;
+    private final Set<GroupExporter.Dataset> truncated;
+    private final boolean completed;
+
+    ExportSummary(Path directory, Map<GroupExporter.Dataset, Long> counts, Set<GroupExporter.Dataset> truncated,
+                  boolean completed) {
+        this.directory = directory;
+        Map<GroupExporter.Dataset, Long> copy = new EnumMap<>(GroupExporter.Dataset.class);
+        copy.putAll(counts);
+        this.counts = Collections.unmodifiableMap(copy);
+        Set<GroupExporter.Dataset> truncatedCopy = EnumSet.noneOf(GroupExporter.Dataset.class);
+        truncatedCopy.addAll(truncated);
+        this.truncated = Collections.unmodifiableSet(truncatedCopy);
+        this.completed = completed;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public Map<GroupExporter.Dataset, Long> getCounts() {
+        return counts;
+    }
+
+    public long getCount(GroupExporter.Dataset dataset) {
+        return counts.getOrDefault(dataset, 0L);
+    }
+
+    /**
+     * 可能缺少记录的数据集：同一时间的话题超过一页、评论无法继续翻页、打卡项目达到单次请求上限
+     */
+    public Set<GroupExporter.Dataset> getTruncated() {
+        return truncated;
+    }
+
+    public boolean isTruncated(GroupExporter.Dataset dataset) {
+        return truncated.contains(dataset);
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    @Override
+    public String toString() {
+        return "ExportSummary{directory=" + directory + ", counts=" + counts + ", truncated=" + truncated
+                + ", completed=" + completed + '}';
+    }
+}
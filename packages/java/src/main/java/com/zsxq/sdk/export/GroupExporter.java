@@ -0,0 +1,388 @@
+package com.zsxq.sdk.export;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.zsxq.sdk.client.ZsxqClient;
+import com.zsxq.sdk.model.Checkin;
+import com.zsxq.sdk.model.Comment;
+import com.zsxq.sdk.model.RoleMembers;
+import com.zsxq.sdk.model.Topic;
+import com.zsxq.sdk.model.User;
+import com.zsxq.sdk.request.CheckinsRequest;
+import com.zsxq.sdk.request.TopicsRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 把一个星球的话题、评论、打卡项目和成员流式导出为 gzip 压缩的 NDJSON 文件
+ *
+ * 话题按 end_time 游标逐页读取，每页（话题及其评论）写完即释放，内存占用与导出总量无关。
+ * 同一时间的话题多于一页时游标退后 1 毫秒继续；评论按 begin_time 正序翻页。接口无法取全的数据集
+ * （同一时间的话题超过一页、评论翻页停滞、打卡项目达到单次请求上限）记入 {@link ExportSummary#getTruncated()}。
+ * 每隔若干页提交一次：结束各文件当前的 gzip 成员、落盘，并把游标和文件长度写入 checkpoint.json。
+ * 中途失败（包括重试后仍然 {@link com.zsxq.sdk.exception.RateLimitException}）时先提交已完成的页再抛出异常；
+ * 对同一目录再次运行会截断未提交的内容并从游标处继续，已提交的记录不会重复。
+ *
+ * <pre>
+ * ExportSummary summary = new GroupExporter(client, groupId, Paths.get("export"))
+ *     .pageSize(30)
+ *     .run();
+ * </pre>
+ *
+ * 输出文件：topics.ndjson.gz、comments.ndjson.gz（带 topic_id）、checkins.ndjson.gz、
+ * members.ndjson.gz（带 role：owner / partner / admin），字段名与 API 一致。
+ */
+public final class GroupExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupExporter.class);
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
+    /** 评论接口单页上限 */
+    private static final int COMMENTS_PAGE_SIZE = 30;
+
+    /** 打卡项目接口没有游标，只能一次取回，上限见 CheckinsRequest */
+    private static final int CHECKINS_LIMIT = 100;
+
+    private static final Gson GSON = new GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .create();
+
+    /**
+     * 导出的数据集
+     */
+    public enum Dataset {
+        TOPICS("topics.ndjson.gz"),
+        /** 每个话题的评论，随话题翻页一起导出 */
+        COMMENTS("comments.ndjson.gz"),
+        /** 打卡项目 */
+        CHECKINS("checkins.ndjson.gz"),
+        /** 星主、合伙人和管理员 */
+        MEMBERS("members.ndjson.gz");
+
+        private final String fileName;
+
+        Dataset(String fileName) {
+            this.fileName = fileName;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+    }
+
+    private final ZsxqClient client;
+    private final long groupId;
+    private final Path directory;
+
+    private Set<Dataset> datasets = EnumSet.allOf(Dataset.class);
+    private int pageSize = 30;
+    private int checkpointEvery = 10;
+
+    public GroupExporter(ZsxqClient client, long groupId, Path directory) {
+        this.client = client;
+        this.groupId = groupId;
+        this.directory = directory;
+    }
+
+    /**
+     * 要导出的数据集（默认全部）
+     */
+    public GroupExporter datasets(Set<Dataset> datasets) {
+        if (datasets.isEmpty()) {
+            throw new IllegalArgumentException("datasets must not be empty");
+        }
+        this.datasets = EnumSet.copyOf(datasets);
+        return this;
+    }
+
+    /**
+     * 每页话题数（默认 30）
+     */
+    public GroupExporter pageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive: " + pageSize);
+        }
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * 每隔多少页话题提交一次进度（默认 10）；失败时总会先提交已完成的页
+     */
+    public GroupExporter checkpointEvery(int pages) {
+        if (pages <= 0) {
+            throw new IllegalArgumentException("checkpointEvery must be positive: " + pages);
+        }
+        this.checkpointEvery = pages;
+        return this;
+    }
+
+    /**
+     * 执行导出（或从上次的进度继续）
+     *
+     * @throws UncheckedIOException 写文件失败
+     * @throws IllegalStateException 目录中已有其他星球或其他数据集组合的导出
+     * @throws com.zsxq.sdk.exception.ZsxqException 请求失败，已完成的部分已提交，再次运行即可继续
+     */
+    public ExportSummary run() {
+        try {
+            Files.createDirectories(directory);
+            ExportCheckpoint checkpoint = ExportCheckpoint.load(directory, GSON);
+            if (checkpoint == null) {
+                checkpoint = new ExportCheckpoint();
+                checkpoint.groupId = groupId;
+                checkpoint.datasets = EnumSet.copyOf(datasets);
+            } else if (checkpoint.groupId != groupId) {
+                throw new IllegalStateException("Directory " + directory + " holds an export of group "
+                        + checkpoint.groupId + ", not " + groupId);
+            } else if (!datasets.equals(checkpoint.datasets)) {
+                throw new IllegalStateException("Directory " + directory + " holds an export of "
+                        + checkpoint.datasets + ", not " + datasets + "; use another directory");
+            }
+            if (!checkpoint.completed) {
+                export(checkpoint);
+            }
+            return new ExportSummary(directory, checkpoint.counts, checkpoint.truncated, checkpoint.completed);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void export(ExportCheckpoint checkpoint) throws IOException {
+        Map<Dataset, NdjsonGzipWriter> writers = new EnumMap<>(Dataset.class);
+        try {
+            for (Dataset dataset : datasets) {
+                writers.put(dataset, new NdjsonGzipWriter(directory.resolve(dataset.getFileName()),
+                        checkpoint.length(dataset)));
+            }
+            try {
+                exportTopics(checkpoint, writers);
+                if (datasets.contains(Dataset.CHECKINS) && !checkpoint.checkinsDone) {
+                    exportCheckins(checkpoint, writers);
+                    checkpoint.checkinsDone = true;
+                }
+                if (datasets.contains(Dataset.MEMBERS) && !checkpoint.membersDone) {
+                    exportMembers(checkpoint, writers);
+                    checkpoint.membersDone = true;
+                }
+                checkpoint.completed = true;
+            } catch (RuntimeException | IOException e) {
+                // 提交失败不能掩盖原来的异常
+                try {
+                    commit(checkpoint, writers);
+                } catch (IOException | RuntimeException commitFailure) {
+                    e.addSuppressed(commitFailure);
+                }
+                throw e;
+            }
+            commit(checkpoint, writers);
+        } finally {
+            for (NdjsonGzipWriter writer : writers.values()) {
+                writer.close();
+            }
+        }
+    }
+
+    private void exportTopics(ExportCheckpoint checkpoint, Map<Dataset, NdjsonGzipWriter> writers) throws IOException {
+        if (checkpoint.topicsDone || !(datasets.contains(Dataset.TOPICS) || datasets.contains(Dataset.COMMENTS))) {
+            return;
+        }
+        int pages = 0;
+        while (true) {
+            TopicsRequest.ListTopicsOptions options = new TopicsRequest.ListTopicsOptions().count(pageSize);
+            if (checkpoint.topicsCursor != null) {
+                options.endTime(checkpoint.topicsCursor);
+            }
+            List<Topic> page = client.topics().list(groupId, options);
+
+            // 先取完本页全部评论再写入，失败时本页不留下半页数据
+            Set<Long> seen = new HashSet<>(checkpoint.boundaryIds);
+            List<Topic> fresh = new ArrayList<>(page.size());
+            List<String> comments = new ArrayList<>();
+            for (Topic topic : page) {
+                if (topic.getTopicId() != null && seen.contains(topic.getTopicId())) {
+                    continue;
+                }
+                fresh.add(topic);
+                if (datasets.contains(Dataset.COMMENTS) && hasComments(topic)) {
+                    comments.addAll(fetchComments(checkpoint, topic.getTopicId()));
+                }
+            }
+            if (datasets.contains(Dataset.TOPICS)) {
+                for (Topic topic : fresh) {
+                    write(writers, checkpoint, Dataset.TOPICS, GSON.toJson(topic));
+                }
+            }
+            for (String comment : comments) {
+                write(writers, checkpoint, Dataset.COMMENTS, comment);
+            }
+
+            String next = page.isEmpty() ? null : page.get(page.size() - 1).getCreateTime();
+            if (next == null || (fresh.isEmpty() && page.size() < pageSize)) {
+                checkpoint.topicsDone = true;
+                checkpoint.boundaryIds = Collections.emptyList();
+                return;
+            }
+            if (fresh.isEmpty()) {
+                // 整页都是游标时间上已导出的话题，该时间剩下的话题无法再翻到，退后 1 毫秒继续
+                next = shift(next, -1);
+                if (next == null) {
+                    checkpoint.topicsDone = true;
+                    checkpoint.boundaryIds = Collections.emptyList();
+                    return;
+                }
+                log.warn("Export of group {} skipped topics created at {}: more than {} share that time",
+                        groupId, checkpoint.topicsCursor, pageSize);
+                checkpoint.truncated.add(Dataset.TOPICS);
+                checkpoint.boundaryIds = Collections.emptyList();
+            } else {
+                List<Long> boundary = next.equals(checkpoint.topicsCursor)
+                        ? new ArrayList<>(checkpoint.boundaryIds) : new ArrayList<>();
+                for (Topic topic : fresh) {
+                    if (topic.getTopicId() != null && next.equals(topic.getCreateTime())) {
+                        boundary.add(topic.getTopicId());
+                    }
+                }
+                checkpoint.boundaryIds = boundary;
+            }
+            checkpoint.topicsCursor = next;
+            if (++pages % checkpointEvery == 0) {
+                commit(checkpoint, writers);
+                log.debug("Export of group {} committed at {}", groupId, next);
+            }
+        }
+    }
+
+    /**
+     * 按 begin_time 正序翻页取回一个话题的全部评论；begin_time 可能包含边界，按评论 ID 去重。
+     * 一整页都是已取过的评论时无法继续翻页，记为截断
+     */
+    private List<String> fetchComments(ExportCheckpoint checkpoint, long topicId) {
+        List<String> comments = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        String cursor = null;
+        while (true) {
+            TopicsRequest.ListCommentsOptions options = new TopicsRequest.ListCommentsOptions()
+                    .sort("asc")
+                    .count(COMMENTS_PAGE_SIZE);
+            if (cursor != null) {
+                options.beginTime(cursor);
+            }
+            List<Comment> page = client.topics().getComments(topicId, options);
+            boolean fresh = false;
+            for (Comment comment : page) {
+                if (comment.getCommentId() != null && !seen.add(comment.getCommentId())) {
+                    continue;
+                }
+                fresh = true;
+                JsonObject json = GSON.toJsonTree(comment).getAsJsonObject();
+                json.addProperty("topic_id", topicId);
+                comments.add(json.toString());
+            }
+            if (page.size() < COMMENTS_PAGE_SIZE) {
+                return comments;
+            }
+            String next = page.get(page.size() - 1).getCreateTime();
+            if (!fresh || next == null) {
+                log.warn("Export of group {} stopped paging comments of topic {} after {}",
+                        groupId, topicId, comments.size());
+                checkpoint.truncated.add(Dataset.COMMENTS);
+                return comments;
+            }
+            cursor = next;
+        }
+    }
+
+    private void exportCheckins(ExportCheckpoint checkpoint, Map<Dataset, NdjsonGzipWriter> writers)
+            throws IOException {
+        List<Checkin> checkins = client.checkins().list(groupId,
+                new CheckinsRequest.ListCheckinsOptions().count(CHECKINS_LIMIT));
+        for (Checkin checkin : checkins) {
+            write(writers, checkpoint, Dataset.CHECKINS, GSON.toJson(checkin));
+        }
+        if (checkins.size() >= CHECKINS_LIMIT) {
+            log.warn("Export of group {} got {} checkins, the most one request returns; some may be missing",
+                    groupId, checkins.size());
+            checkpoint.truncated.add(Dataset.CHECKINS);
+        }
+    }
+
+    private void exportMembers(ExportCheckpoint checkpoint, Map<Dataset, NdjsonGzipWriter> writers) throws IOException {
+        RoleMembers members = client.groups().getRoleMembers(groupId);
+        if (members == null) {
+            return;
+        }
+        writeMember(writers, checkpoint, "owner", members.getOwner());
+        for (User partner : orEmpty(members.getPartners())) {
+            writeMember(writers, checkpoint, "partner", partner);
+        }
+        for (User admin : orEmpty(members.getAdmins())) {
+            writeMember(writers, checkpoint, "admin", admin);
+        }
+    }
+
+    private void writeMember(Map<Dataset, NdjsonGzipWriter> writers, ExportCheckpoint checkpoint, String role,
+                             User user) throws IOException {
+        if (user == null) {
+            return;
+        }
+        JsonObject json = GSON.toJsonTree(user).getAsJsonObject();
+        json.addProperty("role", role);
+        write(writers, checkpoint, Dataset.MEMBERS, json.toString());
+    }
+
+    private static void write(Map<Dataset, NdjsonGzipWriter> writers, ExportCheckpoint checkpoint, Dataset dataset,
+                              String json) throws IOException {
+        writers.get(dataset).write(json);
+        checkpoint.counts.merge(dataset, 1L, Long::sum);
+    }
+
+    /**
+     * 提交各文件并保存进度；文件先落盘，进度后写入，崩溃时进度不会超过文件内容
+     */
+    private void commit(ExportCheckpoint checkpoint, Map<Dataset, NdjsonGzipWriter> writers) throws IOException {
+        for (Map.Entry<Dataset, NdjsonGzipWriter> entry : writers.entrySet()) {
+            checkpoint.lengths.put(entry.getKey(), entry.getValue().commit());
+        }
+        checkpoint.save(directory, GSON);
+    }
+
+    private static boolean hasComments(Topic topic) {
+        return topic.getTopicId() != null && (topic.getCommentsCount() == null || topic.getCommentsCount() > 0);
+    }
+
+    /**
+     * 把 API 时间平移若干毫秒，保留原时区；无法解析时返回 null
+     */
+    private static String shift(String time, long millis) {
+        try {
+            return TIME_FORMAT.format(OffsetDateTime.parse(time, TIME_FORMAT).plus(millis, ChronoUnit.MILLIS));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list != null ? list : Collections.emptyList();
+    }
+}
@@ -0,0 +1,90 @@
+package com.zsxq.sdk.export;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 追加写入 gzip 压缩的 NDJSON 文件
+ *
+ * 每次 {@link #commit()} 结束当前 gzip 成员并落盘，返回文件长度，之后的写入进入新的 gzip 成员。
+ * 多成员 gzip 可被 gunzip、zcat 和 GZIPInputStream 连续读出；恢复时把文件截断到上次提交的长度，
+ * 丢弃崩溃时写了一半的成员，再继续追加。
+ */
+final class NdjsonGzipWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileOutputStream file;
+    private Writer writer;
+
+    /**
+     * @param committedLength 上次提交时的文件长度，之后的内容被截断
+     */
+    NdjsonGzipWriter(Path path, long committedLength) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (channel.size() > committedLength) {
+                channel.truncate(committedLength);
+            }
+        }
+        this.file = new FileOutputStream(path.toFile(), true);
+    }
+
+    void write(String json) throws IOException {
+        if (writer == null) {
+            writer = openMember();
+        }
+        writer.write(json);
+        writer.write('\n');
+    }
+
+    /**
+     * 结束当前 gzip 成员并落盘
+     *
+     * @return 提交后的文件长度
+     */
+    long commit() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+            file.getChannel().force(false);
+        }
+        return file.getChannel().position();
+    }
+
+    /**
+     * 关闭文件，未提交的内容丢弃（恢复时会被截断）
+     */
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    /**
+     * 新的 gzip 成员在第一次写入时才创建，避免文件末尾留下只有头部的空成员
+     */
+    private Writer openMember() throws IOException {
+        OutputStream shielded = new FilterOutputStream(file) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                out.flush();
+            }
+        };
+        GZIPOutputStream gzip = new GZIPOutputStream(shielded, BUFFER_SIZE);
+        return new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,194 @@
+package com.zsxq.sdk.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 自适应令牌桶限流器（AIMD）
+ *
+ * 初始速率为配置的上限；收到 40001 时速率减半（乘性减），之后每个成功请求按比例回升，
+ * 以约每秒上限 5% 的速度恢复到上限（加性增）。桶容量为一秒的令牌数，允许短时突发。
+ *
+ * 采用预约方式：{@link #reserve()} 立即扣减令牌并返回需要等待的时间，
+ * 同步调用在当前线程等待，异步调用交给调度器延迟发送，不占用线程。
+ */
+public final class AdaptiveRateLimiter {
+
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double MIN_RATE_RATIO = 0.05;
+    private static final double INCREASE_RATIO_PER_SECOND = 0.05;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final String name;
+    private final double maxRate;
+    private final double minRate;
+    private final double increasePerSecond;
+    private final RateLimitListener listener;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder throttleCount = new LongAdder();
+    private final LongAdder delayedCount = new LongAdder();
+
+    private double rate;
+    private double tokens;
+    private long lastRefill;
+
+    /**
+     * @param name 名称（"*" 表示客户端级，否则为接口族名称）
+     * @param permitsPerSecond 每秒请求数上限
+     * @param listener 事件监听器，可为 null
+     */
+    public AdaptiveRateLimiter(String name, double permitsPerSecond, RateLimitListener listener) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+        this.name = name;
+        this.maxRate = permitsPerSecond;
+        this.minRate = Math.max(permitsPerSecond * MIN_RATE_RATIO, Math.min(permitsPerSecond, 0.1));
+        this.increasePerSecond = permitsPerSecond * INCREASE_RATIO_PER_SECOND;
+        this.listener = listener;
+        this.rate = permitsPerSecond;
+        this.tokens = capacity(permitsPerSecond);
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * 预约一个令牌
+     *
+     * @return 发送请求前需要等待的纳秒数，0 表示可以立即发送
+     */
+    public long reserve() {
+        long waitNanos;
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            refill(now);
+            tokens -= 1;
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens / rate * NANOS_PER_SECOND);
+        } finally {
+            lock.unlock();
+        }
+        if (waitNanos > 0) {
+            delayedCount.increment();
+        }
+        return waitNanos;
+    }
+
+    /**
+     * 获取一个令牌，必要时阻塞等待
+     */
+    public void acquire() {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 请求未被限流：速率按比例回升
+     */
+    public void onSuccess() {
+        lock.lock();
+        try {
+            if (rate < maxRate) {
+                rate = Math.min(maxRate, rate + increasePerSecond / rate);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 请求被服务端限流（40001）：速率减半并清空突发额度
+     */
+    public void onThrottled() {
+        double previous;
+        double current;
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            previous = rate;
+            rate = Math.max(minRate, rate * DECREASE_FACTOR);
+            tokens = Math.min(tokens, 0);
+            current = rate;
+        } finally {
+            lock.unlock();
+        }
+        throttleCount.increment();
+        if (listener != null) {
+            listener.onThrottled(name, previous, current);
+        }
+    }
+
+    /**
+     * 当前是否至少有一个空余令牌（不扣减）
+     */
+    boolean hasToken() {
+        lock.lock();
+        try {
+            refill(System.nanoTime());
+            return tokens >= 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 名称（"*" 表示客户端级，否则为接口族名称）
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 当前速率（请求/秒）
+     */
+    public double getRate() {
+        lock.lock();
+        try {
+            return rate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 配置的速率上限（请求/秒）
+     */
+    public double getMaxRate() {
+        return maxRate;
+    }
+
+    /**
+     * 累计被服务端限流的次数
+     */
+    public long getThrottleCount() {
+        return throttleCount.sum();
+    }
+
+    /**
+     * 累计因令牌不足而等待的请求数
+     */
+    public long getDelayedCount() {
+        return delayedCount.sum();
+    }
+
+    private void refill(long now) {
+        double capacity = capacity(rate);
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * rate / NANOS_PER_SECOND);
+        lastRefill = now;
+    }
+
+    private static double capacity(double rate) {
+        return Math.max(1.0, rate);
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveRateLimiter{" + name + ", rate=" + getRate() + "/" + maxRate + "}";
+    }
+}
@@ -0,0 +1,50 @@
+package com.zsxq.sdk.http;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 事件：一次请求尝试，从尝试开始（含限流和排队等待）到结果确定
+ */
+@Name("com.zsxq.sdk.ApiCall")
+@Label("ZSXQ API Call")
+@Description("One request attempt, from the start of the attempt until its outcome is known")
+@Category({"ZSXQ SDK"})
+@StackTrace(false)
+final class ApiCallEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Path")
+    @Description("Path template, IDs replaced with {id}")
+    String path;
+
+    @Label("Request ID")
+    String requestId;
+
+    @Label("Attempt")
+    @Description("0 for the first attempt, then 1, 2, ... for retries")
+    int attempt;
+
+    @Label("HTTP Status")
+    @Description("0 when no response was received")
+    int status;
+
+    @Label("Outcome")
+    @Description("success, api_error or network_error")
+    String outcome;
+
+    @Label("Error Code")
+    @Description("ZsxqException code, 0 on success")
+    int errorCode;
+
+    @Label("Response Bytes")
+    @Description("Response body bytes read while decoding")
+    @DataAmount
+    long bytes;
+}
@@ -0,0 +1,74 @@
+package com.zsxq.sdk.http;
+
+import com.zsxq.sdk.exception.NetworkException;
+import com.zsxq.sdk.exception.ZsxqException;
+import com.zsxq.sdk.metrics.RequestRecord;
+import com.zsxq.sdk.metrics.RequestRecorder;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 一次请求尝试写入 {@link RequestRecorder} 前收集的状态
+ *
+ * 以 tag 形式挂在发出的 Request 上：读取响应时记下状态码（和截断的响应体），尝试结束时生成 {@link RequestRecord}
+ */
+final class AttemptRecord {
+
+    private final int attempt;
+    private int status;
+    private String responseBody;
+
+    private AttemptRecord(int attempt) {
+        this.attempt = attempt;
+    }
+
+    static Request attach(Request request, int attempt) {
+        return request.newBuilder().tag(AttemptRecord.class, new AttemptRecord(attempt)).build();
+    }
+
+    /**
+     * 收到响应：记下状态码，按需用 peekBody 截取响应体（不影响后续解码）
+     */
+    void onResponse(Response response, int maxBodyBytes) {
+        status = response.code();
+        if (maxBodyBytes > 0 && response.body() != null) {
+            try {
+                responseBody = response.peekBody(maxBodyBytes).string();
+            } catch (IOException ignore) {
+                // 响应体读取失败时由解码抛出异常
+            }
+        }
+    }
+
+    RequestRecord finish(Request request, long latencyNanos, Throwable error, int maxBodyBytes) {
+        String outcome = "success";
+        int errorCode = 0;
+        if (error instanceof ZsxqException && !(error instanceof NetworkException)) {
+            outcome = "api_error";
+            errorCode = ((ZsxqException) error).getCode();
+        } else if (error != null) {
+            outcome = "network_error";
+        }
+        return new RequestRecord(System.currentTimeMillis(), request.header("x-request-id"), request.method(),
+                request.url().encodedPath(), attempt, status, latencyNanos, outcome, errorCode,
+                error != null ? error.getClass().getSimpleName() + ": " + error.getMessage() : null,
+                maxBodyBytes > 0 ? requestBody(request.body(), maxBodyBytes) : null, responseBody);
+    }
+
+    private static String requestBody(RequestBody body, int maxBodyBytes) {
+        if (body == null) {
+            return null;
+        }
+        try (Buffer buffer = new Buffer()) {
+            body.writeTo(buffer);
+            return buffer.readString(Math.min(buffer.size(), maxBodyBytes), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.zsxq.sdk.http;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 响应缓存条目
+ *
+ * 时间均为 {@link System#nanoTime()} 时间点：expiresAt 之前为新鲜数据；
+ * expiresAt 到 staleUntil 之间直接返回旧值并在后台刷新；staleUntil 之后视为未命中。
+ */
+public final class CacheEntry {
+
+    private final Object value;
+    private final long expiresAt;
+    private final long staleUntil;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    public CacheEntry(Object value, long expiresAt, long staleUntil) {
+        this.value = value;
+        this.expiresAt = expiresAt;
+        this.staleUntil = staleUntil;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public long getStaleUntil() {
+        return staleUntil;
+    }
+
+    boolean isFresh(long now) {
+        return now - expiresAt < 0;
+    }
+
+    boolean isUsable(long now) {
+        return now - staleUntil < 0;
+    }
+
+    /**
+     * 抢占后台刷新，同一条目同时只有一个刷新
+     */
+    boolean startRefresh() {
+        return refreshing.compareAndSet(false, true);
+    }
+
+    void refreshFailed() {
+        refreshing.set(false);
+    }
+}
@@ -0,0 +1,70 @@
+package com.zsxq.sdk.http;
+
+/**
+ * 响应缓存统计（快照）
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long staleHitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long size;
+
+    public CacheStats(long hitCount, long staleHitCount, long missCount, long evictionCount, long size) {
+        this.hitCount = hitCount;
+        this.staleHitCount = staleHitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * 命中新鲜数据的次数
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * 命中过期但仍可用的数据（同时触发后台刷新）的次数
+     */
+    public long getStaleHitCount() {
+        return staleHitCount;
+    }
+
+    /**
+     * 未命中（实际发出请求）的次数
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * 因容量不足被淘汰的条目数
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * 当前条目数
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * 命中率（含过期命中），没有请求时为 0
+     */
+    public double hitRate() {
+        long total = hitCount + staleHitCount + missCount;
+        return total == 0 ? 0 : (double) (hitCount + staleHitCount) / total;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hits=" + hitCount + ", staleHits=" + staleHitCount + ", misses=" + missCount
+                + ", evictions=" + evictionCount + ", size=" + size + "}";
+    }
+}
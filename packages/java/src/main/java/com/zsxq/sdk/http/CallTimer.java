@@ -0,0 +1,192 @@
+package com.zsxq.sdk.http;
+
+import com.zsxq.sdk.metrics.CallTiming;
+import com.zsxq.sdk.metrics.Phase;
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.HttpUrl;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+/**
+ * 单次请求尝试的分阶段计时器
+ *
+ * 以 tag 形式挂在发出的 Request 上：OkHttp 事件（DNS、连接、TLS、服务端）由 SharedTransport
+ * 的监听器工厂转发到这里，请求头构建和解码由 HttpClient 计时。解码直接读取响应体字符流，
+ * 因此把响应体的 Source 包一层，解码期间阻塞在 read() 上的时间计为 BODY，其余计为 DECODE。
+ *
+ * 同一次尝试的事件依次发生（异步调用经调度器线程交接），不需要同步。
+ */
+final class CallTimer extends EventListener {
+
+    private final long[] nanos = new long[Phase.values().length];
+    private final long attemptStart;
+
+    private boolean dispatched;
+    private long dnsStart;
+    private long connectStart;
+    private long secureConnectStart;
+    private long secureConnectNanos;
+    private long requestStart;
+
+    private CallTimer(long prepareNanos, long attemptStart) {
+        this.attemptStart = attemptStart;
+        nanos[Phase.PREPARE.ordinal()] = prepareNanos;
+    }
+
+    /**
+     * 为一次尝试创建计时器并挂到请求上（覆盖上一次尝试的计时器）
+     *
+     * @param firstAttempt 是否首次尝试，重试不再计入请求头构建耗时
+     */
+    static Request attach(Request request, boolean firstAttempt) {
+        Prepared prepared = request.tag(Prepared.class);
+        long prepareNanos = firstAttempt && prepared != null ? prepared.nanos : 0;
+        return request.newBuilder()
+                .tag(CallTimer.class, new CallTimer(prepareNanos, System.nanoTime()))
+                .build();
+    }
+
+    /**
+     * 包装响应体，统计解码期间读取响应体的耗时
+     */
+    Response timeBody(Response response) {
+        ResponseBody body = response.body();
+        if (body == null) {
+            return response;
+        }
+        ForwardingSource timed = new ForwardingSource(body.source()) {
+            @Override
+            public long read(Buffer sink, long byteCount) throws IOException {
+                long start = System.nanoTime();
+                try {
+                    return super.read(sink, byteCount);
+                } finally {
+                    nanos[Phase.BODY.ordinal()] += System.nanoTime() - start;
+                }
+            }
+        };
+        return response.newBuilder()
+                .body(ResponseBody.create(Okio.buffer(timed), body.contentType(), body.contentLength()))
+                .build();
+    }
+
+    /**
+     * 解码结束：从解码总耗时中扣除读取响应体的时间
+     */
+    void decoded(long decodeStart) {
+        long total = System.nanoTime() - decodeStart;
+        nanos[Phase.DECODE.ordinal()] = Math.max(0, total - nanos[Phase.BODY.ordinal()]);
+    }
+
+    CallTiming finish(String method, String path, boolean success) {
+        return new CallTiming(method, path, success, nanos);
+    }
+
+    /**
+     * 排队到第一个网络事件为止：异步调用的 callStart 在进入 OkHttp 调度器队列之前触发，
+     * 以它为终点会漏掉调度器排队（maxRequestsPerHost）的时间
+     */
+    private void dispatched() {
+        if (!dispatched) {
+            dispatched = true;
+            nanos[Phase.QUEUE.ordinal()] = System.nanoTime() - attemptStart;
+        }
+    }
+
+    @Override
+    public void proxySelectStart(Call call, HttpUrl url) {
+        dispatched();
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        dispatched();
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        nanos[Phase.DNS.ordinal()] += System.nanoTime() - dnsStart;
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        dispatched();
+        connectStart = System.nanoTime();
+        secureConnectNanos = 0;
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        secureConnectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, Handshake handshake) {
+        secureConnectNanos = System.nanoTime() - secureConnectStart;
+        nanos[Phase.TLS.ordinal()] += secureConnectNanos;
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        nanos[Phase.CONNECT.ordinal()] += System.nanoTime() - connectStart - secureConnectNanos;
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol,
+                              IOException ioe) {
+        nanos[Phase.CONNECT.ordinal()] += System.nanoTime() - connectStart - secureConnectNanos;
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        dispatched();
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        // 磁盘缓存命中时没有网络事件
+        dispatched();
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        // 排队期间被取消或超时：已等待的时间全部计为排队
+        dispatched();
+    }
+
+    @Override
+    public void requestHeadersStart(Call call) {
+        requestStart = System.nanoTime();
+    }
+
+    @Override
+    public void responseHeadersEnd(Call call, Response response) {
+        nanos[Phase.SERVER.ordinal()] += System.nanoTime() - requestStart;
+    }
+
+    /**
+     * 请求头构建耗时，随原始请求传递，只计入首次尝试
+     */
+    static final class Prepared {
+        final long nanos;
+
+        Prepared(long nanos) {
+            this.nanos = nanos;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.zsxq.sdk.http;
+
+import com.zsxq.sdk.client.CircuitBreakerPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 单个路径模板的熔断器
+ *
+ * 关闭状态下用固定大小的环形缓冲记录最近的调用结果；失败率或慢调用率达到阈值后打开，
+ * 打开期间拒绝所有请求；到期后转为半开，放行有限个探测请求，全部成功则关闭，任一失败或过慢则重新打开。
+ */
+public final class CircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    /**
+     * 熔断器状态
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder openCount = new LongAdder();
+
+    private final byte[] window;
+    private int index;
+    private int calls;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openUntil;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    CircuitBreaker(String name, CircuitBreakerPolicy policy) {
+        this.name = name;
+        this.window = new byte[Math.max(1, policy.getWindowSize())];
+        this.minimumCalls = Math.max(1, Math.min(policy.getMinimumCalls(), window.length));
+        this.failureRateThreshold = policy.getFailureRateThreshold();
+        this.slowCallRateThreshold = policy.getSlowCallRateThreshold();
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(policy.getSlowCallDuration());
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(policy.getOpenDuration());
+        this.halfOpenProbes = Math.max(1, policy.getHalfOpenProbes());
+    }
+
+    /**
+     * 尝试放行一个请求；放行后必须调用 {@link #onResult} 或 {@link #onIgnored()} 之一
+     *
+     * @return 是否放行
+     */
+    boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && System.nanoTime() - openUntil >= 0) {
+                transition(State.HALF_OPEN);
+            }
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.HALF_OPEN && probesInFlight < halfOpenProbes) {
+                probesInFlight++;
+                return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        rejectedCount.increment();
+        return false;
+    }
+
+    /**
+     * 记录一次调用结果
+     *
+     * @param nanos 耗时
+     * @param failure 是否失败（网络错误、5xx）
+     */
+    void onResult(long nanos, boolean failure) {
+        boolean slow = nanos >= slowCallNanos;
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED:
+                    record((byte) ((failure ? FAILURE : 0) | (slow ? SLOW : 0)));
+                    if (calls >= minimumCalls
+                            && (failures >= failureRateThreshold * calls || slowCalls >= slowCallRateThreshold * calls)) {
+                        transition(State.OPEN);
+                    }
+                    break;
+                case HALF_OPEN:
+                    probesInFlight = Math.max(0, probesInFlight - 1);
+                    if (failure || slow) {
+                        transition(State.OPEN);
+                    } else if (++probeSuccesses >= halfOpenProbes) {
+                        transition(State.CLOSED);
+                    }
+                    break;
+                default:
+                    // 打开之前发出的请求，结果不再计入
+                    break;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 放行的请求没有产生可用于判断健康状况的结果（例如被限流或被中断），归还探测名额
+     */
+    void onIgnored() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN) {
+                probesInFlight = Math.max(0, probesInFlight - 1);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 距离进入半开状态的剩余毫秒数，非打开状态时为 0
+     */
+    long retryAfterMillis() {
+        lock.lock();
+        try {
+            return state == State.OPEN ? Math.max(0, TimeUnit.NANOSECONDS.toMillis(openUntil - System.nanoTime())) : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(byte outcome) {
+        if (calls == window.length) {
+            byte evicted = window[index];
+            failures -= evicted & FAILURE;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            calls++;
+        }
+        window[index] = outcome;
+        failures += outcome & FAILURE;
+        slowCalls += (outcome & SLOW) >> 1;
+        index = (index + 1) % window.length;
+    }
+
+    private void transition(State next) {
+        State previous = state;
+        state = next;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.OPEN) {
+            openUntil = System.nanoTime() + openNanos;
+            openCount.increment();
+            log.warn("Circuit breaker {} opened (was {}), failures={}/{}, slowCalls={}/{}",
+                    name, previous, failures, calls, slowCalls, calls);
+        } else if (next == State.CLOSED) {
+            index = 0;
+            calls = 0;
+            failures = 0;
+            slowCalls = 0;
+            log.info("Circuit breaker {} closed", name);
+        }
+    }
+
+    /**
+     * 路径模板，例如 /v2/groups/{id}/topics
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 当前状态（打开且已到期时返回 HALF_OPEN）
+     */
+    public State getState() {
+        lock.lock();
+        try {
+            return state == State.OPEN && System.nanoTime() - openUntil >= 0 ? State.HALF_OPEN : state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 滑动窗口内的失败率，没有调用时为 0
+     */
+    public double getFailureRate() {
+        lock.lock();
+        try {
+            return calls == 0 ? 0 : (double) failures / calls;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 滑动窗口内的慢调用率，没有调用时为 0
+     */
+    public double getSlowCallRate() {
+        lock.lock();
+        try {
+            return calls == 0 ? 0 : (double) slowCalls / calls;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 累计被拒绝（快速失败）的请求数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * 累计熔断次数
+     */
+    public long getOpenCount() {
+        return openCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{" + name + ", state=" + getState() + ", failureRate=" + getFailureRate() + "}";
+    }
+}
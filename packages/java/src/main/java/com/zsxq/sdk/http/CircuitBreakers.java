@@ -0,0 +1,53 @@
+package com.zsxq.sdk.http;
+
+import com.zsxq.sdk.client.CircuitBreakerPolicy;
+import com.zsxq.sdk.exception.CircuitOpenException;
+import com.zsxq.sdk.exception.RateLimitException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 按路径模板划分的熔断器集合
+ */
+final class CircuitBreakers {
+
+    private final CircuitBreakerPolicy policy;
+    private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    CircuitBreakers(CircuitBreakerPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * 为请求获取熔断器并尝试放行
+     *
+     * @throws CircuitOpenException 该路径模板处于熔断状态
+     */
+    CircuitBreaker acquire(String path, String requestId) {
+        String template = Endpoints.template(path);
+        CircuitBreaker breaker = breakers.computeIfAbsent(template, name -> new CircuitBreaker(name, policy));
+        if (!breaker.tryAcquire()) {
+            throw new CircuitOpenException(template, breaker.retryAfterMillis(), requestId);
+        }
+        return breaker;
+    }
+
+    /**
+     * 反馈调用结果：IOException（网络错误、5xx）计为失败，限流错误不计入，其余（包括业务错误）计为成功
+     */
+    static void record(CircuitBreaker breaker, long nanos, Throwable error) {
+        if (error instanceof RateLimitException) {
+            breaker.onIgnored();
+        } else {
+            breaker.onResult(nanos, error instanceof IOException);
+        }
+    }
+
+    List<CircuitBreaker> all() {
+        return new ArrayList<>(breakers.values());
+    }
+}
@@ -0,0 +1,153 @@
+package com.zsxq.sdk.http;
+
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 条件 GET：保留带 ETag / Last-Modified 的响应的解码结果，下次请求时带上校验头，304 时直接复用
+ *
+ * 校验信息随请求以 tag 形式传递，重试和对冲发出的相同请求复用同一份；
+ * 请求带有校验头时 OkHttp 磁盘缓存不再介入，304 原样返回到这里。
+ * 同时统计 OkHttp 磁盘缓存提供的响应。
+ */
+final class ConditionalCache {
+
+    private final int maxEntries;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Validated> entries;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder conditionalRequests = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * @param maxEntries 保留的解码结果数，为 0 时只统计磁盘缓存
+     */
+    ConditionalCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<String, Validated>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Validated> eldest) {
+                return size() > ConditionalCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 为 GET 附加校验信息：有保留结果时加上 If-None-Match / If-Modified-Since
+     *
+     * @param key 缓存键（租户前缀 + URL）
+     */
+    Request prepare(Request request, String key, Type responseType) {
+        Validated cached = maxEntries > 0 ? get(key) : null;
+        if (cached != null && !cached.type.equals(responseType)) {
+            cached = null;
+        }
+        Request.Builder builder = request.newBuilder().tag(Lookup.class, new Lookup(key, responseType, cached));
+        if (cached != null) {
+            conditionalRequests.increment();
+            if (cached.etag != null) {
+                builder.header("If-None-Match", cached.etag);
+            }
+            if (cached.lastModified != null) {
+                builder.header("If-Modified-Since", cached.lastModified);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 处理 304：返回保留的解码结果，没有时返回 null
+     */
+    Object notModified(Lookup lookup) {
+        requests.increment();
+        if (lookup.cached == null) {
+            return null;
+        }
+        notModified.increment();
+        bytesSaved.add(lookup.cached.bytes);
+        return lookup.cached.value;
+    }
+
+    /**
+     * 处理解码成功的 2xx 响应：统计磁盘缓存命中，带校验头时保留解码结果
+     */
+    void onDecoded(Lookup lookup, Response response, Object value, long bytes) {
+        requests.increment();
+        Response network = response.networkResponse();
+        if (response.cacheResponse() != null && (network == null || network.code() == 304)) {
+            diskHits.increment();
+            bytesSaved.add(bytes);
+        }
+        if (maxEntries == 0) {
+            return;
+        }
+        String etag = response.header("ETag");
+        String lastModified = response.header("Last-Modified");
+        if (etag == null && lastModified == null) {
+            return;
+        }
+        put(lookup.key, new Validated(lookup.type, etag, lastModified, value, bytes));
+    }
+
+    HttpCacheStats stats() {
+        return new HttpCacheStats(requests.sum(), conditionalRequests.sum(), notModified.sum(), diskHits.sum(),
+                bytesSaved.sum());
+    }
+
+    private Validated get(String key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(String key, Validated entry) {
+        lock.lock();
+        try {
+            entries.put(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 随请求传递的校验信息
+     */
+    static final class Lookup {
+        final String key;
+        final Type type;
+        final Validated cached;
+
+        Lookup(String key, Type type, Validated cached) {
+            this.key = key;
+            this.type = type;
+            this.cached = cached;
+        }
+    }
+
+    private static final class Validated {
+        final Type type;
+        final String etag;
+        final String lastModified;
+        final Object value;
+        final long bytes;
+
+        Validated(Type type, String etag, String lastModified, Object value, long bytes) {
+            this.type = type;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.zsxq.sdk.http;
+
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+
+/**
+ * 统计已读取字节数的响应体（单线程读取）
+ */
+final class CountingBody {
+
+    private final ResponseBody body;
+    private long bytes;
+
+    CountingBody(ResponseBody original) {
+        ForwardingSource counting = new ForwardingSource(original.source()) {
+            @Override
+            public long read(Buffer sink, long byteCount) throws IOException {
+                long read = super.read(sink, byteCount);
+                if (read > 0) {
+                    bytes += read;
+                }
+                return read;
+            }
+        };
+        this.body = ResponseBody.create(Okio.buffer(counting), original.contentType(), original.contentLength());
+    }
+
+    /**
+     * 包装后的响应体，应代替原响应体读取
+     */
+    ResponseBody body() {
+        return body;
+    }
+
+    /**
+     * 已读取的字节数（解压后）
+     */
+    long bytes() {
+        return bytes;
+    }
+}
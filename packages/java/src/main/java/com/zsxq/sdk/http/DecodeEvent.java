@@ -0,0 +1,29 @@
+package com.zsxq.sdk.http;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 事件：解码一个响应（流式解码，包含等待响应体的时间）
+ */
+@Name("com.zsxq.sdk.Decode")
+@Label("ZSXQ Decode")
+@Description("Decoding one response envelope into the target type, including waiting for the body")
+@Category({"ZSXQ SDK"})
+@StackTrace(false)
+final class DecodeEvent extends jdk.jfr.Event {
+
+    @Label("Path")
+    String path;
+
+    @Label("Type")
+    String type;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+}
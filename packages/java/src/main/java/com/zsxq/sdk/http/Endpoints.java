@@ -0,0 +1,93 @@
+package com.zsxq.sdk.http;
+
+import java.util.Collection;
+
+/**
+ * 接口路径工具
+ *
+ * 路径模板：去掉查询参数，把纯数字段替换为 {id}，例如
+ * /v2/groups/123/checkins/456/topics → /v2/groups/{id}/checkins/{id}/topics。
+ *
+ * 接口族：以路径段名称标识（如 "checkins"、"topics"）。一个路径匹配多个已配置的接口族时，
+ * 取路径中最靠后的那个，因此 /v2/groups/123/checkins 属于 "checkins" 而不是 "groups"。
+ */
+final class Endpoints {
+
+    static final String ID = "{id}";
+
+    private Endpoints() {
+    }
+
+    /**
+     * 路径模板
+     */
+    static String template(String path) {
+        int end = path.indexOf('?');
+        if (end < 0) {
+            end = path.length();
+        }
+        StringBuilder sb = null;
+        int segmentStart = 0;
+        for (int i = 0; i <= end; i++) {
+            if (i == end || path.charAt(i) == '/') {
+                if (i > segmentStart && isNumeric(path, segmentStart, i)) {
+                    if (sb == null) {
+                        sb = new StringBuilder(end + 8).append(path, 0, segmentStart);
+                    }
+                    sb.append(ID);
+                } else if (sb != null) {
+                    sb.append(path, segmentStart, i);
+                }
+                if (sb != null && i < end) {
+                    sb.append('/');
+                }
+                segmentStart = i + 1;
+            }
+        }
+        if (sb != null) {
+            return sb.toString();
+        }
+        return end == path.length() ? path : path.substring(0, end);
+    }
+
+    /**
+     * 在已配置的接口族中查找路径所属的族
+     *
+     * @return 匹配的接口族，没有匹配时返回 null
+     */
+    static String family(String path, Collection<String> families) {
+        if (families.isEmpty()) {
+            return null;
+        }
+        int end = path.indexOf('?');
+        if (end < 0) {
+            end = path.length();
+        }
+        String matched = null;
+        int segmentStart = 0;
+        for (int i = 0; i <= end; i++) {
+            if (i == end || path.charAt(i) == '/') {
+                if (i > segmentStart) {
+                    for (String family : families) {
+                        if (family.length() == i - segmentStart && path.startsWith(family, segmentStart)) {
+                            matched = family;
+                            break;
+                        }
+                    }
+                }
+                segmentStart = i + 1;
+            }
+        }
+        return matched;
+    }
+
+    private static boolean isNumeric(String s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,176 @@
+package com.zsxq.sdk.http;
+
+import java.io.InterruptedIOException;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 多租户加权公平调度：限制共享连接上的并发请求数，名额紧张时按权重在租户之间分配
+ *
+ * 采用起始时间公平排队（SFQ）：每个排队请求的起始标签为 max(虚拟时间, 该租户上一个请求的结束标签)，
+ * 结束标签 = 起始标签 + 1 / 权重；空出名额时发放给起始标签最小的请求，并把虚拟时间推进到该标签。
+ * 持续排队的租户按权重比例获得名额，请求量大的租户不会饿死其他租户。
+ */
+final class FairScheduler {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> queue = new PriorityQueue<>();
+    private int available;
+    private double virtualTime;
+    private long sequence;
+
+    FairScheduler(int permits) {
+        if (permits <= 0) {
+            throw new IllegalArgumentException("permits must be positive: " + permits);
+        }
+        this.available = permits;
+    }
+
+    /**
+     * 注册一个租户
+     *
+     * @param weight 权重，名额紧张时按权重比例分配
+     */
+    Tenant tenant(double weight) {
+        if (!(weight > 0)) {
+            throw new IllegalArgumentException("weight must be positive: " + weight);
+        }
+        return new Tenant(weight);
+    }
+
+    /**
+     * 当前排队的请求数
+     */
+    int queued() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 租户：获取和归还名额
+     */
+    final class Tenant {
+
+        private final double cost;
+        private double lastFinish;
+
+        private Tenant(double weight) {
+            this.cost = 1.0 / weight;
+        }
+
+        /**
+         * 获取一个名额，必要时阻塞等待
+         *
+         * @throws InterruptedIOException 等待时线程被中断
+         */
+        void acquire() throws InterruptedIOException {
+            Waiter waiter = enqueue();
+            if (waiter == null) {
+                return;
+            }
+            try {
+                waiter.grant.get();
+            } catch (InterruptedException e) {
+                abandon(waiter);
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a request slot");
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        /**
+         * 异步获取一个名额，返回的 future 在获得名额时完成（在归还名额的线程中回调）
+         */
+        CompletableFuture<Void> acquireAsync() {
+            Waiter waiter = enqueue();
+            return waiter != null ? waiter.grant : CompletableFuture.completedFuture(null);
+        }
+
+        /**
+         * 归还名额
+         */
+        void release() {
+            FairScheduler.this.release();
+        }
+
+        /**
+         * 有空闲名额时直接占用并返回 null，否则进入队列
+         */
+        private Waiter enqueue() {
+            lock.lock();
+            try {
+                double start = Math.max(virtualTime, lastFinish);
+                lastFinish = start + cost;
+                if (available > 0 && queue.isEmpty()) {
+                    available--;
+                    virtualTime = start;
+                    return null;
+                }
+                Waiter waiter = new Waiter(start, sequence++);
+                queue.add(waiter);
+                return waiter;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void release() {
+        Waiter next;
+        lock.lock();
+        try {
+            next = queue.poll();
+            if (next != null) {
+                virtualTime = next.start;
+            } else {
+                available++;
+            }
+        } finally {
+            lock.unlock();
+        }
+        // 在锁外完成，回调（发起异步调用）不占用锁
+        if (next != null) {
+            next.grant.complete(null);
+        }
+    }
+
+    /**
+     * 放弃等待：仍在队列中则移除，已经拿到名额则归还
+     */
+    private void abandon(Waiter waiter) {
+        boolean removed;
+        lock.lock();
+        try {
+            removed = queue.remove(waiter);
+        } finally {
+            lock.unlock();
+        }
+        if (!removed) {
+            release();
+        }
+    }
+
+    private static final class Waiter implements Comparable<Waiter> {
+        final double start;
+        final long sequence;
+        final CompletableFuture<Void> grant = new CompletableFuture<>();
+
+        Waiter(double start, long sequence) {
+            this.start = start;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Waiter other) {
+            int c = Double.compare(start, other.start);
+            return c != 0 ? c : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.zsxq.sdk.http;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * UUID v4 格式的请求 ID 生成器
+ *
+ * 随机数来自 ThreadLocalRandom，直接编码为 36 个字符，只分配结果字符串本身。
+ * 请求 ID 仅用于追踪，不需要密码学强度的随机数。
+ */
+final class FastRequestIdGenerator implements RequestIdGenerator {
+
+    static final FastRequestIdGenerator INSTANCE = new FastRequestIdGenerator();
+
+    private FastRequestIdGenerator() {
+    }
+
+    @Override
+    public String next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // 版本号 4，变体 10xx
+        long msb = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long lsb = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+
+        char[] out = new char[36];
+        int pos = Hex.encode(msb >>> 32, 8, out, 0);
+        out[pos++] = '-';
+        pos = Hex.encode(msb >>> 16, 4, out, pos);
+        out[pos++] = '-';
+        pos = Hex.encode(msb, 4, out, pos);
+        out[pos++] = '-';
+        pos = Hex.encode(lsb >>> 48, 4, out, pos);
+        out[pos++] = '-';
+        Hex.encode(lsb, 12, out, pos);
+        return new String(out);
+    }
+}
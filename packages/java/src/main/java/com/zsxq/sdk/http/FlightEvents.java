@@ -0,0 +1,172 @@
+package com.zsxq.sdk.http;
+
+import com.zsxq.sdk.exception.NetworkException;
+import com.zsxq.sdk.exception.ZsxqException;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.lang.reflect.Type;
+
+/**
+ * 发出 SDK 的 JFR 事件（{@link ApiCallEvent}、{@link RetryEvent}、{@link RateLimitEvent}、{@link DecodeEvent}）
+ *
+ * 每个方法先用 isEnabled() 判断事件是否在录制中：未录制时事件对象经逃逸分析消除，不分配也不读时钟。
+ * 请求尝试事件在尝试开始时 begin()，以 tag 形式随请求传递，结果确定时 commit()。
+ * 运行时没有 jdk.jfr 模块时全部跳过。
+ */
+final class FlightEvents {
+
+    private static final boolean AVAILABLE = isAvailable();
+
+    private FlightEvents() {
+    }
+
+    /**
+     * 开始一次请求尝试：事件开启时返回带有事件的请求副本，否则原样返回
+     *
+     * @param attempt 0 为首次尝试，重试依次加 1
+     */
+    static Request beginCall(Request request, String requestId, int attempt) {
+        if (!AVAILABLE) {
+            return request;
+        }
+        ApiCallEvent event = new ApiCallEvent();
+        if (!event.isEnabled()) {
+            return request;
+        }
+        event.requestId = requestId;
+        event.attempt = attempt;
+        event.begin();
+        return request.newBuilder().tag(ApiCallEvent.class, event).build();
+    }
+
+    /**
+     * 请求尝试结束
+     *
+     * @param error 为 null 表示成功
+     */
+    static void endCall(Request request, Throwable error) {
+        ApiCallEvent event = AVAILABLE ? request.tag(ApiCallEvent.class) : null;
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.method = request.method();
+        event.path = Endpoints.template(request.url().encodedPath());
+        if (error == null) {
+            event.outcome = "success";
+        } else if (error instanceof ZsxqException && !(error instanceof NetworkException)) {
+            event.outcome = "api_error";
+            event.errorCode = ((ZsxqException) error).getCode();
+        } else {
+            event.outcome = "network_error";
+        }
+        event.commit();
+    }
+
+    /**
+     * 开始解码响应：记录 HTTP 状态码；请求尝试事件或解码事件开启时返回解码句柄，否则返回 null
+     */
+    static Decoding beginDecode(Response response, Type responseType) {
+        if (!AVAILABLE) {
+            return null;
+        }
+        ApiCallEvent call = response.request().tag(ApiCallEvent.class);
+        if (call != null) {
+            call.status = response.code();
+        }
+        DecodeEvent decode = new DecodeEvent();
+        if (call == null && !decode.isEnabled()) {
+            return null;
+        }
+        return new Decoding(response, responseType, call, decode);
+    }
+
+    static void retry(Request request, String requestId, int retry, long backoffNanos, Throwable cause) {
+        if (!AVAILABLE) {
+            return;
+        }
+        RetryEvent event = new RetryEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.method = request.method();
+        event.path = Endpoints.template(request.url().encodedPath());
+        event.requestId = requestId;
+        event.retry = retry;
+        event.backoff = backoffNanos;
+        event.cause = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        event.commit();
+    }
+
+    /**
+     * @param source "local"（本地限流器等待）或 "server"（40001）
+     */
+    static void rateLimited(String path, String source, long waitNanos) {
+        if (!AVAILABLE) {
+            return;
+        }
+        RateLimitEvent event = new RateLimitEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.path = Endpoints.template(path);
+        event.source = source;
+        event.wait = waitNanos;
+        event.commit();
+    }
+
+    /**
+     * 一次解码：统计读取的响应体字节数，结束时提交解码事件并把字节数写入请求尝试事件
+     */
+    static final class Decoding {
+
+        private final Response response;
+        private final Type responseType;
+        private final ApiCallEvent call;
+        private final DecodeEvent decode;
+        private final CountingBody counted;
+
+        private Decoding(Response response, Type responseType, ApiCallEvent call, DecodeEvent decode) {
+            this.counted = response.body() != null ? new CountingBody(response.body()) : null;
+            this.response = counted != null ? response.newBuilder().body(counted.body()).build() : response;
+            this.responseType = responseType;
+            this.call = call;
+            this.decode = decode;
+            decode.begin();
+        }
+
+        /**
+         * 包装了响应体的响应，应代替原响应解码
+         */
+        Response response() {
+            return response;
+        }
+
+        void end() {
+            long bytes = counted != null ? counted.bytes() : 0;
+            if (call != null) {
+                call.bytes = bytes;
+            }
+            decode.end();
+            if (decode.shouldCommit()) {
+                decode.path = Endpoints.template(response.request().url().encodedPath());
+                decode.type = responseType.getTypeName();
+                decode.bytes = bytes;
+                decode.commit();
+            }
+        }
+    }
+
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.zsxq.sdk.http;
+
+import com.zsxq.sdk.exception.NetworkException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 同步 API 等待异步结果的公共方法
+ */
+public final class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * 等待 future 完成并返回结果
+     *
+     * 失败时直接抛出原始的 RuntimeException（如 ZsxqException），不包装为 CompletionException；
+     * 等待期间线程被中断时取消 future、保留中断标记并抛出 NetworkException。
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new NetworkException("Interrupted while waiting for response", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new NetworkException(cause.getMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.zsxq.sdk.http;
+
+/**
+ * 对冲请求统计（快照）
+ */
+public final class HedgeStats {
+
+    private final long requestCount;
+    private final long hedgeCount;
+    private final long hedgeWinCount;
+    private final long suppressedCount;
+
+    public HedgeStats(long requestCount, long hedgeCount, long hedgeWinCount, long suppressedCount) {
+        this.requestCount = requestCount;
+        this.hedgeCount = hedgeCount;
+        this.hedgeWinCount = hedgeWinCount;
+        this.suppressedCount = suppressedCount;
+    }
+
+    /**
+     * 启用对冲的 GET 请求数
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * 发出的对冲请求数
+     */
+    public long getHedgeCount() {
+        return hedgeCount;
+    }
+
+    /**
+     * 对冲请求先于原请求返回的次数
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount;
+    }
+
+    /**
+     * 已到对冲时间但因预算、本地限流或限流冷却而未对冲的次数
+     */
+    public long getSuppressedCount() {
+        return suppressedCount;
+    }
+
+    /**
+     * 对冲比例，没有请求时为 0
+     */
+    public double hedgeRate() {
+        return requestCount == 0 ? 0 : (double) hedgeCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "HedgeStats{requests=" + requestCount + ", hedges=" + hedgeCount + ", wins=" + hedgeWinCount
+                + ", suppressed=" + suppressedCount + "}";
+    }
+}
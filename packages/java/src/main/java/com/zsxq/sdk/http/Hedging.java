@@ -0,0 +1,224 @@
+package com.zsxq.sdk.http;
+
+import com.zsxq.sdk.client.HedgePolicy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * GET 对冲：按路径模板跟踪近期延迟、计算对冲等待时间，并限制全局对冲比例
+ *
+ * 对冲预算为令牌桶：每个 GET 存入 maxHedgeRatio 个令牌，每次对冲取出 1 个，桶容量 {@value #BUDGET_CAPACITY}。
+ * 收到限流错误后在 throttleCooldown 内不再对冲。
+ */
+final class Hedging {
+
+    private static final double BUDGET_CAPACITY = 10;
+
+    private final HedgePolicy policy;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final long cooldownNanos;
+    private final ConcurrentMap<String, LatencyTracker> trackers = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+
+    private double budget = BUDGET_CAPACITY;
+    private volatile long suspendedUntil;
+
+    Hedging(HedgePolicy policy) {
+        this.policy = policy;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(policy.getMinDelay());
+        this.maxDelayNanos = Math.max(minDelayNanos, TimeUnit.MILLISECONDS.toNanos(policy.getMaxDelay()));
+        this.cooldownNanos = TimeUnit.MILLISECONDS.toNanos(policy.getThrottleCooldown());
+        this.suspendedUntil = System.nanoTime();
+    }
+
+    /**
+     * 路径是否启用对冲
+     */
+    boolean appliesTo(String path) {
+        return policy.getFamilies().isEmpty() || Endpoints.family(path, policy.getFamilies()) != null;
+    }
+
+    /**
+     * 开始一个 GET：存入对冲预算并返回对冲等待时间
+     *
+     * @return 等待的纳秒数；样本不足时返回 -1（不对冲）
+     */
+    long start(String template) {
+        requests.increment();
+        lock.lock();
+        try {
+            budget = Math.min(BUDGET_CAPACITY, budget + policy.getMaxHedgeRatio());
+        } finally {
+            lock.unlock();
+        }
+        long p = tracker(template).percentile(policy.getPercentile(), policy.getMinSamples());
+        return p < 0 ? -1 : Math.min(maxDelayNanos, Math.max(minDelayNanos, p));
+    }
+
+    /**
+     * 记录一次成功请求（原请求或对冲请求）的耗时
+     */
+    void record(String template, long nanos) {
+        tracker(template).record(nanos);
+    }
+
+    /**
+     * 尝试发出一个对冲请求：不在限流冷却期且预算充足时取出一个令牌
+     */
+    boolean tryAcquire() {
+        if (System.nanoTime() - suspendedUntil < 0) {
+            suppressed.increment();
+            return false;
+        }
+        lock.lock();
+        try {
+            if (budget < 1) {
+                suppressed.increment();
+                return false;
+            }
+            budget -= 1;
+        } finally {
+            lock.unlock();
+        }
+        hedges.increment();
+        return true;
+    }
+
+    /**
+     * 本地限流器没有空余令牌时放弃对冲
+     */
+    void onSuppressed() {
+        suppressed.increment();
+    }
+
+    /**
+     * 收到限流错误：暂停对冲
+     */
+    void onThrottled() {
+        suspendedUntil = System.nanoTime() + cooldownNanos;
+    }
+
+    HedgeStats stats() {
+        return new HedgeStats(requests.sum(), hedges.sum(), hedgeWins.sum(), suppressed.sum());
+    }
+
+    private LatencyTracker tracker(String template) {
+        return trackers.computeIfAbsent(template, t -> new LatencyTracker());
+    }
+
+    /**
+     * 多个相同请求之间的竞速：第一个成功的结果生效并取消其余请求；全部失败时以第一个错误失败
+     */
+    final class Race<T> {
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<CompletableFuture<T>> attempts = new CopyOnWriteArrayList<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicReference<Throwable> firstError = new AtomicReference<>();
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        Race() {
+            // 调用方取消时取消所有请求
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    attempts.forEach(attempt -> attempt.cancel(true));
+                }
+            });
+        }
+
+        CompletableFuture<T> result() {
+            return result;
+        }
+
+        boolean isDone() {
+            return result.isDone();
+        }
+
+        void add(CompletableFuture<T> attempt) {
+            boolean hedge = !attempts.isEmpty();
+            pending.incrementAndGet();
+            attempts.add(attempt);
+            attempt.whenComplete((value, error) -> {
+                if (error == null) {
+                    if (settled.compareAndSet(false, true)) {
+                        // 先计数再完成，调用方拿到结果时统计已更新
+                        if (hedge) {
+                            hedgeWins.increment();
+                        }
+                        result.complete(value);
+                        attempts.stream().filter(other -> other != attempt).forEach(other -> other.cancel(true));
+                    }
+                } else {
+                    firstError.compareAndSet(null, error);
+                    if (pending.decrementAndGet() == 0) {
+                        result.completeExceptionally(firstError.get());
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 最近 {@value #SIZE} 个延迟样本，分位数每记录 {@value #REFRESH_INTERVAL} 个样本重新计算一次
+     */
+    private static final class LatencyTracker {
+
+        private static final int SIZE = 128;
+        private static final int REFRESH_INTERVAL = 16;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final long[] samples = new long[SIZE];
+        private int count;
+        private int index;
+        private int sinceRefresh = REFRESH_INTERVAL;
+        private double cachedPercentile = -1;
+        private long cached = -1;
+
+        void record(long nanos) {
+            lock.lock();
+            try {
+                samples[index] = nanos;
+                index = (index + 1) % SIZE;
+                count = Math.min(SIZE, count + 1);
+                sinceRefresh++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long percentile(double p, int minSamples) {
+            lock.lock();
+            try {
+                if (count < Math.min(minSamples, SIZE)) {
+                    return -1;
+                }
+                if (sinceRefresh >= REFRESH_INTERVAL || p != cachedPercentile) {
+                    long[] sorted = Arrays.copyOf(samples, count);
+                    Arrays.sort(sorted);
+                    cached = sorted[Math.max(0, Math.min(count - 1, (int) Math.ceil(p * count) - 1))];
+                    cachedPercentile = p;
+                    sinceRefresh = 0;
+                }
+                return cached;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
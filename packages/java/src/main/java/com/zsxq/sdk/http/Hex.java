@@ -0,0 +1,47 @@
+package com.zsxq.sdk.http;
+
+/**
+ * 查表法十六进制编码（小写）
+ */
+final class Hex {
+
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+    private Hex() {
+    }
+
+    /**
+     * 编码整个字节数组
+     */
+    static String encode(byte[] bytes) {
+        char[] out = new char[bytes.length * 2];
+        encode(bytes, 0, bytes.length, out, 0);
+        return new String(out);
+    }
+
+    /**
+     * 将 src[from, to) 编码写入 dst，从 offset 开始
+     *
+     * @return 写入后的下一个位置
+     */
+    static int encode(byte[] src, int from, int to, char[] dst, int offset) {
+        for (int i = from; i < to; i++) {
+            int b = src[i] & 0xff;
+            dst[offset++] = DIGITS[b >>> 4];
+            dst[offset++] = DIGITS[b & 0x0f];
+        }
+        return offset;
+    }
+
+    /**
+     * 将 long 的低 digits 个十六进制位写入 dst
+     *
+     * @return 写入后的下一个位置
+     */
+    static int encode(long value, int digits, char[] dst, int offset) {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            dst[offset++] = DIGITS[(int) (value >>> shift) & 0x0f];
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,70 @@
+package com.zsxq.sdk.http;
+
+/**
+ * 条件请求和磁盘缓存统计（快照）
+ */
+public final class HttpCacheStats {
+
+    private final long requestCount;
+    private final long conditionalRequestCount;
+    private final long notModifiedCount;
+    private final long diskHitCount;
+    private final long bytesSaved;
+
+    public HttpCacheStats(long requestCount, long conditionalRequestCount, long notModifiedCount, long diskHitCount,
+                          long bytesSaved) {
+        this.requestCount = requestCount;
+        this.conditionalRequestCount = conditionalRequestCount;
+        this.notModifiedCount = notModifiedCount;
+        this.diskHitCount = diskHitCount;
+        this.bytesSaved = bytesSaved;
+    }
+
+    /**
+     * 收到响应的 GET 数
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * 带 If-None-Match / If-Modified-Since 发出的 GET 数
+     */
+    public long getConditionalRequestCount() {
+        return conditionalRequestCount;
+    }
+
+    /**
+     * 服务端返回 304、直接复用已解码对象的次数
+     */
+    public long getNotModifiedCount() {
+        return notModifiedCount;
+    }
+
+    /**
+     * 由 OkHttp 磁盘缓存提供响应体（直接命中或经 304 校验）的次数，这些响应仍需解码
+     */
+    public long getDiskHitCount() {
+        return diskHitCount;
+    }
+
+    /**
+     * 因 304 或磁盘缓存而未通过网络下载的响应体字节数（解压后）
+     */
+    public long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    /**
+     * 命中率（304 与磁盘命中合计），没有请求时为 0
+     */
+    public double hitRate() {
+        return requestCount == 0 ? 0 : (double) (notModifiedCount + diskHitCount) / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "HttpCacheStats{requests=" + requestCount + ", conditional=" + conditionalRequestCount
+                + ", notModified=" + notModifiedCount + ", diskHits=" + diskHitCount + ", bytesSaved=" + bytesSaved + "}";
+    }
+}
@@ -3,26 +3,30 @@ package com.zsxq.sdk.http;
 import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import com.google.gson.reflect.TypeToken;
 import com.zsxq.sdk.client.ZsxqConfig;
-import com.zsxq.sdk.exception.ExceptionFactory;
 import com.zsxq.sdk.exception.NetworkException;
+import com.zsxq.sdk.exception.RateLimitException;
 import com.zsxq.sdk.exception.ZsxqException;
+import com.zsxq.sdk.metrics.CallTiming;
+import com.zsxq.sdk.metrics.CallTimingListener;
+import com.zsxq.sdk.metrics.EndpointMetrics;
+import com.zsxq.sdk.metrics.MetricsRegistry;
+import com.zsxq.sdk.metrics.RequestRecorder;
 import okhttp3.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-import javax.net.ssl.*;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.StringReader;
 import java.lang.reflect.Type;
-import java.nio.charset.StandardCharsets;
-import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -32,54 +36,140 @@ public class HttpClient {
 
     private static final Logger log = LoggerFactory.getLogger(HttpClient.class);
     private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
-    private static final String DEFAULT_SECRET_KEY = "zsxq-sdk-secret";
 
+    /**
+     * 异步重试调度器（仅负责定时触发，不执行阻塞操作，所有客户端共享）
+     */
+    private static final ScheduledExecutorService RETRY_SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "zsxq-retry-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 所有客户端共享的 Gson 实例（线程安全，缓存各类型的 TypeAdapter）
+     */
+    static final Gson GSON = new GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .create();
+
+    private final SharedTransport transport;
     private final OkHttpClient client;
     private final ZsxqConfig config;
-    private final Gson gson;
-    private final String secretKey;
+    private final ResponseDecoder decoder;
+    private final RequestPreparer preparer;
+    private final RateLimiters rateLimiters;
+    private final SingleFlight singleFlight;
+    private final ResponseCaching caching;
+    private final MetricsRegistry metrics;
+    private final RetryEngine retryEngine;
+    private final CircuitBreakers circuitBreakers;
+    private final Hedging hedging;
+    private final ConditionalCache conditional;
+    private final boolean callTiming;
+    private final RequestRecorder recorder;
+    private final FairScheduler.Tenant fairShare;
+    private final String keyPrefix;
 
     public HttpClient(ZsxqConfig config) {
+        this(config, new SharedTransport(config, false), 1.0);
+    }
+
+    /**
+     * 基于共享传输层创建客户端（多租户）
+     *
+     * 连接池、调度器、解码器、缓存和指标来自 transport，Token、请求头和限流器来自 config；
+     * 缓存和请求合并的键带有租户前缀，不同 Token 之间不会共享数据
+     *
+     * @param config 该租户的配置（连接相关配置以 transport 为准）
+     * @param transport 共享传输层
+     * @param weight 公平调度权重
+     */
+    public HttpClient(ZsxqConfig config, SharedTransport transport, double weight) {
+        this.transport = transport;
         this.config = config;
-        this.client = createOkHttpClient(config);
-        this.gson = new GsonBuilder()
-                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
-                .create();
-        // 使用自定义签名密钥或默认值
-        this.secretKey = config.getSignatureKey() != null ? config.getSignatureKey() : DEFAULT_SECRET_KEY;
+        this.metrics = transport.metrics;
+        this.client = transport.client;
+        this.decoder = transport.decoder;
+        this.preparer = new RequestPreparer(config, transport.signer);
+        this.rateLimiters = new RateLimiters(config);
+        this.singleFlight = transport.singleFlight;
+        this.caching = transport.caching;
+        this.retryEngine = transport.retryEngine;
+        this.circuitBreakers = transport.circuitBreakers;
+        this.hedging = transport.hedging;
+        this.conditional = transport.conditional;
+        this.callTiming = transport.isCallTiming();
+        this.recorder = transport.recorder;
+        this.fairShare = transport.scheduler != null ? transport.scheduler.tenant(weight) : null;
+        this.keyPrefix = transport.nextKeyPrefix();
     }
 
     /**
-     * 创建 OkHttpClient（带 SSL 信任配置）
+     * 客户端的全部限流器（未配置限流时为空列表），用于监控当前速率和限流次数
      */
-    private OkHttpClient createOkHttpClient(ZsxqConfig config) {
-        OkHttpClient.Builder builder = new OkHttpClient.Builder()
-                .connectTimeout(config.getTimeout(), TimeUnit.MILLISECONDS)
-                .readTimeout(config.getTimeout(), TimeUnit.MILLISECONDS)
-                .writeTimeout(config.getTimeout(), TimeUnit.MILLISECONDS);
+    public List<AdaptiveRateLimiter> getRateLimiters() {
+        return rateLimiters.all();
+    }
 
-        // 配置信任所有证书（用于开发测试）
-        try {
-            TrustManager[] trustAllCerts = new TrustManager[]{
-                    new X509TrustManager() {
-                        @Override
-                        public void checkClientTrusted(X509Certificate[] chain, String authType) {}
-                        @Override
-                        public void checkServerTrusted(X509Certificate[] chain, String authType) {}
-                        @Override
-                        public X509Certificate[] getAcceptedIssuers() { return new X509Certificate[0]; }
-                    }
-            };
+    /**
+     * 已创建的熔断器（未开启熔断时为空列表），用于监控各接口的状态和失败率
+     */
+    public List<CircuitBreaker> getCircuitBreakers() {
+        return circuitBreakers != null ? circuitBreakers.all() : Collections.emptyList();
+    }
 
-            SSLContext sslContext = SSLContext.getInstance("TLS");
-            sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
-            builder.sslSocketFactory(sslContext.getSocketFactory(), (X509TrustManager) trustAllCerts[0]);
-            builder.hostnameVerifier((hostname, session) -> true);
-        } catch (Exception e) {
-            log.warn("Failed to configure SSL trust, using default settings", e);
-        }
+    /**
+     * 对冲请求统计（未开启对冲时为 null）
+     */
+    public HedgeStats getHedgeStats() {
+        return hedging != null ? hedging.stats() : null;
+    }
 
-        return builder.build();
+    /**
+     * 最近请求的飞行记录器（未开启时为 null）
+     */
+    public RequestRecorder getRequestRecorder() {
+        return recorder;
+    }
+
+    /**
+     * 条件请求和磁盘缓存统计（均未开启时为 null）
+     */
+    public HttpCacheStats getHttpCacheStats() {
+        return conditional != null ? conditional.stats() : null;
+    }
+
+    /**
+     * 累计被合并到进行中请求上的 GET 数（未开启请求合并时为 0）
+     */
+    public long getCoalescedCount() {
+        return singleFlight != null ? singleFlight.getCoalescedCount() : 0;
+    }
+
+    /**
+     * 请求指标注册表（未开启指标时为 null）
+     */
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * 响应缓存统计（未配置缓存时为 null）
+     */
+    public CacheStats getCacheStats() {
+        return caching.isEnabled() ? caching.stats() : null;
+    }
+
+    /**
+     * 使路径前缀下的 GET 缓存失效（未配置缓存时不做任何事）
+     *
+     * @param pathPrefix 路径前缀，例如 "/v2/groups/123/checkins" 覆盖该路径及其所有子路径
+     */
+    public void invalidateCache(String pathPrefix) {
+        if (caching.isEnabled()) {
+            caching.invalidate(keyPrefix + pathPrefix);
+        }
     }
 
     /**
@@ -93,6 +183,171 @@ public class HttpClient {
      * GET 请求（带参数）
      */
     public <T> T get(String path, Map<String, Object> params, Type responseType) {
+        long ttl = caching.isEnabled() ? caching.ttl(path) : 0;
+        if (ttl > 0) {
+            String key = keyPrefix + SingleFlight.key(path, params, responseType);
+            return caching.get(key, ttl,
+                    () -> load(key, path, params, responseType),
+                    () -> loadAsync(key, path, params, responseType));
+        }
+        return load(null, path, params, responseType);
+    }
+
+    /**
+     * 发出 GET（开启请求合并时先尝试合并）
+     *
+     * @param key 请求键，为 null 时按需计算
+     */
+    private <T> T load(String key, String path, Map<String, Object> params, Type responseType) {
+        if (singleFlight != null) {
+            return singleFlight.execute(key != null ? key : keyPrefix + SingleFlight.key(path, params, responseType),
+                    () -> doGet(path, params, responseType));
+        }
+        return doGet(path, params, responseType);
+    }
+
+    private <T> T doGet(String path, Map<String, Object> params, Type responseType) {
+        if (hedging != null && hedging.appliesTo(path)) {
+            return Futures.await(doGetAsync(path, params, responseType));
+        }
+        String requestId = preparer.nextRequestId();
+        return executeWithRetry(newGetRequest(path, params, responseType, requestId), responseType, requestId);
+    }
+
+    /**
+     * POST 请求
+     */
+    public <T> T post(String path, Object data, Type responseType) {
+        String requestId = preparer.nextRequestId();
+        return executeWithRetry(newBodyRequest("POST", path, data, requestId), responseType, requestId);
+    }
+
+    /**
+     * PUT 请求
+     */
+    public <T> T put(String path, Object data, Type responseType) {
+        String requestId = preparer.nextRequestId();
+        return executeWithRetry(newBodyRequest("PUT", path, data, requestId), responseType, requestId);
+    }
+
+    /**
+     * 异步 GET 请求
+     */
+    public <T> CompletableFuture<T> getAsync(String path, Type responseType) {
+        return getAsync(path, null, responseType);
+    }
+
+    /**
+     * 异步 GET 请求（带参数）
+     */
+    public <T> CompletableFuture<T> getAsync(String path, Map<String, Object> params, Type responseType) {
+        long ttl = caching.isEnabled() ? caching.ttl(path) : 0;
+        if (ttl > 0) {
+            String key = keyPrefix + SingleFlight.key(path, params, responseType);
+            return caching.getAsync(key, ttl, () -> loadAsync(key, path, params, responseType));
+        }
+        return loadAsync(null, path, params, responseType);
+    }
+
+    private <T> CompletableFuture<T> loadAsync(String key, String path, Map<String, Object> params,
+                                               Type responseType) {
+        if (singleFlight != null) {
+            return singleFlight.executeAsync(key != null ? key : keyPrefix + SingleFlight.key(path, params, responseType),
+                    () -> doGetAsync(path, params, responseType));
+        }
+        return doGetAsync(path, params, responseType);
+    }
+
+    private <T> CompletableFuture<T> doGetAsync(String path, Map<String, Object> params, Type responseType) {
+        if (hedging != null && hedging.appliesTo(path)) {
+            return hedged(path, params, responseType);
+        }
+        String requestId = preparer.nextRequestId();
+        return send(newGetRequest(path, params, responseType, requestId), responseType, requestId,
+                retryEngine.start());
+    }
+
+    private <T> CompletableFuture<T> send(Request request, Type responseType, String requestId,
+                                          RetryEngine.Attempts attempts) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executeAsync(request, responseType, requestId, attempts, future);
+        return future;
+    }
+
+    /**
+     * 对冲 GET：原请求超过近期延迟分位数仍未返回时，再发出一个相同的请求，先成功的生效并取消另一个
+     *
+     * 对冲前检查全局对冲预算、限流冷却和本地限流器的空余令牌，任一不满足则只等待原请求。
+     * 对冲请求重新生成请求 ID 和签名，以便在记录和服务端日志中区分；两者共用一份重试次数和重试预算
+     */
+    private <T> CompletableFuture<T> hedged(String apiPath, Map<String, Object> params, Type responseType) {
+        RetryEngine.Attempts attempts = retryEngine.start();
+        String requestId = preparer.nextRequestId();
+        Request request = newGetRequest(apiPath, params, responseType, requestId);
+        String path = request.url().encodedPath();
+        String template = Endpoints.template(path);
+        long delay = hedging.start(template);
+        CompletableFuture<T> primary = timedSend(request, responseType, requestId, attempts, template);
+        if (delay < 0) {
+            return primary;
+        }
+
+        Hedging.Race<T> race = hedging.new Race<>();
+        race.add(primary);
+        ScheduledFuture<?> timer = RETRY_SCHEDULER.schedule(() -> {
+            if (race.isDone()) {
+                return;
+            }
+            if (rateLimiters.isEnabled() && !rateLimiters.hasSpare(path)) {
+                hedging.onSuppressed();
+            } else if (hedging.tryAcquire()) {
+                String hedgeId = preparer.nextRequestId();
+                race.add(timedSend(newGetRequest(apiPath, params, responseType, hedgeId), responseType, hedgeId,
+                        attempts, template));
+            }
+        }, delay, TimeUnit.NANOSECONDS);
+        race.result().whenComplete((value, error) -> timer.cancel(false));
+        return race.result();
+    }
+
+    /**
+     * 发出请求并在成功时记录其延迟样本
+     *
+     * 被取消或失败的请求不记录：取消时的耗时只是真实延迟的下界，计入后会压低分位数，使对冲越来越早触发
+     */
+    private <T> CompletableFuture<T> timedSend(Request request, Type responseType, String requestId,
+                                               RetryEngine.Attempts attempts, String template) {
+        long start = System.nanoTime();
+        CompletableFuture<T> attempt = send(request, responseType, requestId, attempts);
+        attempt.whenComplete((value, error) -> {
+            if (error == null) {
+                hedging.record(template, System.nanoTime() - start);
+            }
+        });
+        return attempt;
+    }
+
+    /**
+     * 异步 POST 请求
+     */
+    public <T> CompletableFuture<T> postAsync(String path, Object data, Type responseType) {
+        String requestId = preparer.nextRequestId();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executeAsync(newBodyRequest("POST", path, data, requestId), responseType, requestId, retryEngine.start(), future);
+        return future;
+    }
+
+    /**
+     * 异步 PUT 请求
+     */
+    public <T> CompletableFuture<T> putAsync(String path, Object data, Type responseType) {
+        String requestId = preparer.nextRequestId();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executeAsync(newBodyRequest("PUT", path, data, requestId), responseType, requestId, retryEngine.start(), future);
+        return future;
+    }
+
+    private Request newGetRequest(String path, Map<String, Object> params, Type responseType, String requestId) {
         HttpUrl.Builder urlBuilder = HttpUrl.parse(config.getBaseUrl() + path).newBuilder();
         if (params != null) {
             params.forEach((key, value) -> {
@@ -102,210 +357,473 @@ public class HttpClient {
             });
         }
 
-        String requestId = UUID.randomUUID().toString();
         HttpUrl url = urlBuilder.build();
         log.debug("GET Request URL: {}", url);
 
-        Request request = new Request.Builder()
+        long prepareStart = System.nanoTime();
+        Request.Builder builder = new Request.Builder()
                 .url(url)
-                .headers(buildHeaders("GET", path, null, requestId))
-                .get()
-                .build();
-
-        return executeWithRetry(request, responseType, requestId, 0);
+                .headers(preparer.headers("GET", path, null, requestId))
+                .get();
+        if (callTiming) {
+            builder.tag(CallTimer.Prepared.class, new CallTimer.Prepared(System.nanoTime() - prepareStart));
+        }
+        Request request = builder.build();
+        return conditional != null ? conditional.prepare(request, keyPrefix + url, responseType) : request;
     }
 
-    /**
-     * POST 请求
-     */
-    public <T> T post(String path, Object data, Type responseType) {
-        String body = data != null ? gson.toJson(data) : null;
-        String requestId = UUID.randomUUID().toString();
+    private Request newBodyRequest(String method, String path, Object data, String requestId) {
+        String body = data != null ? GSON.toJson(data) : null;
 
         RequestBody requestBody = body != null
                 ? RequestBody.create(body, JSON)
                 : RequestBody.create("", JSON);
 
-        Request request = new Request.Builder()
+        long prepareStart = System.nanoTime();
+        Request.Builder builder = new Request.Builder()
                 .url(config.getBaseUrl() + path)
-                .headers(buildHeaders("POST", path, body, requestId))
-                .post(requestBody)
-                .build();
-
-        return executeWithRetry(request, responseType, requestId, 0);
+                .headers(preparer.headers(method, path, body, requestId))
+                .method(method, requestBody);
+        if (callTiming) {
+            builder.tag(CallTimer.Prepared.class, new CallTimer.Prepared(System.nanoTime() - prepareStart));
+        }
+        return builder.build();
     }
 
     /**
-     * PUT 请求
+     * 执行请求（带重试）
+     *
+     * 是否重试以及等待多久由 {@link RetryEngine} 决定，等待期间线程被中断时立即放弃
      */
-    public <T> T put(String path, Object data, Type responseType) {
-        String body = data != null ? gson.toJson(data) : null;
-        String requestId = UUID.randomUUID().toString();
-
-        RequestBody requestBody = body != null
-                ? RequestBody.create(body, JSON)
-                : RequestBody.create("", JSON);
-
-        Request request = new Request.Builder()
-                .url(config.getBaseUrl() + path)
-                .headers(buildHeaders("PUT", path, body, requestId))
-                .put(requestBody)
-                .build();
-
-        return executeWithRetry(request, responseType, requestId, 0);
+    private <T> T executeWithRetry(Request request, Type responseType, String requestId) {
+        RetryEngine.Attempts attempts = retryEngine.start();
+        while (true) {
+            try {
+                return executeOnce(request, responseType, requestId, attempts);
+            } catch (IOException | RateLimitException e) {
+                long delay = attempts.nextDelay(e);
+                if (delay < 0 || Thread.currentThread().isInterrupted()) {
+                    throw failure(e, requestId);
+                }
+                recordRetry(request, requestId, attempts, delay, e);
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delay);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw failure(e, requestId);
+                }
+            }
+        }
     }
 
     /**
-     * 构建请求头
+     * 执行一次请求（经过熔断器、限流器和公平调度）
+     *
+     * @throws com.zsxq.sdk.exception.CircuitOpenException 该接口处于熔断状态（不重试）
      */
-    private Headers buildHeaders(String method, String path, String body, String requestId) {
-        String timestamp = String.valueOf(System.currentTimeMillis() / 1000);
+    private <T> T executeOnce(Request original, Type responseType, String requestId, RetryEngine.Attempts attempts)
+            throws IOException {
+        String path = original.url().encodedPath();
+        Request request = beginAttempt(original, requestId, attempts);
+        if (rateLimiters.isEnabled()) {
+            awaitRateLimit(path, requestId);
+        }
+        if (fairShare != null) {
+            fairShare.acquire();
+        }
+        // 熔断名额在等待限流和并发名额之后才获取，半开状态的探测请求不会在等待中占住唯一的名额
+        CircuitBreaker breaker;
+        try {
+            breaker = circuitBreakers != null ? circuitBreakers.acquire(path, requestId) : null;
+        } catch (RuntimeException e) {
+            if (fairShare != null) {
+                fairShare.release();
+            }
+            throw e;
+        }
+        long start = System.nanoTime();
+        try (Response response = newCall(request, attempts).execute()) {
+            T result = readResponse(response, responseType, requestId);
+            onRateLimitOutcome(path, null);
+            recordOutcome(request, breaker, start, null);
+            return result;
+        } catch (RateLimitException e) {
+            onRateLimitOutcome(path, e);
+            recordOutcome(request, breaker, start, e);
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            recordOutcome(request, breaker, start, e);
+            throw e;
+        } finally {
+            if (fairShare != null) {
+                fairShare.release();
+            }
+        }
+    }
 
-        Headers.Builder headersBuilder = new Headers.Builder()
-                .add("User-Agent", "xiaomiquan/" + config.getAppVersion() + " SDK/1.0.0")
-                .add("authorization", config.getToken())
-                .add("x-request-id", requestId)
-                .add("x-version", config.getAppVersion())
-                .add("x-aduid", config.getDeviceId());
+    /**
+     * 开始一次尝试：按需挂上分阶段计时器、请求记录和 JFR 请求尝试事件
+     */
+    private Request beginAttempt(Request original, String requestId, RetryEngine.Attempts attempts) {
+        Request request = callTiming ? CallTimer.attach(original, attempts.getRetries() == 0) : original;
+        if (recorder != null) {
+            request = AttemptRecord.attach(request, attempts.getRetries());
+        }
+        return FlightEvents.beginCall(request, requestId, attempts.getRetries());
+    }
 
-        // 只有 POST/PUT 请求才添加 Content-Type
-        if ("POST".equals(method) || "PUT".equals(method)) {
-            headersBuilder.add("Content-Type", "application/json; charset=utf-8");
+    /**
+     * 创建调用：设置了整体截止时间时，本次尝试的超时不超过剩余时间
+     */
+    private Call newCall(Request request, RetryEngine.Attempts attempts) {
+        Call call = client.newCall(request);
+        long remaining = attempts.remainingNanos();
+        if (remaining != Long.MAX_VALUE) {
+            long current = call.timeout().timeoutNanos();
+            long timeout = Math.max(1, current == 0 ? remaining : Math.min(current, remaining));
+            call.timeout().timeout(timeout, TimeUnit.NANOSECONDS);
         }
+        return call;
+    }
 
-        // 只有启用签名时才添加签名相关头
-        if (config.isSignatureEnabled()) {
-            String signature = generateSignature(timestamp, method, path, body);
-            headersBuilder.add("x-timestamp", timestamp);
-            headersBuilder.add("x-signature", signature);
+    /**
+     * 异步执行请求（带重试）
+     *
+     * 基于 OkHttp enqueue，不占用调用线程；限流等待和重试都通过调度器延迟触发，而不是阻塞等待。
+     * 熔断名额在发出前才获取，见 {@link #enqueue}
+     */
+    private <T> void executeAsync(Request original, Type responseType, String requestId, RetryEngine.Attempts attempts,
+                                  CompletableFuture<T> future) {
+        Request request = beginAttempt(original, requestId, attempts);
+        long waitNanos = rateLimiters.isEnabled() ? rateLimiters.reserve(request.url().encodedPath()) : 0;
+        if (waitNanos > 0) {
+            FlightEvents.rateLimited(request.url().encodedPath(), "local", waitNanos);
+            RETRY_SCHEDULER.schedule(() -> dispatch(request, responseType, requestId, attempts, future),
+                    waitNanos, TimeUnit.NANOSECONDS);
+        } else {
+            dispatch(request, responseType, requestId, attempts, future);
         }
+    }
 
-        return headersBuilder.build();
+    /**
+     * 多租户模式下先异步获取并发名额再发出请求，名额在回调结束时归还
+     */
+    private <T> void dispatch(Request request, Type responseType, String requestId, RetryEngine.Attempts attempts,
+                              CompletableFuture<T> future) {
+        if (fairShare == null) {
+            enqueue(request, responseType, requestId, attempts, future);
+            return;
+        }
+        fairShare.acquireAsync().thenRun(() -> {
+            try {
+                enqueue(request, responseType, requestId, attempts, future);
+            } catch (RuntimeException e) {
+                fairShare.release();
+                future.completeExceptionally(e);
+            }
+        });
     }
 
     /**
-     * 生成签名
+     * 获取熔断名额并发出请求；熔断打开时归还并发名额并以 CircuitOpenException 结束
      */
-    private String generateSignature(String timestamp, String method, String path, String body) {
+    private <T> void enqueue(Request request, Type responseType, String requestId, RetryEngine.Attempts attempts,
+                             CompletableFuture<T> future) {
+        String path = request.url().encodedPath();
+        CircuitBreaker breaker;
         try {
-            StringBuilder signData = new StringBuilder()
-                    .append(timestamp).append("\n")
-                    .append(method.toUpperCase()).append("\n")
-                    .append(path);
-            if (body != null && !body.isEmpty()) {
-                signData.append("\n").append(body);
+            breaker = circuitBreakers != null ? circuitBreakers.acquire(path, requestId) : null;
+        } catch (RuntimeException e) {
+            if (fairShare != null) {
+                fairShare.release();
+            }
+            future.completeExceptionally(e);
+            return;
+        }
+        long start = System.nanoTime();
+        Call pending;
+        try {
+            pending = newCall(request, attempts);
+        } catch (RuntimeException e) {
+            if (breaker != null) {
+                breaker.onIgnored();
+            }
+            throw e;
+        }
+        pending.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                if (future.isDone()) {
+                    // 调用方已取消（例如对冲中落败的请求），不计入指标和熔断
+                    releaseFairShare();
+                    if (breaker != null) {
+                        breaker.onIgnored();
+                    }
+                    return;
+                }
+                recordOutcome(request, breaker, start, e);
+                retryOrFail(e);
             }
 
-            Mac mac = Mac.getInstance("HmacSHA1");
-            mac.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA1"));
-            byte[] hash = mac.doFinal(signData.toString().getBytes(StandardCharsets.UTF_8));
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (Response r = response) {
+                    T result = readResponse(r, responseType, requestId);
+                    onRateLimitOutcome(path, null);
+                    recordOutcome(request, breaker, start, null);
+                    complete(result, null);
+                } catch (RateLimitException e) {
+                    onRateLimitOutcome(path, e);
+                    recordOutcome(request, breaker, start, e);
+                    retryOrFail(e);
+                } catch (IOException e) {
+                    recordOutcome(request, breaker, start, e);
+                    retryOrFail(e);
+                } catch (Throwable e) {
+                    recordOutcome(request, breaker, start, e);
+                    complete(null, e);
+                }
+            }
 
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) hexString.append('0');
-                hexString.append(hex);
+            private void retryOrFail(Exception e) {
+                long delay = future.isDone() ? -1 : attempts.nextDelay(e);
+                if (delay >= 0) {
+                    releaseFairShare();
+                    recordRetry(request, requestId, attempts, delay, e);
+                    RETRY_SCHEDULER.schedule(
+                            () -> executeAsync(request, responseType, requestId, attempts, future),
+                            delay, TimeUnit.NANOSECONDS);
+                } else {
+                    complete(null, failure(e, requestId));
+                }
             }
-            return hexString.toString();
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to generate signature", e);
-        }
+
+            /**
+             * 先归还并发名额再完成 future，调用方在回调中发起的新请求不会等待本请求的名额
+             */
+            private void complete(T result, Throwable error) {
+                releaseFairShare();
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(result);
+                }
+            }
+
+            private void releaseFairShare() {
+                if (fairShare != null) {
+                    fairShare.release();
+                }
+            }
+        });
+        future.whenComplete((value, error) -> {
+            if (future.isCancelled()) {
+                pending.cancel();
+            }
+        });
     }
 
     /**
-     * 执行请求（带重试）
+     * 读取响应：业务错误直接抛出，5xx 以 IOException 形式抛出以便重试；
+     * 开启条件请求时 304 返回保留的解码结果
      */
-    private <T> T executeWithRetry(Request request, Type responseType, String requestId, int retryCount) {
+    private <T> T readResponse(Response response, Type responseType, String requestId) throws IOException {
+        CallTimer timer = callTiming ? response.request().tag(CallTimer.class) : null;
+        FlightEvents.Decoding decoding = FlightEvents.beginDecode(response, responseType);
+        AttemptRecord record = recorder != null ? response.request().tag(AttemptRecord.class) : null;
+        if (record != null) {
+            record.onResponse(response, recorder.getMaxBodyBytes());
+        }
+        if (timer == null && decoding == null) {
+            return decodeResponse(response, responseType, requestId);
+        }
+        Response decoded = decoding != null ? decoding.response() : response;
+        if (timer != null) {
+            decoded = timer.timeBody(decoded);
+        }
+        long start = System.nanoTime();
         try {
-            try (Response response = client.newCall(request).execute()) {
-                String responseBody = response.body() != null ? response.body().string() : "";
-
-                if (!response.isSuccessful()) {
-                    // 优先尝试解析业务错误（例如限流）
-                    try {
-                        return handleResponse(responseBody, responseType, requestId);
-                    } catch (ZsxqException e) {
-                        throw e;
-                    } catch (Exception ignore) {
-                        // fall through to network handling
-                    }
-
-                    // 5xx 视为可重试的网络错误
-                    if (response.code() >= 500 && retryCount < config.getRetryCount()) {
-                        sleepBeforeRetry(retryCount);
-                        return executeWithRetry(request, responseType, requestId, retryCount + 1);
-                    }
+            return decodeResponse(decoded, responseType, requestId);
+        } finally {
+            if (timer != null) {
+                timer.decoded(start);
+            }
+            if (decoding != null) {
+                decoding.end();
+            }
+        }
+    }
 
-                    throw new NetworkException("HTTP " + response.code() + ": " + response.message(), null, requestId);
+    private <T> T decodeResponse(Response response, Type responseType, String requestId) throws IOException {
+        ConditionalCache.Lookup lookup = conditional != null ? response.request().tag(ConditionalCache.Lookup.class) : null;
+        if (lookup != null) {
+            if (response.code() == 304) {
+                @SuppressWarnings("unchecked")
+                T cached = (T) conditional.notModified(lookup);
+                if (cached != null) {
+                    return cached;
                 }
-
-                return handleResponse(responseBody, responseType, requestId);
+            } else if (response.isSuccessful() && response.body() != null) {
+                CountingBody counted = new CountingBody(response.body());
+                T result = handleResponse(counted.body(), responseType, requestId);
+                conditional.onDecoded(lookup, response, result, counted.bytes());
+                return result;
+            }
+        }
+        ResponseBody body = response.body();
+
+        if (!response.isSuccessful()) {
+            // 优先尝试解析业务错误（例如限流）
+            try {
+                return handleResponse(body, responseType, requestId);
+            } catch (ZsxqException e) {
+                throw e;
+            } catch (Exception ignore) {
+                // fall through to network handling
             }
-        } catch (IOException e) {
-            if (retryCount < config.getRetryCount()) {
-                sleepBeforeRetry(retryCount);
-                return executeWithRetry(request, responseType, requestId, retryCount + 1);
+
+            // 5xx 视为可重试的网络错误
+            if (response.code() >= 500) {
+                throw new ServerErrorException(response.code(), response.message());
             }
-            throw new NetworkException(e.getMessage(), e, requestId);
+
+            throw new NetworkException("HTTP " + response.code() + ": " + response.message(), null, requestId);
         }
+
+        return handleResponse(body, responseType, requestId);
     }
 
-    private void sleepBeforeRetry(int retryCount) {
-        try {
-            long delay = config.getRetryDelay() * (long) Math.pow(2, retryCount);
-            Thread.sleep(delay);
-        } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
+    /**
+     * 等待本地限流；等待期间线程被中断时放弃请求，与重试等待的处理一致
+     */
+    private void awaitRateLimit(String path, String requestId) {
+        long waitNanos = rateLimiters.reserve(path);
+        if (waitNanos > 0) {
+            FlightEvents.rateLimited(path, "local", waitNanos);
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw failure(new InterruptedIOException("Interrupted while waiting for rate limit"), requestId);
+            }
         }
     }
 
     /**
-     * 处理响应
+     * 把请求结果反馈给限流器：40001 下调速率，其余成功响应让速率回升
      */
-    @SuppressWarnings("unchecked")
-    private <T> T handleResponse(String responseBody, Type responseType, String requestId) {
-        // 先解析为 JsonObject 以安全检查 succeeded 字段
-        JsonObject jsonResponse = JsonParser.parseString(responseBody).getAsJsonObject();
-
-        log.debug("API Response: {}", responseBody);
+    private void onRateLimitOutcome(String path, RateLimitException throttled) {
+        if (throttled != null) {
+            FlightEvents.rateLimited(path, "server", 0);
+            if (hedging != null) {
+                hedging.onThrottled();
+            }
+        }
+        if (!rateLimiters.isEnabled()) {
+            return;
+        }
+        if (throttled != null) {
+            rateLimiters.onThrottled(path);
+        } else {
+            rateLimiters.onSuccess(path);
+        }
+    }
 
-        boolean succeeded = jsonResponse.has("succeeded") && jsonResponse.get("succeeded").getAsBoolean();
+    /**
+     * 记录一次请求尝试的耗时和结果：反馈给熔断器，并写入请求记录和指标（未开启时跳过）
+     *
+     * @param breaker 本次请求的熔断器，未开启熔断时为 null
+     * @param error 为 null 表示成功；业务错误按错误码计数，其余（IOException、非 2xx）计为网络错误
+     */
+    private void recordOutcome(Request request, CircuitBreaker breaker, long startNanos, Throwable error) {
+        long nanos = System.nanoTime() - startNanos;
+        if (breaker != null) {
+            CircuitBreakers.record(breaker, nanos, error);
+        }
+        FlightEvents.endCall(request, error);
+        CallTimer timer = callTiming ? request.tag(CallTimer.class) : null;
+        if (timer != null) {
+            recordTiming(timer.finish(request.method(), Endpoints.template(request.url().encodedPath()), error == null));
+        }
+        AttemptRecord record = recorder != null ? request.tag(AttemptRecord.class) : null;
+        if (record != null) {
+            recorder.record(record.finish(request, nanos, error, recorder.getMaxBodyBytes()));
+        }
+        if (metrics == null) {
+            return;
+        }
+        EndpointMetrics endpoint = transport.endpointMetrics(request);
+        if (error == null) {
+            endpoint.recordSuccess(nanos);
+        } else if (error instanceof ZsxqException && !(error instanceof NetworkException)) {
+            endpoint.recordApiError(nanos, ((ZsxqException) error).getCode());
+        } else {
+            endpoint.recordNetworkError(nanos);
+        }
+    }
 
-        if (!succeeded) {
-            // 处理错误响应
-            int code = jsonResponse.has("code") ? jsonResponse.get("code").getAsInt() : 0;
-            String message = "未知错误";
-            if (jsonResponse.has("error") && !jsonResponse.get("error").isJsonNull()) {
-                message = jsonResponse.get("error").getAsString();
-            } else if (jsonResponse.has("info") && !jsonResponse.get("info").isJsonNull()) {
-                message = jsonResponse.get("info").getAsString();
+    private void recordTiming(CallTiming timing) {
+        if (transport.phaseTimings) {
+            metrics.endpoint(timing.getMethod(), timing.getPath()).recordPhases(timing);
+        }
+        CallTimingListener listener = transport.callTimingListener;
+        if (listener != null) {
+            try {
+                listener.onCallTiming(timing);
+            } catch (RuntimeException e) {
+                log.warn("Call timing listener failed", e);
             }
-            log.error("API Error: code={}, message={}", code, message);
-            throw ExceptionFactory.create(code, message, requestId);
         }
+    }
+
+    private void recordRetry(Request request, String requestId, RetryEngine.Attempts attempts, long delayNanos,
+                             Exception cause) {
+        if (metrics != null) {
+            transport.endpointMetrics(request).recordRetry();
+        }
+        FlightEvents.retry(request, requestId, attempts.getRetries(), delayNanos, cause);
+    }
+
+    /**
+     * 放弃重试后抛给调用方的异常：IOException 转为 NetworkException，其余原样返回
+     */
+    private RuntimeException failure(Exception e, String requestId) {
+        return e instanceof IOException ? toNetworkException((IOException) e, requestId) : (RuntimeException) e;
+    }
 
-        // 成功响应，解析 resp_data
-        if (!jsonResponse.has("resp_data") || jsonResponse.get("resp_data").isJsonNull()) {
-            return null;
+    private NetworkException toNetworkException(IOException e, String requestId) {
+        if (e instanceof ServerErrorException) {
+            return new NetworkException(e.getMessage(), null, requestId);
         }
+        return new NetworkException(e.getMessage(), e, requestId);
+    }
 
-        // 处理 resp_data 为基础类型的情况（如 boolean、number）
-        com.google.gson.JsonElement respData = jsonResponse.get("resp_data");
-        log.debug("resp_data type: {}, isJsonPrimitive: {}", respData.getClass().getName(), respData.isJsonPrimitive());
+    /**
+     * 处理响应
+     *
+     * 直接从响应体字符流解码；仅在开启 DEBUG 日志时才把完整响应体读入内存用于打印
+     */
+    private <T> T handleResponse(ResponseBody body, Type responseType, String requestId) throws IOException {
+        if (body == null) {
+            return decoder.decode(new StringReader(""), responseType, requestId);
+        }
 
-        if (respData.isJsonPrimitive()) {
-            com.google.gson.JsonPrimitive primitive = respData.getAsJsonPrimitive();
-            // 如果是基础类型，直接返回（需要类型匹配）
-            if (primitive.isBoolean()) {
-                return (T) Boolean.valueOf(primitive.getAsBoolean());
-            } else if (primitive.isNumber()) {
-                return (T) primitive.getAsNumber();
-            } else if (primitive.isString()) {
-                return (T) primitive.getAsString();
-            }
+        if (log.isDebugEnabled()) {
+            String responseBody = body.string();
+            log.debug("API Response: {}", responseBody);
+            return decoder.decode(new StringReader(responseBody), responseType, requestId);
         }
 
-        return gson.fromJson(respData, responseType);
+        return decoder.decode(body.charStream(), responseType, requestId);
+    }
+
+    /**
+     * 服务端 5xx 错误（按网络错误重试）
+     */
+    private static class ServerErrorException extends IOException {
+        ServerErrorException(int code, String message) {
+            super("HTTP " + code + ": " + message);
+        }
     }
 
     /**
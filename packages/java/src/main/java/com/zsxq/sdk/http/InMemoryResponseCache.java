@@ -0,0 +1,155 @@
+package com.zsxq.sdk.http;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * 有界内存缓存：LRU 淘汰 + TinyLFU 准入
+ *
+ * 缓存满时，新条目只有在近期访问频率不低于 LRU 队尾条目时才会替换它，
+ * 避免一次性扫描（例如遍历大量话题详情）把热点条目挤出缓存。
+ * 访问频率用 Count-Min Sketch 近似统计，并定期减半以反映近期热度。
+ */
+public final class InMemoryResponseCache implements ResponseCache {
+
+    private final int maximumSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, CacheEntry> entries;
+    private final FrequencySketch sketch;
+    private final LongAdder evictions = new LongAdder();
+
+    public InMemoryResponseCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<>(Math.min(maximumSize, 1024), 0.75f, true);
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    @Override
+    public CacheEntry get(String key) {
+        lock.lock();
+        try {
+            sketch.increment(key);
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(String key, CacheEntry entry) {
+        lock.lock();
+        try {
+            if (entries.size() >= maximumSize && !entries.containsKey(key)) {
+                Iterator<Map.Entry<String, CacheEntry>> eldest = entries.entrySet().iterator();
+                String victim = eldest.next().getKey();
+                if (sketch.frequency(key) < sketch.frequency(victim)) {
+                    return;
+                }
+                eldest.remove();
+                evictions.increment();
+            }
+            entries.put(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate(Predicate<String> keys) {
+        lock.lock();
+        try {
+            entries.keySet().removeIf(keys);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 4 行 Count-Min Sketch，计数上限 15，累计增量达到采样窗口后全部减半
+     */
+    private static final class FrequencySketch {
+
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+        private final int[][] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int maximumSize) {
+            int width = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 24)) - 1) << 1;
+            this.table = new int[DEPTH][width];
+            this.mask = width - 1;
+            this.sampleSize = 10 * width;
+        }
+
+        void increment(String key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < DEPTH; i++) {
+                int index = index(hash, i);
+                if (table[i][index] < MAX_COUNT) {
+                    table[i][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(String key) {
+            int hash = spread(key.hashCode());
+            int min = MAX_COUNT;
+            for (int i = 0; i < DEPTH; i++) {
+                min = Math.min(min, table[i][index(hash, i)]);
+            }
+            return min;
+        }
+
+        private int index(int hash, int row) {
+            int h = (hash ^ SEEDS[row]) * SEEDS[row];
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private void reset() {
+            for (int[] row : table) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] >>>= 1;
+                }
+            }
+            additions /= 2;
+        }
+
+        private static int spread(int h) {
+            h ^= h >>> 17;
+            h *= 0xED5AD4BB;
+            h ^= h >>> 11;
+            return h;
+        }
+    }
+}
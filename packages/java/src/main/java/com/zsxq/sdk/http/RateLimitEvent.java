@@ -0,0 +1,31 @@
+package com.zsxq.sdk.http;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR 事件：限流，包括本地限流器的等待和服务端返回的 40001
+ */
+@Name("com.zsxq.sdk.RateLimit")
+@Label("ZSXQ Rate Limit")
+@Description("A request waited for the local rate limiter, or the server answered 40001")
+@Category({"ZSXQ SDK"})
+@StackTrace(false)
+final class RateLimitEvent extends jdk.jfr.Event {
+
+    @Label("Path")
+    String path;
+
+    @Label("Source")
+    @Description("local (client-side limiter) or server (40001)")
+    String source;
+
+    @Label("Wait")
+    @Description("Time the request was delayed by the local limiter, 0 for server throttling")
+    @Timespan(Timespan.NANOSECONDS)
+    long wait;
+}
@@ -0,0 +1,19 @@
+package com.zsxq.sdk.http;
+
+/**
+ * 限流事件监听器
+ *
+ * 回调在请求线程上同步执行，实现应尽量轻量。
+ */
+@FunctionalInterface
+public interface RateLimitListener {
+
+    /**
+     * 收到服务端限流（40001），限流器速率已下调
+     *
+     * @param limiter 限流器名称（"*" 表示客户端级，否则为接口族名称）
+     * @param previousRate 下调前的速率（请求/秒）
+     * @param currentRate 下调后的速率（请求/秒）
+     */
+    void onThrottled(String limiter, double previousRate, double currentRate);
+}
@@ -0,0 +1,96 @@
+package com.zsxq.sdk.http;
+
+import com.zsxq.sdk.client.ZsxqConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 客户端的全部限流器：一个客户端级限流器 + 按接口族配置的限流器
+ *
+ * 请求需要同时从客户端级和所属接口族的限流器获取令牌。
+ */
+final class RateLimiters {
+
+    static final String CLIENT = "*";
+
+    private final AdaptiveRateLimiter client;
+    private final Map<String, AdaptiveRateLimiter> families;
+
+    RateLimiters(ZsxqConfig config) {
+        RateLimitListener listener = config.getRateLimitListener();
+        this.client = config.getRateLimit() != null
+                ? new AdaptiveRateLimiter(CLIENT, config.getRateLimit(), listener)
+                : null;
+        Map<String, AdaptiveRateLimiter> map = new LinkedHashMap<>();
+        config.getEndpointRateLimits().forEach((family, rate) ->
+                map.put(family, new AdaptiveRateLimiter(family, rate, listener)));
+        this.families = Collections.unmodifiableMap(map);
+    }
+
+    boolean isEnabled() {
+        return client != null || !families.isEmpty();
+    }
+
+    /**
+     * 为请求预约令牌
+     *
+     * @return 需要等待的纳秒数
+     */
+    long reserve(String path) {
+        long wait = client != null ? client.reserve() : 0;
+        AdaptiveRateLimiter family = family(path);
+        if (family != null) {
+            wait = Math.max(wait, family.reserve());
+        }
+        return wait;
+    }
+
+    /**
+     * 客户端级和接口族限流器当前是否都有空余令牌（不扣减）
+     */
+    boolean hasSpare(String path) {
+        if (client != null && !client.hasToken()) {
+            return false;
+        }
+        AdaptiveRateLimiter family = family(path);
+        return family == null || family.hasToken();
+    }
+
+    void onSuccess(String path) {
+        if (client != null) {
+            client.onSuccess();
+        }
+        AdaptiveRateLimiter family = family(path);
+        if (family != null) {
+            family.onSuccess();
+        }
+    }
+
+    void onThrottled(String path) {
+        if (client != null) {
+            client.onThrottled();
+        }
+        AdaptiveRateLimiter family = family(path);
+        if (family != null) {
+            family.onThrottled();
+        }
+    }
+
+    List<AdaptiveRateLimiter> all() {
+        List<AdaptiveRateLimiter> all = new ArrayList<>(families.size() + 1);
+        if (client != null) {
+            all.add(client);
+        }
+        all.addAll(families.values());
+        return all;
+    }
+
+    private AdaptiveRateLimiter family(String path) {
+        String name = Endpoints.family(path, families.keySet());
+        return name != null ? families.get(name) : null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.zsxq.sdk.http;
+
+import java.util.UUID;
+
+/**
+ * 请求 ID 生成器（x-request-id）
+ *
+ * 实现必须线程安全。
+ */
+@FunctionalInterface
+public interface RequestIdGenerator {
+
+    /**
+     * 生成下一个请求 ID
+     */
+    String next();
+
+    /**
+     * 默认实现：基于 ThreadLocalRandom 生成 UUID v4 格式的 ID，
+     * 不经过 SecureRandom，多线程下无竞争
+     */
+    static RequestIdGenerator fast() {
+        return FastRequestIdGenerator.INSTANCE;
+    }
+
+    /**
+     * 基于 {@link UUID#randomUUID()} 的实现（SecureRandom）
+     */
+    static RequestIdGenerator uuid() {
+        return () -> UUID.randomUUID().toString();
+    }
+}
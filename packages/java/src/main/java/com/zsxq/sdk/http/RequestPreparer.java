@@ -0,0 +1,111 @@
+package com.zsxq.sdk.http;
+
+import com.zsxq.sdk.client.ZsxqConfig;
+import okhttp3.Headers;
+
+/**
+ * 请求预处理 - 生成请求 ID 和请求头
+ *
+ * 与配置相关的固定请求头（User-Agent、authorization、x-version、x-aduid）在构造时
+ * 生成一次模板，每次请求只追加 x-request-id、Content-Type 和签名相关头。
+ */
+public final class RequestPreparer {
+
+    private static final String CONTENT_TYPE_JSON = "application/json; charset=utf-8";
+    private static final String DEFAULT_SECRET_KEY = "zsxq-sdk-secret";
+
+    private final Headers template;
+    private final RequestSigner signer;
+    private final RequestIdGenerator requestIdGenerator;
+
+    /**
+     * 当前秒的时间戳字符串缓存，同一秒内的请求复用
+     */
+    private volatile Timestamp timestamp = new Timestamp(-1);
+
+    public RequestPreparer(ZsxqConfig config) {
+        this(config, newSigner(config));
+    }
+
+    /**
+     * @param signer 签名器，未启用签名时为 null；多个租户可共享同一个签名器
+     */
+    RequestPreparer(ZsxqConfig config, RequestSigner signer) {
+        this.template = new Headers.Builder()
+                .add("User-Agent", "xiaomiquan/" + config.getAppVersion() + " SDK/1.0.0")
+                .add("authorization", config.getToken())
+                .add("x-version", config.getAppVersion())
+                .add("x-aduid", config.getDeviceId())
+                .build();
+        this.signer = signer;
+        this.requestIdGenerator = config.getRequestIdGenerator() != null
+                ? config.getRequestIdGenerator()
+                : RequestIdGenerator.fast();
+    }
+
+    /**
+     * 按配置创建签名器，未启用签名时返回 null
+     */
+    static RequestSigner newSigner(ZsxqConfig config) {
+        if (!config.isSignatureEnabled()) {
+            return null;
+        }
+        // 使用自定义签名密钥或默认值
+        String secretKey = config.getSignatureKey() != null ? config.getSignatureKey() : DEFAULT_SECRET_KEY;
+        return new RequestSigner(secretKey);
+    }
+
+    /**
+     * 生成请求 ID
+     */
+    public String nextRequestId() {
+        return requestIdGenerator.next();
+    }
+
+    /**
+     * 构建请求头
+     *
+     * @param method HTTP 方法
+     * @param path 请求路径（不含查询参数）
+     * @param body 请求体，可为 null
+     * @param requestId 请求 ID
+     */
+    public Headers headers(String method, String path, String body, String requestId) {
+        Headers.Builder builder = template.newBuilder()
+                .add("x-request-id", requestId);
+
+        // 只有 POST/PUT 请求才添加 Content-Type
+        if ("POST".equals(method) || "PUT".equals(method)) {
+            builder.add("Content-Type", CONTENT_TYPE_JSON);
+        }
+
+        // 只有启用签名时才添加签名相关头
+        if (signer != null) {
+            String ts = currentTimestamp();
+            builder.add("x-timestamp", ts);
+            builder.add("x-signature", signer.sign(ts, method, path, body));
+        }
+
+        return builder.build();
+    }
+
+    private String currentTimestamp() {
+        long seconds = System.currentTimeMillis() / 1000;
+        Timestamp cached = timestamp;
+        if (cached.seconds != seconds) {
+            cached = new Timestamp(seconds);
+            timestamp = cached;
+        }
+        return cached.text;
+    }
+
+    private static final class Timestamp {
+        final long seconds;
+        final String text;
+
+        Timestamp(long seconds) {
+            this.seconds = seconds;
+            this.text = String.valueOf(seconds);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.zsxq.sdk.http;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * 请求签名器 - HMAC-SHA1
+ *
+ * 签名原文：timestamp + "\n" + METHOD + "\n" + path [+ "\n" + body]，结果为小写十六进制。
+ * 每个线程持有一个已用密钥初始化的 Mac 和复用的字节缓冲，签名时只分配结果字符串。
+ * 虚拟线程数量可能非常多且生命周期很短，不使用线程私有状态，而是从一个小的共享池中借用。
+ */
+public final class RequestSigner {
+
+    private static final String ALGORITHM = "HmacSHA1";
+    private static final int INITIAL_BUFFER_SIZE = 256;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+    private static final int VIRTUAL_THREAD_POOL_SIZE = 64;
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<State> state;
+    private final ArrayBlockingQueue<State> pool = new ArrayBlockingQueue<>(VIRTUAL_THREAD_POOL_SIZE);
+
+    public RequestSigner(String secretKey) {
+        this.key = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.state = ThreadLocal.withInitial(this::newState);
+        // 提前校验算法和密钥，避免在首次请求时才失败
+        newState();
+    }
+
+    /**
+     * 生成签名
+     *
+     * @param timestamp 秒级时间戳
+     * @param method HTTP 方法
+     * @param path 请求路径（不含查询参数）
+     * @param body 请求体，可为 null
+     */
+    public String sign(String timestamp, String method, String path, String body) {
+        if (!VirtualThreads.isVirtual(Thread.currentThread())) {
+            return sign(state.get(), timestamp, method, path, body);
+        }
+        State s = pool.poll();
+        if (s == null) {
+            s = newState();
+        }
+        try {
+            return sign(s, timestamp, method, path, body);
+        } finally {
+            pool.offer(s);
+        }
+    }
+
+    private String sign(State s, String timestamp, String method, String path, String body) {
+        s.length = 0;
+        s.append(timestamp);
+        s.append('\n');
+        s.appendUpperCase(method);
+        s.append('\n');
+        s.append(path);
+        if (body != null && !body.isEmpty()) {
+            s.append('\n');
+            s.append(body);
+        }
+
+        s.mac.update(s.buffer, 0, s.length);
+        if (s.buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+            // 超大请求体之后不长期占用内存
+            s.buffer = new byte[INITIAL_BUFFER_SIZE];
+        }
+        try {
+            s.mac.doFinal(s.digest, 0);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to generate signature", e);
+        }
+        Hex.encode(s.digest, 0, s.digest.length, s.hex, 0);
+        return new String(s.hex);
+    }
+
+    private State newState() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return new State(mac);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + ALGORITHM, e);
+        }
+    }
+
+    /**
+     * 线程私有的签名状态
+     */
+    private static final class State {
+        final Mac mac;
+        final byte[] digest;
+        final char[] hex;
+        byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+        int length;
+
+        State(Mac mac) {
+            this.mac = mac;
+            this.digest = new byte[mac.getMacLength()];
+            this.hex = new char[digest.length * 2];
+        }
+
+        void append(char c) {
+            ensureCapacity(1);
+            buffer[length++] = (byte) c;
+        }
+
+        /**
+         * 追加 HTTP 方法名（ASCII token），小写字母转为大写
+         */
+        void appendUpperCase(String s) {
+            ensureCapacity(s.length());
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                buffer[length++] = (byte) (c >= 'a' && c <= 'z' ? c - ('a' - 'A') : c);
+            }
+        }
+
+        /**
+         * 按 UTF-8 编码追加，不经过中间 byte[]；未配对的代理字符按 JDK 行为替换为 '?'
+         */
+        void append(String s) {
+            ensureCapacity(s.length() * 3);
+            int n = s.length();
+            for (int i = 0; i < n; i++) {
+                char c = s.charAt(i);
+                if (c < 0x80) {
+                    buffer[length++] = (byte) c;
+                } else if (c < 0x800) {
+                    buffer[length++] = (byte) (0xc0 | (c >> 6));
+                    buffer[length++] = (byte) (0x80 | (c & 0x3f));
+                } else if (Character.isSurrogate(c)) {
+                    if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                        int cp = Character.toCodePoint(c, s.charAt(++i));
+                        buffer[length++] = (byte) (0xf0 | (cp >> 18));
+                        buffer[length++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                        buffer[length++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                        buffer[length++] = (byte) (0x80 | (cp & 0x3f));
+                    } else {
+                        buffer[length++] = '?';
+                    }
+                } else {
+                    buffer[length++] = (byte) (0xe0 | (c >> 12));
+                    buffer[length++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                    buffer[length++] = (byte) (0x80 | (c & 0x3f));
+                }
+            }
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+            }
+        }
+    }
+}
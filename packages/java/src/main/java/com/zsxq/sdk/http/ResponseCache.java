@@ -0,0 +1,37 @@
+package com.zsxq.sdk.http;
+
+import java.util.function.Predicate;
+
+/**
+ * 响应缓存存储
+ *
+ * 缓存的是解码后的对象，由 {@link HttpClient} 负责过期判断和统计，实现只需负责存取和容量控制。
+ * 默认实现为 {@link InMemoryResponseCache}，实现必须线程安全。
+ */
+public interface ResponseCache {
+
+    /**
+     * 读取缓存条目（可能已过期），不存在时返回 null
+     */
+    CacheEntry get(String key);
+
+    /**
+     * 写入缓存条目，实现可以根据容量策略拒绝写入
+     */
+    void put(String key, CacheEntry entry);
+
+    /**
+     * 移除所有键满足条件的条目
+     */
+    void invalidate(Predicate<String> keys);
+
+    /**
+     * 当前条目数
+     */
+    long size();
+
+    /**
+     * 累计因容量不足被淘汰的条目数
+     */
+    long evictionCount();
+}
@@ -0,0 +1,156 @@
+package com.zsxq.sdk.http;
+
+import com.zsxq.sdk.client.ZsxqConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * GET 响应缓存：按接口族配置 TTL，支持过期后先返回旧值再后台刷新（stale-while-revalidate）
+ *
+ * 只缓存成功解码的结果，异常不缓存。写操作通过 {@link #invalidate(String)} 按路径前缀失效；
+ * 失效之前已发出的请求即使之后返回也不会写入缓存。
+ */
+final class ResponseCaching {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCaching.class);
+
+    private final ResponseCache cache;
+    private final Map<String, Long> ttlNanos;
+    private final long staleNanos;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    ResponseCaching(ZsxqConfig config) {
+        Map<String, Long> map = new LinkedHashMap<>();
+        config.getCacheTtls().forEach((family, ttl) -> map.put(family, TimeUnit.MILLISECONDS.toNanos(ttl)));
+        this.ttlNanos = Collections.unmodifiableMap(map);
+        this.staleNanos = TimeUnit.MILLISECONDS.toNanos(config.getStaleWhileRevalidate());
+        this.cache = map.isEmpty()
+                ? null
+                : config.getResponseCache() != null
+                ? config.getResponseCache()
+                : new InMemoryResponseCache(config.getCacheMaximumSize());
+    }
+
+    boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * 路径所属接口族的 TTL（纳秒），不缓存时返回 0
+     */
+    long ttl(String path) {
+        String family = Endpoints.family(path, ttlNanos.keySet());
+        return family != null ? ttlNanos.get(family) : 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T get(String key, long ttl, Supplier<T> loader, Supplier<CompletableFuture<T>> refresher) {
+        long now = System.nanoTime();
+        CacheEntry entry = cache.get(key);
+        if (entry != null && entry.isFresh(now)) {
+            hits.increment();
+            return (T) entry.getValue();
+        }
+        if (entry != null && entry.isUsable(now)) {
+            staleHits.increment();
+            refresh(key, ttl, entry, refresher);
+            return (T) entry.getValue();
+        }
+        misses.increment();
+        long gen = generation.get();
+        T value = loader.get();
+        store(key, ttl, value, gen);
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> getAsync(String key, long ttl, Supplier<CompletableFuture<T>> loader) {
+        long now = System.nanoTime();
+        CacheEntry entry = cache.get(key);
+        if (entry != null && entry.isFresh(now)) {
+            hits.increment();
+            return CompletableFuture.completedFuture((T) entry.getValue());
+        }
+        if (entry != null && entry.isUsable(now)) {
+            staleHits.increment();
+            refresh(key, ttl, entry, loader);
+            return CompletableFuture.completedFuture((T) entry.getValue());
+        }
+        misses.increment();
+        long gen = generation.get();
+        return loader.get().thenApply(value -> {
+            store(key, ttl, value, gen);
+            return value;
+        });
+    }
+
+    /**
+     * 使路径前缀下的所有缓存失效，例如 "/v2/groups/123/checkins" 覆盖该路径及其子路径
+     */
+    void invalidate(String pathPrefix) {
+        generation.incrementAndGet();
+        cache.invalidate(key -> matchesPrefix(key, pathPrefix));
+    }
+
+    CacheStats stats() {
+        return new CacheStats(hits.sum(), staleHits.sum(), misses.sum(), cache.evictionCount(), cache.size());
+    }
+
+    private <T> void refresh(String key, long ttl, CacheEntry entry, Supplier<CompletableFuture<T>> refresher) {
+        if (!entry.startRefresh()) {
+            return;
+        }
+        long gen = generation.get();
+        CompletableFuture<T> future;
+        try {
+            future = refresher.get();
+        } catch (RuntimeException e) {
+            entry.refreshFailed();
+            log.debug("Cache refresh failed for {}", key, e);
+            return;
+        }
+        future.whenComplete((value, error) -> {
+            if (error != null) {
+                entry.refreshFailed();
+                log.debug("Cache refresh failed for {}", key, error);
+            } else {
+                store(key, ttl, value, gen);
+            }
+        });
+    }
+
+    private void store(String key, long ttl, Object value, long gen) {
+        if (generation.get() != gen) {
+            return;
+        }
+        long now = System.nanoTime();
+        cache.put(key, new CacheEntry(value, now + ttl, now + ttl + staleNanos));
+        if (generation.get() != gen) {
+            // 写入期间发生了失效
+            cache.invalidate(key::equals);
+        }
+    }
+
+    static boolean matchesPrefix(String key, String pathPrefix) {
+        if (!key.startsWith(pathPrefix)) {
+            return false;
+        }
+        if (key.length() == pathPrefix.length()) {
+            return true;
+        }
+        char next = key.charAt(pathPrefix.length());
+        return next == '/' || next == '?' || next == '#';
+    }
+}
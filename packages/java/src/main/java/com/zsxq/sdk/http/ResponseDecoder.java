@@ -0,0 +1,138 @@
+package com.zsxq.sdk.http;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import com.zsxq.sdk.exception.ExceptionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+
+/**
+ * 响应解码器 - 单次流式解析响应信封
+ *
+ * 直接从响应体的字符流读取：边读边检查 succeeded / code / error，
+ * resp_data 直接反序列化为目标类型，不会先构建完整的 String 或 JsonObject 树。
+ */
+public class ResponseDecoder {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseDecoder.class);
+
+    private final Gson gson;
+
+    public ResponseDecoder(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * 解码响应
+     *
+     * @param reader 响应体字符流（调用方负责关闭）
+     * @param responseType resp_data 的目标类型
+     * @param requestId 请求 ID，用于构造异常
+     * @return 解码后的 resp_data，响应中没有 resp_data 时返回 null
+     * @throws com.zsxq.sdk.exception.ZsxqException 业务错误（succeeded = false）
+     * @throws JsonSyntaxException 响应不是合法的 JSON 信封
+     * @throws IOException 读取响应体失败
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T decode(Reader reader, Type responseType, String requestId) throws IOException {
+        JsonReader in = new JsonReader(reader);
+        boolean succeeded = false;
+        boolean failed = false;
+        int code = 0;
+        String error = null;
+        String info = null;
+        Object respData = null;
+
+        try {
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "succeeded":
+                        if (in.peek() == JsonToken.BOOLEAN) {
+                            succeeded = in.nextBoolean();
+                            failed = !succeeded;
+                        } else {
+                            in.skipValue();
+                        }
+                        break;
+                    case "code":
+                        if (in.peek() == JsonToken.NUMBER) {
+                            code = in.nextInt();
+                        } else {
+                            in.skipValue();
+                        }
+                        break;
+                    case "error":
+                        error = readNullableString(in);
+                        break;
+                    case "info":
+                        info = readNullableString(in);
+                        break;
+                    case "resp_data":
+                        // 已知失败时不再解码数据
+                        if (failed) {
+                            in.skipValue();
+                        } else {
+                            respData = readRespData(in, responseType);
+                        }
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+        } catch (MalformedJsonException | EOFException | IllegalStateException e) {
+            throw new JsonSyntaxException("Invalid response envelope", e);
+        }
+
+        if (!succeeded) {
+            String message = error != null ? error : info != null ? info : "未知错误";
+            log.error("API Error: code={}, message={}", code, message);
+            throw ExceptionFactory.create(code, message, requestId);
+        }
+
+        return (T) respData;
+    }
+
+    /**
+     * 读取 resp_data：基础类型（boolean、number、string）直接返回，其余按目标类型反序列化
+     */
+    private Object readRespData(JsonReader in, Type responseType) throws IOException {
+        switch (in.peek()) {
+            case NULL:
+                in.nextNull();
+                return null;
+            case BOOLEAN:
+            case NUMBER:
+            case STRING:
+                JsonPrimitive primitive = JsonParser.parseReader(in).getAsJsonPrimitive();
+                if (primitive.isBoolean()) {
+                    return primitive.getAsBoolean();
+                } else if (primitive.isNumber()) {
+                    return primitive.getAsNumber();
+                }
+                return primitive.getAsString();
+            default:
+                return gson.fromJson(in, responseType);
+        }
+    }
+
+    private static String readNullableString(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+}
@@ -0,0 +1,157 @@
+package com.zsxq.sdk.http;
+
+import com.zsxq.sdk.client.RetryPolicy;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.exception.RateLimitException;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 重试决策：错误分类、去相关抖动退避、重试预算和整体截止时间
+ *
+ * 只负责计算"是否重试、等多久"，等待本身由调用方完成：同步调用在当前线程等待，
+ * 异步调用交给调度器延迟触发。
+ *
+ * 重试预算为所有请求共享的令牌桶：每个新请求存入 budgetRatio 个令牌，每次重试取出 1 个，
+ * 桶容量为 budgetReserve。故障期间重试数最终被限制在请求数的 budgetRatio 倍以内。
+ */
+final class RetryEngine {
+
+    private final int maxRetries;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final long rateLimitDelayNanos;
+    private final long deadlineNanos;
+    private final boolean retryOnRateLimit;
+    private final double budgetRatio;
+    private final double budgetCapacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder budgetExhausted = new LongAdder();
+
+    private double budget;
+
+    RetryEngine(ZsxqConfig config) {
+        RetryPolicy policy = config.getRetryPolicy();
+        this.maxRetries = config.getRetryCount();
+        this.baseDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, config.getRetryDelay()));
+        this.maxDelayNanos = Math.max(baseDelayNanos, TimeUnit.MILLISECONDS.toNanos(policy.getMaxDelay()));
+        this.rateLimitDelayNanos = TimeUnit.MILLISECONDS.toNanos(policy.getRateLimitDelay());
+        this.deadlineNanos = TimeUnit.MILLISECONDS.toNanos(policy.getDeadline());
+        this.retryOnRateLimit = policy.isRetryOnRateLimit();
+        this.budgetRatio = policy.getBudgetRatio();
+        this.budgetCapacity = Math.max(1, policy.getBudgetReserve());
+        this.budget = budgetCapacity;
+    }
+
+    /**
+     * 开始一次调用（向重试预算存入令牌）
+     */
+    Attempts start() {
+        lock.lock();
+        try {
+            budget = Math.min(budgetCapacity, budget + budgetRatio);
+        } finally {
+            lock.unlock();
+        }
+        return new Attempts(deadlineNanos > 0 ? System.nanoTime() + deadlineNanos : 0);
+    }
+
+    /**
+     * 因重试预算耗尽而放弃重试的次数
+     */
+    long getBudgetExhaustedCount() {
+        return budgetExhausted.sum();
+    }
+
+    /**
+     * 可重试的错误：网络错误、5xx，以及开启 retryOnRateLimit 时的限流错误
+     */
+    boolean isRetryable(Throwable error) {
+        return error instanceof IOException || (retryOnRateLimit && error instanceof RateLimitException);
+    }
+
+    private boolean withdraw() {
+        lock.lock();
+        try {
+            if (budget < 1) {
+                return false;
+            }
+            budget -= 1;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 单次调用的重试状态；对冲时原请求和对冲请求共用一份，重试次数合计不超过上限
+     */
+    final class Attempts {
+
+        private final long deadline;
+        private final ReentrantLock attemptsLock = new ReentrantLock();
+        private volatile int retries;
+        private long previousDelay;
+
+        private Attempts(long deadline) {
+            this.deadline = deadline;
+        }
+
+        /**
+         * 距截止时间的剩余纳秒数，未设置截止时间时返回 Long.MAX_VALUE
+         */
+        long remainingNanos() {
+            return deadline == 0 ? Long.MAX_VALUE : deadline - System.nanoTime();
+        }
+
+        /**
+         * 计算下一次重试前的等待时间
+         *
+         * @return 等待的纳秒数；返回 -1 表示不再重试（不可重试、次数用完、截止时间不足或预算耗尽）
+         */
+        long nextDelay(Throwable error) {
+            if (!isRetryable(error)) {
+                return -1;
+            }
+            attemptsLock.lock();
+            try {
+                if (retries >= maxRetries) {
+                    return -1;
+                }
+                long base = error instanceof RateLimitException ? Math.max(baseDelayNanos, rateLimitDelayNanos) : baseDelayNanos;
+                long delay = decorrelatedJitter(base);
+                if (deadline != 0 && delay >= remainingNanos()) {
+                    return -1;
+                }
+                if (!withdraw()) {
+                    budgetExhausted.increment();
+                    return -1;
+                }
+                retries++;
+                previousDelay = delay;
+                return delay;
+            } finally {
+                attemptsLock.unlock();
+            }
+        }
+
+        int getRetries() {
+            return retries;
+        }
+
+        /**
+         * 在 [base, 上次等待 × 3] 之间均匀取值，不超过 maxDelay
+         */
+        private long decorrelatedJitter(long base) {
+            long upper = Math.min(maxDelayNanos, Math.max(base, previousDelay) * 3);
+            if (upper <= base) {
+                return Math.min(base, maxDelayNanos);
+            }
+            return ThreadLocalRandom.current().nextLong(base, upper + 1);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.zsxq.sdk.http;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR 事件：决定重试，记录退避时间
+ */
+@Name("com.zsxq.sdk.Retry")
+@Label("ZSXQ Retry")
+@Description("A failed attempt is retried after a backoff")
+@Category({"ZSXQ SDK"})
+@StackTrace(false)
+final class RetryEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Path")
+    String path;
+
+    @Label("Request ID")
+    String requestId;
+
+    @Label("Retry")
+    @Description("1 for the first retry")
+    int retry;
+
+    @Label("Backoff")
+    @Timespan(Timespan.NANOSECONDS)
+    long backoff;
+
+    @Label("Cause")
+    String cause;
+}
@@ -0,0 +1,233 @@
+package com.zsxq.sdk.http;
+
+import com.zsxq.sdk.client.ConnectionProfile;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.metrics.CallTimingListener;
+import com.zsxq.sdk.metrics.EndpointMetrics;
+import com.zsxq.sdk.metrics.MetricsRegistry;
+import com.zsxq.sdk.metrics.RequestRecorder;
+import okhttp3.Cache;
+import okhttp3.Call;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 可在多个 {@link HttpClient} 之间共享的传输层
+ *
+ * 包含 OkHttp 连接池和调度器、响应解码器、签名器、响应缓存、条件请求、请求合并、重试预算、熔断器、对冲预算和指标注册表。
+ * 多租户模式下还包含加权公平调度器：所有租户的请求（同步和异步）共享
+ * {@link ConnectionProfile#getMaxRequestsPerHost()} 个并发名额，名额紧张时按权重分配。
+ */
+public final class SharedTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(SharedTransport.class);
+
+    final OkHttpClient client;
+    final ResponseDecoder decoder;
+    final RequestSigner signer;
+    final ResponseCaching caching;
+    final SingleFlight singleFlight;
+    final RetryEngine retryEngine;
+    final CircuitBreakers circuitBreakers;
+    final Hedging hedging;
+    final ConditionalCache conditional;
+    final MetricsRegistry metrics;
+    final boolean phaseTimings;
+    final CallTimingListener callTimingListener;
+    final RequestRecorder recorder;
+    final FairScheduler scheduler;
+    private final AtomicInteger tenants = new AtomicInteger();
+
+    /**
+     * 创建多租户共享传输层
+     *
+     * @param config 模板配置（Token 不使用，连接、缓存、指标和签名配置对所有租户生效）
+     */
+    public SharedTransport(ZsxqConfig config) {
+        this(config, true);
+    }
+
+    SharedTransport(ZsxqConfig config, boolean multiTenant) {
+        this.metrics = config.getMetricsRegistry();
+        this.phaseTimings = config.isPhaseTimings() && metrics != null;
+        this.callTimingListener = config.getCallTimingListener();
+        this.recorder = config.getRequestRecorder();
+        this.conditional = config.getConditionalCacheSize() > 0 || config.getHttpCacheDirectory() != null
+                ? new ConditionalCache(config.getConditionalCacheSize())
+                : null;
+        this.client = createOkHttpClient(config);
+        this.decoder = new ResponseDecoder(HttpClient.GSON);
+        this.signer = RequestPreparer.newSigner(config);
+        this.caching = new ResponseCaching(config);
+        this.singleFlight = config.isCoalesceGets() ? new SingleFlight() : null;
+        this.retryEngine = new RetryEngine(config);
+        this.circuitBreakers = config.getCircuitBreakerPolicy() != null
+                ? new CircuitBreakers(config.getCircuitBreakerPolicy())
+                : null;
+        this.hedging = config.getHedgePolicy() != null ? new Hedging(config.getHedgePolicy()) : null;
+        this.scheduler = multiTenant ? new FairScheduler(maxConcurrentRequests(config)) : null;
+    }
+
+    /**
+     * 已创建的租户数
+     */
+    public int getTenantCount() {
+        return tenants.get();
+    }
+
+    /**
+     * 响应缓存统计（所有租户合计，未配置缓存时为 null）
+     */
+    public CacheStats getCacheStats() {
+        return caching.isEnabled() ? caching.stats() : null;
+    }
+
+    /**
+     * 条件请求和磁盘缓存统计（所有租户合计，均未开启时为 null）
+     */
+    public HttpCacheStats getHttpCacheStats() {
+        return conditional != null ? conditional.stats() : null;
+    }
+
+    /**
+     * 等待并发名额的请求数（非多租户模式为 0）
+     */
+    public int getQueuedRequests() {
+        return scheduler != null ? scheduler.queued() : 0;
+    }
+
+    /**
+     * 为新租户分配缓存和请求合并的键前缀（非多租户模式为空串）
+     */
+    String nextKeyPrefix() {
+        int id = tenants.incrementAndGet();
+        return scheduler != null ? "@" + id : "";
+    }
+
+    EndpointMetrics endpointMetrics(Request request) {
+        return metrics.endpoint(request.method(), Endpoints.template(request.url().encodedPath()));
+    }
+
+    private static int maxConcurrentRequests(ZsxqConfig config) {
+        OkHttpClient shared = config.getOkHttpClient();
+        return shared != null
+                ? shared.dispatcher().getMaxRequestsPerHost()
+                : config.getConnectionProfile().getMaxRequestsPerHost();
+    }
+
+    /**
+     * 创建 OkHttpClient
+     *
+     * 传入共享的 OkHttpClient 时直接复用其连接池、调度器、超时和 TLS 配置，只追加 SDK 自身的监听器；
+     * 否则按 {@link ConnectionProfile} 新建（带 SSL 信任配置）
+     */
+    private OkHttpClient createOkHttpClient(ZsxqConfig config) {
+        OkHttpClient.Builder builder;
+        if (config.getOkHttpClient() != null) {
+            builder = config.getOkHttpClient().newBuilder();
+        } else {
+            builder = newOkHttpClientBuilder(config);
+        }
+        if (config.getHttpCacheDirectory() != null) {
+            builder.cache(new Cache(config.getHttpCacheDirectory(), config.getHttpCacheMaxSize()));
+        }
+
+        // 保留共享 OkHttpClient 原有的监听器
+        OkHttpClient shared = config.getOkHttpClient();
+        EventListener.Factory factory = shared != null ? shared.eventListenerFactory() : null;
+        if (metrics != null) {
+            EventListener metricsListener = new EventListener() {
+                @Override
+                public void responseBodyEnd(Call call, long byteCount) {
+                    endpointMetrics(call.request()).recordResponseBytes(byteCount);
+                }
+            };
+            factory = chain(factory, call -> metricsListener);
+        }
+        if (isCallTiming()) {
+            factory = chain(factory, call -> {
+                CallTimer timer = call.request().tag(CallTimer.class);
+                return timer != null ? timer : EventListener.NONE;
+            });
+        }
+        if (factory != null) {
+            builder.eventListenerFactory(factory);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 是否为请求尝试计时（写入指标或回调监听器）
+     */
+    boolean isCallTiming() {
+        return phaseTimings || callTimingListener != null;
+    }
+
+    private static EventListener.Factory chain(EventListener.Factory first, EventListener.Factory second) {
+        if (first == null) {
+            return second;
+        }
+        return call -> new CompositeEventListener(first.create(call), second.create(call));
+    }
+
+    private OkHttpClient.Builder newOkHttpClientBuilder(ZsxqConfig config) {
+        ConnectionProfile profile = config.getConnectionProfile();
+        Dispatcher dispatcher = config.isVirtualThreads()
+                ? new Dispatcher(VirtualThreads.newThreadPerTaskExecutor("zsxq-http-"))
+                : new Dispatcher();
+        dispatcher.setMaxRequests(profile.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(profile.getMaxRequestsPerHost());
+
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .connectTimeout(config.getTimeout(), TimeUnit.MILLISECONDS)
+                .readTimeout(config.getTimeout(), TimeUnit.MILLISECONDS)
+                .writeTimeout(config.getTimeout(), TimeUnit.MILLISECONDS)
+                .callTimeout(profile.getCallTimeout(), TimeUnit.MILLISECONDS)
+                .pingInterval(profile.getPingInterval(), TimeUnit.MILLISECONDS)
+                .connectionPool(new ConnectionPool(profile.getMaxIdleConnections(), profile.getKeepAlive(),
+                        TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                .protocols(profile.isHttp2()
+                        ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                        : Collections.singletonList(Protocol.HTTP_1_1));
+
+        // 配置信任所有证书（用于开发测试）
+        try {
+            TrustManager[] trustAllCerts = new TrustManager[]{
+                    new X509TrustManager() {
+                        @Override
+                        public void checkClientTrusted(X509Certificate[] chain, String authType) {}
+                        @Override
+                        public void checkServerTrusted(X509Certificate[] chain, String authType) {}
+                        @Override
+                        public X509Certificate[] getAcceptedIssuers() { return new X509Certificate[0]; }
+                    }
+            };
+
+            SSLContext sslContext = SSLContext.getInstance("TLS");
+            sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
+            builder.sslSocketFactory(sslContext.getSocketFactory(), (X509TrustManager) trustAllCerts[0]);
+            builder.hostnameVerifier((hostname, session) -> true);
+        } catch (Exception e) {
+            log.warn("Failed to configure SSL trust, using default settings", e);
+        }
+
+        return builder;
+    }
+}
@@ -0,0 +1,118 @@
+package com.zsxq.sdk.http;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * GET 请求合并（single-flight）
+ *
+ * 同一时刻相同的 GET（路径 + 排序后的查询参数 + 目标类型）只发出一次请求，
+ * 其余调用等待并共享同一个解码结果或异常。请求完成后立即移除，不做缓存。
+ *
+ * 同步和异步调用共用同一张表，因此同步调用也可以合并到正在进行的异步请求上，反之亦然。
+ */
+final class SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * 请求键：路径 + 按名称排序、去掉 null 值的查询参数 + 目标类型
+     */
+    static String key(String path, Map<String, Object> params, Type responseType) {
+        StringBuilder sb = new StringBuilder(path.length() + 64).append(path);
+        if (params != null && !params.isEmpty()) {
+            char sep = '?';
+            for (Map.Entry<String, Object> e : new TreeMap<>(params).entrySet()) {
+                if (e.getValue() != null) {
+                    sb.append(sep).append(e.getKey()).append('=').append(e.getValue());
+                    sep = '&';
+                }
+            }
+        }
+        return sb.append('#').append(responseType.getTypeName()).toString();
+    }
+
+    /**
+     * 同步执行：已有相同请求在进行时等待其结果，否则由当前线程执行 loader
+     */
+    @SuppressWarnings("unchecked")
+    <T> T execute(String key, Supplier<T> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                throw unwrap(e);
+            }
+        }
+        try {
+            T result = loader.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 异步执行：已有相同请求在进行时返回其结果的副本，否则调用 loader 发起请求
+     *
+     * 每个调用方拿到的都是独立的 future，取消或手动完成不会影响其他调用方。
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> executeAsync(String key, Supplier<CompletableFuture<T>> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return (CompletableFuture<T>) existing.copy();
+        }
+        CompletableFuture<T> source;
+        try {
+            source = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+        source.whenComplete((result, error) -> {
+            inFlight.remove(key, mine);
+            if (error != null) {
+                mine.completeExceptionally(error);
+            } else {
+                mine.complete(result);
+            }
+        });
+        return (CompletableFuture<T>) mine.copy();
+    }
+
+    /**
+     * 累计被合并（未实际发出）的请求数
+     */
+    long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    private static RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return e;
+    }
+}
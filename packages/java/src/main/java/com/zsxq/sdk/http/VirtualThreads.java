@@ -0,0 +1,40 @@
+package com.zsxq.sdk.http;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 虚拟线程支持（Java 11 基础实现）
+ *
+ * SDK 以多版本 JAR 发布：在 Java 21+ 上加载 META-INF/versions/21 中的同名实现，
+ * 这里的基础实现只在 Java 21 以下使用，始终报告不支持。
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * 当前运行时是否支持虚拟线程
+     */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * 线程是否为虚拟线程
+     */
+    public static boolean isVirtual(Thread thread) {
+        return false;
+    }
+
+    /**
+     * 每个任务一个虚拟线程的执行器
+     *
+     * @param namePrefix 线程名前缀
+     * @throws UnsupportedOperationException 运行时低于 Java 21
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        throw new UnsupportedOperationException("Virtual threads require Java 21+, running on "
+                + System.getProperty("java.version"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.zsxq.sdk.metrics;
+
+/**
+ * 一次请求尝试的分阶段耗时（快照）
+ */
+public final class CallTiming {
+
+    private static final Phase[] PHASES = Phase.values();
+
+    private final String method;
+    private final String path;
+    private final boolean success;
+    private final long[] nanos;
+
+    /**
+     * @param nanos 各阶段耗时，按 {@link Phase#ordinal()} 排列
+     */
+    public CallTiming(String method, String path, boolean success, long[] nanos) {
+        if (nanos.length != PHASES.length) {
+            throw new IllegalArgumentException("expected " + PHASES.length + " phases, got " + nanos.length);
+        }
+        this.method = method;
+        this.path = path;
+        this.success = success;
+        this.nanos = nanos.clone();
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * 路径模板，例如 /v2/groups/{id}/checkins
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * 本次尝试是否成功
+     */
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * 某阶段的耗时（纳秒）
+     */
+    public long getNanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    /**
+     * 各阶段耗时之和（纳秒）
+     */
+    public long getTotalNanos() {
+        long total = 0;
+        for (long n : nanos) {
+            total += n;
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("CallTiming{").append(method).append(' ').append(path);
+        for (Phase phase : PHASES) {
+            sb.append(", ").append(phase.name().toLowerCase()).append('=')
+                    .append(String.format("%.3fms", nanos[phase.ordinal()] / 1e6));
+        }
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,12 @@
+package com.zsxq.sdk.metrics;
+
+/**
+ * 分阶段计时监听器
+ *
+ * 每次请求尝试（含重试）结束后回调一次。回调在请求线程上同步执行，实现应尽量轻量。
+ */
+@FunctionalInterface
+public interface CallTimingListener {
+
+    void onCallTiming(CallTiming timing);
+}
@@ -0,0 +1,163 @@
+package com.zsxq.sdk.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单个接口（HTTP 方法 + 路径模板）的指标
+ *
+ * 每次尝试（含重试）都单独计数和计时。
+ */
+public final class EndpointMetrics {
+
+    private final String method;
+    private final String path;
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder apiErrors = new LongAdder();
+    private final LongAdder networkErrors = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final ConcurrentHashMap<Integer, LongAdder> errorCodes = new ConcurrentHashMap<>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder timedCalls = new LongAdder();
+    private final LongAdder[] phaseNanos = new LongAdder[Phase.values().length];
+
+    EndpointMetrics(String method, String path) {
+        this.method = method;
+        this.path = path;
+        for (int i = 0; i < phaseNanos.length; i++) {
+            phaseNanos[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 请求成功
+     */
+    public void recordSuccess(long nanos) {
+        successes.increment();
+        latency.record(nanos);
+    }
+
+    /**
+     * 业务错误（服务端返回 succeeded=false）
+     */
+    public void recordApiError(long nanos, int code) {
+        apiErrors.increment();
+        latency.record(nanos);
+        errorCodes.computeIfAbsent(code, c -> new LongAdder()).increment();
+    }
+
+    /**
+     * 网络错误（连接失败、超时、5xx 等）
+     */
+    public void recordNetworkError(long nanos) {
+        networkErrors.increment();
+        latency.record(nanos);
+    }
+
+    /**
+     * 发起一次重试
+     */
+    public void recordRetry() {
+        retries.increment();
+    }
+
+    /**
+     * 读取的响应体字节数
+     */
+    public void recordResponseBytes(long bytes) {
+        responseBytes.add(bytes);
+    }
+
+    /**
+     * 一次请求尝试的分阶段耗时（开启分阶段计时时）
+     */
+    public void recordPhases(CallTiming timing) {
+        timedCalls.increment();
+        for (Phase phase : Phase.values()) {
+            long nanos = timing.getNanos(phase);
+            if (nanos > 0) {
+                phaseNanos[phase.ordinal()].add(nanos);
+            }
+        }
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * 路径模板，例如 /v2/groups/{id}/topics
+     */
+    public String getPath() {
+        return path;
+    }
+
+    public long getSuccessCount() {
+        return successes.sum();
+    }
+
+    public long getApiErrorCount() {
+        return apiErrors.sum();
+    }
+
+    public long getNetworkErrorCount() {
+        return networkErrors.sum();
+    }
+
+    /**
+     * 请求尝试总数（成功 + 业务错误 + 网络错误）
+     */
+    public long getRequestCount() {
+        return successes.sum() + apiErrors.sum() + networkErrors.sum();
+    }
+
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    /**
+     * 各业务错误码的次数（按错误码排序）
+     */
+    public Map<Integer, Long> getErrorCodes() {
+        Map<Integer, Long> codes = new TreeMap<>();
+        errorCodes.forEach((code, count) -> codes.put(code, count.sum()));
+        return Collections.unmodifiableMap(codes);
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * 记录了分阶段耗时的尝试数
+     */
+    public long getTimedCount() {
+        return timedCalls.sum();
+    }
+
+    /**
+     * 某阶段的累计耗时（纳秒）
+     */
+    public long getPhaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()].sum();
+    }
+
+    /**
+     * 某阶段占全部阶段累计耗时的比例，没有数据时为 0
+     */
+    public double getPhaseShare(Phase phase) {
+        long total = 0;
+        for (LongAdder adder : phaseNanos) {
+            total += adder.sum();
+        }
+        return total == 0 ? 0 : (double) getPhaseNanos(phase) / total;
+    }
+}
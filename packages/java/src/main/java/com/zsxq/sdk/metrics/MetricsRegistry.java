@@ -0,0 +1,46 @@
+package com.zsxq.sdk.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 请求指标注册表
+ *
+ * 按 HTTP 方法 + 路径模板（数字段替换为 {id}）聚合，所有计数均为 LongAdder，记录路径上无锁。
+ * 同一个注册表可以被多个客户端共享。
+ */
+public final class MetricsRegistry {
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, EndpointMetrics>> endpoints =
+            new ConcurrentHashMap<>();
+
+    /**
+     * 获取（必要时创建）接口的指标
+     *
+     * @param method HTTP 方法
+     * @param pathTemplate 路径模板，例如 /v2/groups/{id}/topics
+     */
+    public EndpointMetrics endpoint(String method, String pathTemplate) {
+        ConcurrentHashMap<String, EndpointMetrics> byPath = endpoints.get(method);
+        if (byPath == null) {
+            byPath = endpoints.computeIfAbsent(method, m -> new ConcurrentHashMap<>());
+        }
+        EndpointMetrics metrics = byPath.get(pathTemplate);
+        if (metrics == null) {
+            metrics = byPath.computeIfAbsent(pathTemplate, p -> new EndpointMetrics(method, p));
+        }
+        return metrics;
+    }
+
+    /**
+     * 所有接口的指标（按路径、方法排序）
+     */
+    public List<EndpointMetrics> endpoints() {
+        List<EndpointMetrics> all = new ArrayList<>();
+        endpoints.values().forEach(byPath -> all.addAll(byPath.values()));
+        all.sort(Comparator.comparing(EndpointMetrics::getPath).thenComparing(EndpointMetrics::getMethod));
+        return all;
+    }
+}
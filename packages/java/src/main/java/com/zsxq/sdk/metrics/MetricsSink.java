@@ -0,0 +1,18 @@
+package com.zsxq.sdk.metrics;
+
+import java.io.IOException;
+
+/**
+ * 指标输出目标，例如 HTTP 抓取端点、文件或推送网关
+ */
+@FunctionalInterface
+public interface MetricsSink {
+
+    /**
+     * 输出一份完整的指标文本
+     *
+     * @param contentType 文本格式，Prometheus 为 {@link PrometheusExporter#CONTENT_TYPE}
+     * @param body 指标文本
+     */
+    void write(String contentType, String body) throws IOException;
+}
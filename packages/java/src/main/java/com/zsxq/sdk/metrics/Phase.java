@@ -0,0 +1,48 @@
+package com.zsxq.sdk.metrics;
+
+/**
+ * 一次请求尝试的耗时阶段
+ */
+public enum Phase {
+
+    /**
+     * 构建请求头和计算签名（只计入每次调用的首次尝试）
+     */
+    PREPARE,
+
+    /**
+     * 从尝试开始到第一个网络事件（代理选择、DNS、建立连接或从连接池取得连接）：限流等待、
+     * 多租户公平调度、OkHttp 调度器排队和拦截器
+     */
+    QUEUE,
+
+    /**
+     * DNS 解析（复用连接时为 0）
+     */
+    DNS,
+
+    /**
+     * 建立 TCP 连接，不含 TLS 握手（复用连接时为 0）
+     */
+    CONNECT,
+
+    /**
+     * TLS 握手（复用连接或明文连接时为 0）
+     */
+    TLS,
+
+    /**
+     * 发送请求到读完响应头：请求上传、服务端处理和首字节等待
+     */
+    SERVER,
+
+    /**
+     * 解码过程中阻塞在读取响应体上的时间
+     */
+    BODY,
+
+    /**
+     * 解析信封和反序列化 resp_data（流式单次解析，两者不再分开），不含读取响应体的时间
+     */
+    DECODE
+}
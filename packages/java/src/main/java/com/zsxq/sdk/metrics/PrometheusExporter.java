@@ -0,0 +1,160 @@
+package com.zsxq.sdk.metrics;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 以 Prometheus 文本格式（0.0.4）输出指标
+ *
+ * <pre>
+ * PrometheusExporter exporter = new PrometheusExporter(client.metrics());
+ * String text = exporter.scrape();
+ * exporter.export((contentType, body) -&gt; Files.writeString(path, body));
+ * </pre>
+ */
+public final class PrometheusExporter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final String PREFIX = "zsxq_client_";
+    private static final String[] LE = new String[LatencyHistogram.BOUNDS_MILLIS.length];
+    private static final String[] PHASE_LABELS = new String[Phase.values().length];
+
+    static {
+        for (int i = 0; i < LE.length; i++) {
+            LE[i] = Double.toString(LatencyHistogram.BOUNDS_MILLIS[i] / 1000.0);
+        }
+        for (Phase phase : Phase.values()) {
+            PHASE_LABELS[phase.ordinal()] = phase.name().toLowerCase();
+        }
+    }
+
+    private final MetricsRegistry registry;
+
+    public PrometheusExporter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 生成当前指标文本
+     */
+    public String scrape() {
+        StringBuilder sb = new StringBuilder(4096);
+        try {
+            writeTo(sb);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 把当前指标文本写入 sink
+     */
+    public void export(MetricsSink sink) throws IOException {
+        sink.write(CONTENT_TYPE, scrape());
+    }
+
+    /**
+     * 把当前指标文本追加到 out
+     */
+    public void writeTo(Appendable out) throws IOException {
+        List<EndpointMetrics> endpoints = registry.endpoints();
+
+        header(out, "requests_total", "counter", "Request attempts by outcome, including retries.");
+        for (EndpointMetrics m : endpoints) {
+            sample(out, "requests_total", m, "outcome", "success", m.getSuccessCount());
+            sample(out, "requests_total", m, "outcome", "api_error", m.getApiErrorCount());
+            sample(out, "requests_total", m, "outcome", "network_error", m.getNetworkErrorCount());
+        }
+
+        header(out, "request_duration_seconds", "histogram", "Request attempt latency.");
+        for (EndpointMetrics m : endpoints) {
+            long[] counts = m.getLatency().getBucketCounts();
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                sample(out, "request_duration_seconds_bucket", m, "le", i < LE.length ? LE[i] : "+Inf",
+                        cumulative);
+            }
+            name(out, "request_duration_seconds_sum", m, null, null);
+            out.append(' ').append(Double.toString(m.getLatency().getSumNanos() / 1e9)).append('\n');
+            sample(out, "request_duration_seconds_count", m, null, null, cumulative);
+        }
+
+        header(out, "retries_total", "counter", "Retries scheduled after a failed attempt.");
+        for (EndpointMetrics m : endpoints) {
+            sample(out, "retries_total", m, null, null, m.getRetryCount());
+        }
+
+        header(out, "api_errors_total", "counter", "API error responses by error code.");
+        for (EndpointMetrics m : endpoints) {
+            for (Map.Entry<Integer, Long> e : m.getErrorCodes().entrySet()) {
+                sample(out, "api_errors_total", m, "code", String.valueOf(e.getKey()), e.getValue());
+            }
+        }
+
+        header(out, "response_bytes_total", "counter", "Response body bytes read.");
+        for (EndpointMetrics m : endpoints) {
+            sample(out, "response_bytes_total", m, null, null, m.getResponseBytes());
+        }
+
+        header(out, "phase_seconds_total", "counter", "Time spent per request phase, for timed attempts.");
+        for (EndpointMetrics m : endpoints) {
+            if (m.getTimedCount() == 0) {
+                continue;
+            }
+            for (Phase phase : Phase.values()) {
+                name(out, "phase_seconds_total", m, "phase", PHASE_LABELS[phase.ordinal()]);
+                out.append(' ').append(Double.toString(m.getPhaseNanos(phase) / 1e9)).append('\n');
+            }
+        }
+
+        header(out, "timed_requests_total", "counter", "Request attempts with a phase breakdown.");
+        for (EndpointMetrics m : endpoints) {
+            if (m.getTimedCount() > 0) {
+                sample(out, "timed_requests_total", m, null, null, m.getTimedCount());
+            }
+        }
+    }
+
+    private static void header(Appendable out, String name, String type, String help) throws IOException {
+        out.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(Appendable out, String name, EndpointMetrics m, String label, String value,
+                               long count) throws IOException {
+        name(out, name, m, label, value);
+        out.append(' ').append(Long.toString(count)).append('\n');
+    }
+
+    private static void name(Appendable out, String name, EndpointMetrics m, String label, String value)
+            throws IOException {
+        out.append(PREFIX).append(name).append("{method=\"");
+        escape(out, m.getMethod());
+        out.append("\",path=\"");
+        escape(out, m.getPath());
+        out.append('"');
+        if (label != null) {
+            out.append(',').append(label).append("=\"");
+            escape(out, value);
+            out.append('"');
+        }
+        out.append('}');
+    }
+
+    private static void escape(Appendable out, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '"') {
+                out.append('\\').append(c);
+            } else if (c == '\n') {
+                out.append("\\n");
+            } else {
+                out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.zsxq.sdk.metrics;
+
+import java.util.List;
+
+/**
+ * 出错时导出最近请求记录的回调
+ *
+ * 回调在请求线程上同步执行，耗时操作（写文件、上报）应转交其他线程。
+ */
+@FunctionalInterface
+public interface RequestDumpListener {
+
+    /**
+     * @param trigger 触发导出的失败请求
+     * @param records 记录器中的全部记录（按序号从旧到新，包含 trigger）
+     */
+    void onDump(RequestRecord trigger, List<RequestRecord> records);
+}
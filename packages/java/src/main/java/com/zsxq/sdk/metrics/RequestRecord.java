@@ -0,0 +1,123 @@
+package com.zsxq.sdk.metrics;
+
+/**
+ * 一次请求尝试的摘要（由 {@link RequestRecorder} 保存）
+ */
+public final class RequestRecord {
+
+    private long sequence;
+    private final long timestamp;
+    private final String requestId;
+    private final String method;
+    private final String path;
+    private final int attempt;
+    private final int status;
+    private final long latencyNanos;
+    private final String outcome;
+    private final int errorCode;
+    private final String error;
+    private final String requestBody;
+    private final String responseBody;
+
+    /**
+     * @param timestamp 尝试结束时间（毫秒时间戳）
+     * @param requestId x-request-id 请求头
+     * @param path 实际请求路径（不含查询参数）
+     * @param attempt 0 为首次尝试，重试依次加 1
+     * @param status HTTP 状态码，未收到响应时为 0
+     * @param outcome success、api_error 或 network_error
+     * @param errorCode 业务错误码，没有时为 0
+     * @param error 错误信息，成功时为 null
+     * @param requestBody 截断后的请求体，未记录时为 null
+     * @param responseBody 截断后的响应体，未记录时为 null
+     */
+    public RequestRecord(long timestamp, String requestId, String method, String path, int attempt, int status,
+                         long latencyNanos, String outcome, int errorCode, String error, String requestBody,
+                         String responseBody) {
+        this.timestamp = timestamp;
+        this.requestId = requestId;
+        this.method = method;
+        this.path = path;
+        this.attempt = attempt;
+        this.status = status;
+        this.latencyNanos = latencyNanos;
+        this.outcome = outcome;
+        this.errorCode = errorCode;
+        this.error = error;
+        this.requestBody = requestBody;
+        this.responseBody = responseBody;
+    }
+
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * 在记录器中的序号（从 0 开始递增）
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getAttempt() {
+        return attempt;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    public String getOutcome() {
+        return outcome;
+    }
+
+    public int getErrorCode() {
+        return errorCode;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public String getRequestBody() {
+        return requestBody;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    /**
+     * 是否失败（业务错误或网络错误）
+     */
+    public boolean isError() {
+        return !"success".equals(outcome);
+    }
+
+    @Override
+    public String toString() {
+        return "RequestRecord{#" + sequence + " " + method + " " + path + " id=" + requestId + " attempt=" + attempt
+                + " status=" + status + " " + String.format("%.1fms", latencyNanos / 1e6) + " " + outcome
+                + (errorCode != 0 ? " code=" + errorCode : "") + (error != null ? " error=" + error : "") + "}";
+    }
+}
@@ -0,0 +1,170 @@
+package com.zsxq.sdk.metrics;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 最近请求的飞行记录器：固定大小的无锁环形缓冲，保存每次请求尝试的摘要
+ *
+ * 写入只有一次 getAndIncrement 和一次数组写，不加锁，可以常驻开启；缓冲写满后覆盖最旧的记录。
+ * 支持随时导出（{@link #snapshot()}、{@link #dump(Appendable)}），以及请求失败时通过
+ * {@link #onError} 注册的回调自动导出（限制最小间隔，避免故障期间反复导出）。
+ *
+ * <pre>
+ * RequestRecorder recorder = new RequestRecorder(4096, 512);
+ * recorder.onError((trigger, records) -&gt; log.warn("{}", recorder.dump()), 60_000);
+ * </pre>
+ */
+public final class RequestRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestRecorder.class);
+
+    private static final Gson GSON = new GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .create();
+
+    private final AtomicReferenceArray<RequestRecord> slots;
+    private final int mask;
+    private final int maxBodyBytes;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong lastDump = new AtomicLong(Long.MIN_VALUE);
+
+    private volatile RequestDumpListener dumpListener;
+    private volatile long dumpIntervalNanos;
+
+    /**
+     * 保存最近 2048 次请求尝试，不记录请求体和响应体
+     */
+    public RequestRecorder() {
+        this(2048, 0);
+    }
+
+    /**
+     * @param capacity 保存的记录数，向上取整为 2 的幂
+     * @param maxBodyBytes 记录请求体和响应体的最大字节数，为 0 时不记录
+     */
+    public RequestRecorder(int capacity, int maxBodyBytes) {
+        if (capacity <= 0 || capacity > (1 << 24)) {
+            throw new IllegalArgumentException("capacity must be in (0, 2^24]: " + capacity);
+        }
+        if (maxBodyBytes < 0) {
+            throw new IllegalArgumentException("maxBodyBytes must not be negative: " + maxBodyBytes);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    /**
+     * 请求失败时导出记录
+     *
+     * @param listener 导出回调
+     * @param minIntervalMillis 两次导出之间的最小间隔（毫秒），间隔内的失败不再触发
+     */
+    public RequestRecorder onError(RequestDumpListener listener, long minIntervalMillis) {
+        this.dumpIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, minIntervalMillis));
+        this.dumpListener = listener;
+        return this;
+    }
+
+    /**
+     * 写入一条记录；失败的记录按需触发导出
+     */
+    public void record(RequestRecord record) {
+        long seq = sequence.getAndIncrement();
+        record.setSequence(seq);
+        slots.set((int) (seq & mask), record);
+        RequestDumpListener listener = dumpListener;
+        if (listener != null && record.isError() && tryStartDump()) {
+            try {
+                listener.onDump(record, snapshot());
+            } catch (RuntimeException e) {
+                log.warn("Request dump listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * 当前保存的记录（按序号从旧到新）
+     *
+     * 与写入并发时，正在被覆盖的槽位可能读到新记录或旧记录，导出结果仍按序号排序且不重复
+     */
+    public List<RequestRecord> snapshot() {
+        long end = sequence.get();
+        long start = Math.max(0, end - slots.length());
+        List<RequestRecord> records = new ArrayList<>((int) (end - start));
+        for (int i = 0; i < slots.length(); i++) {
+            RequestRecord record = slots.get(i);
+            if (record != null && record.getSequence() >= start) {
+                records.add(record);
+            }
+        }
+        records.sort(Comparator.comparingLong(RequestRecord::getSequence));
+        return records;
+    }
+
+    /**
+     * 以 JSON Lines 格式（每行一条记录，从旧到新）写出当前记录
+     */
+    public void dump(Appendable out) throws IOException {
+        for (RequestRecord record : snapshot()) {
+            GSON.toJson(record, out);
+            out.append('\n');
+        }
+    }
+
+    /**
+     * 以 JSON Lines 格式返回当前记录
+     */
+    public String dump() {
+        StringBuilder sb = new StringBuilder();
+        try {
+            dump(sb);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 缓冲容量（2 的幂）
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * 记录请求体和响应体的最大字节数，0 表示不记录
+     */
+    public int getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    /**
+     * 累计写入的记录数（含已被覆盖的）
+     */
+    public long getRecordedCount() {
+        return sequence.get();
+    }
+
+    private boolean tryStartDump() {
+        long now = System.nanoTime();
+        long last = lastDump.get();
+        if (last != Long.MIN_VALUE && now - last < dumpIntervalNanos) {
+            return false;
+        }
+        return lastDump.compareAndSet(last, now);
+    }
+}
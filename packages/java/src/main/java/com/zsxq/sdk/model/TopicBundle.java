@@ -0,0 +1,52 @@
+package com.zsxq.sdk.model;
+
+import java.util.List;
+
+/**
+ * 渲染一个话题所需的全部数据：话题详情、评论、打赏和相关推荐
+ */
+public class TopicBundle {
+    private final Topic topic;
+    private final List<Comment> comments;
+    private final List<Reward> rewards;
+    private final List<Topic> recommendations;
+
+    public TopicBundle(Topic topic, List<Comment> comments, List<Reward> rewards, List<Topic> recommendations) {
+        this.topic = topic;
+        this.comments = comments;
+        this.rewards = rewards;
+        this.recommendations = recommendations;
+    }
+
+    public Topic getTopic() {
+        return topic;
+    }
+
+    /**
+     * 评论列表，话题没有评论时为空列表
+     */
+    public List<Comment> getComments() {
+        return comments;
+    }
+
+    /**
+     * 打赏列表，话题没有打赏时为空列表
+     */
+    public List<Reward> getRewards() {
+        return rewards;
+    }
+
+    public List<Topic> getRecommendations() {
+        return recommendations;
+    }
+
+    @Override
+    public String toString() {
+        return "TopicBundle{" +
+                "topic=" + (topic != null ? topic.getTopicId() : null) +
+                ", comments=" + comments.size() +
+                ", rewards=" + rewards.size() +
+                ", recommendations=" + recommendations.size() +
+                '}';
+    }
+}
@@ -0,0 +1,273 @@
+package com.zsxq.sdk.request;
+
+import com.zsxq.sdk.http.HttpClient;
+import com.zsxq.sdk.model.Checkin;
+import com.zsxq.sdk.model.CheckinStatistics;
+import com.zsxq.sdk.model.DailyStatistics;
+import com.zsxq.sdk.model.MyCheckinStatistics;
+import com.zsxq.sdk.model.RankingItem;
+import com.zsxq.sdk.model.Topic;
+import com.zsxq.sdk.model.User;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 打卡请求模块（异步）
+ */
+public class AsyncCheckinsRequest extends BaseRequest {
+
+    public AsyncCheckinsRequest(HttpClient httpClient) {
+        super(httpClient);
+    }
+
+    /**
+     * 获取打卡项目列表
+     */
+    public CompletableFuture<List<Checkin>> list(long groupId) {
+        return list(String.valueOf(groupId), null);
+    }
+
+    /**
+     * 获取打卡项目列表
+     */
+    public CompletableFuture<List<Checkin>> list(String groupId) {
+        return list(groupId, null);
+    }
+
+    /**
+     * 获取打卡项目列表（带参数）
+     */
+    public CompletableFuture<List<Checkin>> list(long groupId, CheckinsRequest.ListCheckinsOptions options) {
+        return list(String.valueOf(groupId), options);
+    }
+
+    /**
+     * 获取打卡项目列表（带参数）
+     */
+    public CompletableFuture<List<Checkin>> list(String groupId, CheckinsRequest.ListCheckinsOptions options) {
+        return CheckinsRequest.listEndpoint(groupId, options).callAsync(httpClient);
+    }
+
+    /**
+     * 获取打卡项目详情
+     */
+    public CompletableFuture<Checkin> get(long groupId, long checkinId) {
+        return get(String.valueOf(groupId), String.valueOf(checkinId));
+    }
+
+    /**
+     * 获取打卡项目详情
+     */
+    public CompletableFuture<Checkin> get(String groupId, String checkinId) {
+        return CheckinsRequest.getEndpoint(groupId, checkinId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取打卡统计
+     */
+    public CompletableFuture<CheckinStatistics> getStatistics(long groupId, long checkinId) {
+        return getStatistics(String.valueOf(groupId), String.valueOf(checkinId));
+    }
+
+    /**
+     * 获取打卡统计
+     */
+    public CompletableFuture<CheckinStatistics> getStatistics(String groupId, String checkinId) {
+        return CheckinsRequest.statisticsEndpoint(groupId, checkinId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取打卡排行榜
+     */
+    public CompletableFuture<List<RankingItem>> getRankingList(long groupId, long checkinId) {
+        return getRankingList(String.valueOf(groupId), String.valueOf(checkinId), null);
+    }
+
+    /**
+     * 获取打卡排行榜
+     */
+    public CompletableFuture<List<RankingItem>> getRankingList(String groupId, String checkinId) {
+        return getRankingList(groupId, checkinId, null);
+    }
+
+    /**
+     * 获取打卡排行榜（带参数）
+     */
+    public CompletableFuture<List<RankingItem>> getRankingList(long groupId, long checkinId,
+                                                               CheckinsRequest.RankingListOptions options) {
+        return getRankingList(String.valueOf(groupId), String.valueOf(checkinId), options);
+    }
+
+    /**
+     * 获取打卡排行榜（带参数）
+     */
+    public CompletableFuture<List<RankingItem>> getRankingList(String groupId, String checkinId,
+                                                               CheckinsRequest.RankingListOptions options) {
+        return CheckinsRequest.rankingListEndpoint(groupId, checkinId, options).callAsync(httpClient);
+    }
+
+    /**
+     * 获取打卡话题列表
+     */
+    public CompletableFuture<List<Topic>> getTopics(long groupId, long checkinId) {
+        return getTopics(String.valueOf(groupId), String.valueOf(checkinId), null);
+    }
+
+    /**
+     * 获取打卡话题列表
+     */
+    public CompletableFuture<List<Topic>> getTopics(String groupId, String checkinId) {
+        return getTopics(groupId, checkinId, null);
+    }
+
+    /**
+     * 获取打卡话题列表（带参数）
+     */
+    public CompletableFuture<List<Topic>> getTopics(long groupId, long checkinId,
+                                                    TopicsRequest.ListTopicsOptions options) {
+        return getTopics(String.valueOf(groupId), String.valueOf(checkinId), options);
+    }
+
+    /**
+     * 获取打卡话题列表（带参数）
+     */
+    public CompletableFuture<List<Topic>> getTopics(String groupId, String checkinId,
+                                                    TopicsRequest.ListTopicsOptions options) {
+        return CheckinsRequest.topicsEndpoint(groupId, checkinId, options).callAsync(httpClient);
+    }
+
+    /**
+     * 获取打卡每日统计
+     */
+    public CompletableFuture<List<DailyStatistics>> getDailyStatistics(long groupId, long checkinId) {
+        return getDailyStatistics(String.valueOf(groupId), String.valueOf(checkinId));
+    }
+
+    /**
+     * 获取打卡每日统计
+     */
+    public CompletableFuture<List<DailyStatistics>> getDailyStatistics(String groupId, String checkinId) {
+        return CheckinsRequest.dailyStatisticsEndpoint(groupId, checkinId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取打卡参与用户列表
+     */
+    public CompletableFuture<List<User>> getJoinedUsers(long groupId, long checkinId) {
+        return getJoinedUsers(String.valueOf(groupId), String.valueOf(checkinId), null);
+    }
+
+    /**
+     * 获取打卡参与用户列表
+     */
+    public CompletableFuture<List<User>> getJoinedUsers(String groupId, String checkinId) {
+        return getJoinedUsers(groupId, checkinId, null);
+    }
+
+    /**
+     * 获取打卡参与用户列表（带参数）
+     */
+    public CompletableFuture<List<User>> getJoinedUsers(long groupId, long checkinId,
+                                                        CheckinsRequest.JoinedUsersOptions options) {
+        return getJoinedUsers(String.valueOf(groupId), String.valueOf(checkinId), options);
+    }
+
+    /**
+     * 获取打卡参与用户列表（带参数）
+     */
+    public CompletableFuture<List<User>> getJoinedUsers(String groupId, String checkinId,
+                                                        CheckinsRequest.JoinedUsersOptions options) {
+        return CheckinsRequest.joinedUsersEndpoint(groupId, checkinId, options).callAsync(httpClient);
+    }
+
+    /**
+     * 获取我的打卡记录
+     */
+    public CompletableFuture<List<Topic>> getMyCheckins(long groupId, long checkinId) {
+        return getMyCheckins(String.valueOf(groupId), String.valueOf(checkinId), null);
+    }
+
+    /**
+     * 获取我的打卡记录
+     */
+    public CompletableFuture<List<Topic>> getMyCheckins(String groupId, String checkinId) {
+        return getMyCheckins(groupId, checkinId, null);
+    }
+
+    /**
+     * 获取我的打卡记录（带参数）
+     */
+    public CompletableFuture<List<Topic>> getMyCheckins(long groupId, long checkinId,
+                                                        CheckinsRequest.MyCheckinsOptions options) {
+        return getMyCheckins(String.valueOf(groupId), String.valueOf(checkinId), options);
+    }
+
+    /**
+     * 获取我的打卡记录（带参数）
+     */
+    public CompletableFuture<List<Topic>> getMyCheckins(String groupId, String checkinId,
+                                                        CheckinsRequest.MyCheckinsOptions options) {
+        return CheckinsRequest.myCheckinsEndpoint(groupId, checkinId, options).callAsync(httpClient);
+    }
+
+    /**
+     * 获取我的打卡日期列表
+     */
+    public CompletableFuture<List<String>> getMyCheckinDays(long groupId, long checkinId) {
+        return getMyCheckinDays(String.valueOf(groupId), String.valueOf(checkinId));
+    }
+
+    /**
+     * 获取我的打卡日期列表
+     */
+    public CompletableFuture<List<String>> getMyCheckinDays(String groupId, String checkinId) {
+        return CheckinsRequest.myCheckinDaysEndpoint(groupId, checkinId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取我的打卡统计
+     */
+    public CompletableFuture<MyCheckinStatistics> getMyStatistics(long groupId, long checkinId) {
+        return getMyStatistics(String.valueOf(groupId), String.valueOf(checkinId));
+    }
+
+    /**
+     * 获取我的打卡统计
+     */
+    public CompletableFuture<MyCheckinStatistics> getMyStatistics(String groupId, String checkinId) {
+        return CheckinsRequest.myStatisticsEndpoint(groupId, checkinId).callAsync(httpClient);
+    }
+
+    /**
+     * 创建打卡项目
+     */
+    public CompletableFuture<Checkin> create(long groupId, CheckinsRequest.CreateCheckinParams params) {
+        return create(String.valueOf(groupId), params);
+    }
+
+    /**
+     * 创建打卡项目（训练营）
+     */
+    public CompletableFuture<Checkin> create(String groupId, CheckinsRequest.CreateCheckinParams params) {
+        return CheckinsRequest.createEndpoint(groupId, params).callAsync(httpClient)
+                .whenComplete((r, e) -> CheckinsRequest.invalidateListings(httpClient, groupId));
+    }
+
+    /**
+     * 更新打卡项目
+     */
+    public CompletableFuture<Checkin> update(long groupId, long checkinId,
+                                             CheckinsRequest.UpdateCheckinParams params) {
+        return update(String.valueOf(groupId), String.valueOf(checkinId), params);
+    }
+
+    /**
+     * 更新打卡项目
+     */
+    public CompletableFuture<Checkin> update(String groupId, String checkinId,
+                                             CheckinsRequest.UpdateCheckinParams params) {
+        return CheckinsRequest.updateEndpoint(groupId, checkinId, params).callAsync(httpClient)
+                .whenComplete((r, e) -> CheckinsRequest.invalidateListings(httpClient, groupId));
+    }
+}
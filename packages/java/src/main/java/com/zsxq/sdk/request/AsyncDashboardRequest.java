@@ -0,0 +1,98 @@
+package com.zsxq.sdk.request;
+
+import com.zsxq.sdk.http.HttpClient;
+import com.zsxq.sdk.model.InvoiceStats;
+import com.zsxq.sdk.model.RankingItem;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Dashboard 请求模块（异步）
+ */
+public class AsyncDashboardRequest extends BaseRequest {
+
+    public AsyncDashboardRequest(HttpClient httpClient) {
+        super(httpClient);
+    }
+
+    /**
+     * 获取星球概览
+     */
+    public CompletableFuture<Map<String, Object>> getOverview(long groupId) {
+        return getOverview(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取星球概览
+     */
+    public CompletableFuture<Map<String, Object>> getOverview(String groupId) {
+        return DashboardRequest.overviewEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取收入概览
+     */
+    public CompletableFuture<Map<String, Object>> getIncomes(long groupId) {
+        return getIncomes(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取收入概览
+     */
+    public CompletableFuture<Map<String, Object>> getIncomes(String groupId) {
+        return DashboardRequest.incomesEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取积分排行
+     */
+    public CompletableFuture<List<RankingItem>> getScoreboardRanking(long groupId) {
+        return getScoreboardRanking(String.valueOf(groupId), null);
+    }
+
+    /**
+     * 获取积分排行
+     */
+    public CompletableFuture<List<RankingItem>> getScoreboardRanking(String groupId) {
+        return getScoreboardRanking(groupId, null);
+    }
+
+    /**
+     * 获取积分排行（带参数）
+     */
+    public CompletableFuture<List<RankingItem>> getScoreboardRanking(long groupId,
+                                                                     DashboardRequest.RankingListOptions options) {
+        return getScoreboardRanking(String.valueOf(groupId), options);
+    }
+
+    /**
+     * 获取积分排行（带参数）
+     */
+    public CompletableFuture<List<RankingItem>> getScoreboardRanking(String groupId,
+                                                                     DashboardRequest.RankingListOptions options) {
+        return DashboardRequest.scoreboardRankingEndpoint(groupId, options).callAsync(httpClient);
+    }
+
+    /**
+     * 获取星球权限配置
+     */
+    public CompletableFuture<Map<String, Object>> getPrivileges(long groupId) {
+        return getPrivileges(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取星球权限配置
+     */
+    public CompletableFuture<Map<String, Object>> getPrivileges(String groupId) {
+        return DashboardRequest.privilegesEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取发票统计
+     */
+    public CompletableFuture<InvoiceStats> getInvoiceStats() {
+        return DashboardRequest.invoiceStatsEndpoint().callAsync(httpClient);
+    }
+}
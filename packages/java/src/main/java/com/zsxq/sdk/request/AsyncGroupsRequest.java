@@ -0,0 +1,286 @@
+package com.zsxq.sdk.request;
+
+import com.zsxq.sdk.http.HttpClient;
+import com.zsxq.sdk.model.ActivitySummary;
+import com.zsxq.sdk.model.Column;
+import com.zsxq.sdk.model.CustomTag;
+import com.zsxq.sdk.model.DistributionInfo;
+import com.zsxq.sdk.model.Group;
+import com.zsxq.sdk.model.GroupWarning;
+import com.zsxq.sdk.model.Hashtag;
+import com.zsxq.sdk.model.Menu;
+import com.zsxq.sdk.model.RenewalInfo;
+import com.zsxq.sdk.model.RoleMembers;
+import com.zsxq.sdk.model.ScheduledJob;
+import com.zsxq.sdk.model.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 星球请求模块（异步）
+ */
+public class AsyncGroupsRequest extends BaseRequest {
+
+    /** 本实例上所有快照共享的并发计数 */
+    final GroupSnapshots snapshots;
+
+    public AsyncGroupsRequest(HttpClient httpClient) {
+        super(httpClient);
+        this.snapshots = new GroupSnapshots(this, httpClient);
+    }
+
+    /**
+     * 获取我的星球列表
+     */
+    public CompletableFuture<List<Group>> list() {
+        return GroupsRequest.listEndpoint().callAsync(httpClient);
+    }
+
+    /**
+     * 获取星球详情
+     */
+    public CompletableFuture<Group> get(long groupId) {
+        return get(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取星球详情
+     */
+    public CompletableFuture<Group> get(String groupId) {
+        return GroupsRequest.getEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 按 ID 批量获取星球：重复的 ID 只请求一次，并发数受 options 限制，每个 ID 单独成功或失败
+     *
+     * @param options 为 null 时使用默认值（并发 8）
+     */
+    public CompletableFuture<BulkResult<Group>> getAll(Collection<Long> ids, BulkOptions options) {
+        return BulkFetch.run(ids, this::get, options, null);
+    }
+
+    /**
+     * 获取星球统计
+     */
+    public CompletableFuture<Map<String, Object>> getStatistics(long groupId) {
+        return getStatistics(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取星球统计
+     */
+    public CompletableFuture<Map<String, Object>> getStatistics(String groupId) {
+        return GroupsRequest.statisticsEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取成员信息
+     */
+    public CompletableFuture<User> getMember(long groupId, long memberId) {
+        return getMember(String.valueOf(groupId), String.valueOf(memberId));
+    }
+
+    /**
+     * 获取成员信息
+     */
+    public CompletableFuture<User> getMember(String groupId, String memberId) {
+        return GroupsRequest.memberEndpoint(groupId, memberId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取星球标签
+     */
+    public CompletableFuture<List<Hashtag>> getHashtags(long groupId) {
+        return getHashtags(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取星球标签
+     */
+    public CompletableFuture<List<Hashtag>> getHashtags(String groupId) {
+        return GroupsRequest.hashtagsEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取未读话题数量
+     */
+    public CompletableFuture<Map<String, Integer>> getUnreadCount() {
+        return GroupsRequest.unreadCountEndpoint().callAsync(httpClient);
+    }
+
+    /**
+     * 获取星球菜单配置
+     */
+    public CompletableFuture<List<Menu>> getMenus(long groupId) {
+        return getMenus(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取星球菜单配置
+     */
+    public CompletableFuture<List<Menu>> getMenus(String groupId) {
+        return GroupsRequest.menusEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取星球角色成员（星主、合伙人、管理员）
+     */
+    public CompletableFuture<RoleMembers> getRoleMembers(long groupId) {
+        return getRoleMembers(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取星球角色成员（星主、合伙人、管理员）
+     */
+    public CompletableFuture<RoleMembers> getRoleMembers(String groupId) {
+        return GroupsRequest.roleMembersEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取星球专栏列表
+     */
+    public CompletableFuture<List<Column>> getColumns(long groupId) {
+        return getColumns(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取星球专栏列表
+     */
+    public CompletableFuture<List<Column>> getColumns(String groupId) {
+        return GroupsRequest.columnsEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取专栏汇总信息
+     */
+    public CompletableFuture<Map<String, Object>> getColumnsSummary(long groupId) {
+        return getColumnsSummary(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取专栏汇总信息
+     */
+    public CompletableFuture<Map<String, Object>> getColumnsSummary(String groupId) {
+        return GroupsRequest.columnsSummaryEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取成员活跃摘要
+     */
+    public CompletableFuture<ActivitySummary> getMemberActivitySummary(long groupId, long memberId) {
+        return getMemberActivitySummary(String.valueOf(groupId), String.valueOf(memberId));
+    }
+
+    /**
+     * 获取成员活跃摘要
+     */
+    public CompletableFuture<ActivitySummary> getMemberActivitySummary(String groupId, String memberId) {
+        return GroupsRequest.memberActivitySummaryEndpoint(groupId, memberId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取星球续费信息
+     */
+    public CompletableFuture<RenewalInfo> getRenewalInfo(long groupId) {
+        return getRenewalInfo(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取星球续费信息
+     */
+    public CompletableFuture<RenewalInfo> getRenewalInfo(String groupId) {
+        return GroupsRequest.renewalInfoEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 并发获取星球的多个部分，各部分共享 options 的截止时间（见 {@link GroupsRequest#snapshot(long, Set, SnapshotOptions)}）；
+     * 某个部分失败或超时不会使 future 异常结束，而是记录在 {@link GroupSnapshot#getErrors()}
+     */
+    public CompletableFuture<GroupSnapshot> snapshot(long groupId, Set<GroupSnapshot.Part> parts,
+                                                     SnapshotOptions options) {
+        return snapshots.take(groupId, parts, options);
+    }
+
+    /**
+     * 为多个星球并发取快照，所有请求共享 options 的截止时间，并与本实例上的其他快照合计不超过并发上限
+     */
+    public CompletableFuture<Map<Long, GroupSnapshot>> snapshots(Collection<Long> groupIds,
+                                                                 Set<GroupSnapshot.Part> parts,
+                                                                 SnapshotOptions options) {
+        return snapshots.takeAll(groupIds, parts, options);
+    }
+
+    /**
+     * 获取星球分销信息
+     */
+    public CompletableFuture<DistributionInfo> getDistribution(long groupId) {
+        return getDistribution(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取星球分销信息
+     */
+    public CompletableFuture<DistributionInfo> getDistribution(String groupId) {
+        return GroupsRequest.distributionEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取可升级星球列表
+     */
+    public CompletableFuture<List<Group>> getUpgradeableGroups() {
+        return GroupsRequest.upgradeableGroupsEndpoint().callAsync(httpClient);
+    }
+
+    /**
+     * 获取推荐星球列表
+     */
+    public CompletableFuture<List<Group>> getRecommendedGroups() {
+        return GroupsRequest.recommendedGroupsEndpoint().callAsync(httpClient);
+    }
+
+    /**
+     * 获取星球自定义标签
+     */
+    public CompletableFuture<List<CustomTag>> getCustomTags(long groupId) {
+        return getCustomTags(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取星球自定义标签
+     */
+    public CompletableFuture<List<CustomTag>> getCustomTags(String groupId) {
+        return GroupsRequest.customTagsEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取星球定时任务
+     */
+    public CompletableFuture<List<ScheduledJob>> getScheduledTasks(long groupId) {
+        return getScheduledTasks(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取星球定时任务
+     */
+    public CompletableFuture<List<ScheduledJob>> getScheduledTasks(String groupId) {
+        return GroupsRequest.scheduledTasksEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取星球风险预警
+     */
+    public CompletableFuture<GroupWarning> getRiskWarnings(long groupId) {
+        return getRiskWarnings(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取星球风险预警
+     */
+    public CompletableFuture<GroupWarning> getRiskWarnings(String groupId) {
+        return GroupsRequest.riskWarningsEndpoint(groupId).callAsync(httpClient);
+    }
+}
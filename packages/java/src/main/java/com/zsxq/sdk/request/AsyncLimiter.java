@@ -0,0 +1,160 @@
+package com.zsxq.sdk.request;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 异步调用的并发上限：超过上限的调用排队，前一个完成后再发出，不占用等待线程
+ *
+ * 上限随每次提交给出，与所有调用共享的在途计数比较；队列按提交顺序发出，队首未达上限时后面的调用也等待。
+ *
+ * 排队中的调用在发出前已经结束（超时或被取消）时直接跳过；已发出的调用在超时或返回的 future 被取消时
+ * 取消底层请求，名额随即归还，不必等网络请求完成。队列由最外层的 drain 循环依次发出，
+ * 调用同步完成时也不会加深调用栈。
+ */
+final class AsyncLimiter {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Task<?>> waiting = new ArrayDeque<>();
+    private int active;
+    private boolean draining;
+
+    /**
+     * 提交一个调用：在途调用少于 maxActive 时发出，超过 timeoutNanos 仍未完成时以 TimeoutException 结束
+     *
+     * 超时时先取消底层请求、归还名额，再完成返回的 future
+     */
+    <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> call, int maxActive, long timeoutNanos) {
+        Task<T> task = new Task<>(call, maxActive);
+        lock.lock();
+        try {
+            waiting.addLast(task);
+        } finally {
+            lock.unlock();
+        }
+        drain();
+        CompletableFuture.delayedExecutor(timeoutNanos, TimeUnit.NANOSECONDS).execute(task::expire);
+        return task.result;
+    }
+
+    int getActive() {
+        lock.lock();
+        try {
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 在有空闲名额时依次发出排队的调用；嵌套调用（调用在 start 内同步完成并归还名额）直接返回，
+     * 由外层循环继续
+     */
+    private void drain() {
+        lock.lock();
+        try {
+            if (draining) {
+                return;
+            }
+            draining = true;
+        } finally {
+            lock.unlock();
+        }
+        while (true) {
+            Task<?> next;
+            lock.lock();
+            try {
+                next = waiting.peekFirst();
+                while (next != null && next.result.isDone()) {
+                    // 排队期间已超时或被取消
+                    waiting.pollFirst();
+                    next = waiting.peekFirst();
+                }
+                if (next == null || active >= next.maxActive) {
+                    draining = false;
+                    return;
+                }
+                waiting.pollFirst();
+                active++;
+            } finally {
+                lock.unlock();
+            }
+            next.start();
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            active--;
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    private final class Task<T> {
+
+        private final Supplier<CompletableFuture<T>> call;
+        private final int maxActive;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private volatile CompletableFuture<T> future;
+        private volatile boolean expired;
+
+        Task(Supplier<CompletableFuture<T>> call, int maxActive) {
+            this.call = call;
+            this.maxActive = maxActive;
+        }
+
+        void expire() {
+            if (result.isDone()) {
+                return;
+            }
+            expired = true;
+            CompletableFuture<T> started = future;
+            if (started != null) {
+                started.cancel(true);
+            }
+            result.completeExceptionally(new TimeoutException());
+        }
+
+        void start() {
+            if (result.isDone()) {
+                release();
+                return;
+            }
+            CompletableFuture<T> future;
+            try {
+                future = call.get();
+            } catch (RuntimeException e) {
+                release();
+                result.completeExceptionally(e);
+                return;
+            }
+            this.future = future;
+            future.whenComplete((value, error) -> {
+                release();
+                if (expired) {
+                    result.completeExceptionally(new TimeoutException());
+                } else if (error != null) {
+                    result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                } else {
+                    result.complete(value);
+                }
+            });
+            // 调用方取消或在赋值 future 之前超时：取消底层请求，释放名额
+            result.whenComplete((value, error) -> {
+                if (!future.isDone()) {
+                    future.cancel(true);
+                }
+            });
+        }
+    }
+}
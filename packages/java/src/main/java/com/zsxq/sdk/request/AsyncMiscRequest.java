@@ -0,0 +1,91 @@
+package com.zsxq.sdk.request;
+
+import com.zsxq.sdk.http.HttpClient;
+import com.zsxq.sdk.model.Activity;
+import com.zsxq.sdk.model.GlobalConfig;
+import com.zsxq.sdk.model.PkBattle;
+import com.zsxq.sdk.model.PkGroup;
+import com.zsxq.sdk.model.UrlDetail;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 杂项请求模块（异步）
+ */
+public class AsyncMiscRequest extends BaseRequest {
+
+    public AsyncMiscRequest(HttpClient httpClient) {
+        super(httpClient);
+    }
+
+    /**
+     * 获取 PK 群组详情
+     */
+    public CompletableFuture<PkGroup> getPkGroup(long pkGroupId) {
+        return getPkGroup(String.valueOf(pkGroupId));
+    }
+
+    /**
+     * 获取 PK 群组详情
+     */
+    public CompletableFuture<PkGroup> getPkGroup(String pkGroupId) {
+        return MiscRequest.pkGroupEndpoint(pkGroupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取 PK 对战记录
+     */
+    public CompletableFuture<List<PkBattle>> getPkBattles(long pkGroupId) {
+        return getPkBattles(String.valueOf(pkGroupId), null);
+    }
+
+    /**
+     * 获取 PK 对战记录
+     */
+    public CompletableFuture<List<PkBattle>> getPkBattles(String pkGroupId) {
+        return getPkBattles(pkGroupId, null);
+    }
+
+    /**
+     * 获取 PK 对战记录（带参数）
+     */
+    public CompletableFuture<List<PkBattle>> getPkBattles(long pkGroupId, MiscRequest.PkBattlesOptions options) {
+        return getPkBattles(String.valueOf(pkGroupId), options);
+    }
+
+    /**
+     * 获取 PK 对战记录（带参数）
+     */
+    public CompletableFuture<List<PkBattle>> getPkBattles(String pkGroupId, MiscRequest.PkBattlesOptions options) {
+        return MiscRequest.pkBattlesEndpoint(pkGroupId, options).callAsync(httpClient);
+    }
+
+    /**
+     * 解析 URL 详情
+     */
+    public CompletableFuture<UrlDetail> parseUrl(String url) {
+        return MiscRequest.parseUrlEndpoint(url).callAsync(httpClient);
+    }
+
+    /**
+     * 获取全局配置
+     */
+    public CompletableFuture<GlobalConfig> getGlobalConfig() {
+        return MiscRequest.globalConfigEndpoint().callAsync(httpClient);
+    }
+
+    /**
+     * 获取动态列表
+     */
+    public CompletableFuture<List<Activity>> getActivities() {
+        return getActivities(null);
+    }
+
+    /**
+     * 获取动态列表（带参数）
+     */
+    public CompletableFuture<List<Activity>> getActivities(MiscRequest.ActivitiesOptions options) {
+        return MiscRequest.activitiesEndpoint(options).callAsync(httpClient);
+    }
+}
@@ -0,0 +1,157 @@
+package com.zsxq.sdk.request;
+
+import com.zsxq.sdk.http.HttpClient;
+import com.zsxq.sdk.model.RankingItem;
+import com.zsxq.sdk.model.RankingStatistics;
+import com.zsxq.sdk.model.ScoreboardSettings;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 排行榜请求模块（异步）
+ */
+public class AsyncRankingRequest extends BaseRequest {
+
+    public AsyncRankingRequest(HttpClient httpClient) {
+        super(httpClient);
+    }
+
+    /**
+     * 获取星球排行榜
+     */
+    public CompletableFuture<List<RankingItem>> getGroupRanking(long groupId) {
+        return getGroupRanking(String.valueOf(groupId), null);
+    }
+
+    /**
+     * 获取星球排行榜
+     */
+    public CompletableFuture<List<RankingItem>> getGroupRanking(String groupId) {
+        return getGroupRanking(groupId, null);
+    }
+
+    /**
+     * 获取星球排行榜（带参数）
+     */
+    public CompletableFuture<List<RankingItem>> getGroupRanking(long groupId, RankingRequest.RankingOptions options) {
+        return getGroupRanking(String.valueOf(groupId), options);
+    }
+
+    /**
+     * 获取星球排行榜（带参数）
+     */
+    public CompletableFuture<List<RankingItem>> getGroupRanking(String groupId, RankingRequest.RankingOptions options) {
+        return RankingRequest.groupRankingEndpoint(groupId, options).callAsync(httpClient);
+    }
+
+    /**
+     * 获取全局星球排行榜（v3接口）
+     *
+     * @param type 排行类型: group_sales_list(畅销榜), new_star_list(新星榜),
+     *             paid_group_active_list(活跃榜), group_fortune_list(财富榜)
+     * @param count 返回数量
+     */
+    public CompletableFuture<Map<String, Object>> getGlobalRanking(String type, int count) {
+        return RankingRequest.globalRankingEndpoint(type, count).callAsync(httpClient);
+    }
+
+    /**
+     * 获取星球排行统计
+     */
+    public CompletableFuture<RankingStatistics> getGroupRankingStats(long groupId) {
+        return getGroupRankingStats(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取星球排行统计
+     */
+    public CompletableFuture<RankingStatistics> getGroupRankingStats(String groupId) {
+        return RankingRequest.groupRankingStatsEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取积分排行榜
+     */
+    public CompletableFuture<List<RankingItem>> getScoreRanking(long groupId) {
+        return getScoreRanking(String.valueOf(groupId), null);
+    }
+
+    /**
+     * 获取积分排行榜
+     */
+    public CompletableFuture<List<RankingItem>> getScoreRanking(String groupId) {
+        return getScoreRanking(groupId, null);
+    }
+
+    /**
+     * 获取积分排行榜（带参数）
+     */
+    public CompletableFuture<List<RankingItem>> getScoreRanking(long groupId, RankingRequest.RankingOptions options) {
+        return getScoreRanking(String.valueOf(groupId), options);
+    }
+
+    /**
+     * 获取积分排行榜（带参数）
+     */
+    public CompletableFuture<List<RankingItem>> getScoreRanking(String groupId, RankingRequest.RankingOptions options) {
+        return RankingRequest.scoreRankingEndpoint(groupId, options).callAsync(httpClient);
+    }
+
+    /**
+     * 获取我的积分统计
+     */
+    public CompletableFuture<Map<String, Object>> getMyScoreStats(long groupId) {
+        return getMyScoreStats(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取我的积分统计
+     */
+    public CompletableFuture<Map<String, Object>> getMyScoreStats(String groupId) {
+        return RankingRequest.myScoreStatsEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取积分榜设置
+     */
+    public CompletableFuture<ScoreboardSettings> getScoreboardSettings(long groupId) {
+        return getScoreboardSettings(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取积分榜设置
+     */
+    public CompletableFuture<ScoreboardSettings> getScoreboardSettings(String groupId) {
+        return RankingRequest.scoreboardSettingsEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取邀请排行榜
+     */
+    public CompletableFuture<List<RankingItem>> getInvitationRanking(long groupId) {
+        return getInvitationRanking(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取邀请排行榜
+     */
+    public CompletableFuture<List<RankingItem>> getInvitationRanking(String groupId) {
+        return RankingRequest.invitationRankingEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取贡献排行榜
+     */
+    public CompletableFuture<List<RankingItem>> getContributionRanking(long groupId) {
+        return getContributionRanking(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取贡献排行榜
+     */
+    public CompletableFuture<List<RankingItem>> getContributionRanking(String groupId) {
+        return RankingRequest.contributionRankingEndpoint(groupId).callAsync(httpClient);
+    }
+}
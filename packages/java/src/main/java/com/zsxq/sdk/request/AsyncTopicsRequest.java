@@ -0,0 +1,290 @@
+package com.zsxq.sdk.request;
+
+import com.zsxq.sdk.http.HttpClient;
+import com.zsxq.sdk.model.Comment;
+import com.zsxq.sdk.model.Reward;
+import com.zsxq.sdk.model.Topic;
+import com.zsxq.sdk.model.TopicBundle;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 话题请求模块（异步）
+ */
+public class AsyncTopicsRequest extends BaseRequest {
+
+    public AsyncTopicsRequest(HttpClient httpClient) {
+        super(httpClient);
+    }
+
+    /**
+     * 获取话题列表
+     */
+    public CompletableFuture<List<Topic>> list(long groupId) {
+        return list(String.valueOf(groupId), null);
+    }
+
+    /**
+     * 获取话题列表
+     */
+    public CompletableFuture<List<Topic>> list(String groupId) {
+        return list(groupId, null);
+    }
+
+    /**
+     * 获取话题列表（带参数）
+     */
+    public CompletableFuture<List<Topic>> list(long groupId, TopicsRequest.ListTopicsOptions options) {
+        return list(String.valueOf(groupId), options);
+    }
+
+    /**
+     * 获取话题列表（带参数）
+     */
+    public CompletableFuture<List<Topic>> list(String groupId, TopicsRequest.ListTopicsOptions options) {
+        return TopicsRequest.listEndpoint(groupId, options).callAsync(httpClient);
+    }
+
+    /**
+     * 获取话题详情
+     */
+    public CompletableFuture<Topic> get(long topicId) {
+        return get(String.valueOf(topicId));
+    }
+
+    /**
+     * 获取话题详情
+     */
+    public CompletableFuture<Topic> get(String topicId) {
+        return TopicsRequest.getEndpoint(topicId).callAsync(httpClient);
+    }
+
+    /**
+     * 按 ID 批量获取话题：重复的 ID 只请求一次，并发数受 options 限制，每个 ID 单独成功或失败
+     *
+     * @param options 为 null 时使用默认值（并发 8）
+     */
+    public CompletableFuture<BulkResult<Topic>> getAll(Collection<Long> ids, BulkOptions options) {
+        return BulkFetch.run(ids, this::get, options, null);
+    }
+
+    /**
+     * 并发获取话题详情、评论、打赏和相关推荐，耗时取决于最慢的一个请求
+     *
+     * 四个请求同时发出（此时还不知道评论数和打赏数，不跳过请求）；任一请求失败时立即以该异常结束，
+     * 并取消其余未完成的请求。
+     * 已经持有话题对象时使用 {@link #getFull(Topic)}，可以省去详情请求并跳过没有内容的请求
+     */
+    public CompletableFuture<TopicBundle> getFull(long topicId) {
+        String id = String.valueOf(topicId);
+        return bundle(get(id), getComments(id), getRewards(id), getRecommendations(id));
+    }
+
+    /**
+     * 基于已有的话题（例如列表结果）并发获取评论、打赏和相关推荐
+     *
+     * 不再请求话题详情；commentsCount / rewardsCount 为 0 的话题不发出评论或打赏请求
+     */
+    public CompletableFuture<TopicBundle> getFull(Topic topic) {
+        String id = String.valueOf(topic.getTopicId());
+        CompletableFuture<List<Comment>> comments = isZero(topic.getCommentsCount())
+                ? CompletableFuture.completedFuture(Collections.emptyList()) : getComments(id);
+        CompletableFuture<List<Reward>> rewards = isZero(topic.getRewardsCount())
+                ? CompletableFuture.completedFuture(Collections.emptyList()) : getRewards(id);
+        return bundle(CompletableFuture.completedFuture(topic), comments, rewards, getRecommendations(id));
+    }
+
+    private static CompletableFuture<TopicBundle> bundle(CompletableFuture<Topic> topic,
+                                                         CompletableFuture<List<Comment>> comments,
+                                                         CompletableFuture<List<Reward>> rewards,
+                                                         CompletableFuture<List<Topic>> recommendations) {
+        CompletableFuture<TopicBundle> result = new CompletableFuture<>();
+        List<CompletableFuture<?>> parts = List.of(topic, comments, rewards, recommendations);
+        for (CompletableFuture<?> part : parts) {
+            part.whenComplete((value, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error);
+                }
+            });
+        }
+        // 失败或被调用方取消时取消其余请求，不再消耗限流令牌
+        result.whenComplete((value, error) -> {
+            if (error != null) {
+                parts.forEach(part -> part.cancel(true));
+            }
+        });
+        CompletableFuture.allOf(topic, comments, rewards, recommendations).thenRun(() -> {
+            result.complete(new TopicBundle(topic.join(), orEmpty(comments.join()), orEmpty(rewards.join()),
+                    orEmpty(recommendations.join())));
+        });
+        return result;
+    }
+
+    private static boolean isZero(Integer count) {
+        return count != null && count == 0;
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list != null ? list : Collections.emptyList();
+    }
+
+    /**
+     * 获取话题评论
+     */
+    public CompletableFuture<List<Comment>> getComments(long topicId) {
+        return getComments(String.valueOf(topicId), null);
+    }
+
+    /**
+     * 获取话题评论
+     */
+    public CompletableFuture<List<Comment>> getComments(long topicId, TopicsRequest.ListCommentsOptions options) {
+        return getComments(String.valueOf(topicId), options);
+    }
+
+    /**
+     * 获取话题评论
+     */
+    public CompletableFuture<List<Comment>> getComments(String topicId) {
+        return getComments(topicId, null);
+    }
+
+    /**
+     * 获取话题评论
+     */
+    public CompletableFuture<List<Comment>> getComments(String topicId, TopicsRequest.ListCommentsOptions options) {
+        return TopicsRequest.commentsEndpoint(topicId, options).callAsync(httpClient);
+    }
+
+    /**
+     * 按标签获取话题
+     */
+    public CompletableFuture<List<Topic>> listByHashtag(long hashtagId) {
+        return listByHashtag(String.valueOf(hashtagId), null);
+    }
+
+    /**
+     * 按标签获取话题
+     */
+    public CompletableFuture<List<Topic>> listByHashtag(String hashtagId) {
+        return listByHashtag(hashtagId, null);
+    }
+
+    /**
+     * 按标签获取话题（带参数）
+     */
+    public CompletableFuture<List<Topic>> listByHashtag(long hashtagId, TopicsRequest.ListTopicsOptions options) {
+        return listByHashtag(String.valueOf(hashtagId), options);
+    }
+
+    /**
+     * 按标签获取话题（带参数）
+     */
+    public CompletableFuture<List<Topic>> listByHashtag(String hashtagId, TopicsRequest.ListTopicsOptions options) {
+        return TopicsRequest.listByHashtagEndpoint(hashtagId, options).callAsync(httpClient);
+    }
+
+    /**
+     * 按专栏获取话题
+     */
+    public CompletableFuture<List<Topic>> listByColumn(long groupId, long columnId) {
+        return listByColumn(String.valueOf(groupId), String.valueOf(columnId), null);
+    }
+
+    /**
+     * 按专栏获取话题
+     */
+    public CompletableFuture<List<Topic>> listByColumn(String groupId, String columnId) {
+        return listByColumn(groupId, columnId, null);
+    }
+
+    /**
+     * 按专栏获取话题（带参数）
+     */
+    public CompletableFuture<List<Topic>> listByColumn(long groupId, long columnId,
+                                                       TopicsRequest.ListTopicsOptions options) {
+        return listByColumn(String.valueOf(groupId), String.valueOf(columnId), options);
+    }
+
+    /**
+     * 按专栏获取话题（带参数）
+     */
+    public CompletableFuture<List<Topic>> listByColumn(String groupId, String columnId,
+                                                       TopicsRequest.ListTopicsOptions options) {
+        return TopicsRequest.listByColumnEndpoint(groupId, columnId, options).callAsync(httpClient);
+    }
+
+    /**
+     * 获取话题基础信息（轻量级）
+     */
+    public CompletableFuture<Topic> getInfo(long topicId) {
+        return getInfo(String.valueOf(topicId));
+    }
+
+    /**
+     * 获取话题基础信息（轻量级）
+     */
+    public CompletableFuture<Topic> getInfo(String topicId) {
+        return TopicsRequest.infoEndpoint(topicId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取话题打赏列表
+     */
+    public CompletableFuture<List<Reward>> getRewards(long topicId) {
+        return getRewards(String.valueOf(topicId));
+    }
+
+    /**
+     * 获取话题打赏列表
+     */
+    public CompletableFuture<List<Reward>> getRewards(String topicId) {
+        return TopicsRequest.rewardsEndpoint(topicId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取相关推荐话题
+     */
+    public CompletableFuture<List<Topic>> getRecommendations(long topicId) {
+        return getRecommendations(String.valueOf(topicId));
+    }
+
+    /**
+     * 获取相关推荐话题
+     */
+    public CompletableFuture<List<Topic>> getRecommendations(String topicId) {
+        return TopicsRequest.recommendationsEndpoint(topicId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取置顶话题列表
+     */
+    public CompletableFuture<List<Topic>> listSticky(long groupId) {
+        return listSticky(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取置顶话题列表
+     */
+    public CompletableFuture<List<Topic>> listSticky(String groupId) {
+        return TopicsRequest.listStickyEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 按时间窗口并行抓取星球在 [beginTime, endTime] 内的全部话题（见 {@link TopicCrawler}）
+     *
+     * @param options 必须设置 beginTime；endTime 为空时到当前时间
+     * @param parallelism 同时抓取的窗口数
+     */
+    public CompletableFuture<List<Topic>> crawl(String groupId, TopicsRequest.ListTopicsOptions options,
+                                                int parallelism) {
+        return TopicCrawler.forPath(httpClient, "/v2/groups/" + groupId + "/topics", options)
+                .parallelism(parallelism)
+                .runAsync();
+    }
+}
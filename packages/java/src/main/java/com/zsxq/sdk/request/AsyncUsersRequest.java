@@ -0,0 +1,291 @@
+package com.zsxq.sdk.request;
+
+import com.zsxq.sdk.http.HttpClient;
+import com.zsxq.sdk.model.AchievementSummary;
+import com.zsxq.sdk.model.Contribution;
+import com.zsxq.sdk.model.ContributionStatistics;
+import com.zsxq.sdk.model.Coupon;
+import com.zsxq.sdk.model.FollowerStatistics;
+import com.zsxq.sdk.model.Group;
+import com.zsxq.sdk.model.Inviter;
+import com.zsxq.sdk.model.PreferenceCategory;
+import com.zsxq.sdk.model.Remark;
+import com.zsxq.sdk.model.Topic;
+import com.zsxq.sdk.model.UnansweredQuestionsSummary;
+import com.zsxq.sdk.model.User;
+import com.zsxq.sdk.model.WeeklyRanking;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 用户请求模块（异步）
+ */
+public class AsyncUsersRequest extends BaseRequest {
+
+    public AsyncUsersRequest(HttpClient httpClient) {
+        super(httpClient);
+    }
+
+    /**
+     * 获取当前用户信息
+     */
+    public CompletableFuture<User> self() {
+        return UsersRequest.selfEndpoint().callAsync(httpClient);
+    }
+
+    /**
+     * 获取指定用户信息
+     */
+    public CompletableFuture<User> get(long userId) {
+        return get(String.valueOf(userId));
+    }
+
+    /**
+     * 获取指定用户信息
+     */
+    public CompletableFuture<User> get(String userId) {
+        return UsersRequest.getEndpoint(userId).callAsync(httpClient);
+    }
+
+    /**
+     * 按 ID 批量获取用户：重复的 ID 只请求一次，并发数受 options 限制，每个 ID 单独成功或失败
+     *
+     * @param options 为 null 时使用默认值（并发 8）
+     */
+    public CompletableFuture<BulkResult<User>> getAll(Collection<Long> ids, BulkOptions options) {
+        return BulkFetch.run(ids, this::get, options, null);
+    }
+
+    /**
+     * 获取用户统计
+     */
+    public CompletableFuture<Map<String, Object>> getStatistics(long userId) {
+        return getStatistics(String.valueOf(userId));
+    }
+
+    /**
+     * 获取用户统计
+     */
+    public CompletableFuture<Map<String, Object>> getStatistics(String userId) {
+        return UsersRequest.statisticsEndpoint(userId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取用户创建的星球
+     */
+    public CompletableFuture<List<Group>> getCreatedGroups(long userId) {
+        return getCreatedGroups(String.valueOf(userId));
+    }
+
+    /**
+     * 获取用户创建的星球
+     */
+    public CompletableFuture<List<Group>> getCreatedGroups(String userId) {
+        return UsersRequest.createdGroupsEndpoint(userId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取用户动态足迹
+     */
+    public CompletableFuture<List<Topic>> getFootprints(long userId) {
+        return getFootprints(String.valueOf(userId));
+    }
+
+    /**
+     * 获取用户动态足迹
+     */
+    public CompletableFuture<List<Topic>> getFootprints(String userId) {
+        return UsersRequest.footprintsEndpoint(userId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取用户大尺寸头像URL
+     */
+    public CompletableFuture<String> getAvatarUrl(long userId) {
+        return getAvatarUrl(String.valueOf(userId));
+    }
+
+    /**
+     * 获取用户大尺寸头像URL
+     */
+    public CompletableFuture<String> getAvatarUrl(String userId) {
+        return UsersRequest.avatarUrlEndpoint(userId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取用户星球足迹
+     */
+    public CompletableFuture<List<Group>> getGroupFootprints(long userId) {
+        return getGroupFootprints(String.valueOf(userId));
+    }
+
+    /**
+     * 获取用户星球足迹
+     */
+    public CompletableFuture<List<Group>> getGroupFootprints(String userId) {
+        return getGroupFootprints(userId, null);
+    }
+
+    /**
+     * 获取用户星球足迹
+     *
+     * @param userId 用户ID
+     * @param groupId 可选的星球ID过滤
+     */
+    public CompletableFuture<List<Group>> getGroupFootprints(String userId, Long groupId) {
+        return UsersRequest.groupFootprintsEndpoint(userId, groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取申请中的星球列表
+     */
+    public CompletableFuture<List<Group>> getApplyingGroups() {
+        return UsersRequest.applyingGroupsEndpoint().callAsync(httpClient);
+    }
+
+    /**
+     * 获取星球邀请人信息
+     */
+    public CompletableFuture<Inviter> getInviter(long groupId) {
+        return getInviter(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取星球邀请人信息
+     */
+    public CompletableFuture<Inviter> getInviter(String groupId) {
+        return UsersRequest.inviterEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取我的优惠券列表
+     */
+    public CompletableFuture<List<Coupon>> getCoupons() {
+        return UsersRequest.couponsEndpoint().callAsync(httpClient);
+    }
+
+    /**
+     * 获取我的备注列表
+     */
+    public CompletableFuture<List<Remark>> getRemarks() {
+        return getRemarks("1970-01-01T08:00:00.001+0800");
+    }
+
+    /**
+     * 获取我的备注列表
+     *
+     * @param beginTime 开始时间 (ISO 8601格式)
+     */
+    public CompletableFuture<List<Remark>> getRemarks(String beginTime) {
+        return UsersRequest.remarksEndpoint(beginTime).callAsync(httpClient);
+    }
+
+    /**
+     * 获取推荐关注用户列表
+     */
+    public CompletableFuture<List<User>> getRecommendedFollows() {
+        return UsersRequest.recommendedFollowsEndpoint().callAsync(httpClient);
+    }
+
+    /**
+     * 获取屏蔽用户列表
+     */
+    public CompletableFuture<List<User>> getBlockedUsers() {
+        return UsersRequest.blockedUsersEndpoint().callAsync(httpClient);
+    }
+
+    /**
+     * 上报推送通道
+     *
+     * @param channel 推送通道名称（如 JPush）
+     * @param deviceToken 设备 Token
+     */
+    public CompletableFuture<Void> reportPushChannel(String channel, String deviceToken) {
+        return UsersRequest.reportPushChannelEndpoint(channel, deviceToken).callAsync(httpClient);
+    }
+
+    /**
+     * 获取推荐偏好分类
+     */
+    public CompletableFuture<List<PreferenceCategory>> getPreferenceCategories() {
+        return UsersRequest.preferenceCategoriesEndpoint().callAsync(httpClient);
+    }
+
+    /**
+     * 获取未回答问题摘要
+     */
+    public CompletableFuture<UnansweredQuestionsSummary> getUnansweredQuestionsSummary() {
+        return UsersRequest.unansweredQuestionsSummaryEndpoint().callAsync(httpClient);
+    }
+
+    /**
+     * 获取关注者统计
+     */
+    public CompletableFuture<FollowerStatistics> getFollowerStats() {
+        return UsersRequest.followerStatsEndpoint().callAsync(httpClient);
+    }
+
+    /**
+     * 获取关注者统计（指定起始时间）
+     *
+     * @param beginTime 起始时间（ISO8601格式）
+     */
+    public CompletableFuture<FollowerStatistics> getFollowerStats(String beginTime) {
+        return UsersRequest.followerStatsEndpoint(beginTime).callAsync(httpClient);
+    }
+
+    /**
+     * 获取贡献记录
+     */
+    public CompletableFuture<List<Contribution>> getContributions() {
+        return UsersRequest.contributionsEndpoint().callAsync(httpClient);
+    }
+
+    /**
+     * 获取贡献记录（指定时间范围）
+     *
+     * @param beginTime 起始时间（ISO8601格式）
+     * @param endTime 结束时间（ISO8601格式）
+     */
+    public CompletableFuture<List<Contribution>> getContributions(String beginTime, String endTime) {
+        return UsersRequest.contributionsEndpoint(beginTime, endTime).callAsync(httpClient);
+    }
+
+    /**
+     * 获取贡献统计
+     */
+    public CompletableFuture<ContributionStatistics> getContributionStats() {
+        return UsersRequest.contributionStatsEndpoint().callAsync(httpClient);
+    }
+
+    /**
+     * 获取成就摘要列表
+     */
+    public CompletableFuture<List<AchievementSummary>> getAchievementsSummary() {
+        return UsersRequest.achievementsSummaryEndpoint().callAsync(httpClient);
+    }
+
+    /**
+     * 获取星球周榜排名
+     */
+    public CompletableFuture<WeeklyRanking> getWeeklyRanking(long groupId) {
+        return getWeeklyRanking(String.valueOf(groupId));
+    }
+
+    /**
+     * 获取星球周榜排名
+     */
+    public CompletableFuture<WeeklyRanking> getWeeklyRanking(String groupId) {
+        return UsersRequest.weeklyRankingEndpoint(groupId).callAsync(httpClient);
+    }
+
+    /**
+     * 获取用户偏好配置
+     */
+    public CompletableFuture<Map<String, Object>> getPreferences() {
+        return UsersRequest.preferencesEndpoint().callAsync(httpClient);
+    }
+}
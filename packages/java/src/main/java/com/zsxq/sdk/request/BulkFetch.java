@@ -0,0 +1,171 @@
+package com.zsxq.sdk.request;
+
+import com.zsxq.sdk.exception.ZsxqException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 按 ID 批量获取：去重、限制并发、按输入顺序交付
+ *
+ * 基于异步请求，不占用额外线程。每个 ID 完成后写入对应槽位，从最早未交付的 ID 起连续完成的部分
+ * 依次交给 onItem 回调；请求最多领先最早未完成的 ID reorderWindow 个，暂存的乱序结果因此有上限。
+ * ZsxqException（含网络错误和熔断）记为该 ID 失败，其他异常视为程序错误，使整批失败。
+ */
+final class BulkFetch<T> {
+
+    private final long[] ids;
+    private final Function<Long, CompletableFuture<T>> fetch;
+    private final Consumer<BulkResult.Item<T>> onItem;
+    private final int parallelism;
+    private final int window;
+    private final BulkResult.Item<T>[] completed;
+    private final CompletableFuture<BulkResult<T>> result = new CompletableFuture<>();
+    private final Collection<Long> inputs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private int issued;
+    private int inFlight;
+    private int delivered;
+    private boolean pumping;
+
+    private BulkFetch(Collection<Long> inputs, Function<Long, CompletableFuture<T>> fetch, BulkOptions options,
+                      Consumer<BulkResult.Item<T>> onItem) {
+        this.inputs = inputs;
+        this.ids = inputs.stream().distinct().mapToLong(Long::longValue).toArray();
+        this.fetch = fetch;
+        this.onItem = onItem;
+        this.parallelism = options.getParallelism();
+        this.window = Math.max(options.getReorderWindow(), 1);
+        this.completed = newItems(ids.length);
+    }
+
+    /**
+     * @param onItem 按输入顺序（去重后）回调每个结果，可为 null；在完成请求的线程上串行调用，不应阻塞
+     */
+    static <T> CompletableFuture<BulkResult<T>> run(Collection<Long> ids, Function<Long, CompletableFuture<T>> fetch,
+                                                    BulkOptions options, Consumer<BulkResult.Item<T>> onItem) {
+        BulkFetch<T> bulk = new BulkFetch<>(ids, fetch, options != null ? options : new BulkOptions(), onItem);
+        if (bulk.ids.length == 0) {
+            bulk.result.complete(bulk.toResult());
+        } else {
+            bulk.pump();
+        }
+        return bulk.result;
+    }
+
+    /**
+     * 发出可以发出的请求，直到并发数或乱序窗口用尽
+     *
+     * fetch 返回已完成的 future 时（熔断、缓存命中）完成回调在 start 内同步执行并再次调用 pump；
+     * 此时只由最外层的 pump 循环继续发出，调用栈深度不随 ID 数增长。
+     */
+    private void pump() {
+        lock.lock();
+        try {
+            if (pumping) {
+                return;
+            }
+            pumping = true;
+        } finally {
+            lock.unlock();
+        }
+        List<Integer> starting = new ArrayList<>();
+        while (true) {
+            starting.clear();
+            lock.lock();
+            try {
+                while (!result.isDone() && inFlight < parallelism && issued < ids.length
+                        && issued < delivered + window) {
+                    starting.add(issued++);
+                    inFlight++;
+                }
+                if (starting.isEmpty()) {
+                    pumping = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            for (int index : starting) {
+                start(index);
+            }
+        }
+    }
+
+    private void start(int index) {
+        long id = ids[index];
+        CompletableFuture<T> call;
+        try {
+            call = fetch.apply(id);
+        } catch (RuntimeException e) {
+            call = new CompletableFuture<>();
+            call.completeExceptionally(e);
+        }
+        call.whenComplete((value, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+            if (cause == null) {
+                complete(index, new BulkResult.Item<>(id, value, null));
+            } else if (cause instanceof ZsxqException) {
+                complete(index, new BulkResult.Item<>(id, null, (ZsxqException) cause));
+            } else {
+                result.completeExceptionally(cause);
+            }
+        });
+    }
+
+    private void complete(int index, BulkResult.Item<T> item) {
+        if (result.isDone()) {
+            return;
+        }
+        boolean finished;
+        lock.lock();
+        try {
+            completed[index] = item;
+            inFlight--;
+            while (delivered < ids.length && completed[delivered] != null) {
+                if (onItem != null) {
+                    onItem.accept(completed[delivered]);
+                }
+                delivered++;
+            }
+            finished = delivered == ids.length;
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        } finally {
+            lock.unlock();
+        }
+        if (finished) {
+            result.complete(toResult());
+        } else {
+            pump();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> BulkResult.Item<T>[] newItems(int length) {
+        return (BulkResult.Item<T>[]) new BulkResult.Item<?>[length];
+    }
+
+    private BulkResult<T> toResult() {
+        Map<Long, BulkResult.Item<T>> byId = new LinkedHashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            byId.put(ids[i], completed[i]);
+        }
+        List<BulkResult.Item<T>> items = new ArrayList<>(inputs.size());
+        for (Long id : inputs) {
+            items.add(byId.get(id));
+        }
+        return new BulkResult<>(items, byId);
+    }
+}
@@ -0,0 +1,41 @@
+package com.zsxq.sdk.request;
+
+/**
+ * 按 ID 批量获取的参数（{@code getAll}）
+ */
+public class BulkOptions {
+
+    private int parallelism = 8;
+    private int reorderWindow = 64;
+
+    /**
+     * 同时进行的请求数（默认 8）
+     */
+    public BulkOptions parallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * 重排缓冲大小（默认 64）：已发出的请求最多领先最早未完成的 ID 这么多个，
+     * 限制按输入顺序回调时等待前面结果而暂存的条目数
+     */
+    public BulkOptions reorderWindow(int reorderWindow) {
+        if (reorderWindow <= 0) {
+            throw new IllegalArgumentException("reorderWindow must be positive: " + reorderWindow);
+        }
+        this.reorderWindow = reorderWindow;
+        return this;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getReorderWindow() {
+        return reorderWindow;
+    }
+}
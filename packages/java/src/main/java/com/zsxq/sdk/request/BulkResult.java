@@ -0,0 +1,139 @@
+package com.zsxq.sdk.request;
+
+import com.zsxq.sdk.exception.ZsxqException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 按 ID 批量获取的结果：每个 ID 单独成功或失败，顺序与输入一致
+ *
+ * @param <T> 结果类型
+ */
+public final class BulkResult<T> {
+
+    private final List<Item<T>> items;
+    private final Map<Long, Item<T>> byId;
+
+    BulkResult(List<Item<T>> items, Map<Long, Item<T>> byId) {
+        this.items = Collections.unmodifiableList(items);
+        this.byId = byId;
+    }
+
+    /**
+     * 与输入一一对应的结果（重复的 ID 对应同一个条目）
+     */
+    public List<Item<T>> getItems() {
+        return items;
+    }
+
+    /**
+     * 成功的结果（按输入顺序，去重）
+     */
+    public List<T> getValues() {
+        List<T> values = new ArrayList<>(byId.size());
+        for (Item<T> item : byId.values()) {
+            if (item.isSuccess()) {
+                values.add(item.getValue());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 失败的 ID 及异常（按输入顺序）
+     */
+    public Map<Long, ZsxqException> getErrors() {
+        Map<Long, ZsxqException> errors = new LinkedHashMap<>();
+        for (Item<T> item : byId.values()) {
+            if (!item.isSuccess()) {
+                errors.put(item.getId(), item.getError());
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * 某个 ID 的结果，不在输入中时返回 null
+     */
+    public Item<T> get(long id) {
+        return byId.get(id);
+    }
+
+    /**
+     * 去重后的 ID 数（即实际请求数）
+     */
+    public int getDistinctCount() {
+        return byId.size();
+    }
+
+    public int getFailureCount() {
+        int failures = 0;
+        for (Item<T> item : byId.values()) {
+            if (!item.isSuccess()) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    public boolean isAllSucceeded() {
+        return getFailureCount() == 0;
+    }
+
+    /**
+     * 单个 ID 的结果
+     */
+    public static final class Item<T> {
+
+        private final long id;
+        private final T value;
+        private final ZsxqException error;
+
+        Item(long id, T value, ZsxqException error) {
+            this.id = id;
+            this.value = value;
+            this.error = error;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        /**
+         * 成功时的结果，失败时为 null
+         */
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * 失败时的异常，成功时为 null
+         */
+        public ZsxqException getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        /**
+         * 成功时返回结果，失败时抛出该 ID 的异常
+         */
+        public T getOrThrow() {
+            if (error != null) {
+                throw error;
+            }
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return "Item{id=" + id + (error == null ? ", value=" + value : ", error=" + error) + "}";
+        }
+    }
+}
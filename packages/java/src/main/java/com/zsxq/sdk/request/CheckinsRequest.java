@@ -1,9 +1,5 @@
 package com.zsxq.sdk.request;
 
-import com.google.gson.FieldNamingPolicy;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
 import com.zsxq.sdk.http.HttpClient;
 import com.zsxq.sdk.model.Checkin;
 import com.zsxq.sdk.model.CheckinStatistics;
@@ -13,7 +9,6 @@ import com.zsxq.sdk.model.RankingItem;
 import com.zsxq.sdk.model.Topic;
 import com.zsxq.sdk.model.User;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,10 +18,6 @@ import java.util.Map;
  */
 public class CheckinsRequest extends BaseRequest {
 
-    private final Gson gson = new GsonBuilder()
-            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
-            .create();
-
     public CheckinsRequest(HttpClient httpClient) {
         super(httpClient);
     }
@@ -58,6 +49,10 @@ public class CheckinsRequest extends BaseRequest {
      * 获取打卡项目列表（带参数）
      */
     public List<Checkin> list(String groupId, ListCheckinsOptions options) {
+        return listEndpoint(groupId, options).call(httpClient);
+    }
+
+    static Endpoint<List<Checkin>> listEndpoint(String groupId, ListCheckinsOptions options) {
         Map<String, Object> params = options != null ? options.toMap() : new HashMap<>();
 
         // API 要求必须有 scope 参数，默认查询所有状态
@@ -70,14 +65,11 @@ public class CheckinsRequest extends BaseRequest {
             params.put("count", 100);
         }
 
-        Map<String, Object> data = httpClient.get(
+        return Endpoint.<Envelopes.CheckinsPage>get(
                 "/v2/groups/" + groupId + "/checkins",
                 params,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object checkinsObj = data.get("checkins");
-        if (checkinsObj == null) return new ArrayList<>();
-        String json = gson.toJson(checkinsObj);
-        return gson.fromJson(json, new TypeToken<List<Checkin>>() {}.getType());
+                Envelopes.CheckinsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -91,13 +83,14 @@ public class CheckinsRequest extends BaseRequest {
      * 获取打卡项目详情
      */
     public Checkin get(String groupId, String checkinId) {
-        Map<String, Object> data = httpClient.get(
+        return getEndpoint(groupId, checkinId).call(httpClient);
+    }
+
+    static Endpoint<Checkin> getEndpoint(String groupId, String checkinId) {
+        return Endpoint.<Envelopes.CheckinEnvelope>get(
                 "/v2/groups/" + groupId + "/checkins/" + checkinId,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object checkinObj = data.get("checkin");
-        if (checkinObj == null) return null;
-        String json = gson.toJson(checkinObj);
-        return gson.fromJson(json, Checkin.class);
+                Envelopes.CheckinEnvelope.class)
+                .map(Envelopes::value);
     }
 
     /**
@@ -111,11 +104,13 @@ public class CheckinsRequest extends BaseRequest {
      * 获取打卡统计
      */
     public CheckinStatistics getStatistics(String groupId, String checkinId) {
-        Map<String, Object> data = httpClient.get(
+        return statisticsEndpoint(groupId, checkinId).call(httpClient);
+    }
+
+    static Endpoint<CheckinStatistics> statisticsEndpoint(String groupId, String checkinId) {
+        return Endpoint.get(
                 "/v2/groups/" + groupId + "/checkins/" + checkinId + "/statistics",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        String json = gson.toJson(data);
-        return gson.fromJson(json, CheckinStatistics.class);
+                CheckinStatistics.class);
     }
 
     /**
@@ -143,6 +138,10 @@ public class CheckinsRequest extends BaseRequest {
      * 获取打卡排行榜（带参数）
      */
     public List<RankingItem> getRankingList(String groupId, String checkinId, RankingListOptions options) {
+        return rankingListEndpoint(groupId, checkinId, options).call(httpClient);
+    }
+
+    static Endpoint<List<RankingItem>> rankingListEndpoint(String groupId, String checkinId, RankingListOptions options) {
         Map<String, Object> params = options != null ? options.toMap() : new HashMap<>();
 
         // API 要求必须有 type 参数，默认查询累计打卡排行
@@ -150,14 +149,11 @@ public class CheckinsRequest extends BaseRequest {
             params.put("type", "accumulated");
         }
 
-        Map<String, Object> data = httpClient.get(
+        return Endpoint.<Envelopes.RankingListPage>get(
                 "/v2/groups/" + groupId + "/checkins/" + checkinId + "/ranking_list",
                 params,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object rankingObj = data.get("ranking_list");
-        if (rankingObj == null) return new ArrayList<>();
-        String json = gson.toJson(rankingObj);
-        return gson.fromJson(json, new TypeToken<List<RankingItem>>() {}.getType());
+                Envelopes.RankingListPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -185,6 +181,10 @@ public class CheckinsRequest extends BaseRequest {
      * 获取打卡话题列表（带参数）
      */
     public List<Topic> getTopics(String groupId, String checkinId, TopicsRequest.ListTopicsOptions options) {
+        return topicsEndpoint(groupId, checkinId, options).call(httpClient);
+    }
+
+    static Endpoint<List<Topic>> topicsEndpoint(String groupId, String checkinId, TopicsRequest.ListTopicsOptions options) {
         Map<String, Object> params = options != null ? options.toMap() : new HashMap<>();
 
         // API 要求必须有 scope 参数，默认查询所有话题
@@ -196,14 +196,11 @@ public class CheckinsRequest extends BaseRequest {
             params.put("count", 20);
         }
 
-        Map<String, Object> data = httpClient.get(
+        return Endpoint.<Envelopes.TopicsPage>get(
                 "/v2/groups/" + groupId + "/checkins/" + checkinId + "/topics",
                 params,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object topicsObj = data.get("topics");
-        if (topicsObj == null) return new ArrayList<>();
-        String json = gson.toJson(topicsObj);
-        return gson.fromJson(json, new TypeToken<List<Topic>>() {}.getType());
+                Envelopes.TopicsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -217,13 +214,14 @@ public class CheckinsRequest extends BaseRequest {
      * 获取打卡每日统计
      */
     public List<DailyStatistics> getDailyStatistics(String groupId, String checkinId) {
-        Map<String, Object> data = httpClient.get(
+        return dailyStatisticsEndpoint(groupId, checkinId).call(httpClient);
+    }
+
+    static Endpoint<List<DailyStatistics>> dailyStatisticsEndpoint(String groupId, String checkinId) {
+        return Endpoint.<Envelopes.DailyStatisticsPage>get(
                 "/v2/groups/" + groupId + "/checkins/" + checkinId + "/statistics/daily",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object dailyObj = data.get("daily_statistics");
-        if (dailyObj == null) return new ArrayList<>();
-        String json = gson.toJson(dailyObj);
-        return gson.fromJson(json, new TypeToken<List<DailyStatistics>>() {}.getType());
+                Envelopes.DailyStatisticsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -251,15 +249,16 @@ public class CheckinsRequest extends BaseRequest {
      * 获取打卡参与用户列表（带参数）
      */
     public List<User> getJoinedUsers(String groupId, String checkinId, JoinedUsersOptions options) {
+        return joinedUsersEndpoint(groupId, checkinId, options).call(httpClient);
+    }
+
+    static Endpoint<List<User>> joinedUsersEndpoint(String groupId, String checkinId, JoinedUsersOptions options) {
         Map<String, Object> params = options != null ? options.toMap() : null;
-        Map<String, Object> data = httpClient.get(
+        return Endpoint.<Envelopes.UsersPage>get(
                 "/v2/groups/" + groupId + "/checkins/" + checkinId + "/joined_users",
                 params,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object usersObj = data.get("users");
-        if (usersObj == null) return new ArrayList<>();
-        String json = gson.toJson(usersObj);
-        return gson.fromJson(json, new TypeToken<List<User>>() {}.getType());
+                Envelopes.UsersPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -287,15 +286,16 @@ public class CheckinsRequest extends BaseRequest {
      * 获取我的打卡记录（带参数）
      */
     public List<Topic> getMyCheckins(String groupId, String checkinId, MyCheckinsOptions options) {
+        return myCheckinsEndpoint(groupId, checkinId, options).call(httpClient);
+    }
+
+    static Endpoint<List<Topic>> myCheckinsEndpoint(String groupId, String checkinId, MyCheckinsOptions options) {
         Map<String, Object> params = options != null ? options.toMap() : null;
-        Map<String, Object> data = httpClient.get(
+        return Endpoint.<Envelopes.TopicsPage>get(
                 "/v2/users/self/groups/" + groupId + "/checkins/" + checkinId + "/topics",
                 params,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object topicsObj = data.get("topics");
-        if (topicsObj == null) return new ArrayList<>();
-        String json = gson.toJson(topicsObj);
-        return gson.fromJson(json, new TypeToken<List<Topic>>() {}.getType());
+                Envelopes.TopicsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -309,13 +309,14 @@ public class CheckinsRequest extends BaseRequest {
      * 获取我的打卡日期列表
      */
     public List<String> getMyCheckinDays(String groupId, String checkinId) {
-        Map<String, Object> data = httpClient.get(
+        return myCheckinDaysEndpoint(groupId, checkinId).call(httpClient);
+    }
+
+    static Endpoint<List<String>> myCheckinDaysEndpoint(String groupId, String checkinId) {
+        return Endpoint.<Envelopes.DatesPage>get(
                 "/v2/users/self/groups/" + groupId + "/checkins/" + checkinId + "/checkined_dates",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object datesObj = data.get("dates");
-        if (datesObj == null) return new ArrayList<>();
-        String json = gson.toJson(datesObj);
-        return gson.fromJson(json, new TypeToken<List<String>>() {}.getType());
+                Envelopes.DatesPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -329,13 +330,14 @@ public class CheckinsRequest extends BaseRequest {
      * 获取我的打卡统计
      */
     public MyCheckinStatistics getMyStatistics(String groupId, String checkinId) {
-        Map<String, Object> data = httpClient.get(
+        return myStatisticsEndpoint(groupId, checkinId).call(httpClient);
+    }
+
+    static Endpoint<MyCheckinStatistics> myStatisticsEndpoint(String groupId, String checkinId) {
+        return Endpoint.<Envelopes.StatisticsEnvelope<MyCheckinStatistics>>get(
                 "/v2/users/self/groups/" + groupId + "/checkins/" + checkinId + "/statistics",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object statsObj = data.get("statistics");
-        if (statsObj == null) return null;
-        String json = gson.toJson(statsObj);
-        return gson.fromJson(json, MyCheckinStatistics.class);
+                Envelopes.MY_CHECKIN_STATISTICS)
+                .map(Envelopes::value);
     }
 
     /**
@@ -357,16 +359,21 @@ public class CheckinsRequest extends BaseRequest {
      * @return 创建的打卡项目
      */
     public Checkin create(String groupId, CreateCheckinParams params) {
+        try {
+            return createEndpoint(groupId, params).call(httpClient);
+        } finally {
+            invalidateListings(httpClient, groupId);
+        }
+    }
+
+    static Endpoint<Checkin> createEndpoint(String groupId, CreateCheckinParams params) {
         Map<String, Object> body = new HashMap<>();
         body.put("req_data", params.toMap());
-        Map<String, Object> data = httpClient.post(
+        return Endpoint.<Envelopes.CheckinEnvelope>post(
                 "/v2/groups/" + groupId + "/checkins",
                 body,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object checkinObj = data.get("checkin");
-        if (checkinObj == null) return null;
-        String json = gson.toJson(checkinObj);
-        return gson.fromJson(json, Checkin.class);
+                Envelopes.CheckinEnvelope.class)
+                .map(Envelopes::value);
     }
 
     /**
@@ -390,16 +397,31 @@ public class CheckinsRequest extends BaseRequest {
      * @return 更新后的打卡项目
      */
     public Checkin update(String groupId, String checkinId, UpdateCheckinParams params) {
+        try {
+            return updateEndpoint(groupId, checkinId, params).call(httpClient);
+        } finally {
+            invalidateListings(httpClient, groupId);
+        }
+    }
+
+    static Endpoint<Checkin> updateEndpoint(String groupId, String checkinId, UpdateCheckinParams params) {
         Map<String, Object> body = new HashMap<>();
         body.put("req_data", params.toMap());
-        Map<String, Object> data = httpClient.put(
+        return Endpoint.<Envelopes.CheckinEnvelope>put(
                 "/v2/groups/" + groupId + "/checkins/" + checkinId,
                 body,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object checkinObj = data.get("checkin");
-        if (checkinObj == null) return null;
-        String json = gson.toJson(checkinObj);
-        return gson.fromJson(json, Checkin.class);
+                Envelopes.CheckinEnvelope.class)
+                .map(Envelopes::value);
+    }
+
+    /**
+     * 打卡项目写入后使该星球的打卡缓存失效（包括列表、详情和“我的打卡”）
+     *
+     * 写请求失败时同样失效，因为服务端可能已经生效
+     */
+    static void invalidateListings(HttpClient httpClient, String groupId) {
+        httpClient.invalidateCache("/v2/groups/" + groupId + "/checkins");
+        httpClient.invalidateCache("/v2/users/self/groups/" + groupId + "/checkins");
     }
 
     /**
@@ -1,14 +1,9 @@
 package com.zsxq.sdk.request;
 
-import com.google.gson.FieldNamingPolicy;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
 import com.zsxq.sdk.http.HttpClient;
 import com.zsxq.sdk.model.InvoiceStats;
 import com.zsxq.sdk.model.RankingItem;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,10 +13,6 @@ import java.util.Map;
  */
 public class DashboardRequest extends BaseRequest {
 
-    private final Gson gson = new GsonBuilder()
-            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
-            .create();
-
     public DashboardRequest(HttpClient httpClient) {
         super(httpClient);
     }
@@ -37,9 +28,11 @@ public class DashboardRequest extends BaseRequest {
      * 获取星球概览
      */
     public Map<String, Object> getOverview(String groupId) {
-        return httpClient.get(
-                "/v2/dashboard/groups/" + groupId + "/overview",
-                new TypeToken<Map<String, Object>>() {}.getType());
+        return overviewEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<Map<String, Object>> overviewEndpoint(String groupId) {
+        return Endpoint.get("/v2/dashboard/groups/" + groupId + "/overview", Envelopes.MAP);
     }
 
     /**
@@ -53,9 +46,11 @@ public class DashboardRequest extends BaseRequest {
      * 获取收入概览
      */
     public Map<String, Object> getIncomes(String groupId) {
-        return httpClient.get(
-                "/v2/dashboard/groups/" + groupId + "/incomes/overview",
-                new TypeToken<Map<String, Object>>() {}.getType());
+        return incomesEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<Map<String, Object>> incomesEndpoint(String groupId) {
+        return Endpoint.get("/v2/dashboard/groups/" + groupId + "/incomes/overview", Envelopes.MAP);
     }
 
     /**
@@ -83,15 +78,16 @@ public class DashboardRequest extends BaseRequest {
      * 获取积分排行（带参数）
      */
     public List<RankingItem> getScoreboardRanking(String groupId, RankingListOptions options) {
+        return scoreboardRankingEndpoint(groupId, options).call(httpClient);
+    }
+
+    static Endpoint<List<RankingItem>> scoreboardRankingEndpoint(String groupId, RankingListOptions options) {
         Map<String, Object> params = options != null ? options.toMap() : new HashMap<>();
-        Map<String, Object> data = httpClient.get(
+        return Endpoint.<Envelopes.RankingListPage>get(
                 "/v2/dashboard/groups/" + groupId + "/scoreboard/ranking_list",
                 params,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object rankingList = data.get("ranking_list");
-        if (rankingList == null) return new ArrayList<>();
-        String json = gson.toJson(rankingList);
-        return gson.fromJson(json, new TypeToken<List<RankingItem>>() {}.getType());
+                Envelopes.RankingListPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -105,24 +101,25 @@ public class DashboardRequest extends BaseRequest {
      * 获取星球权限配置
      */
     public Map<String, Object> getPrivileges(String groupId) {
-        Map<String, Object> data = httpClient.get(
+        return privilegesEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<Map<String, Object>> privilegesEndpoint(String groupId) {
+        return Endpoint.<Envelopes.PrivilegesEnvelope>get(
                 "/v2/dashboard/groups/" + groupId + "/privileges",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object privilegesObj = data.get("privileges");
-        if (privilegesObj == null) return new java.util.HashMap<>();
-        String json = gson.toJson(privilegesObj);
-        return gson.fromJson(json, new TypeToken<Map<String, Object>>() {}.getType());
+                Envelopes.PrivilegesEnvelope.class)
+                .map(e -> Envelopes.orEmpty(Envelopes.value(e)));
     }
 
     /**
      * 获取发票统计
      */
     public InvoiceStats getInvoiceStats() {
-        Map<String, Object> data = httpClient.get(
-                "/v3/invoices/statistics",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        String json = gson.toJson(data);
-        return gson.fromJson(json, InvoiceStats.class);
+        return invoiceStatsEndpoint().call(httpClient);
+    }
+
+    static Endpoint<InvoiceStats> invoiceStatsEndpoint() {
+        return Endpoint.get("/v3/invoices/statistics", InvoiceStats.class);
     }
 
     /**
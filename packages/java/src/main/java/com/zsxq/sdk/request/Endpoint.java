@@ -0,0 +1,113 @@
+package com.zsxq.sdk.request;
+
+import com.zsxq.sdk.http.HttpClient;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 接口定义：HTTP 方法、路径、参数或请求体、响应类型，以及从响应中取出结果的方式
+ *
+ * 同步模块和异步模块共用同一份定义，分别经 {@link #call(HttpClient)} 和 {@link #callAsync(HttpClient)} 发出：
+ *
+ * <pre>
+ * static Endpoint&lt;List&lt;Group&gt;&gt; listEndpoint() {
+ *     return Endpoint.&lt;Envelopes.GroupsPage&gt;get("/v2/groups", Envelopes.GroupsPage.class).map(Envelopes::items);
+ * }
+ * </pre>
+ *
+ * @param <T> 调用方得到的结果类型
+ */
+final class Endpoint<T> {
+
+    private enum Method { GET, POST, PUT }
+
+    private final Method method;
+    private final String path;
+    private final Map<String, Object> params;
+    private final Object body;
+    private final Type responseType;
+    private final Function<Object, T> extract;
+
+    private Endpoint(Method method, String path, Map<String, Object> params, Object body, Type responseType,
+                     Function<Object, T> extract) {
+        this.method = method;
+        this.path = path;
+        this.params = params;
+        this.body = body;
+        this.responseType = responseType;
+        this.extract = extract;
+    }
+
+    static <T> Endpoint<T> get(String path, Type responseType) {
+        return get(path, null, responseType);
+    }
+
+    static <T> Endpoint<T> get(String path, Map<String, Object> params, Type responseType) {
+        return new Endpoint<>(Method.GET, path, params, null, responseType, Endpoint::cast);
+    }
+
+    static <T> Endpoint<T> post(String path, Object body, Type responseType) {
+        return new Endpoint<>(Method.POST, path, null, body, responseType, Endpoint::cast);
+    }
+
+    static <T> Endpoint<T> put(String path, Object body, Type responseType) {
+        return new Endpoint<>(Method.PUT, path, null, body, responseType, Endpoint::cast);
+    }
+
+    /**
+     * 在解码后的响应上再取值，例如 {@code map(Envelopes::items)}
+     */
+    <U> Endpoint<U> map(Function<? super T, ? extends U> mapper) {
+        return new Endpoint<>(method, path, params, body, responseType, extract.andThen(mapper));
+    }
+
+    /**
+     * 同步调用
+     */
+    T call(HttpClient httpClient) {
+        Object response;
+        switch (method) {
+            case POST:
+                response = httpClient.post(path, body, responseType);
+                break;
+            case PUT:
+                response = httpClient.put(path, body, responseType);
+                break;
+            default:
+                response = httpClient.get(path, params, responseType);
+        }
+        return extract.apply(response);
+    }
+
+    /**
+     * 异步调用；取消返回的 future 会取消底层请求
+     */
+    CompletableFuture<T> callAsync(HttpClient httpClient) {
+        CompletableFuture<Object> response;
+        switch (method) {
+            case POST:
+                response = httpClient.postAsync(path, body, responseType);
+                break;
+            case PUT:
+                response = httpClient.putAsync(path, body, responseType);
+                break;
+            default:
+                response = httpClient.getAsync(path, params, responseType);
+        }
+        CompletableFuture<T> result = response.thenApply(extract);
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                response.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object response) {
+        return (T) response;
+    }
+}
@@ -0,0 +1,408 @@
+package com.zsxq.sdk.request;
+
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.model.AchievementSummary;
+import com.zsxq.sdk.model.Activity;
+import com.zsxq.sdk.model.ActivitySummary;
+import com.zsxq.sdk.model.Checkin;
+import com.zsxq.sdk.model.Column;
+import com.zsxq.sdk.model.Comment;
+import com.zsxq.sdk.model.Contribution;
+import com.zsxq.sdk.model.ContributionStatistics;
+import com.zsxq.sdk.model.Coupon;
+import com.zsxq.sdk.model.CustomTag;
+import com.zsxq.sdk.model.DailyStatistics;
+import com.zsxq.sdk.model.DistributionInfo;
+import com.zsxq.sdk.model.Group;
+import com.zsxq.sdk.model.GroupWarning;
+import com.zsxq.sdk.model.Hashtag;
+import com.zsxq.sdk.model.Inviter;
+import com.zsxq.sdk.model.Menu;
+import com.zsxq.sdk.model.MyCheckinStatistics;
+import com.zsxq.sdk.model.PkBattle;
+import com.zsxq.sdk.model.PkGroup;
+import com.zsxq.sdk.model.PreferenceCategory;
+import com.zsxq.sdk.model.RankingItem;
+import com.zsxq.sdk.model.RankingStatistics;
+import com.zsxq.sdk.model.Remark;
+import com.zsxq.sdk.model.RenewalInfo;
+import com.zsxq.sdk.model.Reward;
+import com.zsxq.sdk.model.ScheduledJob;
+import com.zsxq.sdk.model.Topic;
+import com.zsxq.sdk.model.UrlDetail;
+import com.zsxq.sdk.model.User;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 各接口 resp_data 的类型化信封
+ *
+ * 响应直接从网络解码到这些类型，不再经过 Map 中转和二次序列化，
+ * 因而 19 位的 ID 也会直接落到 Long 字段上，不会变成 Double。
+ */
+final class Envelopes {
+
+    static final Type MAP = new TypeToken<Map<String, Object>>() {}.getType();
+    static final Type INTEGER_MAP = new TypeToken<Map<String, Integer>>() {}.getType();
+    static final Type GROUP = new TypeToken<GroupEnvelope<Group>>() {}.getType();
+    static final Type PK_GROUP = new TypeToken<GroupEnvelope<PkGroup>>() {}.getType();
+    static final Type CONTRIBUTION_STATISTICS = new TypeToken<StatisticsEnvelope<ContributionStatistics>>() {}.getType();
+    static final Type MY_CHECKIN_STATISTICS = new TypeToken<StatisticsEnvelope<MyCheckinStatistics>>() {}.getType();
+    static final Type RANKING_STATISTICS = new TypeToken<StatisticsEnvelope<RankingStatistics>>() {}.getType();
+    static final Type MAP_STATISTICS = new TypeToken<StatisticsEnvelope<Map<String, Object>>>() {}.getType();
+
+    private Envelopes() {
+    }
+
+    /**
+     * 列表信封
+     */
+    interface Page<T> {
+        List<T> items();
+    }
+
+    /**
+     * 单对象信封
+     */
+    interface Single<T> {
+        T value();
+    }
+
+    /**
+     * 取出列表，信封或字段缺失时返回空列表
+     */
+    static <T> List<T> items(Page<T> page) {
+        List<T> items = page != null ? page.items() : null;
+        return items != null ? items : new ArrayList<>();
+    }
+
+    /**
+     * 取出对象，信封或字段缺失时返回 null
+     */
+    static <T> T value(Single<T> envelope) {
+        return envelope != null ? envelope.value() : null;
+    }
+
+    static <K, V> Map<K, V> orEmpty(Map<K, V> map) {
+        return map != null ? map : new HashMap<>();
+    }
+
+    static class TopicsPage implements Page<Topic> {
+        List<Topic> topics;
+
+        @Override
+        public List<Topic> items() {
+            return topics;
+        }
+    }
+
+    static class TopicEnvelope implements Single<Topic> {
+        Topic topic;
+
+        @Override
+        public Topic value() {
+            return topic;
+        }
+    }
+
+    static class CommentsPage implements Page<Comment> {
+        List<Comment> comments;
+
+        @Override
+        public List<Comment> items() {
+            return comments;
+        }
+    }
+
+    static class RewardsPage implements Page<Reward> {
+        List<Reward> rewards;
+
+        @Override
+        public List<Reward> items() {
+            return rewards;
+        }
+    }
+
+    static class GroupsPage implements Page<Group> {
+        List<Group> groups;
+
+        @Override
+        public List<Group> items() {
+            return groups;
+        }
+    }
+
+    static class GroupEnvelope<T> implements Single<T> {
+        T group;
+
+        @Override
+        public T value() {
+            return group;
+        }
+    }
+
+    static class UserEnvelope implements Single<User> {
+        User user;
+
+        @Override
+        public User value() {
+            return user;
+        }
+    }
+
+    static class UsersPage implements Page<User> {
+        List<User> users;
+
+        @Override
+        public List<User> items() {
+            return users;
+        }
+    }
+
+    static class HashtagsPage implements Page<Hashtag> {
+        List<Hashtag> hashtags;
+
+        @Override
+        public List<Hashtag> items() {
+            return hashtags;
+        }
+    }
+
+    static class MenusPage implements Page<Menu> {
+        List<Menu> menus;
+
+        @Override
+        public List<Menu> items() {
+            return menus;
+        }
+    }
+
+    static class ColumnsPage implements Page<Column> {
+        List<Column> columns;
+
+        @Override
+        public List<Column> items() {
+            return columns;
+        }
+    }
+
+    static class ActivitySummaryEnvelope implements Single<ActivitySummary> {
+        ActivitySummary summary;
+
+        @Override
+        public ActivitySummary value() {
+            return summary;
+        }
+    }
+
+    static class LabelsPage implements Page<CustomTag> {
+        List<CustomTag> labels;
+
+        @Override
+        public List<CustomTag> items() {
+            return labels;
+        }
+    }
+
+    static class ScheduledJobsPage implements Page<ScheduledJob> {
+        List<ScheduledJob> jobs;
+
+        @Override
+        public List<ScheduledJob> items() {
+            return jobs;
+        }
+    }
+
+    /**
+     * 续费信息：数据可能包在 renewal 字段中，也可能直接位于 resp_data 顶层
+     */
+    static class RenewalEnvelope extends RenewalInfo implements Single<RenewalInfo> {
+        RenewalInfo renewal;
+
+        @Override
+        public RenewalInfo value() {
+            return renewal != null ? renewal : this;
+        }
+    }
+
+    /**
+     * 分销信息：数据可能包在 distribution 字段中，也可能直接位于 resp_data 顶层
+     */
+    static class DistributionEnvelope extends DistributionInfo implements Single<DistributionInfo> {
+        DistributionInfo distribution;
+
+        @Override
+        public DistributionInfo value() {
+            return distribution != null ? distribution : this;
+        }
+    }
+
+    /**
+     * 风险预警：数据可能包在 warning 字段中，也可能直接位于 resp_data 顶层
+     */
+    static class WarningEnvelope extends GroupWarning implements Single<GroupWarning> {
+        GroupWarning warning;
+
+        @Override
+        public GroupWarning value() {
+            return warning != null ? warning : this;
+        }
+    }
+
+    static class StatisticsEnvelope<T> implements Single<T> {
+        T statistics;
+
+        @Override
+        public T value() {
+            return statistics;
+        }
+    }
+
+    static class AvatarUrlEnvelope implements Single<String> {
+        String avatarUrl;
+
+        @Override
+        public String value() {
+            return avatarUrl;
+        }
+    }
+
+    static class InviterEnvelope implements Single<Inviter> {
+        Inviter inviter;
+
+        @Override
+        public Inviter value() {
+            return inviter;
+        }
+    }
+
+    static class CouponsPage implements Page<Coupon> {
+        List<Coupon> coupons;
+
+        @Override
+        public List<Coupon> items() {
+            return coupons;
+        }
+    }
+
+    static class RemarksPage implements Page<Remark> {
+        List<Remark> remarks;
+
+        @Override
+        public List<Remark> items() {
+            return remarks;
+        }
+    }
+
+    static class PreferenceCategoriesPage implements Page<PreferenceCategory> {
+        List<PreferenceCategory> categories;
+
+        @Override
+        public List<PreferenceCategory> items() {
+            return categories;
+        }
+    }
+
+    static class ContributionsPage implements Page<Contribution> {
+        List<Contribution> contributions;
+
+        @Override
+        public List<Contribution> items() {
+            return contributions;
+        }
+    }
+
+    static class AchievementSummariesPage implements Page<AchievementSummary> {
+        List<AchievementSummary> summaries;
+
+        @Override
+        public List<AchievementSummary> items() {
+            return summaries;
+        }
+    }
+
+    static class CheckinsPage implements Page<Checkin> {
+        List<Checkin> checkins;
+
+        @Override
+        public List<Checkin> items() {
+            return checkins;
+        }
+    }
+
+    static class CheckinEnvelope implements Single<Checkin> {
+        Checkin checkin;
+
+        @Override
+        public Checkin value() {
+            return checkin;
+        }
+    }
+
+    static class RankingListPage implements Page<RankingItem> {
+        List<RankingItem> rankingList;
+
+        @Override
+        public List<RankingItem> items() {
+            return rankingList;
+        }
+    }
+
+    static class DailyStatisticsPage implements Page<DailyStatistics> {
+        List<DailyStatistics> dailyStatistics;
+
+        @Override
+        public List<DailyStatistics> items() {
+            return dailyStatistics;
+        }
+    }
+
+    static class DatesPage implements Page<String> {
+        List<String> dates;
+
+        @Override
+        public List<String> items() {
+            return dates;
+        }
+    }
+
+    static class PrivilegesEnvelope implements Single<Map<String, Object>> {
+        Map<String, Object> privileges;
+
+        @Override
+        public Map<String, Object> value() {
+            return privileges;
+        }
+    }
+
+    static class PkBattlesPage implements Page<PkBattle> {
+        List<PkBattle> records;
+
+        @Override
+        public List<PkBattle> items() {
+            return records;
+        }
+    }
+
+    static class UrlDetailEnvelope implements Single<UrlDetail> {
+        UrlDetail urlDetail;
+
+        @Override
+        public UrlDetail value() {
+            return urlDetail;
+        }
+    }
+
+    static class ActivitiesPage implements Page<Activity> {
+        List<Activity> dynamics;
+
+        @Override
+        public List<Activity> items() {
+            return dynamics;
+        }
+    }
+}
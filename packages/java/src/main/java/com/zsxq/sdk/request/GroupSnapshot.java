@@ -0,0 +1,128 @@
+package com.zsxq.sdk.request;
+
+import com.zsxq.sdk.exception.ZsxqException;
+import com.zsxq.sdk.model.Column;
+import com.zsxq.sdk.model.Group;
+import com.zsxq.sdk.model.Hashtag;
+import com.zsxq.sdk.model.Menu;
+import com.zsxq.sdk.model.RenewalInfo;
+import com.zsxq.sdk.model.RoleMembers;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 星球快照：并发获取的星球各部分数据，每个部分单独成功或失败
+ *
+ * 未选择或失败的部分返回 null，失败原因见 {@link #getErrors()}。
+ */
+public final class GroupSnapshot {
+
+    /**
+     * 快照的组成部分
+     */
+    public enum Part {
+        /** 星球详情 {@link GroupsRequest#get(String)} */
+        GROUP,
+        /** 星球统计 {@link GroupsRequest#getStatistics(String)} */
+        STATISTICS,
+        /** 菜单 {@link GroupsRequest#getMenus(String)} */
+        MENUS,
+        /** 专栏 {@link GroupsRequest#getColumns(String)} */
+        COLUMNS,
+        /** 标签 {@link GroupsRequest#getHashtags(String)} */
+        HASHTAGS,
+        /** 角色成员 {@link GroupsRequest#getRoleMembers(String)} */
+        ROLE_MEMBERS,
+        /** 续费信息 {@link GroupsRequest#getRenewalInfo(String)} */
+        RENEWAL_INFO,
+        /** 星球概览 {@link DashboardRequest#getOverview(String)} */
+        OVERVIEW,
+        /** 收入概览 {@link DashboardRequest#getIncomes(String)} */
+        INCOMES
+    }
+
+    private final long groupId;
+    private final Map<Part, Object> values;
+    private final Map<Part, ZsxqException> errors;
+
+    GroupSnapshot(long groupId, Map<Part, Object> values, Map<Part, ZsxqException> errors) {
+        this.groupId = groupId;
+        this.values = values;
+        this.errors = errors;
+    }
+
+    public long getGroupId() {
+        return groupId;
+    }
+
+    public Group getGroup() {
+        return (Group) values.get(Part.GROUP);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getStatistics() {
+        return (Map<String, Object>) values.get(Part.STATISTICS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Menu> getMenus() {
+        return (List<Menu>) values.get(Part.MENUS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Column> getColumns() {
+        return (List<Column>) values.get(Part.COLUMNS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<Hashtag> getHashtags() {
+        return (List<Hashtag>) values.get(Part.HASHTAGS);
+    }
+
+    public RoleMembers getRoleMembers() {
+        return (RoleMembers) values.get(Part.ROLE_MEMBERS);
+    }
+
+    public RenewalInfo getRenewalInfo() {
+        return (RenewalInfo) values.get(Part.RENEWAL_INFO);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getOverview() {
+        return (Map<String, Object>) values.get(Part.OVERVIEW);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getIncomes() {
+        return (Map<String, Object>) values.get(Part.INCOMES);
+    }
+
+    /**
+     * 成功获取的部分
+     */
+    public Set<Part> getParts() {
+        return Collections.unmodifiableSet(values.keySet());
+    }
+
+    /**
+     * 失败的部分及原因；超过截止时间的部分为 NetworkException（cause 为 TimeoutException）
+     */
+    public Map<Part, ZsxqException> getErrors() {
+        return Collections.unmodifiableMap(errors);
+    }
+
+    /**
+     * 选择的部分是否全部成功
+     */
+    public boolean isComplete() {
+        return errors.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "GroupSnapshot{groupId=" + groupId + ", parts=" + values.keySet() + ", errors=" + errors.keySet() + "}";
+    }
+}
@@ -0,0 +1,132 @@
+package com.zsxq.sdk.request;
+
+import com.zsxq.sdk.exception.NetworkException;
+import com.zsxq.sdk.exception.ZsxqException;
+import com.zsxq.sdk.http.HttpClient;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 并发获取星球快照
+ *
+ * 每个部分经请求模块共享的 {@link AsyncLimiter} 发出，不超过 {@link SnapshotOptions} 的并发上限，
+ * 共用同一个截止时间；到期时取消该部分的请求并归还名额。
+ * 超时或 ZsxqException 记为该部分失败，其余部分照常返回。其他异常视为程序错误，使快照失败。
+ */
+final class GroupSnapshots {
+
+    private final AsyncGroupsRequest groups;
+    private final AsyncDashboardRequest dashboard;
+    private final AsyncLimiter limiter = new AsyncLimiter();
+
+    GroupSnapshots(AsyncGroupsRequest groups, HttpClient httpClient) {
+        this.groups = groups;
+        this.dashboard = new AsyncDashboardRequest(httpClient);
+    }
+
+    AsyncLimiter limiter() {
+        return limiter;
+    }
+
+    CompletableFuture<GroupSnapshot> take(long groupId, Set<GroupSnapshot.Part> parts, SnapshotOptions options) {
+        SnapshotOptions opts = options != null ? options : new SnapshotOptions();
+        return take(groupId, parts, opts, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(opts.getDeadlineMillis()));
+    }
+
+    CompletableFuture<Map<Long, GroupSnapshot>> takeAll(Collection<Long> groupIds, Set<GroupSnapshot.Part> parts,
+                                                        SnapshotOptions options) {
+        SnapshotOptions opts = options != null ? options : new SnapshotOptions();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(opts.getDeadlineMillis());
+        Map<Long, CompletableFuture<GroupSnapshot>> pending = new LinkedHashMap<>();
+        for (Long groupId : new LinkedHashSet<>(groupIds)) {
+            pending.put(groupId, take(groupId, parts, opts, deadline));
+        }
+        return CompletableFuture.allOf(pending.values().toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            Map<Long, GroupSnapshot> snapshots = new LinkedHashMap<>();
+            pending.forEach((groupId, snapshot) -> snapshots.put(groupId, snapshot.join()));
+            return snapshots;
+        });
+    }
+
+    private CompletableFuture<GroupSnapshot> take(long groupId, Set<GroupSnapshot.Part> parts, SnapshotOptions options,
+                                                  long deadlineNanos) {
+        EnumMap<GroupSnapshot.Part, CompletableFuture<Object>> pending = new EnumMap<>(GroupSnapshot.Part.class);
+        for (GroupSnapshot.Part part : parts) {
+            long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+            pending.put(part, limiter.<Object>submit(() -> fetch(part, groupId),
+                    options.getMaxConcurrency(), remaining));
+        }
+        CompletableFuture<?>[] settled = pending.values().stream()
+                .map(future -> future.handle((value, error) -> null))
+                .toArray(CompletableFuture<?>[]::new);
+        return CompletableFuture.allOf(settled).thenApply(ignored -> {
+            EnumMap<GroupSnapshot.Part, Object> values = new EnumMap<>(GroupSnapshot.Part.class);
+            EnumMap<GroupSnapshot.Part, ZsxqException> errors = new EnumMap<>(GroupSnapshot.Part.class);
+            pending.forEach((part, future) -> {
+                try {
+                    values.put(part, future.join());
+                } catch (CompletionException e) {
+                    errors.put(part, toPartError(part, e.getCause() != null ? e.getCause() : e));
+                }
+            });
+            return new GroupSnapshot(groupId, values, errors);
+        });
+    }
+
+    private static ZsxqException toPartError(GroupSnapshot.Part part, Throwable error) {
+        if (error instanceof ZsxqException) {
+            return (ZsxqException) error;
+        }
+        if (error instanceof TimeoutException) {
+            return new NetworkException("Snapshot deadline exceeded before " + part + " completed", error);
+        }
+        throw error instanceof RuntimeException ? (RuntimeException) error : new CompletionException(error);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Object> fetch(GroupSnapshot.Part part, long groupId) {
+        String id = String.valueOf(groupId);
+        CompletableFuture<?> future;
+        switch (part) {
+            case GROUP:
+                future = groups.get(id);
+                break;
+            case STATISTICS:
+                future = groups.getStatistics(id);
+                break;
+            case MENUS:
+                future = groups.getMenus(id);
+                break;
+            case COLUMNS:
+                future = groups.getColumns(id);
+                break;
+            case HASHTAGS:
+                future = groups.getHashtags(id);
+                break;
+            case ROLE_MEMBERS:
+                future = groups.getRoleMembers(id);
+                break;
+            case RENEWAL_INFO:
+                future = groups.getRenewalInfo(id);
+                break;
+            case OVERVIEW:
+                future = dashboard.getOverview(id);
+                break;
+            case INCOMES:
+                future = dashboard.getIncomes(id);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown part: " + part);
+        }
+        return (CompletableFuture<Object>) future;
+    }
+}
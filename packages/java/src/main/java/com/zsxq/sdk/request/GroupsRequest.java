@@ -1,9 +1,6 @@
 package com.zsxq.sdk.request;
 
-import com.google.gson.FieldNamingPolicy;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.http.Futures;
 import com.zsxq.sdk.http.HttpClient;
 import com.zsxq.sdk.model.ActivitySummary;
 import com.zsxq.sdk.model.Column;
@@ -18,34 +15,36 @@ import com.zsxq.sdk.model.RoleMembers;
 import com.zsxq.sdk.model.ScheduledJob;
 import com.zsxq.sdk.model.User;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * 星球请求模块
  */
 public class GroupsRequest extends BaseRequest {
 
-    private final Gson gson = new GsonBuilder()
-            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
-            .create();
+    /** 本实例上所有快照共享的并发计数 */
+    final GroupSnapshots snapshots;
 
     public GroupsRequest(HttpClient httpClient) {
         super(httpClient);
+        this.snapshots = new AsyncGroupsRequest(httpClient).snapshots;
     }
 
     /**
      * 获取我的星球列表
      */
-    @SuppressWarnings("unchecked")
     public List<Group> list() {
-        Map<String, Object> data = httpClient.get("/v2/groups",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object groupsObj = data.get("groups");
-        if (groupsObj == null) return new ArrayList<>();
-        String json = gson.toJson(groupsObj);
-        return gson.fromJson(json, new TypeToken<List<Group>>() {}.getType());
+        return listEndpoint().call(httpClient);
+    }
+
+    static Endpoint<List<Group>> listEndpoint() {
+        return Endpoint.<Envelopes.GroupsPage>get("/v2/groups",
+                Envelopes.GroupsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -59,9 +58,38 @@ public class GroupsRequest extends BaseRequest {
      * 获取星球详情
      */
     public Group get(String groupId) {
-        Map<String, Object> data = httpClient.get("/v2/groups/" + groupId,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        return convertToGroup(data.get("group"));
+        return getEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<Group> getEndpoint(String groupId) {
+        return Endpoint.<Envelopes.GroupEnvelope<Group>>get("/v2/groups/" + groupId,
+                Envelopes.GROUP)
+                .map(Envelopes::value);
+    }
+
+    /**
+     * 按 ID 批量获取星球：重复的 ID 只请求一次，并发数受 options 限制，每个 ID 单独成功或失败
+     *
+     * <pre>
+     * BulkResult&lt;Group&gt; result = client.groups().getAll(ids, new BulkOptions().parallelism(16));
+     * result.getErrors().forEach((id, e) -&gt; log.warn("{} failed: {}", id, e.getMessage()));
+     * </pre>
+     *
+     * @param options 为 null 时使用默认值（并发 8）
+     */
+    public BulkResult<Group> getAll(Collection<Long> ids, BulkOptions options) {
+        return getAll(ids, options, null);
+    }
+
+    /**
+     * 按 ID 批量获取星球，并按输入顺序（去重后）逐个回调结果
+     *
+     * @param onItem 在完成请求的线程上串行回调，不应阻塞
+     */
+    public BulkResult<Group> getAll(Collection<Long> ids, BulkOptions options,
+                                      Consumer<BulkResult.Item<Group>> onItem) {
+        return Futures.await(BulkFetch.run(ids, id -> getEndpoint(String.valueOf(id)).callAsync(httpClient),
+                options, onItem));
     }
 
     /**
@@ -75,8 +103,12 @@ public class GroupsRequest extends BaseRequest {
      * 获取星球统计
      */
     public Map<String, Object> getStatistics(String groupId) {
-        return httpClient.get("/v2/groups/" + groupId + "/statistics",
-                new TypeToken<Map<String, Object>>() {}.getType());
+        return statisticsEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<Map<String, Object>> statisticsEndpoint(String groupId) {
+        return Endpoint.get("/v2/groups/" + groupId + "/statistics",
+                Envelopes.MAP);
     }
 
     /**
@@ -90,13 +122,14 @@ public class GroupsRequest extends BaseRequest {
      * 获取成员信息
      */
     public User getMember(String groupId, String memberId) {
-        Map<String, Object> data = httpClient.get(
+        return memberEndpoint(groupId, memberId).call(httpClient);
+    }
+
+    static Endpoint<User> memberEndpoint(String groupId, String memberId) {
+        return Endpoint.<Envelopes.UserEnvelope>get(
                 "/v2/groups/" + groupId + "/members/" + memberId,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object userObj = data.get("user");
-        if (userObj == null) return null;
-        String json = gson.toJson(userObj);
-        return gson.fromJson(json, User.class);
+                Envelopes.UserEnvelope.class)
+                .map(Envelopes::value);
     }
 
     /**
@@ -110,29 +143,29 @@ public class GroupsRequest extends BaseRequest {
      * 获取星球标签
      */
     public List<Hashtag> getHashtags(String groupId) {
-        Map<String, Object> data = httpClient.get(
+        return hashtagsEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<List<Hashtag>> hashtagsEndpoint(String groupId) {
+        return Endpoint.<Envelopes.HashtagsPage>get(
                 "/v2/groups/" + groupId + "/hashtags",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object hashtagsObj = data.get("hashtags");
-        if (hashtagsObj == null) return new ArrayList<>();
-        String json = gson.toJson(hashtagsObj);
-        return gson.fromJson(json, new TypeToken<List<Hashtag>>() {}.getType());
+                Envelopes.HashtagsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
      * 获取未读话题数量
      */
     public Map<String, Integer> getUnreadCount() {
-        return httpClient.get("/v2/groups/unread_topics_count",
-                new TypeToken<Map<String, Integer>>() {}.getType());
+        return unreadCountEndpoint().call(httpClient);
     }
 
-    private Group convertToGroup(Object obj) {
-        if (obj == null) return null;
-        String json = gson.toJson(obj);
-        return gson.fromJson(json, Group.class);
+    static Endpoint<Map<String, Integer>> unreadCountEndpoint() {
+        return Endpoint.get("/v2/groups/unread_topics_count",
+                Envelopes.INTEGER_MAP);
     }
 
+
     /**
      * 获取星球菜单配置
      *
@@ -150,13 +183,14 @@ public class GroupsRequest extends BaseRequest {
      * @return 菜单列表
      */
     public List<Menu> getMenus(String groupId) {
-        Map<String, Object> data = httpClient.get(
+        return menusEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<List<Menu>> menusEndpoint(String groupId) {
+        return Endpoint.<Envelopes.MenusPage>get(
                 "/v2/groups/" + groupId + "/menus",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object menusObj = data.get("menus");
-        if (menusObj == null) return new ArrayList<>();
-        String json = gson.toJson(menusObj);
-        return gson.fromJson(json, new TypeToken<List<Menu>>() {}.getType());
+                Envelopes.MenusPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -176,11 +210,13 @@ public class GroupsRequest extends BaseRequest {
      * @return 角色成员对象
      */
     public RoleMembers getRoleMembers(String groupId) {
-        Map<String, Object> data = httpClient.get(
+        return roleMembersEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<RoleMembers> roleMembersEndpoint(String groupId) {
+        return Endpoint.get(
                 "/v2/groups/" + groupId + "/role_members",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        String json = gson.toJson(data);
-        return gson.fromJson(json, RoleMembers.class);
+                RoleMembers.class);
     }
 
     /**
@@ -200,13 +236,14 @@ public class GroupsRequest extends BaseRequest {
      * @return 专栏列表
      */
     public List<Column> getColumns(String groupId) {
-        Map<String, Object> data = httpClient.get(
+        return columnsEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<List<Column>> columnsEndpoint(String groupId) {
+        return Endpoint.<Envelopes.ColumnsPage>get(
                 "/v2/groups/" + groupId + "/columns",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object columnsObj = data.get("columns");
-        if (columnsObj == null) return new ArrayList<>();
-        String json = gson.toJson(columnsObj);
-        return gson.fromJson(json, new TypeToken<List<Column>>() {}.getType());
+                Envelopes.ColumnsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -226,9 +263,13 @@ public class GroupsRequest extends BaseRequest {
      * @return 专栏汇总数据
      */
     public Map<String, Object> getColumnsSummary(String groupId) {
-        return httpClient.get(
+        return columnsSummaryEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<Map<String, Object>> columnsSummaryEndpoint(String groupId) {
+        return Endpoint.get(
                 "/v2/groups/" + groupId + "/columns/summary",
-                new TypeToken<Map<String, Object>>() {}.getType());
+                Envelopes.MAP);
     }
 
     /**
@@ -250,13 +291,14 @@ public class GroupsRequest extends BaseRequest {
      * @return 活跃摘要
      */
     public ActivitySummary getMemberActivitySummary(String groupId, String memberId) {
-        Map<String, Object> data = httpClient.get(
+        return memberActivitySummaryEndpoint(groupId, memberId).call(httpClient);
+    }
+
+    static Endpoint<ActivitySummary> memberActivitySummaryEndpoint(String groupId, String memberId) {
+        return Endpoint.<Envelopes.ActivitySummaryEnvelope>get(
                 "/v2/groups/" + groupId + "/members/" + memberId + "/summary",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object summaryObj = data.get("summary");
-        if (summaryObj == null) return null;
-        String json = gson.toJson(summaryObj);
-        return gson.fromJson(json, ActivitySummary.class);
+                Envelopes.ActivitySummaryEnvelope.class)
+                .map(Envelopes::value);
     }
 
     /**
@@ -276,16 +318,45 @@ public class GroupsRequest extends BaseRequest {
      * @return 续费信息
      */
     public RenewalInfo getRenewalInfo(String groupId) {
-        Map<String, Object> data = httpClient.get(
+        return renewalInfoEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<RenewalInfo> renewalInfoEndpoint(String groupId) {
+        return Endpoint.<Envelopes.RenewalEnvelope>get(
                 "/v2/groups/" + groupId + "/renewal",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object renewalObj = data.get("renewal");
-        if (renewalObj == null) {
-            String json = gson.toJson(data);
-            return gson.fromJson(json, RenewalInfo.class);
-        }
-        String json = gson.toJson(renewalObj);
-        return gson.fromJson(json, RenewalInfo.class);
+                Envelopes.RenewalEnvelope.class)
+                .map(Envelopes::value);
+    }
+
+    /**
+     * 并发获取星球的多个部分（详情、统计、菜单、专栏、标签、角色成员、续费信息、概览、收入），默认 10 秒截止
+     *
+     * <pre>
+     * GroupSnapshot snapshot = client.groups().snapshot(groupId, EnumSet.allOf(GroupSnapshot.Part.class));
+     * if (!snapshot.isComplete()) {
+     *     snapshot.getErrors().forEach((part, e) -&gt; log.warn("{} failed: {}", part, e.getMessage()));
+     * }
+     * </pre>
+     */
+    public GroupSnapshot snapshot(long groupId, Set<GroupSnapshot.Part> parts) {
+        return snapshot(groupId, parts, null);
+    }
+
+    /**
+     * 并发获取星球的多个部分，各部分共享 options 的截止时间；失败或超时的部分记录在 {@link GroupSnapshot#getErrors()}
+     *
+     * @param options 截止时间和并发上限，为 null 时使用默认值；并发上限与本实例上其他快照正在进行的请求合计比较
+     */
+    public GroupSnapshot snapshot(long groupId, Set<GroupSnapshot.Part> parts, SnapshotOptions options) {
+        return Futures.await(snapshots.take(groupId, parts, options));
+    }
+
+    /**
+     * 为多个星球并发取快照：所有请求共享 options 的截止时间，并与本实例上的其他快照合计不超过并发上限，按输入顺序返回（去重）
+     */
+    public Map<Long, GroupSnapshot> snapshots(Collection<Long> groupIds, Set<GroupSnapshot.Part> parts,
+                                              SnapshotOptions options) {
+        return Futures.await(snapshots.takeAll(groupIds, parts, options));
     }
 
     /**
@@ -305,16 +376,14 @@ public class GroupsRequest extends BaseRequest {
      * @return 分销信息
      */
     public DistributionInfo getDistribution(String groupId) {
-        Map<String, Object> data = httpClient.get(
+        return distributionEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<DistributionInfo> distributionEndpoint(String groupId) {
+        return Endpoint.<Envelopes.DistributionEnvelope>get(
                 "/v2/groups/" + groupId + "/distribution",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object distributionObj = data.get("distribution");
-        if (distributionObj == null) {
-            String json = gson.toJson(data);
-            return gson.fromJson(json, DistributionInfo.class);
-        }
-        String json = gson.toJson(distributionObj);
-        return gson.fromJson(json, DistributionInfo.class);
+                Envelopes.DistributionEnvelope.class)
+                .map(Envelopes::value);
     }
 
     /**
@@ -323,12 +392,13 @@ public class GroupsRequest extends BaseRequest {
      * @return 可升级的星球列表
      */
     public List<Group> getUpgradeableGroups() {
-        Map<String, Object> data = httpClient.get("/v2/groups/upgradable_groups",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object groupsObj = data.get("groups");
-        if (groupsObj == null) return new ArrayList<>();
-        String json = gson.toJson(groupsObj);
-        return gson.fromJson(json, new TypeToken<List<Group>>() {}.getType());
+        return upgradeableGroupsEndpoint().call(httpClient);
+    }
+
+    static Endpoint<List<Group>> upgradeableGroupsEndpoint() {
+        return Endpoint.<Envelopes.GroupsPage>get("/v2/groups/upgradable_groups",
+                Envelopes.GroupsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -337,12 +407,13 @@ public class GroupsRequest extends BaseRequest {
      * @return 推荐的星球列表
      */
     public List<Group> getRecommendedGroups() {
-        Map<String, Object> data = httpClient.get("/v2/groups/recommendations",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object groupsObj = data.get("groups");
-        if (groupsObj == null) return new ArrayList<>();
-        String json = gson.toJson(groupsObj);
-        return gson.fromJson(json, new TypeToken<List<Group>>() {}.getType());
+        return recommendedGroupsEndpoint().call(httpClient);
+    }
+
+    static Endpoint<List<Group>> recommendedGroupsEndpoint() {
+        return Endpoint.<Envelopes.GroupsPage>get("/v2/groups/recommendations",
+                Envelopes.GroupsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -362,13 +433,14 @@ public class GroupsRequest extends BaseRequest {
      * @return 自定义标签列表
      */
     public List<CustomTag> getCustomTags(String groupId) {
-        Map<String, Object> data = httpClient.get(
+        return customTagsEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<List<CustomTag>> customTagsEndpoint(String groupId) {
+        return Endpoint.<Envelopes.LabelsPage>get(
                 "/v2/groups/" + groupId + "/labels",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object labelsObj = data.get("labels");
-        if (labelsObj == null) return new ArrayList<>();
-        String json = gson.toJson(labelsObj);
-        return gson.fromJson(json, new TypeToken<List<CustomTag>>() {}.getType());
+                Envelopes.LabelsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -388,13 +460,14 @@ public class GroupsRequest extends BaseRequest {
      * @return 定时任务列表
      */
     public List<ScheduledJob> getScheduledTasks(String groupId) {
-        Map<String, Object> data = httpClient.get(
+        return scheduledTasksEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<List<ScheduledJob>> scheduledTasksEndpoint(String groupId) {
+        return Endpoint.<Envelopes.ScheduledJobsPage>get(
                 "/v2/groups/" + groupId + "/scheduled_jobs",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object jobsObj = data.get("jobs");
-        if (jobsObj == null) return new ArrayList<>();
-        String json = gson.toJson(jobsObj);
-        return gson.fromJson(json, new TypeToken<List<ScheduledJob>>() {}.getType());
+                Envelopes.ScheduledJobsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -414,15 +487,13 @@ public class GroupsRequest extends BaseRequest {
      * @return 风险预警信息
      */
     public GroupWarning getRiskWarnings(String groupId) {
-        Map<String, Object> data = httpClient.get(
+        return riskWarningsEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<GroupWarning> riskWarningsEndpoint(String groupId) {
+        return Endpoint.<Envelopes.WarningEnvelope>get(
                 "/v3/groups/" + groupId + "/group_warning",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object warningObj = data.get("warning");
-        if (warningObj == null) {
-            String json = gson.toJson(data);
-            return gson.fromJson(json, GroupWarning.class);
-        }
-        String json = gson.toJson(warningObj);
-        return gson.fromJson(json, GroupWarning.class);
+                Envelopes.WarningEnvelope.class)
+                .map(Envelopes::value);
     }
 }
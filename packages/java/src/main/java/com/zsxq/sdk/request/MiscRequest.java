@@ -1,9 +1,5 @@
 package com.zsxq.sdk.request;
 
-import com.google.gson.FieldNamingPolicy;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
 import com.zsxq.sdk.http.HttpClient;
 import com.zsxq.sdk.model.Activity;
 import com.zsxq.sdk.model.GlobalConfig;
@@ -11,7 +7,6 @@ import com.zsxq.sdk.model.PkBattle;
 import com.zsxq.sdk.model.PkGroup;
 import com.zsxq.sdk.model.UrlDetail;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,10 +16,6 @@ import java.util.Map;
  */
 public class MiscRequest extends BaseRequest {
 
-    private final Gson gson = new GsonBuilder()
-            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
-            .create();
-
     public MiscRequest(HttpClient httpClient) {
         super(httpClient);
     }
@@ -40,13 +31,14 @@ public class MiscRequest extends BaseRequest {
      * 获取 PK 群组详情
      */
     public PkGroup getPkGroup(String pkGroupId) {
-        Map<String, Object> data = httpClient.get(
+        return pkGroupEndpoint(pkGroupId).call(httpClient);
+    }
+
+    static Endpoint<PkGroup> pkGroupEndpoint(String pkGroupId) {
+        return Endpoint.<Envelopes.GroupEnvelope<PkGroup>>get(
                 "/v2/pk_groups/" + pkGroupId,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object groupObj = data.get("group");
-        if (groupObj == null) return null;
-        String json = gson.toJson(groupObj);
-        return gson.fromJson(json, PkGroup.class);
+                Envelopes.PK_GROUP)
+                .map(Envelopes::value);
     }
 
     /**
@@ -74,42 +66,46 @@ public class MiscRequest extends BaseRequest {
      * 获取 PK 对战记录（带参数）
      */
     public List<PkBattle> getPkBattles(String pkGroupId, PkBattlesOptions options) {
+        return pkBattlesEndpoint(pkGroupId, options).call(httpClient);
+    }
+
+    static Endpoint<List<PkBattle>> pkBattlesEndpoint(String pkGroupId, PkBattlesOptions options) {
         Map<String, Object> params = options != null ? options.toMap() : null;
-        Map<String, Object> data = httpClient.get(
+        return Endpoint.<Envelopes.PkBattlesPage>get(
                 "/v2/pk_groups/" + pkGroupId + "/records",
                 params,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object recordsObj = data.get("records");
-        if (recordsObj == null) return new ArrayList<>();
-        String json = gson.toJson(recordsObj);
-        return gson.fromJson(json, new TypeToken<List<PkBattle>>() {}.getType());
+                Envelopes.PkBattlesPage.class)
+                .map(Envelopes::items);
     }
 
     /**
      * 解析 URL 详情
      */
     public UrlDetail parseUrl(String url) {
+        return parseUrlEndpoint(url).call(httpClient);
+    }
+
+    static Endpoint<UrlDetail> parseUrlEndpoint(String url) {
         Map<String, Object> params = new HashMap<>();
         params.put("url", url);
-        Map<String, Object> data = httpClient.get(
+        return Endpoint.<Envelopes.UrlDetailEnvelope>get(
                 "/v2/url_details",
                 params,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object detailObj = data.get("url_detail");
-        if (detailObj == null) return null;
-        String json = gson.toJson(detailObj);
-        return gson.fromJson(json, UrlDetail.class);
+                Envelopes.UrlDetailEnvelope.class)
+                .map(Envelopes::value);
     }
 
     /**
      * 获取全局配置
      */
     public GlobalConfig getGlobalConfig() {
-        Map<String, Object> data = httpClient.get(
+        return globalConfigEndpoint().call(httpClient);
+    }
+
+    static Endpoint<GlobalConfig> globalConfigEndpoint() {
+        return Endpoint.get(
                 "/v2/settings",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        String json = gson.toJson(data);
-        return gson.fromJson(json, GlobalConfig.class);
+                GlobalConfig.class);
     }
 
     /**
@@ -123,15 +119,16 @@ public class MiscRequest extends BaseRequest {
      * 获取动态列表（带参数）
      */
     public List<Activity> getActivities(ActivitiesOptions options) {
+        return activitiesEndpoint(options).call(httpClient);
+    }
+
+    static Endpoint<List<Activity>> activitiesEndpoint(ActivitiesOptions options) {
         Map<String, Object> params = options != null ? options.toMap() : null;
-        Map<String, Object> data = httpClient.get(
+        return Endpoint.<Envelopes.ActivitiesPage>get(
                 "/v2/dynamics",
                 params,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object dynamicsObj = data.get("dynamics");
-        if (dynamicsObj == null) return new ArrayList<>();
-        String json = gson.toJson(dynamicsObj);
-        return gson.fromJson(json, new TypeToken<List<Activity>>() {}.getType());
+                Envelopes.ActivitiesPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -1,15 +1,10 @@
 package com.zsxq.sdk.request;
 
-import com.google.gson.FieldNamingPolicy;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
 import com.zsxq.sdk.http.HttpClient;
 import com.zsxq.sdk.model.RankingItem;
 import com.zsxq.sdk.model.RankingStatistics;
 import com.zsxq.sdk.model.ScoreboardSettings;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,10 +14,6 @@ import java.util.Map;
  */
 public class RankingRequest extends BaseRequest {
 
-    private final Gson gson = new GsonBuilder()
-            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
-            .create();
-
     public RankingRequest(HttpClient httpClient) {
         super(httpClient);
     }
@@ -66,15 +57,16 @@ public class RankingRequest extends BaseRequest {
      * @return 排行列表
      */
     public List<RankingItem> getGroupRanking(String groupId, RankingOptions options) {
+        return groupRankingEndpoint(groupId, options).call(httpClient);
+    }
+
+    static Endpoint<List<RankingItem>> groupRankingEndpoint(String groupId, RankingOptions options) {
         Map<String, Object> params = options != null ? options.toMap() : new HashMap<>();
-        Map<String, Object> data = httpClient.get(
+        return Endpoint.<Envelopes.RankingListPage>get(
                 "/v2/groups/" + groupId + "/ranking_list",
                 params,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object rankingObj = data.get("ranking_list");
-        if (rankingObj == null) return new ArrayList<>();
-        String json = gson.toJson(rankingObj);
-        return gson.fromJson(json, new TypeToken<List<RankingItem>>() {}.getType());
+                Envelopes.RankingListPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -86,13 +78,17 @@ public class RankingRequest extends BaseRequest {
      * @return 排行列表
      */
     public Map<String, Object> getGlobalRanking(String type, int count) {
+        return globalRankingEndpoint(type, count).call(httpClient);
+    }
+
+    static Endpoint<Map<String, Object>> globalRankingEndpoint(String type, int count) {
         Map<String, Object> params = new HashMap<>();
         params.put("type", type);
         params.put("count", count);
-        return httpClient.get(
+        return Endpoint.get(
                 "/v3/groups/ranking_list",
                 params,
-                new TypeToken<Map<String, Object>>() {}.getType());
+                Envelopes.MAP);
     }
 
     /**
@@ -112,13 +108,14 @@ public class RankingRequest extends BaseRequest {
      * @return 排行统计
      */
     public RankingStatistics getGroupRankingStats(String groupId) {
-        Map<String, Object> data = httpClient.get(
+        return groupRankingStatsEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<RankingStatistics> groupRankingStatsEndpoint(String groupId) {
+        return Endpoint.<Envelopes.StatisticsEnvelope<RankingStatistics>>get(
                 "/v3/groups/" + groupId + "/ranking_list/statistics",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object statsObj = data.get("statistics");
-        if (statsObj == null) return null;
-        String json = gson.toJson(statsObj);
-        return gson.fromJson(json, RankingStatistics.class);
+                Envelopes.RANKING_STATISTICS)
+                .map(Envelopes::value);
     }
 
     /**
@@ -160,15 +157,16 @@ public class RankingRequest extends BaseRequest {
      * @return 排行列表
      */
     public List<RankingItem> getScoreRanking(String groupId, RankingOptions options) {
+        return scoreRankingEndpoint(groupId, options).call(httpClient);
+    }
+
+    static Endpoint<List<RankingItem>> scoreRankingEndpoint(String groupId, RankingOptions options) {
         Map<String, Object> params = options != null ? options.toMap() : new HashMap<>();
-        Map<String, Object> data = httpClient.get(
+        return Endpoint.<Envelopes.RankingListPage>get(
                 "/v2/dashboard/groups/" + groupId + "/scoreboard/ranking_list",
                 params,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object rankingObj = data.get("ranking_list");
-        if (rankingObj == null) return new ArrayList<>();
-        String json = gson.toJson(rankingObj);
-        return gson.fromJson(json, new TypeToken<List<RankingItem>>() {}.getType());
+                Envelopes.RankingListPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -188,13 +186,14 @@ public class RankingRequest extends BaseRequest {
      * @return 我的积分统计
      */
     public Map<String, Object> getMyScoreStats(String groupId) {
-        Map<String, Object> data = httpClient.get(
+        return myScoreStatsEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<Map<String, Object>> myScoreStatsEndpoint(String groupId) {
+        return Endpoint.<Envelopes.StatisticsEnvelope<Map<String, Object>>>get(
                 "/v2/dashboard/groups/" + groupId + "/scoreboard/statistics/self",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object statsObj = data.get("statistics");
-        if (statsObj == null) return new HashMap<>();
-        String json = gson.toJson(statsObj);
-        return gson.fromJson(json, new TypeToken<Map<String, Object>>() {}.getType());
+                Envelopes.MAP_STATISTICS)
+                .map(e -> Envelopes.orEmpty(Envelopes.value(e)));
     }
 
     /**
@@ -214,11 +213,13 @@ public class RankingRequest extends BaseRequest {
      * @return 积分榜设置
      */
     public ScoreboardSettings getScoreboardSettings(String groupId) {
-        Map<String, Object> data = httpClient.get(
+        return scoreboardSettingsEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<ScoreboardSettings> scoreboardSettingsEndpoint(String groupId) {
+        return Endpoint.get(
                 "/v2/dashboard/groups/" + groupId + "/scoreboard/settings",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        String json = gson.toJson(data);
-        return gson.fromJson(json, ScoreboardSettings.class);
+                ScoreboardSettings.class);
     }
 
     /**
@@ -238,13 +239,14 @@ public class RankingRequest extends BaseRequest {
      * @return 排行列表
      */
     public List<RankingItem> getInvitationRanking(String groupId) {
-        Map<String, Object> data = httpClient.get(
+        return invitationRankingEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<List<RankingItem>> invitationRankingEndpoint(String groupId) {
+        return Endpoint.<Envelopes.RankingListPage>get(
                 "/v2/groups/" + groupId + "/invitations/ranking_list",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object rankingObj = data.get("ranking_list");
-        if (rankingObj == null) return new ArrayList<>();
-        String json = gson.toJson(rankingObj);
-        return gson.fromJson(json, new TypeToken<List<RankingItem>>() {}.getType());
+                Envelopes.RankingListPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -264,13 +266,14 @@ public class RankingRequest extends BaseRequest {
      * @return 排行列表
      */
     public List<RankingItem> getContributionRanking(String groupId) {
-        Map<String, Object> data = httpClient.get(
+        return contributionRankingEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<List<RankingItem>> contributionRankingEndpoint(String groupId) {
+        return Endpoint.<Envelopes.RankingListPage>get(
                 "/v2/groups/" + groupId + "/contribution_ranking_list",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object rankingObj = data.get("ranking_list");
-        if (rankingObj == null) return new ArrayList<>();
-        String json = gson.toJson(rankingObj);
-        return gson.fromJson(json, new TypeToken<List<RankingItem>>() {}.getType());
+                Envelopes.RankingListPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -0,0 +1,43 @@
+package com.zsxq.sdk.request;
+
+/**
+ * 星球快照的参数（{@code snapshot}）
+ *
+ * 并发上限与同一个 GroupsRequest（或 AsyncGroupsRequest）上正在进行的所有快照请求合计比较，
+ * 可以同时为多个星球取快照而不超过总并发。
+ */
+public class SnapshotOptions {
+
+    private long deadlineMillis = 10_000;
+    private int maxConcurrency = 8;
+
+    /**
+     * 截止时间（毫秒，默认 10 秒），从调用 snapshot 开始计算；到期未完成的部分记为超时错误
+     */
+    public SnapshotOptions deadlineMillis(long deadlineMillis) {
+        if (deadlineMillis <= 0) {
+            throw new IllegalArgumentException("deadlineMillis must be positive: " + deadlineMillis);
+        }
+        this.deadlineMillis = deadlineMillis;
+        return this;
+    }
+
+    /**
+     * 同时进行的请求数上限（默认 8），包括同一个请求模块上其他快照正在进行的请求
+     */
+    public SnapshotOptions maxConcurrency(int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+}
@@ -0,0 +1,364 @@
+package com.zsxq.sdk.request;
+
+import com.zsxq.sdk.http.Futures;
+import com.zsxq.sdk.http.HttpClient;
+import com.zsxq.sdk.model.Topic;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 按时间窗口并行抓取一段时间内的全部话题
+ *
+ * 把 [beginTime, endTime] 等分为 parallelism 个窗口，每个窗口以 begin_time 限定下界、end_time 游标向更早翻页，
+ * 窗口之间并行。某个窗口翻到满页且剩余跨度足够大、同时有空闲的并发名额时，把剩余部分对半拆开，
+ * 较早的一半交给空闲名额，因此话题集中在少数时间段时仍能保持并行。
+ * 全部窗口结束后按 topic_id 去重（相邻窗口共享边界时刻），按 create_time 从新到旧排序返回。
+ *
+ * 请求经过客户端的限流器和熔断器，并发数不应超过限流允许的速率。
+ *
+ * <pre>
+ * List&lt;Topic&gt; topics = client.topics().crawler(groupId, new ListTopicsOptions()
+ *         .beginTime("2021-01-01T00:00:00.000+0800")
+ *         .endTime("2024-01-01T00:00:00.000+0800")
+ *         .count(30))
+ *     .parallelism(8)
+ *     .run();
+ * </pre>
+ */
+public final class TopicCrawler {
+
+    static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+
+    private static final Comparator<Topic> NEWEST_FIRST = Comparator
+            .comparingLong((Topic t) -> parseMillis(t.getCreateTime(), Long.MIN_VALUE))
+            .thenComparing(Topic::getTopicId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .reversed();
+
+    private final Function<Map<String, Object>, CompletableFuture<List<Topic>>> pageLoader;
+    private final Map<String, Object> baseParams;
+    private final int count;
+    private final long beginMillis;
+    private final long endMillis;
+    private final ZoneOffset offset;
+
+    private int parallelism = 4;
+    private long minWindowMillis = 60_000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<long[]> queued = new ArrayDeque<>();
+    private int active;
+    private boolean dispatching;
+    private final Map<Long, Topic> topics = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Topic> withoutId = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pageCount = new AtomicInteger();
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private CompletableFuture<List<Topic>> result;
+
+    TopicCrawler(Function<Map<String, Object>, CompletableFuture<List<Topic>>> pageLoader,
+                 TopicsRequest.ListTopicsOptions options) {
+        Map<String, Object> params = options != null ? options.toMap() : new HashMap<>();
+        if ("forward".equals(params.get("direction"))) {
+            throw new IllegalArgumentException("crawler walks backward; direction must not be forward");
+        }
+        Object begin = params.remove("begin_time");
+        if (begin == null) {
+            throw new IllegalArgumentException("beginTime is required");
+        }
+        Object end = params.remove("end_time");
+        OffsetDateTime beginTime = parse(begin.toString());
+        OffsetDateTime endTime = end != null ? parse(end.toString()) : OffsetDateTime.now(beginTime.getOffset());
+        if (endTime.isBefore(beginTime)) {
+            throw new IllegalArgumentException("endTime is before beginTime: " + end + " < " + begin);
+        }
+        params.putIfAbsent("count", 20);
+        this.pageLoader = pageLoader;
+        this.baseParams = params;
+        this.count = ((Number) params.get("count")).intValue();
+        this.beginMillis = beginTime.toInstant().toEpochMilli();
+        this.endMillis = endTime.toInstant().toEpochMilli();
+        this.offset = endTime.getOffset();
+    }
+
+    static TopicCrawler forPath(HttpClient httpClient, String path, TopicsRequest.ListTopicsOptions options) {
+        return new TopicCrawler(params -> TopicsRequest.topicsPageEndpoint(path, params).callAsync(httpClient),
+                options);
+    }
+
+    /**
+     * 同时抓取的窗口数（默认 4）
+     */
+    public TopicCrawler parallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * 拆分后每个窗口的最小跨度（毫秒，默认 60 秒），跨度不足两倍时不再拆分
+     */
+    public TopicCrawler minWindowMillis(long minWindowMillis) {
+        this.minWindowMillis = Math.max(1, minWindowMillis);
+        return this;
+    }
+
+    /**
+     * 抓取并返回全部话题（从新到旧），任一页失败时抛出该页的异常
+     */
+    public List<Topic> run() {
+        return Futures.await(runAsync());
+    }
+
+    /**
+     * 异步抓取，任一页失败时以该页的异常结束；只能调用一次
+     */
+    public CompletableFuture<List<Topic>> runAsync() {
+        lock.lock();
+        try {
+            if (result != null) {
+                throw new IllegalStateException("crawler already started");
+            }
+            result = new CompletableFuture<>();
+            long span = endMillis - beginMillis;
+            int windows = (int) Math.max(1, Math.min(parallelism, span / minWindowMillis));
+            long upper = endMillis;
+            for (int i = 1; i <= windows; i++) {
+                long lower = i == windows ? beginMillis : endMillis - span / windows * i;
+                queued.addLast(new long[] {lower, upper});
+                upper = lower;
+            }
+        } finally {
+            lock.unlock();
+        }
+        dispatch(false);
+        return result;
+    }
+
+    /**
+     * 已请求的页数
+     */
+    public int getPageCount() {
+        return pageCount.get();
+    }
+
+    /**
+     * 抓取过的窗口数（含拆分出的窗口）
+     */
+    public int getWindowCount() {
+        return windowCount.get();
+    }
+
+    /**
+     * 启动排队中的窗口；嵌套调用（窗口在 walk 内同步结束）只更新计数，由外层循环继续
+     *
+     * @param finished 是否有一个窗口刚结束
+     */
+    private void dispatch(boolean finished) {
+        lock.lock();
+        try {
+            if (finished) {
+                active--;
+            }
+            if (dispatching) {
+                return;
+            }
+            dispatching = true;
+        } finally {
+            lock.unlock();
+        }
+        while (true) {
+            long[] window;
+            boolean done;
+            lock.lock();
+            try {
+                window = active < parallelism ? queued.pollFirst() : null;
+                if (window != null) {
+                    active++;
+                }
+                done = window == null && active == 0;
+                if (window == null) {
+                    dispatching = false;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (window == null) {
+                if (done) {
+                    result.complete(merge());
+                }
+                return;
+            }
+            windowCount.incrementAndGet();
+            walk(new Window(window[0], window[1]));
+        }
+    }
+
+    /**
+     * 逐页翻完一个窗口。已完成的页（缓存命中、熔断打开）在循环内直接处理，不加深调用栈；
+     * 未完成的页在回调中继续同一个循环
+     */
+    private void walk(Window window) {
+        while (!result.isDone()) {
+            Map<String, Object> params = new HashMap<>(baseParams);
+            params.put("begin_time", format(window.lower));
+            params.put("end_time", format(window.cursor));
+            CompletableFuture<List<Topic>> page = pageLoader.apply(params);
+            if (!page.isDone()) {
+                page.whenComplete((value, error) -> {
+                    if (onPage(window, value, error)) {
+                        walk(window);
+                    }
+                });
+                return;
+            }
+            List<Topic> value;
+            try {
+                value = page.join();
+            } catch (CompletionException | CancellationException e) {
+                onPage(window, null, e);
+                return;
+            }
+            if (!onPage(window, value, null)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 处理一页，返回窗口是否还要继续翻页
+     */
+    private boolean onPage(Window window, List<Topic> page, Throwable error) {
+        if (error != null) {
+            result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error);
+            return false;
+        }
+        if (page == null) {
+            page = Collections.emptyList();
+        }
+        pageCount.incrementAndGet();
+        long lower = window.lower;
+        Set<Long> ids = new HashSet<>(page.size() * 2);
+        boolean fresh = false;
+        boolean belowWindow = false;
+        for (Topic topic : page) {
+            if (parseMillis(topic.getCreateTime(), lower) < lower) {
+                // 服务端未按 begin_time 截断时，更早的话题属于其他窗口
+                belowWindow = true;
+                continue;
+            }
+            Long id = topic.getTopicId();
+            if (id == null) {
+                withoutId.add(topic);
+                fresh = true;
+            } else {
+                ids.add(id);
+                if (!window.previousIds.contains(id)) {
+                    topics.putIfAbsent(id, topic);
+                    fresh = true;
+                }
+            }
+        }
+
+        long next = page.isEmpty() ? Long.MIN_VALUE
+                : parseMillis(page.get(page.size() - 1).getCreateTime(), Long.MIN_VALUE);
+        if (page.size() < count || !fresh || belowWindow || next == Long.MIN_VALUE || next <= lower) {
+            dispatch(true);
+            return false;
+        }
+        window.lower = split(lower, next);
+        window.cursor = next;
+        window.previousIds = ids;
+        return true;
+    }
+
+    /**
+     * 窗口剩余部分 [lower, next] 跨度足够且有空闲名额时，把较早的一半排队，返回当前窗口新的下界
+     */
+    private long split(long lower, long next) {
+        if (next - lower < 2 * minWindowMillis) {
+            return lower;
+        }
+        long mid = lower + (next - lower) / 2;
+        lock.lock();
+        try {
+            if (!queued.isEmpty() || active >= parallelism) {
+                return lower;
+            }
+            queued.addLast(new long[] {lower, mid});
+        } finally {
+            lock.unlock();
+        }
+        dispatch(false);
+        return mid;
+    }
+
+    private List<Topic> merge() {
+        List<Topic> merged = new ArrayList<>(topics.size() + withoutId.size());
+        merged.addAll(topics.values());
+        merged.addAll(withoutId);
+        merged.sort(NEWEST_FIRST);
+        return merged;
+    }
+
+    /**
+     * 一个窗口的翻页状态：下界、end_time 游标和上一页的话题 ID（去掉翻页边界的重复话题）
+     */
+    private static final class Window {
+
+        long lower;
+        long cursor;
+        Set<Long> previousIds = Collections.emptySet();
+
+        Window(long lower, long cursor) {
+            this.lower = lower;
+            this.cursor = cursor;
+        }
+    }
+
+    private String format(long millis) {
+        return TIME_FORMAT.format(Instant.ofEpochMilli(millis).atOffset(offset));
+    }
+
+    private static OffsetDateTime parse(String time) {
+        try {
+            return OffsetDateTime.parse(time, TIME_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("unexpected time format (yyyy-MM-dd'T'HH:mm:ss.SSSZ): " + time, e);
+        }
+    }
+
+    private static long parseMillis(String time, long fallback) {
+        if (time == null) {
+            return fallback;
+        }
+        try {
+            return OffsetDateTime.parse(time, TIME_FORMAT).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.zsxq.sdk.request;
+
+import com.zsxq.sdk.http.Futures;
+import com.zsxq.sdk.model.Topic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 话题列表的惰性分页迭代器
+ *
+ * 以上一页最后一个话题的 create_time 作为下一页的 end_time 向更早的话题翻页，
+ * 并丢弃与上一页重复的边界话题；返回空页或没有新话题时结束。
+ *
+ * 开启预取时，每拿到一页就立即异步请求下一页，调用方处理当前页的同时下一页已在路上。
+ * 提前结束遍历时应调用 {@link #close()}（或关闭 {@link #stream()}）取消未完成的预取。
+ */
+public final class TopicIterator implements Iterator<Topic>, AutoCloseable {
+
+    private final Function<String, CompletableFuture<List<Topic>>> pageLoader;
+    private final boolean prefetch;
+
+    private String cursor;
+    private Iterator<Topic> current = Collections.emptyIterator();
+    private CompletableFuture<List<Topic>> pending;
+    private Set<Long> previousIds = Collections.emptySet();
+    private boolean exhausted;
+    private int pageCount;
+
+    /**
+     * @param pageLoader 按 end_time 加载一页话题（首页传入初始 end_time，可能为 null）
+     * @param endTime 初始 end_time，为 null 时从最新话题开始
+     * @param prefetch 是否预取下一页
+     */
+    TopicIterator(Function<String, CompletableFuture<List<Topic>>> pageLoader, String endTime, boolean prefetch) {
+        this.pageLoader = pageLoader;
+        this.cursor = endTime;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (exhausted) {
+                return false;
+            }
+            loadNextPage();
+        }
+        return true;
+    }
+
+    @Override
+    public Topic next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * 以 Stream 形式遍历（顺序流），关闭流时取消未完成的预取
+     */
+    public Stream<Topic> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * 已请求的页数（不含尚未使用的预取页）
+     */
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * 停止遍历并取消未完成的预取
+     */
+    @Override
+    public void close() {
+        exhausted = true;
+        current = Collections.emptyIterator();
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+    }
+
+    private void loadNextPage() {
+        CompletableFuture<List<Topic>> future = pending != null ? pending : pageLoader.apply(cursor);
+        pending = null;
+        List<Topic> page = await(future);
+        pageCount++;
+
+        List<Topic> fresh = new ArrayList<>(page.size());
+        Set<Long> ids = new HashSet<>(page.size() * 2);
+        for (Topic topic : page) {
+            Long id = topic.getTopicId();
+            if (id != null) {
+                ids.add(id);
+                if (previousIds.contains(id)) {
+                    continue;
+                }
+            }
+            fresh.add(topic);
+        }
+
+        String nextCursor = page.isEmpty() ? null : page.get(page.size() - 1).getCreateTime();
+        if (fresh.isEmpty() || nextCursor == null) {
+            exhausted = true;
+        } else {
+            previousIds = ids;
+            cursor = nextCursor;
+            if (prefetch) {
+                pending = pageLoader.apply(cursor);
+            }
+        }
+        current = fresh.iterator();
+    }
+
+    private static List<Topic> await(CompletableFuture<List<Topic>> future) {
+        List<Topic> page = Futures.await(future);
+        return page != null ? page : Collections.emptyList();
+    }
+}
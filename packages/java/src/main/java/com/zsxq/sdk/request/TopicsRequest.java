@@ -1,28 +1,24 @@
 package com.zsxq.sdk.request;
 
-import com.google.gson.FieldNamingPolicy;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.http.Futures;
 import com.zsxq.sdk.http.HttpClient;
 import com.zsxq.sdk.model.Comment;
 import com.zsxq.sdk.model.Reward;
 import com.zsxq.sdk.model.Topic;
+import com.zsxq.sdk.model.TopicBundle;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 话题请求模块
  */
 public class TopicsRequest extends BaseRequest {
 
-    private final Gson gson = new GsonBuilder()
-            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
-            .create();
-
     public TopicsRequest(HttpClient httpClient) {
         super(httpClient);
     }
@@ -52,37 +48,86 @@ public class TopicsRequest extends BaseRequest {
      * 获取话题列表（带参数）
      */
     public List<Topic> list(String groupId, ListTopicsOptions options) {
+        return listEndpoint(groupId, options).call(httpClient);
+    }
+
+    static Endpoint<List<Topic>> listEndpoint(String groupId, ListTopicsOptions options) {
         Map<String, Object> params = options != null ? options.toMap() : new HashMap<>();
         // API 要求必须有 count 参数，默认 20
         if (!params.containsKey("count")) {
             params.put("count", 20);
         }
-        Map<String, Object> data = httpClient.get(
+        return Endpoint.<Envelopes.TopicsPage>get(
                 "/v2/groups/" + groupId + "/topics",
                 params,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object topicsObj = data.get("topics");
-        if (topicsObj == null) return new ArrayList<>();
-        String json = gson.toJson(topicsObj);
-        return gson.fromJson(json, new TypeToken<List<Topic>>() {}.getType());
+                Envelopes.TopicsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
      * 获取话题详情
      */
     public Topic get(long topicId) {
-        Map<String, Object> data = httpClient.get("/v2/topics/" + topicId,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        return convertToTopic(data.get("topic"));
+        return getEndpoint(topicId).call(httpClient);
+    }
+
+    static Endpoint<Topic> getEndpoint(long topicId) {
+        return Endpoint.<Envelopes.TopicEnvelope>get("/v2/topics/" + topicId,
+                Envelopes.TopicEnvelope.class)
+                .map(Envelopes::value);
     }
 
     /**
      * 获取话题详情
      */
     public Topic get(String topicId) {
-        Map<String, Object> data = httpClient.get("/v2/topics/" + topicId,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        return convertToTopic(data.get("topic"));
+        return getEndpoint(topicId).call(httpClient);
+    }
+
+    static Endpoint<Topic> getEndpoint(String topicId) {
+        return Endpoint.<Envelopes.TopicEnvelope>get("/v2/topics/" + topicId,
+                Envelopes.TopicEnvelope.class)
+                .map(Envelopes::value);
+    }
+
+    /**
+     * 按 ID 批量获取话题：重复的 ID 只请求一次，并发数受 options 限制，每个 ID 单独成功或失败
+     *
+     * <pre>
+     * BulkResult&lt;Topic&gt; result = client.topics().getAll(ids, new BulkOptions().parallelism(16));
+     * result.getErrors().forEach((id, e) -&gt; log.warn("{} failed: {}", id, e.getMessage()));
+     * </pre>
+     *
+     * @param options 为 null 时使用默认值（并发 8）
+     */
+    public BulkResult<Topic> getAll(Collection<Long> ids, BulkOptions options) {
+        return getAll(ids, options, null);
+    }
+
+    /**
+     * 按 ID 批量获取话题，并按输入顺序（去重后）逐个回调结果
+     *
+     * @param onItem 在完成请求的线程上串行回调，不应阻塞
+     */
+    public BulkResult<Topic> getAll(Collection<Long> ids, BulkOptions options,
+                                      Consumer<BulkResult.Item<Topic>> onItem) {
+        return Futures.await(BulkFetch.run(ids, id -> getEndpoint(String.valueOf(id)).callAsync(httpClient),
+                options, onItem));
+    }
+
+    /**
+     * 并发获取话题详情、评论、打赏和相关推荐（见 {@link AsyncTopicsRequest#getFull(long)}），
+     * 耗时取决于最慢的一个请求而不是四个请求之和
+     */
+    public TopicBundle getFull(long topicId) {
+        return Futures.await(new AsyncTopicsRequest(httpClient).getFull(topicId));
+    }
+
+    /**
+     * 基于已有的话题并发获取评论、打赏和相关推荐，跳过计数为 0 的评论和打赏请求
+     */
+    public TopicBundle getFull(Topic topic) {
+        return Futures.await(new AsyncTopicsRequest(httpClient).getFull(topic));
     }
 
     /**
@@ -110,15 +155,16 @@ public class TopicsRequest extends BaseRequest {
      * 获取话题评论
      */
     public List<Comment> getComments(String topicId, ListCommentsOptions options) {
+        return commentsEndpoint(topicId, options).call(httpClient);
+    }
+
+    static Endpoint<List<Comment>> commentsEndpoint(String topicId, ListCommentsOptions options) {
         Map<String, Object> params = options != null ? options.toMap() : new HashMap<>();
-        Map<String, Object> data = httpClient.get(
+        return Endpoint.<Envelopes.CommentsPage>get(
                 "/v2/topics/" + topicId + "/comments",
                 params,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object commentsObj = data.get("comments");
-        if (commentsObj == null) return new ArrayList<>();
-        String json = gson.toJson(commentsObj);
-        return gson.fromJson(json, new TypeToken<List<Comment>>() {}.getType());
+                Envelopes.CommentsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -146,15 +192,16 @@ public class TopicsRequest extends BaseRequest {
      * 按标签获取话题（带参数）
      */
     public List<Topic> listByHashtag(String hashtagId, ListTopicsOptions options) {
+        return listByHashtagEndpoint(hashtagId, options).call(httpClient);
+    }
+
+    static Endpoint<List<Topic>> listByHashtagEndpoint(String hashtagId, ListTopicsOptions options) {
         Map<String, Object> params = options != null ? options.toMap() : new HashMap<>();
-        Map<String, Object> data = httpClient.get(
+        return Endpoint.<Envelopes.TopicsPage>get(
                 "/v2/hashtags/" + hashtagId + "/topics",
                 params,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object topicsObj = data.get("topics");
-        if (topicsObj == null) return new ArrayList<>();
-        String json = gson.toJson(topicsObj);
-        return gson.fromJson(json, new TypeToken<List<Topic>>() {}.getType());
+                Envelopes.TopicsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -182,22 +229,18 @@ public class TopicsRequest extends BaseRequest {
      * 按专栏获取话题（带参数）
      */
     public List<Topic> listByColumn(String groupId, String columnId, ListTopicsOptions options) {
+        return listByColumnEndpoint(groupId, columnId, options).call(httpClient);
+    }
+
+    static Endpoint<List<Topic>> listByColumnEndpoint(String groupId, String columnId, ListTopicsOptions options) {
         Map<String, Object> params = options != null ? options.toMap() : new HashMap<>();
-        Map<String, Object> data = httpClient.get(
+        return Endpoint.<Envelopes.TopicsPage>get(
                 "/v2/groups/" + groupId + "/columns/" + columnId + "/topics",
                 params,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object topicsObj = data.get("topics");
-        if (topicsObj == null) return new ArrayList<>();
-        String json = gson.toJson(topicsObj);
-        return gson.fromJson(json, new TypeToken<List<Topic>>() {}.getType());
+                Envelopes.TopicsPage.class)
+                .map(Envelopes::items);
     }
 
-    private Topic convertToTopic(Object obj) {
-        if (obj == null) return null;
-        String json = gson.toJson(obj);
-        return gson.fromJson(json, Topic.class);
-    }
 
     /**
      * 获取话题基础信息（轻量级）
@@ -216,9 +259,13 @@ public class TopicsRequest extends BaseRequest {
      * @return 话题对象
      */
     public Topic getInfo(String topicId) {
-        Map<String, Object> data = httpClient.get("/v2/topics/" + topicId + "/info",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        return convertToTopic(data.get("topic"));
+        return infoEndpoint(topicId).call(httpClient);
+    }
+
+    static Endpoint<Topic> infoEndpoint(String topicId) {
+        return Endpoint.<Envelopes.TopicEnvelope>get("/v2/topics/" + topicId + "/info",
+                Envelopes.TopicEnvelope.class)
+                .map(Envelopes::value);
     }
 
     /**
@@ -238,12 +285,13 @@ public class TopicsRequest extends BaseRequest {
      * @return 打赏列表
      */
     public List<Reward> getRewards(String topicId) {
-        Map<String, Object> data = httpClient.get("/v2/topics/" + topicId + "/rewards",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object rewardsObj = data.get("rewards");
-        if (rewardsObj == null) return new ArrayList<>();
-        String json = gson.toJson(rewardsObj);
-        return gson.fromJson(json, new TypeToken<List<Reward>>() {}.getType());
+        return rewardsEndpoint(topicId).call(httpClient);
+    }
+
+    static Endpoint<List<Reward>> rewardsEndpoint(String topicId) {
+        return Endpoint.<Envelopes.RewardsPage>get("/v2/topics/" + topicId + "/rewards",
+                Envelopes.RewardsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -263,12 +311,13 @@ public class TopicsRequest extends BaseRequest {
      * @return 推荐话题列表
      */
     public List<Topic> getRecommendations(String topicId) {
-        Map<String, Object> data = httpClient.get("/v2/topics/" + topicId + "/recommendations",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object topicsObj = data.get("topics");
-        if (topicsObj == null) return new ArrayList<>();
-        String json = gson.toJson(topicsObj);
-        return gson.fromJson(json, new TypeToken<List<Topic>>() {}.getType());
+        return recommendationsEndpoint(topicId).call(httpClient);
+    }
+
+    static Endpoint<List<Topic>> recommendationsEndpoint(String topicId) {
+        return Endpoint.<Envelopes.TopicsPage>get("/v2/topics/" + topicId + "/recommendations",
+                Envelopes.TopicsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -288,12 +337,123 @@ public class TopicsRequest extends BaseRequest {
      * @return 置顶话题列表
      */
     public List<Topic> listSticky(String groupId) {
-        Map<String, Object> data = httpClient.get("/v2/groups/" + groupId + "/topics/sticky",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object topicsObj = data.get("topics");
-        if (topicsObj == null) return new ArrayList<>();
-        String json = gson.toJson(topicsObj);
-        return gson.fromJson(json, new TypeToken<List<Topic>>() {}.getType());
+        return listStickyEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<List<Topic>> listStickyEndpoint(String groupId) {
+        return Endpoint.<Envelopes.TopicsPage>get("/v2/groups/" + groupId + "/topics/sticky",
+                Envelopes.TopicsPage.class)
+                .map(Envelopes::items);
+    }
+
+    /**
+     * 遍历星球的全部话题（从新到旧，自动翻页，默认预取下一页）
+     *
+     * <pre>
+     * for (TopicIterator it = client.topics().iterate(groupId, null); it.hasNext(); ) {
+     *     Topic topic = it.next();
+     * }
+     * </pre>
+     *
+     * @param options 查询参数，count 为每页条数，endTime 为起始位置；direction 不应设置为 forward
+     */
+    public TopicIterator iterate(long groupId, ListTopicsOptions options) {
+        return iterate(String.valueOf(groupId), options, true);
+    }
+
+    /**
+     * 遍历星球的全部话题（从新到旧，自动翻页，默认预取下一页）
+     */
+    public TopicIterator iterate(String groupId, ListTopicsOptions options) {
+        return iterate(groupId, options, true);
+    }
+
+    /**
+     * 遍历星球的全部话题
+     *
+     * @param prefetch 是否在处理当前页时预取下一页
+     */
+    public TopicIterator iterate(String groupId, ListTopicsOptions options, boolean prefetch) {
+        return iteratePath("/v2/groups/" + groupId + "/topics", options, prefetch);
+    }
+
+    /**
+     * 以 Stream 形式遍历星球的全部话题，提前结束时应关闭流
+     *
+     * <pre>
+     * try (Stream&lt;Topic&gt; topics = client.topics().stream(groupId, null)) {
+     *     topics.filter(t -&gt; Boolean.TRUE.equals(t.getDigested())).forEach(...);
+     * }
+     * </pre>
+     */
+    public Stream<Topic> stream(long groupId, ListTopicsOptions options) {
+        return iterate(groupId, options).stream();
+    }
+
+    /**
+     * 以 Stream 形式遍历星球的全部话题，提前结束时应关闭流
+     */
+    public Stream<Topic> stream(String groupId, ListTopicsOptions options) {
+        return iterate(groupId, options).stream();
+    }
+
+    /**
+     * 遍历标签下的全部话题（从新到旧，自动翻页，预取下一页）
+     */
+    public TopicIterator iterateByHashtag(String hashtagId, ListTopicsOptions options) {
+        return iteratePath("/v2/hashtags/" + hashtagId + "/topics", options, true);
+    }
+
+    /**
+     * 遍历专栏下的全部话题（从新到旧，自动翻页，预取下一页）
+     */
+    public TopicIterator iterateByColumn(String groupId, String columnId, ListTopicsOptions options) {
+        return iteratePath("/v2/groups/" + groupId + "/columns/" + columnId + "/topics", options, true);
+    }
+
+    /**
+     * 按时间窗口并行抓取星球在 [beginTime, endTime] 内的全部话题，返回从新到旧排序、去重后的列表
+     *
+     * @param options 必须设置 beginTime；endTime 为空时到当前时间；count 为每页条数
+     * @param parallelism 同时抓取的窗口数
+     */
+    public List<Topic> crawl(long groupId, ListTopicsOptions options, int parallelism) {
+        return crawler(String.valueOf(groupId), options).parallelism(parallelism).run();
+    }
+
+    /**
+     * 按时间窗口并行抓取星球在 [beginTime, endTime] 内的全部话题
+     */
+    public List<Topic> crawl(String groupId, ListTopicsOptions options, int parallelism) {
+        return crawler(groupId, options).parallelism(parallelism).run();
+    }
+
+    /**
+     * 创建按时间窗口并行抓取的 {@link TopicCrawler}，可设置并发数和最小窗口跨度
+     */
+    public TopicCrawler crawler(String groupId, ListTopicsOptions options) {
+        return TopicCrawler.forPath(httpClient, "/v2/groups/" + groupId + "/topics", options);
+    }
+
+    /**
+     * 任意话题列表路径的一页（群组、标签、专栏时间线）
+     */
+    static Endpoint<List<Topic>> topicsPageEndpoint(String path, Map<String, Object> params) {
+        return Endpoint.<Envelopes.TopicsPage>get(path, params, Envelopes.TopicsPage.class)
+                .map(Envelopes::items);
+    }
+
+    private TopicIterator iteratePath(String path, ListTopicsOptions options, boolean prefetch) {
+        Map<String, Object> base = options != null ? options.toMap() : new HashMap<>();
+        base.putIfAbsent("count", 20);
+        Object endTime = base.remove("end_time");
+        return new TopicIterator(cursor -> {
+            Map<String, Object> params = new HashMap<>(base);
+            if (cursor != null) {
+                params.put("end_time", cursor);
+            }
+            return topicsPageEndpoint(path, params).callAsync(httpClient);
+        }, endTime != null ? endTime.toString() : null, prefetch);
     }
 
     /**
@@ -356,6 +516,7 @@ public class TopicsRequest extends BaseRequest {
         private Integer count;
         private String sort; // "asc" | "desc"
         private Boolean withSticky;
+        private String beginTime;
 
         public ListCommentsOptions count(int count) {
             this.count = count;
@@ -372,11 +533,17 @@ public class TopicsRequest extends BaseRequest {
             return this;
         }
 
+        public ListCommentsOptions beginTime(String beginTime) {
+            this.beginTime = beginTime;
+            return this;
+        }
+
         Map<String, Object> toMap() {
             Map<String, Object> map = new HashMap<>();
             if (count != null) map.put("count", count);
             if (sort != null) map.put("sort", sort);
             if (withSticky != null) map.put("with_sticky", withSticky);
+            if (beginTime != null) map.put("begin_time", beginTime);
             return map;
         }
     }
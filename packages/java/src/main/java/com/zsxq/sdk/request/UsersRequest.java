@@ -1,9 +1,6 @@
 package com.zsxq.sdk.request;
 
-import com.google.gson.FieldNamingPolicy;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.http.Futures;
 import com.zsxq.sdk.http.HttpClient;
 import com.zsxq.sdk.model.AchievementSummary;
 import com.zsxq.sdk.model.Contribution;
@@ -19,19 +16,16 @@ import com.zsxq.sdk.model.UnansweredQuestionsSummary;
 import com.zsxq.sdk.model.User;
 import com.zsxq.sdk.model.WeeklyRanking;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * 用户请求模块
  */
 public class UsersRequest extends BaseRequest {
 
-    private final Gson gson = new GsonBuilder()
-            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
-            .create();
-
     public UsersRequest(HttpClient httpClient) {
         super(httpClient);
     }
@@ -40,9 +34,13 @@ public class UsersRequest extends BaseRequest {
      * 获取当前用户信息
      */
     public User self() {
-        Map<String, Object> data = httpClient.get("/v3/users/self",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        return convertToUser(data.get("user"));
+        return selfEndpoint().call(httpClient);
+    }
+
+    static Endpoint<User> selfEndpoint() {
+        return Endpoint.<Envelopes.UserEnvelope>get("/v3/users/self",
+                Envelopes.UserEnvelope.class)
+                .map(Envelopes::value);
     }
 
     /**
@@ -56,9 +54,38 @@ public class UsersRequest extends BaseRequest {
      * 获取指定用户信息
      */
     public User get(String userId) {
-        Map<String, Object> data = httpClient.get("/v3/users/" + userId,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        return convertToUser(data.get("user"));
+        return getEndpoint(userId).call(httpClient);
+    }
+
+    static Endpoint<User> getEndpoint(String userId) {
+        return Endpoint.<Envelopes.UserEnvelope>get("/v3/users/" + userId,
+                Envelopes.UserEnvelope.class)
+                .map(Envelopes::value);
+    }
+
+    /**
+     * 按 ID 批量获取用户：重复的 ID 只请求一次，并发数受 options 限制，每个 ID 单独成功或失败
+     *
+     * <pre>
+     * BulkResult&lt;User&gt; result = client.users().getAll(ids, new BulkOptions().parallelism(16));
+     * result.getErrors().forEach((id, e) -&gt; log.warn("{} failed: {}", id, e.getMessage()));
+     * </pre>
+     *
+     * @param options 为 null 时使用默认值（并发 8）
+     */
+    public BulkResult<User> getAll(Collection<Long> ids, BulkOptions options) {
+        return getAll(ids, options, null);
+    }
+
+    /**
+     * 按 ID 批量获取用户，并按输入顺序（去重后）逐个回调结果
+     *
+     * @param onItem 在完成请求的线程上串行回调，不应阻塞
+     */
+    public BulkResult<User> getAll(Collection<Long> ids, BulkOptions options,
+                                      Consumer<BulkResult.Item<User>> onItem) {
+        return Futures.await(BulkFetch.run(ids, id -> getEndpoint(String.valueOf(id)).callAsync(httpClient),
+                options, onItem));
     }
 
     /**
@@ -72,8 +99,12 @@ public class UsersRequest extends BaseRequest {
      * 获取用户统计
      */
     public Map<String, Object> getStatistics(String userId) {
-        return httpClient.get("/v3/users/" + userId + "/statistics",
-                new TypeToken<Map<String, Object>>() {}.getType());
+        return statisticsEndpoint(userId).call(httpClient);
+    }
+
+    static Endpoint<Map<String, Object>> statisticsEndpoint(String userId) {
+        return Endpoint.get("/v3/users/" + userId + "/statistics",
+                Envelopes.MAP);
     }
 
     /**
@@ -87,10 +118,14 @@ public class UsersRequest extends BaseRequest {
      * 获取用户创建的星球
      */
     public List<Group> getCreatedGroups(String userId) {
-        Map<String, List<Group>> data = httpClient.get(
+        return createdGroupsEndpoint(userId).call(httpClient);
+    }
+
+    static Endpoint<List<Group>> createdGroupsEndpoint(String userId) {
+        return Endpoint.<Envelopes.GroupsPage>get(
                 "/v2/users/" + userId + "/created_groups",
-                new TypeToken<Map<String, List<Group>>>() {}.getType());
-        return data.getOrDefault("groups", new ArrayList<>());
+                Envelopes.GroupsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -104,24 +139,17 @@ public class UsersRequest extends BaseRequest {
      * 获取用户动态足迹
      */
     public List<Topic> getFootprints(String userId) {
-        Map<String, Object> data = httpClient.get(
-                "/v2/users/" + userId + "/footprints",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object topicsObj = data.get("topics");
-        if (topicsObj == null) return new ArrayList<>();
-        String json = gson.toJson(topicsObj);
-        return gson.fromJson(json, new TypeToken<List<Topic>>() {}.getType());
+        return footprintsEndpoint(userId).call(httpClient);
     }
 
-    /**
-     * 将 Object 转换为 User
-     */
-    private User convertToUser(Object obj) {
-        if (obj == null) return null;
-        String json = gson.toJson(obj);
-        return gson.fromJson(json, User.class);
+    static Endpoint<List<Topic>> footprintsEndpoint(String userId) {
+        return Endpoint.<Envelopes.TopicsPage>get(
+                "/v2/users/" + userId + "/footprints",
+                Envelopes.TopicsPage.class)
+                .map(Envelopes::items);
     }
 
+
     /**
      * 获取用户大尺寸头像URL
      *
@@ -139,10 +167,13 @@ public class UsersRequest extends BaseRequest {
      * @return 头像URL
      */
     public String getAvatarUrl(String userId) {
-        Map<String, Object> data = httpClient.get("/v3/users/" + userId + "/avatar_url",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object urlObj = data.get("avatar_url");
-        return urlObj != null ? urlObj.toString() : null;
+        return avatarUrlEndpoint(userId).call(httpClient);
+    }
+
+    static Endpoint<String> avatarUrlEndpoint(String userId) {
+        return Endpoint.<Envelopes.AvatarUrlEnvelope>get("/v3/users/" + userId + "/avatar_url",
+                Envelopes.AvatarUrlEnvelope.class)
+                .map(Envelopes::value);
     }
 
     /**
@@ -173,16 +204,17 @@ public class UsersRequest extends BaseRequest {
      * @return 星球列表
      */
     public List<Group> getGroupFootprints(String userId, Long groupId) {
+        return groupFootprintsEndpoint(userId, groupId).call(httpClient);
+    }
+
+    static Endpoint<List<Group>> groupFootprintsEndpoint(String userId, Long groupId) {
         String path = "/v2/users/" + userId + "/footprints/groups";
         if (groupId != null) {
             path += "?group_id=" + groupId;
         }
-        Map<String, Object> data = httpClient.get(path,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object groupsObj = data.get("groups");
-        if (groupsObj == null) return new ArrayList<>();
-        String json = gson.toJson(groupsObj);
-        return gson.fromJson(json, new TypeToken<List<Group>>() {}.getType());
+        return Endpoint.<Envelopes.GroupsPage>get(path,
+                Envelopes.GroupsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -191,12 +223,13 @@ public class UsersRequest extends BaseRequest {
      * @return 申请中的星球列表
      */
     public List<Group> getApplyingGroups() {
-        Map<String, Object> data = httpClient.get("/v2/groups/applying",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object groupsObj = data.get("groups");
-        if (groupsObj == null) return new ArrayList<>();
-        String json = gson.toJson(groupsObj);
-        return gson.fromJson(json, new TypeToken<List<Group>>() {}.getType());
+        return applyingGroupsEndpoint().call(httpClient);
+    }
+
+    static Endpoint<List<Group>> applyingGroupsEndpoint() {
+        return Endpoint.<Envelopes.GroupsPage>get("/v2/groups/applying",
+                Envelopes.GroupsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -216,12 +249,13 @@ public class UsersRequest extends BaseRequest {
      * @return 邀请人信息
      */
     public Inviter getInviter(String groupId) {
-        Map<String, Object> data = httpClient.get("/v2/users/self/groups/" + groupId + "/inviter",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object inviterObj = data.get("inviter");
-        if (inviterObj == null) return null;
-        String json = gson.toJson(inviterObj);
-        return gson.fromJson(json, Inviter.class);
+        return inviterEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<Inviter> inviterEndpoint(String groupId) {
+        return Endpoint.<Envelopes.InviterEnvelope>get("/v2/users/self/groups/" + groupId + "/inviter",
+                Envelopes.InviterEnvelope.class)
+                .map(Envelopes::value);
     }
 
     /**
@@ -230,12 +264,13 @@ public class UsersRequest extends BaseRequest {
      * @return 优惠券列表
      */
     public List<Coupon> getCoupons() {
-        Map<String, Object> data = httpClient.get("/v2/users/self/merchant_coupons",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object couponsObj = data.get("coupons");
-        if (couponsObj == null) return new ArrayList<>();
-        String json = gson.toJson(couponsObj);
-        return gson.fromJson(json, new TypeToken<List<Coupon>>() {}.getType());
+        return couponsEndpoint().call(httpClient);
+    }
+
+    static Endpoint<List<Coupon>> couponsEndpoint() {
+        return Endpoint.<Envelopes.CouponsPage>get("/v2/users/self/merchant_coupons",
+                Envelopes.CouponsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -254,14 +289,15 @@ public class UsersRequest extends BaseRequest {
      * @return 备注列表
      */
     public List<Remark> getRemarks(String beginTime) {
+        return remarksEndpoint(beginTime).call(httpClient);
+    }
+
+    static Endpoint<List<Remark>> remarksEndpoint(String beginTime) {
         String path = "/v3/users/self/remarks?begin_time=" +
             java.net.URLEncoder.encode(beginTime, java.nio.charset.StandardCharsets.UTF_8);
-        Map<String, Object> data = httpClient.get(path,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object remarksObj = data.get("remarks");
-        if (remarksObj == null) return new ArrayList<>();
-        String json = gson.toJson(remarksObj);
-        return gson.fromJson(json, new TypeToken<List<Remark>>() {}.getType());
+        return Endpoint.<Envelopes.RemarksPage>get(path,
+                Envelopes.RemarksPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -270,12 +306,13 @@ public class UsersRequest extends BaseRequest {
      * @return 推荐关注的用户列表
      */
     public List<User> getRecommendedFollows() {
-        Map<String, Object> data = httpClient.get("/v2/users/recommended_follows",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object usersObj = data.get("users");
-        if (usersObj == null) return new ArrayList<>();
-        String json = gson.toJson(usersObj);
-        return gson.fromJson(json, new TypeToken<List<User>>() {}.getType());
+        return recommendedFollowsEndpoint().call(httpClient);
+    }
+
+    static Endpoint<List<User>> recommendedFollowsEndpoint() {
+        return Endpoint.<Envelopes.UsersPage>get("/v2/users/recommended_follows",
+                Envelopes.UsersPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -284,12 +321,13 @@ public class UsersRequest extends BaseRequest {
      * @return 已屏蔽的用户列表
      */
     public List<User> getBlockedUsers() {
-        Map<String, Object> data = httpClient.get("/v2/users/block_users",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object usersObj = data.get("users");
-        if (usersObj == null) return new ArrayList<>();
-        String json = gson.toJson(usersObj);
-        return gson.fromJson(json, new TypeToken<List<User>>() {}.getType());
+        return blockedUsersEndpoint().call(httpClient);
+    }
+
+    static Endpoint<List<User>> blockedUsersEndpoint() {
+        return Endpoint.<Envelopes.UsersPage>get("/v2/users/block_users",
+                Envelopes.UsersPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -299,11 +337,16 @@ public class UsersRequest extends BaseRequest {
      * @param deviceToken 设备 Token
      */
     public void reportPushChannel(String channel, String deviceToken) {
+        reportPushChannelEndpoint(channel, deviceToken).call(httpClient);
+    }
+
+    static Endpoint<Void> reportPushChannelEndpoint(String channel, String deviceToken) {
         Map<String, Object> reqData = new java.util.HashMap<>();
         reqData.put("channel", channel);
         reqData.put("device_token", deviceToken);
-        httpClient.post("/v2/users/self/push_channel", reqData,
-                new TypeToken<Map<String, Object>>() {}.getType());
+        return Endpoint.<Map<String, Object>>post("/v2/users/self/push_channel", reqData,
+                Envelopes.MAP)
+                .map(data -> null);
     }
 
     /**
@@ -312,12 +355,13 @@ public class UsersRequest extends BaseRequest {
      * @return 推荐偏好分类列表
      */
     public List<PreferenceCategory> getPreferenceCategories() {
-        Map<String, Object> data = httpClient.get("/v2/users/self/recommendations/preference_categories",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object categoriesObj = data.get("categories");
-        if (categoriesObj == null) return new ArrayList<>();
-        String json = gson.toJson(categoriesObj);
-        return gson.fromJson(json, new TypeToken<List<PreferenceCategory>>() {}.getType());
+        return preferenceCategoriesEndpoint().call(httpClient);
+    }
+
+    static Endpoint<List<PreferenceCategory>> preferenceCategoriesEndpoint() {
+        return Endpoint.<Envelopes.PreferenceCategoriesPage>get("/v2/users/self/recommendations/preference_categories",
+                Envelopes.PreferenceCategoriesPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -326,10 +370,12 @@ public class UsersRequest extends BaseRequest {
      * @return 未回答问题摘要
      */
     public UnansweredQuestionsSummary getUnansweredQuestionsSummary() {
-        Map<String, Object> data = httpClient.get("/v2/users/self/unanswered_questions/brief",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        String json = gson.toJson(data);
-        return gson.fromJson(json, UnansweredQuestionsSummary.class);
+        return unansweredQuestionsSummaryEndpoint().call(httpClient);
+    }
+
+    static Endpoint<UnansweredQuestionsSummary> unansweredQuestionsSummaryEndpoint() {
+        return Endpoint.get("/v2/users/self/unanswered_questions/brief",
+                UnansweredQuestionsSummary.class);
     }
 
     /**
@@ -338,10 +384,12 @@ public class UsersRequest extends BaseRequest {
      * @return 关注者统计
      */
     public FollowerStatistics getFollowerStats() {
-        Map<String, Object> data = httpClient.get("/v3/users/self/followers/statistics",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        String json = gson.toJson(data);
-        return gson.fromJson(json, FollowerStatistics.class);
+        return followerStatsEndpoint().call(httpClient);
+    }
+
+    static Endpoint<FollowerStatistics> followerStatsEndpoint() {
+        return Endpoint.get("/v3/users/self/followers/statistics",
+                FollowerStatistics.class);
     }
 
     /**
@@ -351,11 +399,13 @@ public class UsersRequest extends BaseRequest {
      * @return 关注者统计
      */
     public FollowerStatistics getFollowerStats(String beginTime) {
-        Map<String, Object> data = httpClient.get(
+        return followerStatsEndpoint(beginTime).call(httpClient);
+    }
+
+    static Endpoint<FollowerStatistics> followerStatsEndpoint(String beginTime) {
+        return Endpoint.get(
                 "/v3/users/self/followers/statistics?begin_time=" + beginTime,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        String json = gson.toJson(data);
-        return gson.fromJson(json, FollowerStatistics.class);
+                FollowerStatistics.class);
     }
 
     /**
@@ -364,12 +414,13 @@ public class UsersRequest extends BaseRequest {
      * @return 贡献记录列表
      */
     public List<Contribution> getContributions() {
-        Map<String, Object> data = httpClient.get("/v3/users/self/contributions",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object contributionsObj = data.get("contributions");
-        if (contributionsObj == null) return new ArrayList<>();
-        String json = gson.toJson(contributionsObj);
-        return gson.fromJson(json, new TypeToken<List<Contribution>>() {}.getType());
+        return contributionsEndpoint().call(httpClient);
+    }
+
+    static Endpoint<List<Contribution>> contributionsEndpoint() {
+        return Endpoint.<Envelopes.ContributionsPage>get("/v3/users/self/contributions",
+                Envelopes.ContributionsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -380,13 +431,14 @@ public class UsersRequest extends BaseRequest {
      * @return 贡献记录列表
      */
     public List<Contribution> getContributions(String beginTime, String endTime) {
+        return contributionsEndpoint(beginTime, endTime).call(httpClient);
+    }
+
+    static Endpoint<List<Contribution>> contributionsEndpoint(String beginTime, String endTime) {
         String url = "/v3/users/self/contributions?begin_time=" + beginTime + "&end_time=" + endTime;
-        Map<String, Object> data = httpClient.get(url,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object contributionsObj = data.get("contributions");
-        if (contributionsObj == null) return new ArrayList<>();
-        String json = gson.toJson(contributionsObj);
-        return gson.fromJson(json, new TypeToken<List<Contribution>>() {}.getType());
+        return Endpoint.<Envelopes.ContributionsPage>get(url,
+                Envelopes.ContributionsPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -395,12 +447,13 @@ public class UsersRequest extends BaseRequest {
      * @return 贡献统计
      */
     public ContributionStatistics getContributionStats() {
-        Map<String, Object> data = httpClient.get("/v3/users/self/contributions/statistics",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object statsObj = data.get("statistics");
-        if (statsObj == null) return null;
-        String json = gson.toJson(statsObj);
-        return gson.fromJson(json, ContributionStatistics.class);
+        return contributionStatsEndpoint().call(httpClient);
+    }
+
+    static Endpoint<ContributionStatistics> contributionStatsEndpoint() {
+        return Endpoint.<Envelopes.StatisticsEnvelope<ContributionStatistics>>get("/v3/users/self/contributions/statistics",
+                Envelopes.CONTRIBUTION_STATISTICS)
+                .map(Envelopes::value);
     }
 
     /**
@@ -409,12 +462,13 @@ public class UsersRequest extends BaseRequest {
      * @return 成就摘要列表
      */
     public List<AchievementSummary> getAchievementsSummary() {
-        Map<String, Object> data = httpClient.get("/v3/users/self/achievements/summaries",
-                new TypeToken<Map<String, Object>>() {}.getType());
-        Object summariesObj = data.get("summaries");
-        if (summariesObj == null) return new ArrayList<>();
-        String json = gson.toJson(summariesObj);
-        return gson.fromJson(json, new TypeToken<List<AchievementSummary>>() {}.getType());
+        return achievementsSummaryEndpoint().call(httpClient);
+    }
+
+    static Endpoint<List<AchievementSummary>> achievementsSummaryEndpoint() {
+        return Endpoint.<Envelopes.AchievementSummariesPage>get("/v3/users/self/achievements/summaries",
+                Envelopes.AchievementSummariesPage.class)
+                .map(Envelopes::items);
     }
 
     /**
@@ -434,11 +488,13 @@ public class UsersRequest extends BaseRequest {
      * @return 周榜排名
      */
     public WeeklyRanking getWeeklyRanking(String groupId) {
-        Map<String, Object> data = httpClient.get(
+        return weeklyRankingEndpoint(groupId).call(httpClient);
+    }
+
+    static Endpoint<WeeklyRanking> weeklyRankingEndpoint(String groupId) {
+        return Endpoint.get(
                 "/v3/users/self/group_weekly_rankings?group_id=" + groupId,
-                new TypeToken<Map<String, Object>>() {}.getType());
-        String json = gson.toJson(data);
-        return gson.fromJson(json, WeeklyRanking.class);
+                WeeklyRanking.class);
     }
 
     /**
@@ -447,7 +503,11 @@ public class UsersRequest extends BaseRequest {
      * @return 用户偏好配置
      */
     public Map<String, Object> getPreferences() {
-        return httpClient.get("/v3/users/self/preferences",
-                new TypeToken<Map<String, Object>>() {}.getType());
+        return preferencesEndpoint().call(httpClient);
+    }
+
+    static Endpoint<Map<String, Object>> preferencesEndpoint() {
+        return Endpoint.get("/v3/users/self/preferences",
+                Envelopes.MAP);
     }
 }
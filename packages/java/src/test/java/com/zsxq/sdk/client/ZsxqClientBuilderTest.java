@@ -1,6 +1,9 @@
 package com.zsxq.sdk.client;
 
+import okhttp3.OkHttpClient;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -213,4 +216,45 @@ class ZsxqClientBuilderTest {
 
         assertNotNull(client);
     }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void testVirtualThreadsRequireJava21() {
+        ZsxqClientBuilder builder = new ZsxqClientBuilder()
+            .token("test-token")
+            .virtualThreads();
+
+        assertThrows(UnsupportedOperationException.class, builder::build);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void testBuildWithVirtualThreads() {
+        ZsxqClient client = new ZsxqClientBuilder()
+            .token("test-token")
+            .virtualThreads()
+            .build();
+
+        assertNotNull(client);
+    }
+
+    @Test
+    void testBuildWithConnectionProfile() {
+        ZsxqClient client = new ZsxqClientBuilder()
+            .token("test-token")
+            .connectionProfile(ConnectionProfile.highThroughput())
+            .build();
+
+        assertNotNull(client);
+    }
+
+    @Test
+    void testConnectionProfileConflictsWithSharedClient() {
+        ZsxqClientBuilder builder = new ZsxqClientBuilder()
+            .token("test-token")
+            .okHttpClient(new OkHttpClient())
+            .connectionProfile(ConnectionProfile.highThroughput());
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
 }
@@ -0,0 +1,129 @@
+package com.zsxq.sdk.client;
+
+import com.zsxq.sdk.http.AdaptiveRateLimiter;
+import com.zsxq.sdk.model.Group;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZsxqClientPoolTest {
+
+    private MockWebServer mockServer;
+    private final Set<String> deviceIds = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                deviceIds.add(request.getHeader("x-aduid"));
+                // 以 Token 作为星球名称返回，用于验证请求头和缓存隔离
+                return new MockResponse().setBody("{\"succeeded\":true,\"resp_data\":{\"group\":"
+                        + "{\"group_id\":1,\"name\":\"" + request.getHeader("authorization") + "\"}}}");
+            }
+        });
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testViewsUseTheirOwnTokenAndIsolatedCache() {
+        ZsxqClientPool pool = newBuilder().cache("groups", 60_000).buildPool();
+        ZsxqClient alice = pool.client("alice");
+        ZsxqClient bob = pool.client("bob");
+
+        assertEquals("alice", alice.groups().get(1).getName());
+        assertEquals("bob", bob.groups().get(1).getName());
+        assertEquals("alice", alice.groups().get(1).getName());
+
+        assertEquals(2, mockServer.getRequestCount());
+        assertEquals(2, deviceIds.size());
+        assertEquals(1, pool.cacheStats().getHitCount());
+        assertEquals(2, pool.cacheStats().getSize());
+    }
+
+    @Test
+    void testSameTokenReturnsSameViewAndRemoveClearsCache() {
+        ZsxqClientPool pool = newBuilder().cache("groups", 60_000).buildPool();
+        ZsxqClient alice = pool.client("alice");
+        assertSame(alice, pool.client("alice"));
+        assertEquals(1, pool.size());
+
+        alice.groups().get(1);
+        pool.client("bob").groups().get(1);
+        assertTrue(pool.remove("alice"));
+        assertFalse(pool.remove("alice"));
+
+        assertEquals(1, pool.size());
+        assertEquals(1, pool.cacheStats().getSize());
+        assertNotSame(alice, pool.client("alice"));
+    }
+
+    @Test
+    void testPerTokenRateBudgets() {
+        ZsxqClientPool pool = newBuilder().rateLimit(5).buildPool();
+        ZsxqClient standard = pool.client("a");
+        ZsxqClient vip = pool.client("b", TenantOptions.builder().weight(3).rateLimit(20.0).build());
+
+        List<AdaptiveRateLimiter> a = standard.rateLimiters();
+        List<AdaptiveRateLimiter> b = vip.rateLimiters();
+        assertEquals(5.0, a.get(0).getMaxRate());
+        assertEquals(20.0, b.get(0).getMaxRate());
+        assertNotSame(a.get(0), pool.client("c").rateLimiters().get(0));
+    }
+
+    @Test
+    void testConcurrentRequestsAcrossTenants() throws Exception {
+        ZsxqClientPool pool = newBuilder()
+                .connectionProfile(ConnectionProfile.builder().maxRequestsPerHost(2).build())
+                .buildPool();
+        List<String> tokens = List.of("t1", "t2", "t3", "t4");
+
+        List<Group> groups = pool.client("t1").fanOut(tokens, token -> pool.client(token).groups().get(1));
+        for (int i = 0; i < tokens.size(); i++) {
+            assertEquals(tokens.get(i), groups.get(i).getName());
+        }
+        assertEquals("t2", pool.client("t2").async().groups().get(1).get(5, TimeUnit.SECONDS).getName());
+        assertEquals(0, pool.queuedRequests());
+    }
+
+    @Test
+    void testInvalidToken() {
+        ZsxqClientPool pool = newBuilder().buildPool();
+        assertThrows(IllegalArgumentException.class, () -> pool.client(""));
+        assertThrows(IllegalArgumentException.class,
+                () -> pool.client("a", TenantOptions.builder().weight(0).build()));
+    }
+
+    @Test
+    void testNullOptionsUseDefaults() throws Exception {
+        ZsxqClientPool pool = newBuilder().buildPool();
+
+        ZsxqClient client = pool.client("t1", null);
+
+        assertSame(client, pool.client("t1"));
+        assertEquals("t1", client.async().groups().get(1).get(5, TimeUnit.SECONDS).getName());
+    }
+
+    private ZsxqClientBuilder newBuilder() {
+        return new ZsxqClientBuilder()
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(0);
+    }
+}
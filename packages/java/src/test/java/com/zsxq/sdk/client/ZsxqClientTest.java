@@ -1,7 +1,20 @@
 package com.zsxq.sdk.client;
 
+import com.zsxq.sdk.http.VirtualThreads;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -72,6 +85,19 @@ class ZsxqClientTest {
         assertSame(client.dashboard(), client.dashboard());
     }
 
+    @Test
+    void testAsyncModulesInitialization() {
+        assertNotNull(client.async());
+        assertSame(client.async(), client.async());
+        assertNotNull(client.async().groups());
+        assertNotNull(client.async().topics());
+        assertNotNull(client.async().users());
+        assertNotNull(client.async().checkins());
+        assertNotNull(client.async().dashboard());
+        assertNotNull(client.async().ranking());
+        assertNotNull(client.async().misc());
+    }
+
     @Test
     void testMultipleClientsAreIndependent() {
         ZsxqClient client1 = new ZsxqClientBuilder()
@@ -85,4 +111,69 @@ class ZsxqClientTest {
         assertNotSame(client1, client2);
         assertNotSame(client1.groups(), client2.groups());
     }
+
+    @Test
+    void testFanOutPreservesOrder() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<Integer> results = client.fanOut(List.of(1, 2, 3, 4, 5), i -> {
+            threads.add(Thread.currentThread().getName());
+            return i * 10;
+        });
+
+        assertEquals(List.of(10, 20, 30, 40, 50), results);
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("zsxq-fanout-")));
+        assertTrue(client.fanOut(List.<Integer>of(), i -> i).isEmpty());
+    }
+
+    @Test
+    void testFanOutPropagatesFailure() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> client.fanOut(List.of(1, 2, 3), i -> {
+                if (i == 2) {
+                    throw new IllegalArgumentException("bad " + i);
+                }
+                return i;
+            }));
+        assertEquals("bad 2", e.getMessage());
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void testVirtualThreadRequests() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setBody("{\"succeeded\":true,\"resp_data\":{\"topic\":{\"topic_id\":"
+                    + request.getPath().substring(request.getPath().lastIndexOf('/') + 1) + "}}}");
+            }
+        });
+        server.start();
+        try {
+            ZsxqClient vtClient = new ZsxqClientBuilder()
+                .token("test-token")
+                .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                .virtualThreads()
+                .build();
+
+            List<Long> ids = new ArrayList<>();
+            for (long id = 1; id <= 200; id++) {
+                ids.add(id);
+            }
+            Set<Boolean> virtual = ConcurrentHashMap.newKeySet();
+            List<Long> topicIds = vtClient.fanOut(ids, id -> {
+                virtual.add(VirtualThreads.isVirtual(Thread.currentThread()));
+                return vtClient.topics().get(id).getTopicId();
+            });
+
+            assertEquals(ids, topicIds);
+            assertEquals(Set.of(true), virtual);
+            assertEquals(7L, vtClient.async().topics().get(7L).get(5, TimeUnit.SECONDS).getTopicId());
+            for (int i = 0; i < 201; i++) {
+                assertNotNull(server.takeRequest().getHeader("x-signature"));
+            }
+        } finally {
+            server.shutdown();
+        }
+    }
 }
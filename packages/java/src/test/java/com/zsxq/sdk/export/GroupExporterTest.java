@@ -0,0 +1,321 @@
+package com.zsxq.sdk.export;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.zsxq.sdk.client.ZsxqClient;
+import com.zsxq.sdk.client.ZsxqClientBuilder;
+import com.zsxq.sdk.exception.RateLimitException;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GroupExporter 测试
+ */
+class GroupExporterTest {
+
+    private static final long GROUP_ID = 1L;
+    private static final int TOPIC_COUNT = 7;
+
+    private final Gson gson = new Gson();
+    private final AtomicInteger topicCalls = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile int failOnTopicCall;
+    /** 评论条数覆盖：话题 ID -> 条数，默认偶数 ID 的话题各两条 */
+    private final Map<Long, Integer> commentCounts = new ConcurrentHashMap<>();
+    /** 共享同一 create_time 的话题下标区间 [from, to]，为 null 时各不相同 */
+    private volatile int[] sameTimeRun;
+    private volatile int checkinCount = 1;
+    private volatile String checkinsCountParam;
+
+    @TempDir
+    Path dir;
+
+    private MockWebServer mockServer;
+    private ZsxqClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                requests.incrementAndGet();
+                return serve(request.getRequestUrl());
+            }
+        });
+        mockServer.start();
+        client = new ZsxqClientBuilder()
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(0)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testExportsAllDatasets() throws Exception {
+        ExportSummary summary = new GroupExporter(client, GROUP_ID, dir).pageSize(3).run();
+
+        assertTrue(summary.isCompleted());
+        assertEquals(expectedTopicIds(), topicIds());
+        List<JsonObject> comments = read(GroupExporter.Dataset.COMMENTS);
+        // 偶数 ID 的话题各有两条评论
+        assertEquals(8, comments.size());
+        assertEquals(106L, comments.get(0).get("topic_id").getAsLong());
+        assertEquals(1, read(GroupExporter.Dataset.CHECKINS).size());
+        List<JsonObject> members = read(GroupExporter.Dataset.MEMBERS);
+        assertEquals(List.of("owner", "admin"),
+                members.stream().map(m -> m.get("role").getAsString()).collect(Collectors.toList()));
+        assertEquals(TOPIC_COUNT, summary.getCount(GroupExporter.Dataset.TOPICS));
+        assertEquals(8, summary.getCount(GroupExporter.Dataset.COMMENTS));
+    }
+
+    @Test
+    void testResumesAfterRateLimitWithoutDuplicates() throws Exception {
+        failOnTopicCall = 2;
+        GroupExporter exporter = new GroupExporter(client, GROUP_ID, dir).pageSize(3).checkpointEvery(1);
+
+        assertThrows(RateLimitException.class, exporter::run);
+        assertEquals(expectedTopicIds().subList(0, 3), topicIds());
+
+        failOnTopicCall = 0;
+        ExportSummary summary = exporter.run();
+
+        assertTrue(summary.isCompleted());
+        assertEquals(expectedTopicIds(), topicIds());
+        assertEquals(8, read(GroupExporter.Dataset.COMMENTS).size());
+        assertEquals(TOPIC_COUNT, summary.getCount(GroupExporter.Dataset.TOPICS));
+    }
+
+    @Test
+    void testResumeDiscardsUncommittedTail() throws Exception {
+        failOnTopicCall = 3;
+        GroupExporter exporter = new GroupExporter(client, GROUP_ID, dir).pageSize(3).checkpointEvery(100);
+        assertThrows(RateLimitException.class, exporter::run);
+
+        // 模拟崩溃时写了一半的 gzip 成员
+        Files.write(dir.resolve(GroupExporter.Dataset.TOPICS.getFileName()), new byte[]{0x1f, (byte) 0x8b, 8, 0},
+                StandardOpenOption.APPEND);
+
+        failOnTopicCall = 0;
+        exporter.run();
+
+        assertEquals(expectedTopicIds(), topicIds());
+    }
+
+    @Test
+    void testCompletedExportIsNoOp() {
+        GroupExporter exporter = new GroupExporter(client, GROUP_ID, dir).pageSize(3);
+        exporter.run();
+        int before = requests.get();
+
+        ExportSummary summary = exporter.run();
+
+        assertTrue(summary.isCompleted());
+        assertEquals(before, requests.get());
+        assertEquals(TOPIC_COUNT, summary.getCount(GroupExporter.Dataset.TOPICS));
+    }
+
+    @Test
+    void testSelectedDatasetsOnly() throws Exception {
+        new GroupExporter(client, GROUP_ID, dir)
+                .datasets(EnumSet.of(GroupExporter.Dataset.TOPICS))
+                .pageSize(3)
+                .run();
+
+        assertEquals(expectedTopicIds(), topicIds());
+        assertFalse(Files.exists(dir.resolve(GroupExporter.Dataset.COMMENTS.getFileName())));
+        assertFalse(Files.exists(dir.resolve(GroupExporter.Dataset.MEMBERS.getFileName())));
+    }
+
+    @Test
+    void testRejectsDirectoryOfAnotherGroup() {
+        new GroupExporter(client, GROUP_ID, dir).pageSize(3).run();
+
+        assertThrows(IllegalStateException.class, () -> new GroupExporter(client, 2L, dir).run());
+    }
+
+    @Test
+    void testRejectsDifferentDatasetsOnResume() {
+        new GroupExporter(client, GROUP_ID, dir)
+                .datasets(EnumSet.of(GroupExporter.Dataset.TOPICS))
+                .pageSize(3)
+                .run();
+        int before = requests.get();
+
+        // 只导出了话题的目录不能当作完整导出继续
+        assertThrows(IllegalStateException.class, () -> new GroupExporter(client, GROUP_ID, dir).pageSize(3).run());
+        assertEquals(before, requests.get());
+    }
+
+    @Test
+    void testPagesThroughComments() throws Exception {
+        commentCounts.put(106L, 65);
+
+        ExportSummary summary = new GroupExporter(client, GROUP_ID, dir).pageSize(3).run();
+
+        List<JsonObject> comments = read(GroupExporter.Dataset.COMMENTS);
+        List<Long> ids = comments.stream()
+                .filter(c -> c.get("topic_id").getAsLong() == 106L)
+                .map(c -> c.get("comment_id").getAsLong())
+                .collect(Collectors.toList());
+        assertEquals(65, ids.size());
+        assertEquals(65, ids.stream().distinct().count());
+        assertEquals(65 + 6, summary.getCount(GroupExporter.Dataset.COMMENTS));
+        assertTrue(summary.getTruncated().isEmpty());
+    }
+
+    @Test
+    void testContinuesPastSameTimeRunLongerThanPage() throws Exception {
+        // 话题 102..105 共享同一时间，多于一页（3 条）
+        sameTimeRun = new int[]{2, 5};
+
+        ExportSummary summary = new GroupExporter(client, GROUP_ID, dir).pageSize(3).run();
+
+        assertTrue(summary.isCompleted());
+        List<Long> ids = topicIds();
+        assertEquals(List.of(106L, 105L, 104L, 103L), ids.subList(0, 4));
+        assertEquals(List.of(101L, 100L), ids.subList(ids.size() - 2, ids.size()));
+        assertEquals(ids.size(), ids.stream().distinct().count());
+        assertTrue(summary.isTruncated(GroupExporter.Dataset.TOPICS));
+    }
+
+    @Test
+    void testCheckinsAtRequestLimitAreMarkedTruncated() throws Exception {
+        checkinCount = 150;
+
+        ExportSummary summary = new GroupExporter(client, GROUP_ID, dir).pageSize(3).run();
+
+        assertEquals("100", checkinsCountParam);
+        assertEquals(100, read(GroupExporter.Dataset.CHECKINS).size());
+        assertEquals(Set.of(GroupExporter.Dataset.CHECKINS), summary.getTruncated());
+    }
+
+    private MockResponse serve(HttpUrl url) {
+        String path = url.encodedPath();
+        if (path.equals("/v2/groups/" + GROUP_ID + "/topics")) {
+            if (topicCalls.incrementAndGet() == failOnTopicCall) {
+                return new MockResponse().setBody(gson.toJson(Map.of("succeeded", false, "code", 40001)));
+            }
+            return ok(Map.of("topics", topicsPage(url.queryParameter("end_time"),
+                    Integer.parseInt(url.queryParameter("count")))));
+        }
+        if (path.startsWith("/v2/topics/") && path.endsWith("/comments")) {
+            long topicId = Long.parseLong(path.split("/")[3]);
+            return ok(Map.of("comments", commentsPage(topicId, url.queryParameter("begin_time"),
+                    Integer.parseInt(url.queryParameter("count")))));
+        }
+        if (path.equals("/v2/groups/" + GROUP_ID + "/checkins")) {
+            checkinsCountParam = url.queryParameter("count");
+            int limit = Math.min(checkinCount, Integer.parseInt(checkinsCountParam));
+            List<Map<String, Object>> checkins = new ArrayList<>();
+            for (int i = 0; i < limit; i++) {
+                checkins.add(Map.of("checkin_id", 9 + i, "title", "daily"));
+            }
+            return ok(Map.of("checkins", checkins));
+        }
+        if (path.equals("/v2/groups/" + GROUP_ID + "/role_members")) {
+            return ok(Map.of("owner", Map.of("user_id", 1, "name", "owner"),
+                    "admins", List.of(Map.of("user_id", 2, "name", "admin"))));
+        }
+        return new MockResponse().setResponseCode(404);
+    }
+
+    /**
+     * 按 create_time 倒序返回不晚于 endTime 的话题；endTime 包含在内，翻页边界会重复一条
+     */
+    private List<Map<String, Object>> topicsPage(String endTime, int count) {
+        List<Map<String, Object>> page = new ArrayList<>();
+        for (int i = TOPIC_COUNT - 1; i >= 0 && page.size() < count; i--) {
+            String createTime = createTime(i);
+            if (endTime == null || createTime.compareTo(endTime) <= 0) {
+                page.add(Map.of("topic_id", 100 + i, "create_time", createTime,
+                        "comments_count", i % 2 == 0 ? 2 : 0));
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 按 create_time 正序返回不早于 beginTime 的评论；beginTime 包含在内
+     */
+    private List<Map<String, Object>> commentsPage(long topicId, String beginTime, int count) {
+        int total = commentCounts.getOrDefault(topicId, topicId % 2 == 0 ? 2 : 0);
+        List<Map<String, Object>> page = new ArrayList<>();
+        for (int i = 0; i < total && page.size() < count; i++) {
+            String createTime = String.format("2024-02-01T10:%02d:%02d.000+0800", i / 60, i % 60);
+            if (beginTime == null || createTime.compareTo(beginTime) >= 0) {
+                page.add(Map.of("comment_id", i + 1, "text", "c" + topicId, "create_time", createTime));
+            }
+        }
+        return page;
+    }
+
+    private String createTime(int i) {
+        int[] run = sameTimeRun;
+        int day = run != null && i >= run[0] && i <= run[1] ? run[1] : i;
+        return String.format("2024-01-%02dT10:00:00.000+0800", day + 1);
+    }
+
+    private static List<Long> expectedTopicIds() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = TOPIC_COUNT - 1; i >= 0; i--) {
+            ids.add(100L + i);
+        }
+        return ids;
+    }
+
+    private List<Long> topicIds() throws IOException {
+        return read(GroupExporter.Dataset.TOPICS).stream()
+                .map(t -> t.get("topic_id").getAsLong())
+                .collect(Collectors.toList());
+    }
+
+    private List<JsonObject> read(GroupExporter.Dataset dataset) throws IOException {
+        List<JsonObject> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(dir.resolve(dataset.getFileName()))),
+                StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(JsonParser.parseString(line).getAsJsonObject());
+            }
+        }
+        return lines;
+    }
+
+    private MockResponse ok(Object data) {
+        return new MockResponse().setBody(gson.toJson(Map.of("succeeded", true, "resp_data", data)));
+    }
+}
@@ -0,0 +1,161 @@
+package com.zsxq.sdk.http;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.exception.NetworkException;
+import com.zsxq.sdk.exception.RateLimitException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveRateLimiterTest {
+
+    @Test
+    void testBurstThenWait() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter("*", 5, null);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.reserve());
+        }
+        long wait = limiter.reserve();
+        assertTrue(wait > TimeUnit.MILLISECONDS.toNanos(100), "wait=" + wait);
+        assertTrue(wait <= TimeUnit.MILLISECONDS.toNanos(200), "wait=" + wait);
+        assertEquals(1, limiter.getDelayedCount());
+    }
+
+    @Test
+    void testMultiplicativeDecreaseAndAdditiveIncrease() {
+        List<double[]> events = new ArrayList<>();
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter("checkins", 10,
+                (name, previous, current) -> events.add(new double[]{previous, current}));
+
+        limiter.onThrottled();
+        assertEquals(5.0, limiter.getRate(), 1e-9);
+        limiter.onThrottled();
+        assertEquals(2.5, limiter.getRate(), 1e-9);
+        assertEquals(2, limiter.getThrottleCount());
+        assertEquals(2, events.size());
+        assertEquals(10.0, events.get(0)[0], 1e-9);
+        assertEquals(5.0, events.get(0)[1], 1e-9);
+
+        // 加性增：逐步回升，不超过上限
+        double before = limiter.getRate();
+        limiter.onSuccess();
+        assertTrue(limiter.getRate() > before);
+        for (int i = 0; i < 10_000; i++) {
+            limiter.onSuccess();
+        }
+        assertEquals(10.0, limiter.getRate(), 1e-9);
+    }
+
+    @Test
+    void testRateHasFloor() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter("*", 10, null);
+        for (int i = 0; i < 50; i++) {
+            limiter.onThrottled();
+        }
+        assertEquals(0.5, limiter.getRate(), 1e-9);
+    }
+
+    @Test
+    void testThrottleDrainsBurst() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter("*", 100, null);
+        limiter.onThrottled();
+        assertTrue(limiter.reserve() > 0);
+    }
+
+    @Test
+    void testRejectsNonPositiveRate() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveRateLimiter("*", 0, null));
+    }
+
+    @Test
+    void testHttpClientFeedsThrottleToMatchingFamily() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.start();
+        try {
+            List<String> throttled = new ArrayList<>();
+            ZsxqConfig config = ZsxqConfig.builder()
+                    .token("test-token")
+                    .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                    .retryCount(0)
+                    .rateLimit(100.0)
+                    .endpointRateLimits(Map.of("checkins", 20.0, "groups", 50.0))
+                    .rateLimitListener((name, previous, current) -> throttled.add(name))
+                    .build();
+            HttpClient httpClient = new HttpClient(config);
+
+            server.enqueue(new MockResponse()
+                    .setResponseCode(200)
+                    .setBody(new Gson().toJson(Map.of("succeeded", false, "code", 40001, "error", "请求过于频繁"))));
+
+            assertThrows(RateLimitException.class, () -> httpClient.get("/v2/groups/1/checkins",
+                    new TypeToken<Map<String, Object>>() {}.getType()));
+
+            assertEquals(List.of("*", "checkins"), throttled);
+            for (AdaptiveRateLimiter limiter : httpClient.getRateLimiters()) {
+                double expected = "groups".equals(limiter.getName())
+                        ? limiter.getMaxRate()
+                        : limiter.getMaxRate() / 2;
+                assertEquals(expected, limiter.getRate(), 1e-9, limiter.getName());
+            }
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    @Test
+    void testInterruptDuringWaitAbandonsRequest() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.start();
+        try {
+            HttpClient httpClient = new HttpClient(ZsxqConfig.builder()
+                    .token("test-token")
+                    .baseUrl(server.url("/").toString().replaceAll("/$", ""))
+                    .retryCount(0)
+                    .rateLimit(1.0)
+                    .build());
+            server.enqueue(new MockResponse().setBody(
+                    new Gson().toJson(Map.of("succeeded", true, "resp_data", Map.of()))));
+            httpClient.get("/v2/groups/1", new TypeToken<Map<String, Object>>() {}.getType());
+
+            // 令牌已用完，下一次请求需要等待约 1 秒；等待时被中断则不再发出
+            Thread.currentThread().interrupt();
+            try {
+                NetworkException e = assertThrows(NetworkException.class, () -> httpClient.get("/v2/groups/2",
+                        new TypeToken<Map<String, Object>>() {}.getType()));
+                assertTrue(e.getMessage().contains("rate limit"), e.getMessage());
+                assertTrue(Thread.currentThread().isInterrupted());
+            } finally {
+                Thread.interrupted();
+            }
+            assertEquals(1, server.getRequestCount());
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    @Test
+    void testEndpointTemplateAndFamily() {
+        assertEquals("/v2/groups/{id}/checkins/{id}/topics",
+                Endpoints.template("/v2/groups/123/checkins/456/topics"));
+        assertEquals("/v3/users/self/contributions",
+                Endpoints.template("/v3/users/self/contributions?begin_time=1"));
+        assertEquals("/v2/settings", Endpoints.template("/v2/settings"));
+
+        List<String> families = List.of("groups", "checkins", "topics");
+        assertEquals("topics", Endpoints.family("/v2/groups/1/checkins/2/topics", families));
+        assertEquals("checkins", Endpoints.family("/v2/groups/1/checkins", families));
+        assertEquals("groups", Endpoints.family("/v2/groups", families));
+        assertNull(Endpoints.family("/v2/users/self", families));
+        assertNull(Endpoints.family("/v2/groupsx", families));
+    }
+}
@@ -0,0 +1,160 @@
+package com.zsxq.sdk.http;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.client.ConnectionProfile;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.metrics.CallTiming;
+import com.zsxq.sdk.metrics.EndpointMetrics;
+import com.zsxq.sdk.metrics.MetricsRegistry;
+import com.zsxq.sdk.metrics.Phase;
+import com.zsxq.sdk.metrics.PrometheusExporter;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CallTimingTest {
+
+    private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final String BODY = new Gson().toJson(
+            Map.of("succeeded", true, "resp_data", Map.of("value", "ok")));
+
+    private MockWebServer mockServer;
+    private final List<CallTiming> timings = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testPhasesOfSyncCall() {
+        HttpClient client = createClient(ZsxqConfig.builder().callTimingListener(timings::add));
+        mockServer.enqueue(new MockResponse().setBody(BODY).setHeadersDelay(50, TimeUnit.MILLISECONDS));
+        mockServer.enqueue(new MockResponse().setBody(BODY).setBodyDelay(50, TimeUnit.MILLISECONDS));
+
+        client.get("/v2/groups/1/checkins", MAP_TYPE);
+        client.get("/v2/groups/1/checkins", MAP_TYPE);
+
+        assertEquals(2, timings.size());
+        CallTiming first = timings.get(0);
+        assertEquals("GET", first.getMethod());
+        assertEquals("/v2/groups/{id}/checkins", first.getPath());
+        assertTrue(first.isSuccess());
+        assertTrue(first.getNanos(Phase.PREPARE) > 0);
+        assertTrue(first.getNanos(Phase.CONNECT) > 0);
+        assertTrue(first.getNanos(Phase.SERVER) >= 50 * MS, first.toString());
+        assertTrue(first.getNanos(Phase.DECODE) > 0);
+
+        CallTiming second = timings.get(1);
+        assertEquals(0, second.getNanos(Phase.CONNECT), "connection is reused");
+        assertTrue(second.getNanos(Phase.BODY) >= 40 * MS, second.toString());
+        assertTrue(second.getNanos(Phase.SERVER) < 50 * MS, second.toString());
+        assertTrue(second.getTotalNanos() >= second.getNanos(Phase.BODY));
+    }
+
+    @Test
+    void testAsyncCallAndRetriesAreTimedPerAttempt() throws Exception {
+        HttpClient client = createClient(ZsxqConfig.builder().retryCount(1).retryDelay(1)
+                .callTimingListener(timings::add));
+        mockServer.enqueue(new MockResponse().setResponseCode(503));
+        mockServer.enqueue(new MockResponse().setBody(BODY));
+
+        client.getAsync("/v2/groups/1/topics", MAP_TYPE).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, timings.size());
+        assertFalse(timings.get(0).isSuccess());
+        assertTrue(timings.get(0).getNanos(Phase.PREPARE) > 0);
+        assertTrue(timings.get(1).isSuccess());
+        assertEquals(0, timings.get(1).getNanos(Phase.PREPARE), "headers are built once per call");
+    }
+
+    @Test
+    void testAsyncDispatcherWaitCountsAsQueue() throws Exception {
+        HttpClient client = createClient(ZsxqConfig.builder()
+                .connectionProfile(ConnectionProfile.builder().maxRequestsPerHost(1).build())
+                .callTimingListener(timings::add));
+        mockServer.enqueue(new MockResponse().setBody(BODY).setHeadersDelay(200, TimeUnit.MILLISECONDS));
+        mockServer.enqueue(new MockResponse().setBody(BODY));
+
+        CompletableFuture<Map<String, Object>> first = client.getAsync("/v2/groups/1/topics", MAP_TYPE);
+        CompletableFuture<Map<String, Object>> second = client.getAsync("/v2/groups/2/topics", MAP_TYPE);
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, timings.size());
+        CallTiming queued = timings.stream().min(Comparator.comparingLong(t -> t.getNanos(Phase.SERVER))).get();
+        // 第二个调用在调度器中等待第一个调用完成
+        assertTrue(queued.getNanos(Phase.QUEUE) >= 150 * MS, queued.toString());
+        assertTrue(queued.getNanos(Phase.SERVER) < 150 * MS, queued.toString());
+    }
+
+    @Test
+    void testPhasesAggregatedIntoMetrics() {
+        MetricsRegistry registry = new MetricsRegistry();
+        HttpClient client = createClient(ZsxqConfig.builder().metricsRegistry(registry).phaseTimings(true));
+        mockServer.enqueue(new MockResponse().setBody(BODY).setHeadersDelay(30, TimeUnit.MILLISECONDS));
+        mockServer.enqueue(new MockResponse().setBody(BODY));
+
+        client.get("/v2/groups/1/checkins", MAP_TYPE);
+        client.post("/v2/groups/1/checkins", Map.of("title", "t"), MAP_TYPE);
+
+        EndpointMetrics get = registry.endpoint("GET", "/v2/groups/{id}/checkins");
+        assertEquals(1, get.getTimedCount());
+        assertTrue(get.getPhaseNanos(Phase.SERVER) >= 30 * MS);
+        assertTrue(get.getPhaseShare(Phase.SERVER) > 0.5);
+        assertEquals(1, registry.endpoint("POST", "/v2/groups/{id}/checkins").getTimedCount());
+
+        String text = new PrometheusExporter(registry).scrape();
+        assertTrue(text.contains("zsxq_client_phase_seconds_total{method=\"GET\",path=\"/v2/groups/{id}/checkins\",phase=\"decode\"}"));
+        assertTrue(text.contains("zsxq_client_timed_requests_total{method=\"POST\",path=\"/v2/groups/{id}/checkins\"} 1"));
+    }
+
+    @Test
+    void testPhaseTimingsRequireMetrics() {
+        MetricsRegistry registry = new MetricsRegistry();
+        HttpClient client = createClient(ZsxqConfig.builder().metricsRegistry(registry));
+        mockServer.enqueue(new MockResponse().setBody(BODY));
+
+        client.get("/v2/groups/1/checkins", MAP_TYPE);
+
+        assertEquals(0, registry.endpoint("GET", "/v2/groups/{id}/checkins").getTimedCount());
+        assertFalse(new PrometheusExporter(registry).scrape().contains("phase=\""));
+    }
+
+    @Test
+    void testListenerFailureDoesNotFailCall() {
+        HttpClient client = createClient(ZsxqConfig.builder().callTimingListener(timing -> {
+            throw new IllegalStateException("boom");
+        }));
+        mockServer.enqueue(new MockResponse().setBody(BODY));
+
+        Map<String, Object> result = client.get("/v2/groups/1/checkins", MAP_TYPE);
+        assertEquals("ok", result.get("value"));
+    }
+
+    private HttpClient createClient(ZsxqConfig.ZsxqConfigBuilder builder) {
+        return new HttpClient(builder
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .build());
+    }
+}
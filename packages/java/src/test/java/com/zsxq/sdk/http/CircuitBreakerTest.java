@@ -0,0 +1,210 @@
+package com.zsxq.sdk.http;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.client.CircuitBreakerPolicy;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.exception.CircuitOpenException;
+import com.zsxq.sdk.exception.NetworkException;
+import com.zsxq.sdk.exception.ZsxqException;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                if (path.startsWith("/v2/dashboard")) {
+                    return new MockResponse().setResponseCode(503);
+                }
+                if (path.startsWith("/v2/ranking")) {
+                    return new MockResponse().setBody(new Gson().toJson(
+                            Map.of("succeeded", false, "code", 1059, "error", "内部错误")));
+                }
+                return new MockResponse().setBody(new Gson().toJson(
+                        Map.of("succeeded", true, "resp_data", Map.of("value", "ok"))));
+            }
+        });
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testOpensOnFailureRateAndHalfOpenProbeCloses() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker("/v2/x", policy().openDuration(50).halfOpenProbes(2).build());
+        for (int i = 0; i < 3; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onResult(MS, i % 2 == 0);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        breaker.onResult(MS, false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(0.5, breaker.getFailureRate());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(1, breaker.getRejectedCount());
+
+        Thread.sleep(80);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        breaker.onResult(MS, false);
+        breaker.onResult(MS, false);
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getFailureRate());
+    }
+
+    @Test
+    void testFailedProbeReopens() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker("/v2/x", policy().openDuration(50).build());
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquire();
+            breaker.onResult(MS, true);
+        }
+        Thread.sleep(80);
+        assertTrue(breaker.tryAcquire());
+        breaker.onResult(MS, true);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(2, breaker.getOpenCount());
+    }
+
+    @Test
+    void testIgnoredProbeReturnsPermit() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker("/v2/x", policy().openDuration(10).halfOpenProbes(1).build());
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquire();
+            breaker.onResult(MS, true);
+        }
+        Thread.sleep(30);
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        breaker.onIgnored();
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void testSlowCallsOpen() {
+        CircuitBreaker breaker = new CircuitBreaker("/v2/x", policy().slowCallDuration(100).build());
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquire();
+            breaker.onResult(200 * MS, false);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(1.0, breaker.getSlowCallRate());
+    }
+
+    @Test
+    void testSlidingWindowForgetsOldFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("/v2/x", policy().build());
+        breaker.onResult(MS, true);
+        for (int i = 0; i < 4; i++) {
+            breaker.onResult(MS, false);
+        }
+        assertEquals(0, breaker.getFailureRate());
+    }
+
+    @Test
+    void testBrokenEndpointFailsFastWhileOthersServe() throws Exception {
+        HttpClient httpClient = newClient();
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(NetworkException.class, () -> httpClient.get("/v2/dashboard/groups/1/info", MAP_TYPE));
+        }
+        int served = mockServer.getRequestCount();
+
+        CircuitOpenException open = assertThrows(CircuitOpenException.class,
+                () -> httpClient.get("/v2/dashboard/groups/2/info", MAP_TYPE));
+        assertEquals("/v2/dashboard/groups/{id}/info", open.getEndpoint());
+        assertTrue(open.getRetryAfterMillis() > 0);
+        ExecutionException async = assertThrows(ExecutionException.class,
+                () -> httpClient.getAsync("/v2/dashboard/groups/3/info", MAP_TYPE).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(CircuitOpenException.class, async.getCause());
+        assertEquals(served, mockServer.getRequestCount());
+
+        Map<String, Object> healthy = httpClient.get("/v2/groups/1", MAP_TYPE);
+        assertEquals("ok", healthy.get("value"));
+        assertEquals(2, httpClient.getCircuitBreakers().size());
+    }
+
+    @Test
+    void testProbeIsNotHeldDuringRateLimitWait() throws Exception {
+        HttpClient httpClient = new HttpClient(ZsxqConfig.builder()
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(0)
+                .rateLimit(10.0)
+                .circuitBreakerPolicy(policy().openDuration(50).halfOpenProbes(1).build())
+                .build());
+        for (int i = 0; i < 4; i++) {
+            assertThrows(NetworkException.class, () -> httpClient.get("/v2/dashboard/groups/1/info", MAP_TYPE));
+        }
+        CircuitBreaker breaker = httpClient.getCircuitBreakers().get(0);
+        Thread.sleep(80);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        // 用完令牌桶（容量 10），之后的请求需要等待限流
+        for (int i = 0; i < 12; i++) {
+            httpClient.getAsync("/v2/groups/1", MAP_TYPE);
+        }
+
+        CompletableFuture<Map<String, Object>> probe = httpClient.getAsync("/v2/dashboard/groups/2/info", MAP_TYPE);
+
+        // 等待限流期间探测名额仍然空闲
+        assertFalse(probe.isDone());
+        assertTrue(breaker.tryAcquire());
+        breaker.onIgnored();
+        assertThrows(ExecutionException.class, () -> probe.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testBusinessErrorsDoNotOpen() {
+        HttpClient httpClient = newClient();
+        for (int i = 0; i < 6; i++) {
+            ZsxqException e = assertThrows(ZsxqException.class, () -> httpClient.get("/v2/ranking/1", MAP_TYPE));
+            assertFalse(e instanceof CircuitOpenException);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, httpClient.getCircuitBreakers().get(0).getState());
+    }
+
+    private HttpClient newClient() {
+        return new HttpClient(ZsxqConfig.builder()
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(0)
+                .circuitBreakerPolicy(policy().openDuration(60_000).build())
+                .build());
+    }
+
+    private static CircuitBreakerPolicy.CircuitBreakerPolicyBuilder policy() {
+        return CircuitBreakerPolicy.builder().windowSize(4).minimumCalls(4);
+    }
+}
@@ -0,0 +1,154 @@
+package com.zsxq.sdk.http;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.client.ZsxqConfig;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalCacheTest {
+
+    private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+    private static final String BODY = new Gson().toJson(
+            Map.of("succeeded", true, "resp_data", Map.of("value", "ok")));
+
+    private MockWebServer mockServer;
+
+    @TempDir
+    File cacheDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testNotModifiedReturnsPreviouslyDecodedObject() throws Exception {
+        HttpClient client = createClient(ZsxqConfig.builder().conditionalCacheSize(10));
+        mockServer.enqueue(new MockResponse().setHeader("ETag", "\"v1\"").setBody(BODY));
+        mockServer.enqueue(new MockResponse().setResponseCode(304).setHeader("ETag", "\"v1\""));
+
+        Map<String, Object> first = client.get("/v2/groups/1/menus", MAP_TYPE);
+        Map<String, Object> second = client.get("/v2/groups/1/menus", MAP_TYPE);
+
+        assertSame(first, second);
+        assertNull(mockServer.takeRequest().getHeader("If-None-Match"));
+        assertEquals("\"v1\"", mockServer.takeRequest().getHeader("If-None-Match"));
+        HttpCacheStats stats = client.getHttpCacheStats();
+        assertEquals(2, stats.getRequestCount());
+        assertEquals(1, stats.getConditionalRequestCount());
+        assertEquals(1, stats.getNotModifiedCount());
+        assertEquals(BODY.getBytes(StandardCharsets.UTF_8).length, stats.getBytesSaved());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    void testChangedResourceReplacesEntry() throws Exception {
+        HttpClient client = createClient(ZsxqConfig.builder().conditionalCacheSize(10));
+        String changed = new Gson().toJson(Map.of("succeeded", true, "resp_data", Map.of("value", "new")));
+        mockServer.enqueue(new MockResponse().setHeader("Last-Modified", "Mon, 01 Jun 2026 00:00:00 GMT").setBody(BODY));
+        mockServer.enqueue(new MockResponse().setHeader("Last-Modified", "Tue, 02 Jun 2026 00:00:00 GMT").setBody(changed));
+        mockServer.enqueue(new MockResponse().setResponseCode(304));
+
+        client.get("/v2/groups/1/columns", MAP_TYPE);
+        Map<String, Object> updated = client.get("/v2/groups/1/columns", MAP_TYPE);
+        Map<String, Object> reused = client.get("/v2/groups/1/columns", MAP_TYPE);
+
+        assertEquals("new", updated.get("value"));
+        assertSame(updated, reused);
+        mockServer.takeRequest();
+        assertEquals("Mon, 01 Jun 2026 00:00:00 GMT", mockServer.takeRequest().getHeader("If-Modified-Since"));
+        assertEquals("Tue, 02 Jun 2026 00:00:00 GMT", mockServer.takeRequest().getHeader("If-Modified-Since"));
+    }
+
+    @Test
+    void testAsyncNotModified() throws Exception {
+        HttpClient client = createClient(ZsxqConfig.builder().conditionalCacheSize(10));
+        mockServer.enqueue(new MockResponse().setHeader("ETag", "\"v1\"").setBody(BODY));
+        mockServer.enqueue(new MockResponse().setResponseCode(304));
+
+        Map<String, Object> first = client.<Map<String, Object>>getAsync("/v2/groups/1/menus", MAP_TYPE).get();
+        Map<String, Object> second = client.<Map<String, Object>>getAsync("/v2/groups/1/menus", MAP_TYPE).get();
+
+        assertSame(first, second);
+        assertEquals(1, client.getHttpCacheStats().getNotModifiedCount());
+    }
+
+    @Test
+    void testDifferentUrlOrTypeIsNotConditional() throws Exception {
+        HttpClient client = createClient(ZsxqConfig.builder().conditionalCacheSize(10));
+        for (int i = 0; i < 3; i++) {
+            mockServer.enqueue(new MockResponse().setHeader("ETag", "\"v1\"").setBody(BODY));
+        }
+
+        client.get("/v2/groups/1/menus", MAP_TYPE);
+        client.get("/v2/groups/2/menus", MAP_TYPE);
+        client.get("/v2/groups/1/menus", Object.class);
+
+        mockServer.takeRequest();
+        assertNull(mockServer.takeRequest().getHeader("If-None-Match"));
+        assertNull(mockServer.takeRequest().getHeader("If-None-Match"));
+        assertEquals(0, client.getHttpCacheStats().getConditionalRequestCount());
+    }
+
+    @Test
+    void testResponsesWithoutValidatorsAreNotKept() throws Exception {
+        HttpClient client = createClient(ZsxqConfig.builder().conditionalCacheSize(10));
+        mockServer.enqueue(new MockResponse().setBody(BODY));
+        mockServer.enqueue(new MockResponse().setBody(BODY));
+
+        client.get("/v2/groups/1/menus", MAP_TYPE);
+        client.get("/v2/groups/1/menus", MAP_TYPE);
+
+        mockServer.takeRequest();
+        RecordedRequest second = mockServer.takeRequest();
+        assertNull(second.getHeader("If-None-Match"));
+        assertNull(second.getHeader("If-Modified-Since"));
+    }
+
+    @Test
+    void testDiskCacheServesFreshResponse() throws Exception {
+        HttpClient client = createClient(ZsxqConfig.builder().httpCacheDirectory(cacheDir));
+        mockServer.enqueue(new MockResponse().setHeader("Cache-Control", "max-age=60").setBody(BODY));
+
+        Map<String, Object> first = client.get("/v2/settings", MAP_TYPE);
+        Map<String, Object> second = client.get("/v2/settings", MAP_TYPE);
+
+        assertEquals(first, second);
+        assertEquals(1, mockServer.getRequestCount());
+        HttpCacheStats stats = client.getHttpCacheStats();
+        assertEquals(1, stats.getDiskHitCount());
+        assertEquals(BODY.getBytes(StandardCharsets.UTF_8).length, stats.getBytesSaved());
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        assertNull(createClient(ZsxqConfig.builder()).getHttpCacheStats());
+    }
+
+    private HttpClient createClient(ZsxqConfig.ZsxqConfigBuilder builder) {
+        return new HttpClient(builder
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(0)
+                .build());
+    }
+}
@@ -0,0 +1,113 @@
+package com.zsxq.sdk.http;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.client.ConnectionProfile;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.exception.NetworkException;
+import com.zsxq.sdk.metrics.MetricsRegistry;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionProfileTest {
+
+    private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testCallTimeoutAppliesPerAttempt() {
+        mockServer.enqueue(new MockResponse().setBody(success()).setBodyDelay(1, TimeUnit.SECONDS));
+        HttpClient httpClient = newClient(ZsxqConfig.builder()
+                .connectionProfile(ConnectionProfile.builder().callTimeout(200).build()));
+
+        long start = System.nanoTime();
+        assertThrows(NetworkException.class, () -> httpClient.get("/v2/settings", MAP_TYPE));
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(900));
+    }
+
+    @Test
+    void testHttp1OnlyProfile() throws Exception {
+        mockServer.enqueue(new MockResponse().setBody(success()));
+        HttpClient httpClient = newClient(ZsxqConfig.builder()
+                .connectionProfile(ConnectionProfile.builder().http2(false).build()));
+
+        httpClient.get("/v2/settings", MAP_TYPE);
+
+        assertEquals("HTTP/1.1", mockServer.takeRequest().getRequestLine().split(" ")[2]);
+    }
+
+    @Test
+    void testSharedClientKeepsItsListenerAndPool() {
+        mockServer.enqueue(new MockResponse().setBody(success()));
+        mockServer.enqueue(new MockResponse().setBody(success()));
+        AtomicInteger callEnds = new AtomicInteger();
+        OkHttpClient shared = new OkHttpClient.Builder()
+                .eventListener(new EventListener() {
+                    @Override
+                    public void callEnd(Call call) {
+                        callEnds.incrementAndGet();
+                    }
+                })
+                .build();
+        MetricsRegistry registry = new MetricsRegistry();
+        HttpClient httpClient = newClient(ZsxqConfig.builder()
+                .okHttpClient(shared)
+                .metricsRegistry(registry));
+
+        httpClient.get("/v2/settings", MAP_TYPE);
+        httpClient.get("/v2/settings", MAP_TYPE);
+
+        assertEquals(2, callEnds.get());
+        assertTrue(registry.endpoints().get(0).getResponseBytes() > 0);
+        // 两次调用复用共享连接池中的同一个连接
+        assertEquals(1, shared.connectionPool().connectionCount());
+    }
+
+    @Test
+    void testProfiles() {
+        ConnectionProfile defaults = ConnectionProfile.defaults();
+        assertEquals(5, defaults.getMaxRequestsPerHost());
+        assertTrue(defaults.isHttp2());
+
+        ConnectionProfile tuned = ConnectionProfile.highThroughput().toBuilder().callTimeout(5000).build();
+        assertEquals(64, tuned.getMaxRequestsPerHost());
+        assertEquals(5000, tuned.getCallTimeout());
+    }
+
+    private HttpClient newClient(ZsxqConfig.ZsxqConfigBuilder builder) {
+        return new HttpClient(builder
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(0)
+                .build());
+    }
+
+    private static String success() {
+        return new Gson().toJson(Map.of("succeeded", true, "resp_data", Map.of("n", 1)));
+    }
+}
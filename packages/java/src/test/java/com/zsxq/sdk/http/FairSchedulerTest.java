@@ -0,0 +1,105 @@
+package com.zsxq.sdk.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FairSchedulerTest {
+
+    @Test
+    void testGrantsInProportionToWeight() throws Exception {
+        FairScheduler scheduler = new FairScheduler(1);
+        FairScheduler.Tenant holder = scheduler.tenant(1);
+        FairScheduler.Tenant light = scheduler.tenant(1);
+        FairScheduler.Tenant heavy = scheduler.tenant(2);
+        holder.acquire();
+
+        // 轻租户先排满队列，重租户随后到达仍按 2:1 获得名额
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 6; i++) {
+            light.acquireAsync().thenRun(() -> order.add("light"));
+        }
+        for (int i = 0; i < 6; i++) {
+            heavy.acquireAsync().thenRun(() -> order.add("heavy"));
+        }
+        assertEquals(12, scheduler.queued());
+
+        for (int i = 0; i < 6; i++) {
+            holder.release();
+        }
+
+        assertEquals(List.of("light", "heavy", "heavy", "light", "heavy", "heavy"), order);
+        assertEquals(6, scheduler.queued());
+    }
+
+    @Test
+    void testIdleTenantDoesNotBankCredit() throws Exception {
+        FairScheduler scheduler = new FairScheduler(1);
+        FairScheduler.Tenant busy = scheduler.tenant(1);
+        FairScheduler.Tenant idle = scheduler.tenant(1);
+
+        // busy 独占期间推进了虚拟时间
+        for (int i = 0; i < 10; i++) {
+            busy.acquire();
+            busy.release();
+        }
+        busy.acquire();
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 3; i++) {
+            busy.acquireAsync().thenRun(() -> order.add("busy"));
+        }
+        for (int i = 0; i < 3; i++) {
+            idle.acquireAsync().thenRun(() -> order.add("idle"));
+        }
+
+        for (int i = 0; i < 6; i++) {
+            busy.release();
+        }
+
+        // idle 从当前虚拟时间开始排队，与 busy 交替获得名额，而不是连续拿走三个
+        assertEquals(List.of("idle", "busy", "idle", "busy", "idle", "busy"), order);
+    }
+
+    @Test
+    void testInterruptedWaiterLeavesQueue() throws Exception {
+        FairScheduler scheduler = new FairScheduler(1);
+        FairScheduler.Tenant tenant = scheduler.tenant(1);
+        tenant.acquire();
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                tenant.acquire();
+            } catch (Throwable e) {
+                error.set(e);
+            }
+            done.countDown();
+        });
+        waiter.start();
+        while (scheduler.queued() == 0) {
+            Thread.sleep(1);
+        }
+        waiter.interrupt();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(InterruptedIOException.class, error.get());
+        assertEquals(0, scheduler.queued());
+        tenant.release();
+        tenant.acquire();
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new FairScheduler(0));
+        assertThrows(IllegalArgumentException.class, () -> new FairScheduler(1).tenant(0));
+    }
+}
@@ -0,0 +1,154 @@
+package com.zsxq.sdk.http;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.exception.RateLimitException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import okhttp3.Request;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightEventsTest {
+
+    private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+    private static final String BODY = new Gson().toJson(
+            Map.of("succeeded", true, "resp_data", Map.of("value", "ok")));
+
+    private MockWebServer mockServer;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testCallRetryAndDecodeEvents() throws Exception {
+        HttpClient client = createClient();
+        mockServer.enqueue(new MockResponse().setResponseCode(503));
+        mockServer.enqueue(new MockResponse().setBody(BODY));
+
+        List<RecordedEvent> events = record(() -> client.get("/v2/groups/1/topics", MAP_TYPE));
+
+        List<RecordedEvent> calls = named(events, "com.zsxq.sdk.ApiCall");
+        assertEquals(2, calls.size());
+        RecordedEvent failed = calls.get(0);
+        assertEquals("GET", failed.getString("method"));
+        assertEquals("/v2/groups/{id}/topics", failed.getString("path"));
+        assertEquals(0, failed.getInt("attempt"));
+        assertEquals(503, failed.getInt("status"));
+        assertEquals("network_error", failed.getString("outcome"));
+        RecordedEvent succeeded = calls.get(1);
+        assertEquals(1, succeeded.getInt("attempt"));
+        assertEquals(200, succeeded.getInt("status"));
+        assertEquals("success", succeeded.getString("outcome"));
+        assertEquals(BODY.getBytes(StandardCharsets.UTF_8).length, succeeded.getLong("bytes"));
+        assertEquals(failed.getString("requestId"), succeeded.getString("requestId"));
+
+        List<RecordedEvent> retries = named(events, "com.zsxq.sdk.Retry");
+        assertEquals(1, retries.size());
+        assertEquals(1, retries.get(0).getInt("retry"));
+        assertTrue(retries.get(0).getLong("backoff") > 0);
+
+        List<RecordedEvent> decodes = named(events, "com.zsxq.sdk.Decode");
+        assertFalse(decodes.isEmpty());
+        assertEquals("/v2/groups/{id}/topics", decodes.get(decodes.size() - 1).getString("path"));
+    }
+
+    @Test
+    void testServerThrottlingAndApiErrorCode() throws Exception {
+        HttpClient client = createClient();
+        mockServer.enqueue(new MockResponse().setBody(new Gson().toJson(
+                Map.of("succeeded", false, "code", 40001, "error", "请求过于频繁"))));
+
+        List<RecordedEvent> events = record(() ->
+                assertThrows(RateLimitException.class, () -> client.get("/v2/users/self", MAP_TYPE)));
+
+        RecordedEvent call = named(events, "com.zsxq.sdk.ApiCall").get(0);
+        assertEquals("api_error", call.getString("outcome"));
+        assertEquals(40001, call.getInt("errorCode"));
+        RecordedEvent throttled = named(events, "com.zsxq.sdk.RateLimit").get(0);
+        assertEquals("server", throttled.getString("source"));
+        assertEquals("/v2/users/self", throttled.getString("path"));
+    }
+
+    @Test
+    void testAsyncCallEvent() throws Exception {
+        HttpClient client = createClient();
+        mockServer.enqueue(new MockResponse().setBody(BODY));
+
+        // 各测试使用不同路径：同一 JVM 中先后几次录制共享 JFR 字符串常量池，重复的长字符串在后一次录制中会读成 null
+        List<RecordedEvent> events = record(() ->
+                client.getAsync("/v2/groups/1/menus", MAP_TYPE).get());
+
+        RecordedEvent call = named(events, "com.zsxq.sdk.ApiCall").get(0);
+        assertEquals("success", call.getString("outcome"));
+        assertFalse(call.getDuration().isNegative());
+    }
+
+    @Test
+    void testNoEventAttachedWithoutRecording() {
+        Request request = new Request.Builder().url(mockServer.url("/v2/users/self")).build();
+        assertSame(request, FlightEvents.beginCall(request, "id", 0));
+        assertNull(request.tag(ApiCallEvent.class));
+    }
+
+    private List<RecordedEvent> record(ThrowingRunnable action) throws Exception {
+        Path file = tempDir.resolve("sdk.jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : new String[] {"ApiCall", "Retry", "RateLimit", "Decode"}) {
+                recording.enable("com.zsxq.sdk." + name).withoutThreshold();
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .collect(Collectors.toList());
+    }
+
+    private HttpClient createClient() {
+        return new HttpClient(ZsxqConfig.builder()
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(1)
+                .retryDelay(1)
+                .build());
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,225 @@
+package com.zsxq.sdk.http;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.client.HedgePolicy;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.exception.RateLimitException;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgingTest {
+
+    private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private MockWebServer mockServer;
+    private final AtomicBoolean slowNext = new AtomicBoolean();
+    private final List<String> requestIds = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                requestIds.add(request.getHeader("x-request-id"));
+                if (request.getPath().startsWith("/v2/ranking")) {
+                    return new MockResponse().setBody(new Gson().toJson(
+                            Map.of("succeeded", false, "code", 40001, "error", "请求过于频繁")));
+                }
+                MockResponse response = new MockResponse().setBody(new Gson().toJson(
+                        Map.of("succeeded", true, "resp_data", Map.of("value", "ok"))));
+                if (slowNext.compareAndSet(true, false)) {
+                    response.setHeadersDelay(1, TimeUnit.SECONDS);
+                }
+                return response;
+            }
+        });
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testSlowPrimaryIsBeatenByHedge() throws Exception {
+        HttpClient client = createClient(policy().build());
+        warmUp(client);
+
+        slowNext.set(true);
+        long start = System.nanoTime();
+        Map<String, Object> result = client.get("/v2/groups/1/topics", MAP_TYPE);
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals("ok", result.get("value"));
+        assertTrue(elapsed < 700 * MS, "hedge should answer before the slow primary: " + elapsed / MS + "ms");
+        HedgeStats stats = client.getHedgeStats();
+        assertEquals(1, stats.getHedgeCount());
+        assertEquals(1, stats.getHedgeWinCount());
+        assertEquals(6, stats.getRequestCount());
+    }
+
+    @Test
+    void testHedgeHasItsOwnRequestId() {
+        HttpClient client = createClient(policy().build());
+        warmUp(client);
+        requestIds.clear();
+
+        slowNext.set(true);
+        client.get("/v2/groups/1/topics", MAP_TYPE);
+
+        assertEquals(1, client.getHedgeStats().getHedgeCount());
+        assertEquals(2, requestIds.size());
+        assertNotEquals(requestIds.get(0), requestIds.get(1));
+    }
+
+    @Test
+    void testAsyncGetIsHedged() throws Exception {
+        HttpClient client = createClient(policy().maxDelay(50).build());
+        warmUp(client);
+
+        slowNext.set(true);
+        CompletableFuture<Map<String, Object>> future = client.getAsync("/v2/groups/1/topics", MAP_TYPE);
+        assertEquals("ok", future.get(700, TimeUnit.MILLISECONDS).get("value"));
+        assertEquals(1, client.getHedgeStats().getHedgeWinCount());
+    }
+
+    @Test
+    void testNoHedgeWithoutBudget() throws Exception {
+        HttpClient client = createClient(policy().maxHedgeRatio(0).build());
+        warmUp(client);
+        // 初始预算耗尽后不再对冲
+        for (int i = 0; i < 12; i++) {
+            slowNext.set(true);
+            client.getAsync("/v2/groups/" + i + "/topics", MAP_TYPE).get(5, TimeUnit.SECONDS);
+            if (client.getHedgeStats().getSuppressedCount() > 0) {
+                break;
+            }
+        }
+        HedgeStats stats = client.getHedgeStats();
+        assertTrue(stats.getSuppressedCount() > 0);
+        assertTrue(stats.getHedgeCount() <= 10);
+    }
+
+    @Test
+    void testRateLimitSuspendsHedging() throws Exception {
+        HttpClient client = createClient(policy().build());
+        warmUp(client);
+        assertThrows(RateLimitException.class, () -> client.get("/v2/ranking", MAP_TYPE));
+
+        slowNext.set(true);
+        long start = System.nanoTime();
+        client.get("/v2/groups/1/topics", MAP_TYPE);
+        assertTrue(System.nanoTime() - start >= 900 * MS);
+        assertEquals(0, client.getHedgeStats().getHedgeCount());
+        assertEquals(1, client.getHedgeStats().getSuppressedCount());
+    }
+
+    @Test
+    void testFamiliesLimitHedgedPaths() {
+        Hedging hedging = new Hedging(policy().family("topics").build());
+        assertTrue(hedging.appliesTo("/v2/groups/1/topics"));
+        assertFalse(hedging.appliesTo("/v2/users/self"));
+        assertTrue(new Hedging(policy().build()).appliesTo("/v2/users/self"));
+    }
+
+    @Test
+    void testDelayFollowsPercentileWithinBounds() {
+        Hedging hedging = new Hedging(policy().minDelay(5).maxDelay(50).minSamples(4).percentile(0.5).build());
+        String template = "/v2/groups/{id}/topics";
+        assertEquals(-1, hedging.start(template));
+        for (long ms : new long[] {10, 20, 30, 40}) {
+            hedging.record(template, ms * MS);
+        }
+        assertEquals(20 * MS, hedging.start(template));
+
+        Hedging fast = new Hedging(policy().minDelay(5).maxDelay(15).minSamples(1).build());
+        fast.record(template, MS);
+        assertEquals(5 * MS, fast.start(template));
+        Hedging slow = new Hedging(policy().minDelay(5).maxDelay(15).minSamples(1).build());
+        slow.record(template, 100 * MS);
+        assertEquals(15 * MS, slow.start(template));
+    }
+
+    @Test
+    void testRaceFailsOnlyWhenAllAttemptsFail() throws Exception {
+        Hedging hedging = new Hedging(policy().build());
+        Hedging.Race<String> race = hedging.new Race<>();
+        CompletableFuture<String> primary = new CompletableFuture<>();
+        CompletableFuture<String> hedge = new CompletableFuture<>();
+        race.add(primary);
+        race.add(hedge);
+
+        primary.completeExceptionally(new IllegalStateException("first"));
+        assertFalse(race.isDone());
+        hedge.complete("ok");
+        assertEquals("ok", race.result().get());
+        assertEquals(1, hedging.stats().getHedgeWinCount());
+
+        Hedging.Race<String> failing = hedging.new Race<>();
+        CompletableFuture<String> a = new CompletableFuture<>();
+        CompletableFuture<String> b = new CompletableFuture<>();
+        failing.add(a);
+        failing.add(b);
+        a.completeExceptionally(new IllegalStateException("first"));
+        b.completeExceptionally(new IllegalStateException("second"));
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failing.result().get());
+        assertEquals("first", e.getCause().getMessage());
+    }
+
+    @Test
+    void testWinnerCancelsOtherAttempts() {
+        Hedging.Race<String> race = new Hedging(policy().build()).new Race<>();
+        CompletableFuture<String> primary = new CompletableFuture<>();
+        CompletableFuture<String> hedge = new CompletableFuture<>();
+        race.add(primary);
+        race.add(hedge);
+        primary.complete("ok");
+        assertTrue(hedge.isCancelled());
+
+        Hedging.Race<String> cancelled = new Hedging(policy().build()).new Race<>();
+        CompletableFuture<String> attempt = new CompletableFuture<>();
+        cancelled.add(attempt);
+        cancelled.result().cancel(true);
+        assertTrue(attempt.isCancelled());
+    }
+
+    private void warmUp(HttpClient client) {
+        for (int i = 0; i < 5; i++) {
+            client.get("/v2/groups/1/topics", MAP_TYPE);
+        }
+        assertEquals(0, client.getHedgeStats().getHedgeCount());
+    }
+
+    private HttpClient createClient(HedgePolicy policy) {
+        return new HttpClient(ZsxqConfig.builder()
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(0)
+                .hedgePolicy(policy)
+                .build());
+    }
+
+    private static HedgePolicy.HedgePolicyBuilder policy() {
+        return HedgePolicy.builder().minSamples(5).minDelay(10).maxDelay(200);
+    }
+}
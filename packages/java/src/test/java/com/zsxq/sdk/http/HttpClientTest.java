@@ -13,6 +13,9 @@ import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -304,6 +307,80 @@ class HttpClientTest {
         assertEquals(40001, exception.getCode());
     }
 
+    @Test
+    void testGetAsyncSuccess() throws Exception {
+        mockServer.enqueue(new MockResponse()
+            .setResponseCode(200)
+            .setBody(gson.toJson(createSuccessResponse(Map.of("value", "async"))))
+            .setHeader("Content-Type", "application/json"));
+
+        CompletableFuture<Map<String, Object>> future = httpClient.getAsync(
+            "/v2/test",
+            Map.of("count", 10),
+            new TypeToken<Map<String, Object>>(){}.getType()
+        );
+
+        Map<String, Object> result = future.get(5, TimeUnit.SECONDS);
+        assertEquals("async", result.get("value"));
+
+        RecordedRequest request = mockServer.takeRequest();
+        assertEquals("/v2/test?count=10", request.getPath());
+        assertNotNull(request.getHeader("x-signature"));
+    }
+
+    @Test
+    void testAsyncRetryOnServerError() throws Exception {
+        mockServer.enqueue(new MockResponse().setResponseCode(500));
+        mockServer.enqueue(new MockResponse()
+            .setResponseCode(200)
+            .setBody(gson.toJson(createSuccessResponse(Map.of("retry", "success"))))
+            .setHeader("Content-Type", "application/json"));
+
+        Map<String, Object> result = httpClient.<Map<String, Object>>getAsync(
+            "/v2/test",
+            new TypeToken<Map<String, Object>>(){}.getType()
+        ).get(5, TimeUnit.SECONDS);
+
+        assertEquals("success", result.get("retry"));
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testAsyncBusinessError() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("succeeded", false);
+        response.put("code", 10001);
+        response.put("error", "Token 无效");
+
+        mockServer.enqueue(new MockResponse()
+            .setResponseCode(200)
+            .setBody(gson.toJson(response))
+            .setHeader("Content-Type", "application/json"));
+
+        CompletableFuture<Object> future = httpClient.postAsync(
+            "/v2/test", Map.of("name", "test"), new TypeToken<Map<String, Object>>(){}.getType());
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+            () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TokenInvalidException.class, exception.getCause());
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testAsyncMaxRetryReached() {
+        mockServer.enqueue(new MockResponse().setResponseCode(500));
+        mockServer.enqueue(new MockResponse().setResponseCode(500));
+        mockServer.enqueue(new MockResponse().setResponseCode(500));
+
+        CompletableFuture<Object> future = httpClient.getAsync(
+            "/v2/test", new TypeToken<Map<String, Object>>(){}.getType());
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+            () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(NetworkException.class, exception.getCause());
+        assertEquals(3, mockServer.getRequestCount());
+    }
+
     // Helper method
     private Map<String, Object> createSuccessResponse(Object respData) {
         Map<String, Object> response = new HashMap<>();
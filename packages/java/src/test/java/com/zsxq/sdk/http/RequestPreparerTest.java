@@ -0,0 +1,150 @@
+package com.zsxq.sdk.http;
+
+import com.zsxq.sdk.client.ZsxqConfig;
+import okhttp3.Headers;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestPreparerTest {
+
+    private static final String UUID_PATTERN =
+            "^[0-9a-f]{8}-[0-9a-f]{4}-4[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}$";
+
+    @Test
+    void testSignatureMatchesReferenceImplementation() throws Exception {
+        RequestSigner signer = new RequestSigner("secret");
+
+        assertEquals(referenceSignature("secret", "1700000000", "GET", "/v2/groups", null),
+                signer.sign("1700000000", "GET", "/v2/groups", null));
+        assertEquals(referenceSignature("secret", "1700000000", "post", "/v2/topics", "{\"text\":\"你好 🌍\"}"),
+                signer.sign("1700000000", "post", "/v2/topics", "{\"text\":\"你好 🌍\"}"));
+        assertEquals(referenceSignature("secret", "1", "PUT", "/v2/x", "é\uD800x\uDC00"),
+                signer.sign("1", "PUT", "/v2/x", "é\uD800x\uDC00"));
+    }
+
+    @Test
+    void testSignatureWithLargeBody() throws Exception {
+        RequestSigner signer = new RequestSigner("secret");
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            body.append("abcdef");
+        }
+
+        assertEquals(referenceSignature("secret", "1", "PUT", "/v2/x", body.toString()),
+                signer.sign("1", "PUT", "/v2/x", body.toString()));
+        // 缓冲区收缩后仍然正确
+        assertEquals(referenceSignature("secret", "1", "GET", "/v2/y", null),
+                signer.sign("1", "GET", "/v2/y", null));
+    }
+
+    @Test
+    void testSignatureIsThreadSafe() throws Exception {
+        RequestSigner signer = new RequestSigner("secret");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int thread = t;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        String path = "/v2/topics/" + thread + "/" + i;
+                        if (!referenceSignature("secret", "1", "GET", path, null)
+                                .equals(signer.sign("1", "GET", path, null))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testFastRequestIdFormat() {
+        RequestIdGenerator generator = RequestIdGenerator.fast();
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            String id = generator.next();
+            assertTrue(id.matches(UUID_PATTERN), id);
+            assertEquals(4, UUID.fromString(id).version());
+            ids.add(id);
+        }
+        assertEquals(1000, ids.size());
+    }
+
+    @Test
+    void testHeaders() {
+        ZsxqConfig config = ZsxqConfig.builder()
+                .token("test-token")
+                .deviceId("device-1")
+                .appVersion("2.83.0")
+                .build();
+        RequestPreparer preparer = new RequestPreparer(config);
+
+        Headers get = preparer.headers("GET", "/v2/groups", null, "rid-1");
+        assertEquals("xiaomiquan/2.83.0 SDK/1.0.0", get.get("User-Agent"));
+        assertEquals("test-token", get.get("authorization"));
+        assertEquals("rid-1", get.get("x-request-id"));
+        assertEquals("2.83.0", get.get("x-version"));
+        assertEquals("device-1", get.get("x-aduid"));
+        assertNull(get.get("Content-Type"));
+        assertNotNull(get.get("x-timestamp"));
+        assertTrue(get.get("x-signature").matches("^[a-f0-9]{40}$"));
+
+        Headers post = preparer.headers("POST", "/v2/topics", "{}", "rid-2");
+        assertEquals("application/json; charset=utf-8", post.get("Content-Type"));
+        assertEquals("rid-2", post.get("x-request-id"));
+    }
+
+    @Test
+    void testHeadersWithoutSignature() {
+        ZsxqConfig config = ZsxqConfig.builder()
+                .token("test-token")
+                .signatureEnabled(false)
+                .requestIdGenerator(() -> "fixed-id")
+                .build();
+        RequestPreparer preparer = new RequestPreparer(config);
+
+        Headers headers = preparer.headers("GET", "/v2/groups", null, preparer.nextRequestId());
+
+        assertEquals("fixed-id", headers.get("x-request-id"));
+        assertNull(headers.get("x-timestamp"));
+        assertNull(headers.get("x-signature"));
+    }
+
+    private static String referenceSignature(String key, String timestamp, String method, String path, String body)
+            throws Exception {
+        StringBuilder data = new StringBuilder()
+                .append(timestamp).append("\n")
+                .append(method.toUpperCase()).append("\n")
+                .append(path);
+        if (body != null && !body.isEmpty()) {
+            data.append("\n").append(body);
+        }
+        Mac mac = Mac.getInstance("HmacSHA1");
+        mac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "HmacSHA1"));
+        StringBuilder hex = new StringBuilder();
+        for (byte b : mac.doFinal(data.toString().getBytes(StandardCharsets.UTF_8))) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,181 @@
+package com.zsxq.sdk.http;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.exception.ZsxqException;
+import com.zsxq.sdk.metrics.RequestRecord;
+import com.zsxq.sdk.metrics.RequestRecorder;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestRecorderTest {
+
+    private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+    private static final String BODY = new Gson().toJson(
+            Map.of("succeeded", true, "resp_data", Map.of("value", "ok")));
+
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testRecordsEachAttempt() throws Exception {
+        RequestRecorder recorder = new RequestRecorder();
+        HttpClient client = createClient(recorder);
+        mockServer.enqueue(new MockResponse().setResponseCode(503));
+        mockServer.enqueue(new MockResponse().setBody(BODY));
+
+        client.get("/v2/groups/1/topics", MAP_TYPE);
+
+        List<RequestRecord> records = recorder.snapshot();
+        assertEquals(2, records.size());
+        RequestRecord failed = records.get(0);
+        assertEquals("GET", failed.getMethod());
+        assertEquals("/v2/groups/1/topics", failed.getPath());
+        assertEquals(503, failed.getStatus());
+        assertEquals("network_error", failed.getOutcome());
+        assertEquals(0, failed.getAttempt());
+        assertEquals(mockServer.takeRequest().getHeader("x-request-id"), failed.getRequestId());
+        RequestRecord succeeded = records.get(1);
+        assertEquals(1, succeeded.getAttempt());
+        assertEquals(200, succeeded.getStatus());
+        assertEquals("success", succeeded.getOutcome());
+        assertTrue(succeeded.getLatencyNanos() > 0);
+        assertEquals(failed.getRequestId(), succeeded.getRequestId());
+        assertNull(succeeded.getResponseBody(), "bodies are off by default");
+    }
+
+    @Test
+    void testTruncatedBodiesAndApiErrorCode() throws Exception {
+        RequestRecorder recorder = new RequestRecorder(16, 20);
+        HttpClient client = createClient(recorder);
+        String error = new Gson().toJson(Map.of("succeeded", false, "code", 1059, "error", "internal error"));
+        mockServer.enqueue(new MockResponse().setBody(error));
+
+        assertThrows(ZsxqException.class,
+                () -> client.post("/v2/groups/1/topics", Map.of("text", "a long topic body"), MAP_TYPE));
+
+        RequestRecord record = recorder.snapshot().get(0);
+        assertEquals("api_error", record.getOutcome());
+        assertEquals(1059, record.getErrorCode());
+        assertNotNull(record.getError());
+        assertEquals(error.substring(0, 20), record.getResponseBody());
+        assertEquals("{\"text\":\"a long topi", record.getRequestBody());
+    }
+
+    @Test
+    void testAsyncCallIsRecorded() throws Exception {
+        RequestRecorder recorder = new RequestRecorder();
+        HttpClient client = createClient(recorder);
+        mockServer.enqueue(new MockResponse().setBody(BODY));
+
+        client.getAsync("/v2/groups/1/menus", MAP_TYPE).get(5, TimeUnit.SECONDS);
+
+        assertEquals("success", recorder.snapshot().get(0).getOutcome());
+    }
+
+    @Test
+    void testRingBufferKeepsMostRecent() {
+        RequestRecorder recorder = new RequestRecorder(3, 0);
+        assertEquals(4, recorder.getCapacity());
+        for (int i = 0; i < 10; i++) {
+            recorder.record(record("/v2/topics/" + i, "success"));
+        }
+
+        List<RequestRecord> records = recorder.snapshot();
+        assertEquals(4, records.size());
+        assertEquals("/v2/topics/6", records.get(0).getPath());
+        assertEquals("/v2/topics/9", records.get(3).getPath());
+        assertEquals(9, records.get(3).getSequence());
+        assertEquals(10, recorder.getRecordedCount());
+
+        String[] lines = recorder.dump().split("\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].contains("\"path\":\"/v2/topics/6\""), lines[0]);
+        assertTrue(lines[0].contains("\"latency_nanos\":"), lines[0]);
+    }
+
+    @Test
+    void testDumpOnErrorIsRateLimited() {
+        List<RequestRecord> triggers = new CopyOnWriteArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        RequestRecorder recorder = new RequestRecorder(8, 0).onError((trigger, records) -> {
+            triggers.add(trigger);
+            sizes.add(records.size());
+        }, 60_000);
+
+        recorder.record(record("/v2/a", "success"));
+        recorder.record(record("/v2/b", "network_error"));
+        recorder.record(record("/v2/c", "api_error"));
+
+        assertEquals(1, triggers.size());
+        assertEquals("/v2/b", triggers.get(0).getPath());
+        assertEquals(List.of(2), sizes);
+    }
+
+    @Test
+    void testConcurrentWritersNeverDuplicate() throws Exception {
+        RequestRecorder recorder = new RequestRecorder(64, 0);
+        Thread[] writers = new Thread[4];
+        for (int t = 0; t < writers.length; t++) {
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    recorder.record(record("/v2/x", "success"));
+                }
+            });
+            writers[t].start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        List<RequestRecord> records = recorder.snapshot();
+        assertEquals(64, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(40_000 - 64 + i, records.get(i).getSequence());
+        }
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        HttpClient client = new HttpClient(ZsxqConfig.builder().token("test-token").build());
+        assertNull(client.getRequestRecorder());
+    }
+
+    private static RequestRecord record(String path, String outcome) {
+        return new RequestRecord(System.currentTimeMillis(), "id", "GET", path, 0, 200, 1_000, outcome, 0,
+                null, null, null);
+    }
+
+    private HttpClient createClient(RequestRecorder recorder) {
+        return new HttpClient(ZsxqConfig.builder()
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(1)
+                .retryDelay(1)
+                .requestRecorder(recorder)
+                .build());
+    }
+}
@@ -0,0 +1,199 @@
+package com.zsxq.sdk.http;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.client.ZsxqConfig;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+
+    private MockWebServer mockServer;
+    private final AtomicInteger served = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                int n = served.incrementAndGet();
+                return new MockResponse().setResponseCode(200).setBody(new Gson().toJson(
+                        Map.of("succeeded", true, "resp_data", Map.of("n", n))));
+            }
+        });
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testHitWithinTtlOnlyForConfiguredFamily() {
+        HttpClient httpClient = newClient(ZsxqConfig.builder().cacheTtls(Map.of("menus", 60_000L)));
+
+        assertEquals(1.0, number(httpClient.get("/v2/groups/1/menus", MAP_TYPE)));
+        assertEquals(1.0, number(httpClient.get("/v2/groups/1/menus", MAP_TYPE)));
+        assertEquals(2.0, number(httpClient.get("/v2/groups/2/menus", MAP_TYPE)));
+        assertEquals(3.0, number(httpClient.get("/v2/groups/1/topics", MAP_TYPE)));
+        assertEquals(4.0, number(httpClient.get("/v2/groups/1/topics", MAP_TYPE)));
+
+        CacheStats stats = httpClient.getCacheStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(2, stats.getSize());
+        assertEquals(1.0 / 3, stats.hitRate(), 1e-9);
+    }
+
+    @Test
+    void testParamsAreSortedInKey() throws Exception {
+        HttpClient httpClient = newClient(ZsxqConfig.builder().cacheTtls(Map.of("hashtags", 60_000L)));
+
+        LinkedHashMap<String, Object> a = new LinkedHashMap<>();
+        a.put("x", 1);
+        a.put("y", 2);
+        LinkedHashMap<String, Object> b = new LinkedHashMap<>();
+        b.put("y", 2);
+        b.put("x", 1);
+        httpClient.get("/v2/groups/1/hashtags", a, MAP_TYPE);
+        Map<String, Object> async = httpClient.<Map<String, Object>>getAsync("/v2/groups/1/hashtags", b, MAP_TYPE)
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(1.0, number(async));
+        assertEquals(1, served.get());
+    }
+
+    @Test
+    void testExpiredEntryIsReloaded() throws Exception {
+        HttpClient httpClient = newClient(ZsxqConfig.builder().cacheTtls(Map.of("settings", 50L)));
+
+        assertEquals(1.0, number(httpClient.get("/v2/settings", MAP_TYPE)));
+        Thread.sleep(80);
+        assertEquals(2.0, number(httpClient.get("/v2/settings", MAP_TYPE)));
+        assertEquals(0, httpClient.getCacheStats().getStaleHitCount());
+    }
+
+    @Test
+    void testStaleWhileRevalidate() throws Exception {
+        HttpClient httpClient = newClient(ZsxqConfig.builder()
+                .cacheTtls(Map.of("settings", 50L))
+                .staleWhileRevalidate(60_000));
+
+        assertEquals(1.0, number(httpClient.get("/v2/settings", MAP_TYPE)));
+        Thread.sleep(80);
+
+        // 过期后先返回旧值，同时在后台刷新
+        assertEquals(1.0, number(httpClient.get("/v2/settings", MAP_TYPE)));
+        CompletableFuture<Map<String, Object>> async = httpClient.getAsync("/v2/settings", MAP_TYPE);
+        assertTrue(async.isDone());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (number(httpClient.get("/v2/settings", MAP_TYPE)) != 2.0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(2.0, number(httpClient.get("/v2/settings", MAP_TYPE)));
+        assertEquals(2, served.get());
+        assertEquals(1, httpClient.getCacheStats().getMissCount());
+        assertTrue(httpClient.getCacheStats().getStaleHitCount() >= 1);
+    }
+
+    @Test
+    void testInvalidateByPathPrefix() {
+        HttpClient httpClient = newClient(ZsxqConfig.builder().cacheTtls(Map.of("checkins", 60_000L)));
+
+        httpClient.get("/v2/groups/1/checkins", MAP_TYPE);
+        httpClient.get("/v2/groups/1/checkins/7", MAP_TYPE);
+        httpClient.get("/v2/groups/11/checkins", MAP_TYPE);
+        assertEquals(3, httpClient.getCacheStats().getSize());
+
+        httpClient.invalidateCache("/v2/groups/1/checkins");
+
+        assertEquals(1, httpClient.getCacheStats().getSize());
+        assertEquals(4.0, number(httpClient.get("/v2/groups/1/checkins", MAP_TYPE)));
+        assertEquals(3.0, number(httpClient.get("/v2/groups/11/checkins", MAP_TYPE)));
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        HttpClient httpClient = newClient(ZsxqConfig.builder());
+        httpClient.get("/v2/settings", MAP_TYPE);
+        httpClient.get("/v2/settings", MAP_TYPE);
+
+        assertEquals(2, served.get());
+        assertNull(httpClient.getCacheStats());
+    }
+
+    @Test
+    void testLruEviction() {
+        InMemoryResponseCache cache = new InMemoryResponseCache(2);
+        cache.put("a", entry("a"));
+        cache.put("b", entry("b"));
+        cache.get("a");
+        cache.get("b");
+        cache.get("a");
+        cache.get("c");
+        cache.put("c", entry("c"));
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    void testTinyLfuRejectsColdCandidate() {
+        InMemoryResponseCache cache = new InMemoryResponseCache(2);
+        cache.put("hot1", entry("1"));
+        cache.put("hot2", entry("2"));
+        for (int i = 0; i < 5; i++) {
+            cache.get("hot1");
+            cache.get("hot2");
+        }
+
+        // 一次性访问的键不会把热点挤出去
+        for (int i = 0; i < 20; i++) {
+            cache.get("scan" + i);
+            cache.put("scan" + i, entry("x"));
+        }
+
+        assertNotNull(cache.get("hot1"));
+        assertNotNull(cache.get("hot2"));
+        assertEquals(2, cache.size());
+        assertEquals(0, cache.evictionCount());
+    }
+
+    private HttpClient newClient(ZsxqConfig.ZsxqConfigBuilder builder) {
+        return new HttpClient(builder
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(0)
+                .build());
+    }
+
+    private static CacheEntry entry(Object value) {
+        long now = System.nanoTime();
+        return new CacheEntry(value, now + TimeUnit.MINUTES.toNanos(1), now + TimeUnit.MINUTES.toNanos(1));
+    }
+
+    private static double number(Map<String, Object> data) {
+        return ((Number) data.get("n")).doubleValue();
+    }
+}
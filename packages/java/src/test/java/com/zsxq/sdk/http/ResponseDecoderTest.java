@@ -0,0 +1,92 @@
+package com.zsxq.sdk.http;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.exception.RateLimitException;
+import com.zsxq.sdk.exception.ZsxqException;
+import com.zsxq.sdk.model.Topic;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseDecoderTest {
+
+    private final ResponseDecoder decoder = new ResponseDecoder(new GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .create());
+
+    @Test
+    void testDecodeTypedRespData() throws Exception {
+        String json = "{\"succeeded\":true,\"resp_data\":{\"topics\":["
+                + "{\"topic_id\":1234567890123456789,\"type\":\"talk\"}]}}";
+
+        Map<String, List<Topic>> data = decoder.decode(new StringReader(json),
+                new TypeToken<Map<String, List<Topic>>>() {}.getType(), "req-1");
+
+        List<Topic> topics = data.get("topics");
+        assertEquals(1, topics.size());
+        // 直接解码到 Long 字段，19 位 ID 不丢精度
+        assertEquals(1234567890123456789L, topics.get(0).getTopicId());
+    }
+
+    @Test
+    void testDecodeRespDataBeforeSucceeded() throws Exception {
+        String json = "{\"resp_data\":{\"topic\":{\"topic_id\":1}},\"extra\":[1,2,{}],\"succeeded\":true}";
+
+        Map<String, Topic> data = decoder.decode(new StringReader(json),
+                new TypeToken<Map<String, Topic>>() {}.getType(), "req-1");
+
+        assertEquals(1L, data.get("topic").getTopicId());
+    }
+
+    @Test
+    void testDecodePrimitiveRespData() throws Exception {
+        Object value = decoder.decode(new StringReader("{\"succeeded\":true,\"resp_data\":true}"),
+                Object.class, "req-1");
+        assertEquals(Boolean.TRUE, value);
+
+        Object text = decoder.decode(new StringReader("{\"succeeded\":true,\"resp_data\":\"ok\"}"),
+                Object.class, "req-1");
+        assertEquals("ok", text);
+    }
+
+    @Test
+    void testDecodeMissingRespData() throws Exception {
+        Object value = decoder.decode(new StringReader("{\"succeeded\":true}"), Object.class, "req-1");
+        assertNull(value);
+    }
+
+    @Test
+    void testDecodeBusinessError() {
+        String json = "{\"succeeded\":false,\"code\":40001,\"error\":\"请求过于频繁\",\"resp_data\":{\"x\":1}}";
+
+        RateLimitException e = assertThrows(RateLimitException.class, () ->
+                decoder.decode(new StringReader(json), Object.class, "req-1"));
+        assertEquals("请求过于频繁", e.getMessage());
+        assertEquals("req-1", e.getRequestId());
+    }
+
+    @Test
+    void testDecodeErrorFallsBackToInfo() {
+        String json = "{\"succeeded\":false,\"code\":1059,\"error\":null,\"info\":\"参数错误\"}";
+
+        ZsxqException e = assertThrows(ZsxqException.class, () ->
+                decoder.decode(new StringReader(json), Object.class, "req-1"));
+        assertEquals(1059, e.getCode());
+        assertEquals("参数错误", e.getMessage());
+    }
+
+    @Test
+    void testDecodeMalformedBody() {
+        assertThrows(JsonSyntaxException.class, () ->
+                decoder.decode(new StringReader("<html>Bad Gateway</html>"), Object.class, "req-1"));
+        assertThrows(JsonSyntaxException.class, () ->
+                decoder.decode(new StringReader(""), Object.class, "req-1"));
+    }
+}
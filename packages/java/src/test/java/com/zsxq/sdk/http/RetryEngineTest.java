@@ -0,0 +1,166 @@
+package com.zsxq.sdk.http;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.client.RetryPolicy;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.exception.NetworkException;
+import com.zsxq.sdk.exception.RateLimitException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryEngineTest {
+
+    private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testDecorrelatedJitterStaysWithinBounds() {
+        RetryEngine engine = new RetryEngine(config(10, 100, RetryPolicy.builder().maxDelay(1000).budgetReserve(100)));
+        RetryEngine.Attempts attempts = engine.start();
+
+        long previous = 100 * MS;
+        for (int i = 0; i < 10; i++) {
+            long delay = attempts.nextDelay(new IOException("boom"));
+            assertTrue(delay >= 100 * MS, "delay below base: " + delay);
+            assertTrue(delay <= Math.min(1000 * MS, previous * 3), "delay above bound: " + delay);
+            previous = delay;
+        }
+        assertEquals(-1, attempts.nextDelay(new IOException("boom")));
+        assertEquals(10, attempts.getRetries());
+    }
+
+    @Test
+    void testRetryBudgetIsSharedAcrossCalls() {
+        RetryEngine engine = new RetryEngine(config(3, 1, RetryPolicy.builder().budgetReserve(2).budgetRatio(0)));
+
+        assertTrue(engine.start().nextDelay(new IOException()) >= 0);
+        assertTrue(engine.start().nextDelay(new IOException()) >= 0);
+        assertEquals(-1, engine.start().nextDelay(new IOException()));
+        assertEquals(1, engine.getBudgetExhaustedCount());
+    }
+
+    @Test
+    void testBudgetRefillsWithRequests() {
+        RetryEngine engine = new RetryEngine(config(3, 1, RetryPolicy.builder().budgetReserve(1).budgetRatio(0.5)));
+        RetryEngine.Attempts first = engine.start();
+        assertTrue(first.nextDelay(new IOException()) >= 0);
+        assertEquals(-1, first.nextDelay(new IOException()));
+
+        // 两个新请求存入 1 个令牌
+        engine.start();
+        assertTrue(engine.start().nextDelay(new IOException()) >= 0);
+    }
+
+    @Test
+    void testDeadlineStopsRetry() {
+        RetryEngine engine = new RetryEngine(config(3, 200, RetryPolicy.builder().deadline(100)));
+        RetryEngine.Attempts attempts = engine.start();
+
+        assertTrue(attempts.remainingNanos() <= 100 * MS);
+        assertEquals(-1, attempts.nextDelay(new IOException()));
+    }
+
+    @Test
+    void testRateLimitClassification() {
+        RateLimitException throttled = new RateLimitException("请求频率过高", "req");
+        assertEquals(-1, new RetryEngine(config(3, 10, RetryPolicy.builder())).start().nextDelay(throttled));
+
+        RetryEngine engine = new RetryEngine(config(3, 10, RetryPolicy.builder()
+                .retryOnRateLimit(true)
+                .rateLimitDelay(500)));
+        assertTrue(engine.start().nextDelay(throttled) >= 500 * MS);
+        assertEquals(-1, engine.start().nextDelay(new IllegalStateException()));
+    }
+
+    @Test
+    void testSyncRetriesRateLimitWhenEnabled() {
+        mockServer.enqueue(new MockResponse().setBody(rateLimited()));
+        mockServer.enqueue(new MockResponse().setBody(success()));
+        HttpClient httpClient = newClient(RetryPolicy.builder().retryOnRateLimit(true).rateLimitDelay(20));
+
+        Map<String, Object> result = httpClient.get("/v2/settings", MAP_TYPE);
+
+        assertEquals("ok", result.get("value"));
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testAsyncRetriesRateLimitWhenEnabled() throws Exception {
+        mockServer.enqueue(new MockResponse().setBody(rateLimited()));
+        mockServer.enqueue(new MockResponse().setResponseCode(503));
+        mockServer.enqueue(new MockResponse().setBody(success()));
+        HttpClient httpClient = newClient(RetryPolicy.builder().retryOnRateLimit(true).rateLimitDelay(20));
+
+        Map<String, Object> result = httpClient.<Map<String, Object>>getAsync("/v2/settings", MAP_TYPE)
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals("ok", result.get("value"));
+        assertEquals(3, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testDeadlineCoversAllAttempts() {
+        // 第一次 503 触发重试，第二次响应比剩余时间还慢
+        mockServer.enqueue(new MockResponse().setResponseCode(503));
+        for (int i = 0; i < 3; i++) {
+            mockServer.enqueue(new MockResponse().setBody(success()).setBodyDelay(2, TimeUnit.SECONDS));
+        }
+        HttpClient httpClient = newClient(RetryPolicy.builder().deadline(400));
+
+        long start = System.nanoTime();
+        assertThrows(NetworkException.class, () -> httpClient.get("/v2/settings", MAP_TYPE));
+        assertTrue(System.nanoTime() - start < 1000 * MS);
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    private HttpClient newClient(RetryPolicy.RetryPolicyBuilder policy) {
+        return new HttpClient(ZsxqConfig.builder()
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(3)
+                .retryDelay(10)
+                .retryPolicy(policy.build())
+                .build());
+    }
+
+    private static ZsxqConfig config(int retryCount, int retryDelay, RetryPolicy.RetryPolicyBuilder policy) {
+        return ZsxqConfig.builder()
+                .token("test-token")
+                .retryCount(retryCount)
+                .retryDelay(retryDelay)
+                .retryPolicy(policy.build())
+                .build();
+    }
+
+    private static String success() {
+        return new Gson().toJson(Map.of("succeeded", true, "resp_data", Map.of("value", "ok")));
+    }
+
+    private static String rateLimited() {
+        return new Gson().toJson(Map.of("succeeded", false, "code", 40001, "error", "请求频率过高"));
+    }
+}
@@ -0,0 +1,167 @@
+package com.zsxq.sdk.http;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.exception.ZsxqException;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+
+    private MockWebServer mockServer;
+    private final AtomicInteger served = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile String body = success("v");
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                served.incrementAndGet();
+                release.await(5, TimeUnit.SECONDS);
+                return new MockResponse().setResponseCode(200).setBody(body);
+            }
+        });
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        release.countDown();
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testConcurrentIdenticalGetsShareOneRequest() throws Exception {
+        HttpClient httpClient = newClient(true);
+        int callers = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Map<String, Object>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                // 参数顺序不同也视为同一请求
+                Map<String, Object> params = new LinkedHashMap<>();
+                if (i % 2 == 0) {
+                    params.put("a", 1);
+                    params.put("b", 2);
+                } else {
+                    params.put("b", 2);
+                    params.put("a", 1);
+                    params.put("c", null);
+                }
+                results.add(pool.submit(() -> httpClient.<Map<String, Object>>get("/v2/topics/1", params, MAP_TYPE)));
+            }
+            awaitCoalesced(httpClient, callers - 1);
+            release.countDown();
+
+            Map<String, Object> first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Map<String, Object>> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals("v", first.get("value"));
+            assertEquals(1, served.get());
+            assertEquals(callers - 1, httpClient.getCoalescedCount());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testAsyncJoinsInFlightRequestAndSharesError() throws Exception {
+        body = new Gson().toJson(Map.of("succeeded", false, "code", 1059, "error", "内部错误"));
+        HttpClient httpClient = newClient(true);
+
+        CompletableFuture<Map<String, Object>> first = httpClient.getAsync("/v2/groups/1", MAP_TYPE);
+        CompletableFuture<Map<String, Object>> second = httpClient.getAsync("/v2/groups/1", MAP_TYPE);
+        assertNotSame(first, second);
+        assertEquals(1, httpClient.getCoalescedCount());
+
+        // 取消一个调用方不影响另一个
+        first.cancel(true);
+        release.countDown();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ZsxqException.class, e.getCause());
+        assertEquals(1, served.get());
+
+        // 请求完成后不再合并
+        body = success("again");
+        Map<String, Object> next = httpClient.get("/v2/groups/1", MAP_TYPE);
+        assertEquals("again", next.get("value"));
+        assertEquals(2, served.get());
+    }
+
+    @Test
+    void testDifferentParamsAreNotCoalesced() throws Exception {
+        HttpClient httpClient = newClient(true);
+        CompletableFuture<Object> a = httpClient.getAsync("/v2/topics/1", Map.of("count", 20), MAP_TYPE);
+        CompletableFuture<Object> b = httpClient.getAsync("/v2/topics/1", Map.of("count", 30), MAP_TYPE);
+        release.countDown();
+        CompletableFuture.allOf(a, b).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, served.get());
+        assertEquals(0, httpClient.getCoalescedCount());
+    }
+
+    @Test
+    void testDisabledByDefault() throws Exception {
+        HttpClient httpClient = newClient(false);
+        CompletableFuture<Object> a = httpClient.getAsync("/v2/topics/1", MAP_TYPE);
+        CompletableFuture<Object> b = httpClient.getAsync("/v2/topics/1", MAP_TYPE);
+        release.countDown();
+        CompletableFuture.allOf(a, b).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, served.get());
+    }
+
+    @Test
+    void testKey() {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("scope", "all");
+        params.put("count", 20);
+        params.put("end_time", null);
+        assertEquals("/v2/groups/1/topics?count=20&scope=all#java.lang.Object",
+                SingleFlight.key("/v2/groups/1/topics", params, Object.class));
+        assertEquals("/v2/groups/1#java.lang.Object", SingleFlight.key("/v2/groups/1", null, Object.class));
+    }
+
+    private HttpClient newClient(boolean coalesce) {
+        return new HttpClient(ZsxqConfig.builder()
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(0)
+                .coalesceGets(coalesce)
+                .build());
+    }
+
+    private static void awaitCoalesced(HttpClient httpClient, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (httpClient.getCoalescedCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static String success(String value) {
+        return new Gson().toJson(Map.of("succeeded", true, "resp_data", Map.of("value", value)));
+    }
+}
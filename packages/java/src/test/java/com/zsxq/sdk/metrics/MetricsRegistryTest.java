@@ -0,0 +1,150 @@
+package com.zsxq.sdk.metrics;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.exception.NetworkException;
+import com.zsxq.sdk.exception.ZsxqException;
+import com.zsxq.sdk.http.HttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    private static final Type MAP_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+
+    private MockWebServer mockServer;
+    private MetricsRegistry registry;
+    private HttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.start();
+        registry = new MetricsRegistry();
+        httpClient = new HttpClient(ZsxqConfig.builder()
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(1)
+                .retryDelay(1)
+                .metricsRegistry(registry)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testRecordsOutcomesByMethodAndTemplate() throws Exception {
+        String body = success();
+        mockServer.enqueue(new MockResponse().setBody(body));
+        mockServer.enqueue(new MockResponse().setBody(body));
+        mockServer.enqueue(new MockResponse().setBody(new Gson().toJson(
+                Map.of("succeeded", false, "code", 1059, "error", "内部错误"))));
+        mockServer.enqueue(new MockResponse().setResponseCode(502));
+        mockServer.enqueue(new MockResponse().setBody(body));
+
+        httpClient.get("/v2/groups/1/topics", MAP_TYPE);
+        httpClient.getAsync("/v2/groups/2/topics", MAP_TYPE).get(5, TimeUnit.SECONDS);
+        assertThrows(ZsxqException.class, () -> httpClient.get("/v2/groups/3/topics", MAP_TYPE));
+        httpClient.post("/v2/groups/3/checkins", Map.of(), MAP_TYPE);
+
+        List<EndpointMetrics> endpoints = registry.endpoints();
+        assertEquals(2, endpoints.size());
+
+        EndpointMetrics post = endpoints.get(0);
+        assertEquals("POST", post.getMethod());
+        assertEquals("/v2/groups/{id}/checkins", post.getPath());
+        assertEquals(1, post.getSuccessCount());
+        assertEquals(1, post.getNetworkErrorCount());
+        assertEquals(1, post.getRetryCount());
+
+        EndpointMetrics topics = endpoints.get(1);
+        assertEquals("GET", topics.getMethod());
+        assertEquals("/v2/groups/{id}/topics", topics.getPath());
+        assertEquals(2, topics.getSuccessCount());
+        assertEquals(1, topics.getApiErrorCount());
+        assertEquals(Map.of(1059, 1L), topics.getErrorCodes());
+        assertEquals(3, topics.getLatency().getCount());
+        assertTrue(topics.getLatency().getSumNanos() > 0);
+
+        // 响应体字节数在响应体读完后异步上报
+        long expectedBytes = 2L * body.getBytes("UTF-8").length;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (topics.getResponseBytes() < expectedBytes && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(topics.getResponseBytes() >= expectedBytes);
+    }
+
+    @Test
+    void testNetworkFailureIsCounted() throws Exception {
+        mockServer.shutdown();
+        assertThrows(NetworkException.class, () -> httpClient.get("/v2/settings", MAP_TYPE));
+
+        EndpointMetrics settings = registry.endpoint("GET", "/v2/settings");
+        assertEquals(2, settings.getNetworkErrorCount());
+        assertEquals(1, settings.getRetryCount());
+    }
+
+    @Test
+    void testHistogramBuckets() {
+        EndpointMetrics metrics = registry.endpoint("GET", "/v2/settings");
+        metrics.recordSuccess(TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.recordSuccess(TimeUnit.MILLISECONDS.toNanos(5));
+        metrics.recordSuccess(TimeUnit.MILLISECONDS.toNanos(70));
+        metrics.recordSuccess(TimeUnit.SECONDS.toNanos(30));
+
+        long[] buckets = metrics.getLatency().getBucketCounts();
+        assertEquals(12, buckets.length);
+        assertEquals(2, buckets[0]);
+        assertEquals(1, buckets[4]);
+        assertEquals(1, buckets[11]);
+    }
+
+    @Test
+    void testPrometheusText() throws Exception {
+        EndpointMetrics metrics = registry.endpoint("GET", "/v2/groups/{id}/topics");
+        metrics.recordSuccess(TimeUnit.MILLISECONDS.toNanos(20));
+        metrics.recordApiError(TimeUnit.MILLISECONDS.toNanos(200), 40001);
+        metrics.recordRetry();
+        metrics.recordResponseBytes(1234);
+
+        StringBuilder exported = new StringBuilder();
+        new PrometheusExporter(registry).export((contentType, body) -> {
+            assertEquals(PrometheusExporter.CONTENT_TYPE, contentType);
+            exported.append(body);
+        });
+        String text = exported.toString();
+
+        String labels = "{method=\"GET\",path=\"/v2/groups/{id}/topics\"";
+        assertTrue(text.contains("# TYPE zsxq_client_requests_total counter\n"));
+        assertTrue(text.contains("zsxq_client_requests_total" + labels + ",outcome=\"success\"} 1\n"));
+        assertTrue(text.contains("zsxq_client_requests_total" + labels + ",outcome=\"api_error\"} 1\n"));
+        assertTrue(text.contains("# TYPE zsxq_client_request_duration_seconds histogram\n"));
+        assertTrue(text.contains("zsxq_client_request_duration_seconds_bucket" + labels + ",le=\"0.01\"} 0\n"));
+        assertTrue(text.contains("zsxq_client_request_duration_seconds_bucket" + labels + ",le=\"0.025\"} 1\n"));
+        assertTrue(text.contains("zsxq_client_request_duration_seconds_bucket" + labels + ",le=\"+Inf\"} 2\n"));
+        assertTrue(text.contains("zsxq_client_request_duration_seconds_sum" + labels + "} 0.22\n"));
+        assertTrue(text.contains("zsxq_client_request_duration_seconds_count" + labels + "} 2\n"));
+        assertTrue(text.contains("zsxq_client_retries_total" + labels + "} 1\n"));
+        assertTrue(text.contains("zsxq_client_api_errors_total" + labels + ",code=\"40001\"} 1\n"));
+        assertTrue(text.contains("zsxq_client_response_bytes_total" + labels + "} 1234\n"));
+    }
+
+    private static String success() {
+        return new Gson().toJson(Map.of("succeeded", true, "resp_data", Map.of("value", "ok")));
+    }
+}
@@ -0,0 +1,113 @@
+package com.zsxq.sdk.request;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.http.HttpClient;
+import com.zsxq.sdk.model.Comment;
+import com.zsxq.sdk.model.Topic;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncTopicsRequestTest {
+
+    private MockWebServer mockServer;
+    private AsyncTopicsRequest topicsRequest;
+    private Gson gson;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.start();
+
+        String baseUrl = mockServer.url("/").toString().replaceAll("/$", "");
+
+        ZsxqConfig config = ZsxqConfig.builder()
+            .token("test-token")
+            .baseUrl(baseUrl)
+            .timeout(5000)
+            .retryCount(1)
+            .build();
+
+        topicsRequest = new AsyncTopicsRequest(new HttpClient(config));
+        gson = new GsonBuilder().create();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testList() throws Exception {
+        Map<String, Object> respData = new HashMap<>();
+        respData.put("topics", List.of(createTopicMap(1L), createTopicMap(2L)));
+        enqueueSuccess(respData);
+
+        List<Topic> topics = topicsRequest.list(123L).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, topics.size());
+        String path = mockServer.takeRequest().getPath();
+        assertTrue(path.startsWith("/v2/groups/123/topics"));
+        assertTrue(path.contains("count=20"));
+    }
+
+    @Test
+    void testGet() throws Exception {
+        Map<String, Object> respData = new HashMap<>();
+        respData.put("topic", createTopicMap(123L));
+        enqueueSuccess(respData);
+
+        Topic topic = topicsRequest.get(123L).get(5, TimeUnit.SECONDS);
+
+        assertNotNull(topic);
+        assertEquals(123L, topic.getTopicId());
+    }
+
+    @Test
+    void testConcurrentRequests() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> respData = new HashMap<>();
+            respData.put("comments", List.of(Map.of("comment_id", i, "text", "评论")));
+            enqueueSuccess(respData);
+        }
+
+        CompletableFuture<List<Comment>> f1 = topicsRequest.getComments(1L);
+        CompletableFuture<List<Comment>> f2 = topicsRequest.getComments(2L);
+        CompletableFuture<List<Comment>> f3 = topicsRequest.getComments(3L);
+        CompletableFuture.allOf(f1, f2, f3).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, f1.join().size());
+        assertEquals(1, f2.join().size());
+        assertEquals(1, f3.join().size());
+        assertEquals(3, mockServer.getRequestCount());
+    }
+
+    private void enqueueSuccess(Object respData) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("succeeded", true);
+        response.put("resp_data", respData);
+        mockServer.enqueue(new MockResponse()
+            .setResponseCode(200)
+            .setBody(gson.toJson(response))
+            .setHeader("Content-Type", "application/json"));
+    }
+
+    private Map<String, Object> createTopicMap(Long id) {
+        Map<String, Object> topic = new HashMap<>();
+        topic.put("topic_id", id);
+        topic.put("type", "talk");
+        return topic;
+    }
+}
@@ -0,0 +1,180 @@
+package com.zsxq.sdk.request;
+
+import com.google.gson.Gson;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.exception.ZsxqException;
+import com.zsxq.sdk.http.HttpClient;
+import com.zsxq.sdk.model.Group;
+import com.zsxq.sdk.model.Topic;
+import com.zsxq.sdk.model.User;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkFetchTest {
+
+    private final Gson gson = new Gson();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Set<String> requested = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private MockWebServer mockServer;
+    private HttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                return serve(request.getRequestUrl().encodedPath());
+            }
+        });
+        mockServer.start();
+        httpClient = new HttpClient(ZsxqConfig.builder()
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testResultsInInputOrderWithBoundedParallelism() {
+        List<Long> ids = LongStream.rangeClosed(1, 40).boxed().collect(Collectors.toList());
+        List<Long> delivered = new ArrayList<>();
+
+        BulkResult<Topic> result = new TopicsRequest(httpClient)
+                .getAll(ids, new BulkOptions().parallelism(4), item -> delivered.add(item.getId()));
+
+        assertEquals(ids, result.getValues().stream().map(Topic::getTopicId).collect(Collectors.toList()));
+        assertEquals(ids, delivered);
+        assertTrue(result.isAllSucceeded());
+        assertTrue(maxInFlight.get() <= 4, "max in flight " + maxInFlight.get());
+        assertTrue(maxInFlight.get() > 1, "requests overlap");
+    }
+
+    @Test
+    void testDuplicateIdsAreRequestedOnce() {
+        BulkResult<Topic> result = new TopicsRequest(httpClient)
+                .getAll(List.of(3L, 1L, 3L, 2L, 1L), null);
+
+        assertEquals(3, requestCount.get());
+        assertEquals(3, result.getDistinctCount());
+        assertEquals(List.of(3L, 1L, 3L, 2L, 1L),
+                result.getItems().stream().map(BulkResult.Item::getId).collect(Collectors.toList()));
+        assertSame(result.getItems().get(0), result.getItems().get(2));
+    }
+
+    @Test
+    void testFailuresArePerItem() {
+        BulkResult<Topic> result = new TopicsRequest(httpClient)
+                .getAll(List.of(1L, 404L, 2L, 500L), new BulkOptions().parallelism(2));
+
+        assertEquals(2, result.getFailureCount());
+        assertEquals(List.of(404L, 500L), new ArrayList<>(result.getErrors().keySet()));
+        assertEquals(1059, result.get(404L).getError().getCode());
+        assertThrows(ZsxqException.class, () -> result.get(500L).getOrThrow());
+        assertEquals(2L, result.get(2L).getOrThrow().getTopicId());
+        assertNull(result.get(3L));
+    }
+
+    @Test
+    void testReorderWindowBoundsRequestsAheadOfSlowItem() {
+        List<Long> ids = new ArrayList<>();
+        ids.add(1000L);  // 慢请求
+        LongStream.rangeClosed(1, 30).forEach(ids::add);
+
+        new TopicsRequest(httpClient).getAll(ids, new BulkOptions().parallelism(8).reorderWindow(5));
+
+        // 慢请求完成前最多再发出 4 个
+        assertEquals(ids.size(), requestCount.get());
+        assertTrue(maxInFlight.get() <= 5, "max in flight " + maxInFlight.get());
+    }
+
+    @Test
+    void testUsersAndGroupsAndAsync() throws Exception {
+        BulkResult<User> users = new UsersRequest(httpClient).getAll(List.of(7L, 8L), null);
+        assertEquals(List.of("7", "8"), users.getValues().stream().map(User::getUserId).collect(Collectors.toList()));
+
+        BulkResult<Group> groups = new AsyncGroupsRequest(httpClient)
+                .getAll(List.of(9L), new BulkOptions()).get(5, TimeUnit.SECONDS);
+        assertEquals(9L, groups.get(9L).getValue().getGroupId());
+        assertTrue(requested.containsAll(Set.of("/v3/users/7", "/v3/users/8", "/v2/groups/9")));
+    }
+
+    @Test
+    void testInlineCompletionsDoNotGrowStack() throws Exception {
+        // 熔断打开或缓存命中时 fetch 返回已完成的 future；在 256KB 栈的线程上运行，递归时会栈溢出
+        List<Long> ids = LongStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        ZsxqException open = new ZsxqException(503, "circuit open", null);
+        AtomicReference<CompletableFuture<BulkResult<String>>> future = new AtomicReference<>();
+        Thread thread = new Thread(null, () -> future.set(BulkFetch.<String>run(ids, id -> id % 2 == 0
+                ? CompletableFuture.completedFuture("v" + id)
+                : CompletableFuture.failedFuture(open), new BulkOptions(), null)), "small-stack", 256 * 1024);
+        thread.start();
+        thread.join();
+
+        BulkResult<String> result = future.get().get(5, TimeUnit.SECONDS);
+        assertEquals(100_000, result.getItems().size());
+        assertEquals(50_000, result.getFailureCount());
+        assertEquals("v99998", result.get(99_998L).getValue());
+    }
+
+    @Test
+    void testEmptyInput() {
+        assertTrue(new TopicsRequest(httpClient).getAll(List.of(), null).getItems().isEmpty());
+    }
+
+    private MockResponse serve(String path) throws InterruptedException {
+        requested.add(path);
+        requestCount.incrementAndGet();
+        int now = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(now, Math::max);
+        try {
+            long id = Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+            Thread.sleep(id == 1000 ? 200 : ThreadLocalRandom.current().nextInt(5, 20));
+            if (id == 404) {
+                return new MockResponse().setBody(gson.toJson(Map.of("succeeded", false, "code", 1059)));
+            }
+            if (id == 500) {
+                return new MockResponse().setResponseCode(500);
+            }
+            Object data;
+            if (path.startsWith("/v3/users/")) {
+                data = Map.of("user", Map.of("user_id", id));
+            } else if (path.startsWith("/v2/groups/")) {
+                data = Map.of("group", Map.of("group_id", id));
+            } else {
+                data = Map.of("topic", Map.of("topic_id", id));
+            }
+            return new MockResponse().setBody(gson.toJson(Map.of("succeeded", true, "resp_data", data)));
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+}
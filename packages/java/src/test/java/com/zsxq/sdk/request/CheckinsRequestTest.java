@@ -402,6 +402,37 @@ class CheckinsRequestTest {
         assertTrue(path.startsWith("/v2/groups/123/checkins"));
     }
 
+    @Test
+    void testCreateInvalidatesCachedListings() {
+        CheckinsRequest cached = new CheckinsRequest(new HttpClient(com.zsxq.sdk.client.ZsxqConfig.builder()
+            .token("test-token")
+            .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+            .retryCount(0)
+            .cacheTtls(Map.of("checkins", 60_000L))
+            .build()));
+
+        Map<String, Object> listData = new HashMap<>();
+        listData.put("checkins", List.of(createCheckinMap(1L, "打卡项目1")));
+        Map<String, Object> createdData = new HashMap<>();
+        createdData.put("checkin", createCheckinMap(2L, "打卡项目2"));
+        Map<String, Object> newListData = new HashMap<>();
+        newListData.put("checkins", List.of(createCheckinMap(1L, "打卡项目1"), createCheckinMap(2L, "打卡项目2")));
+        for (Map<String, Object> data : List.of(listData, createdData, newListData)) {
+            mockServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(gson.toJson(createSuccessResponse(data))));
+        }
+
+        assertEquals(1, cached.list(123L).size());
+        assertEquals(1, cached.list(123L).size());
+        assertEquals(1, mockServer.getRequestCount());
+
+        cached.create(123L, new CheckinsRequest.CreateCheckinParams().title("打卡项目2"));
+
+        assertEquals(2, cached.list(123L).size());
+        assertEquals(3, mockServer.getRequestCount());
+    }
+
     @Test
     void testUpdateCheckin() throws InterruptedException {
         // Mock API 响应
@@ -0,0 +1,219 @@
+package com.zsxq.sdk.request;
+
+import com.google.gson.Gson;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.exception.NetworkException;
+import com.zsxq.sdk.exception.ZsxqException;
+import com.zsxq.sdk.http.HttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroupSnapshotTest {
+
+    private final Gson gson = new Gson();
+    private final Set<String> requested = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile String failingPath;
+    private volatile String slowPath;
+
+    private MockWebServer mockServer;
+    private GroupsRequest groupsRequest;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                return serve(request.getRequestUrl().encodedPath());
+            }
+        });
+        mockServer.start();
+        groupsRequest = new GroupsRequest(new HttpClient(ZsxqConfig.builder()
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(0)
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testAllParts() {
+        GroupSnapshot snapshot = groupsRequest.snapshot(1L, EnumSet.allOf(GroupSnapshot.Part.class));
+
+        assertTrue(snapshot.isComplete(), snapshot.getErrors().toString());
+        assertEquals(EnumSet.allOf(GroupSnapshot.Part.class), snapshot.getParts());
+        assertEquals(1L, snapshot.getGroup().getGroupId());
+        assertEquals(1, snapshot.getMenus().size());
+        assertEquals(1, snapshot.getColumns().size());
+        assertEquals(1, snapshot.getHashtags().size());
+        assertNotNull(snapshot.getRoleMembers());
+        assertNotNull(snapshot.getRenewalInfo());
+        assertEquals("1", snapshot.getStatistics().get("group"));
+        assertNotNull(snapshot.getOverview());
+        assertNotNull(snapshot.getIncomes());
+        assertEquals(9, requested.size());
+    }
+
+    @Test
+    void testOnlySelectedPartsAreFetched() {
+        GroupSnapshot snapshot = groupsRequest.snapshot(2L, EnumSet.of(GroupSnapshot.Part.GROUP, GroupSnapshot.Part.MENUS));
+
+        assertEquals(Set.of("/v2/groups/2", "/v2/groups/2/menus"), requested);
+        assertNull(snapshot.getColumns());
+    }
+
+    @Test
+    void testFailedPartIsReportedWithPartialResult() {
+        failingPath = "/v2/dashboard/groups/3/incomes/overview";
+
+        GroupSnapshot snapshot = groupsRequest.snapshot(3L,
+                EnumSet.of(GroupSnapshot.Part.GROUP, GroupSnapshot.Part.OVERVIEW, GroupSnapshot.Part.INCOMES));
+
+        assertFalse(snapshot.isComplete());
+        assertEquals(Set.of(GroupSnapshot.Part.INCOMES), snapshot.getErrors().keySet());
+        assertEquals(1059, snapshot.getErrors().get(GroupSnapshot.Part.INCOMES).getCode());
+        assertNotNull(snapshot.getGroup());
+        assertNotNull(snapshot.getOverview());
+        assertNull(snapshot.getIncomes());
+    }
+
+    @Test
+    void testDeadlineCutsSlowPart() {
+        slowPath = "/v2/groups/4/columns";
+
+        long start = System.nanoTime();
+        GroupSnapshot snapshot = groupsRequest.snapshot(4L,
+                EnumSet.of(GroupSnapshot.Part.GROUP, GroupSnapshot.Part.COLUMNS),
+                new SnapshotOptions().deadlineMillis(200));
+
+        assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(1500));
+        assertNotNull(snapshot.getGroup());
+        ZsxqException error = snapshot.getErrors().get(GroupSnapshot.Part.COLUMNS);
+        assertInstanceOf(NetworkException.class, error);
+        assertInstanceOf(TimeoutException.class, error.getCause());
+    }
+
+    @Test
+    void testManyGroupsShareConcurrencyCap() throws Exception {
+        SnapshotOptions options = new SnapshotOptions().maxConcurrency(2);
+        Set<GroupSnapshot.Part> parts = EnumSet.of(GroupSnapshot.Part.GROUP, GroupSnapshot.Part.STATISTICS,
+                GroupSnapshot.Part.HASHTAGS);
+
+        AsyncGroupsRequest async = new AsyncGroupsRequest(groupsRequest.httpClient);
+        Map<Long, GroupSnapshot> snapshots = async
+                .snapshots(List.of(10L, 11L, 12L, 13L, 10L), parts, options)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of(10L, 11L, 12L, 13L), List.copyOf(snapshots.keySet()));
+        snapshots.values().forEach(s -> assertTrue(s.isComplete()));
+        assertEquals(12, requested.size());
+        assertTrue(maxInFlight.get() <= 2, "max in flight " + maxInFlight.get());
+        assertEquals(0, async.snapshots.limiter().getActive());
+    }
+
+    @Test
+    void testConcurrentCallsShareCapWithoutSharingOptions() throws Exception {
+        Set<GroupSnapshot.Part> parts = EnumSet.of(GroupSnapshot.Part.GROUP, GroupSnapshot.Part.STATISTICS,
+                GroupSnapshot.Part.HASHTAGS, GroupSnapshot.Part.MENUS);
+        AsyncGroupsRequest async = new AsyncGroupsRequest(groupsRequest.httpClient);
+
+        CompletableFuture<GroupSnapshot> first = async.snapshot(20L, parts, new SnapshotOptions().maxConcurrency(2));
+        CompletableFuture<GroupSnapshot> second = async.snapshot(21L, parts, new SnapshotOptions().maxConcurrency(2));
+
+        assertTrue(first.get(10, TimeUnit.SECONDS).isComplete());
+        assertTrue(second.get(10, TimeUnit.SECONDS).isComplete());
+        assertEquals(8, requested.size());
+        assertTrue(maxInFlight.get() <= 2, "max in flight " + maxInFlight.get());
+    }
+
+    @Test
+    void testTimedOutPartReleasesPermitImmediately() {
+        slowPath = "/v2/groups/5/columns";
+        SnapshotOptions options = new SnapshotOptions().maxConcurrency(1).deadlineMillis(200);
+
+        GroupSnapshot snapshot = groupsRequest.snapshot(5L, EnumSet.of(GroupSnapshot.Part.COLUMNS), options);
+
+        assertInstanceOf(TimeoutException.class, snapshot.getErrors().get(GroupSnapshot.Part.COLUMNS).getCause());
+        // 超时的请求被取消，名额不等服务端返回就已归还
+        assertEquals(0, groupsRequest.snapshots.limiter().getActive());
+    }
+
+    @Test
+    void testDeadlineWithLongQueueDoesNotLeakPermits() throws Exception {
+        SnapshotOptions options = new SnapshotOptions().maxConcurrency(1).deadlineMillis(100);
+        List<Long> groupIds = LongStream.range(100, 700).boxed().collect(Collectors.toList());
+        AsyncGroupsRequest async = new AsyncGroupsRequest(groupsRequest.httpClient);
+
+        Map<Long, GroupSnapshot> snapshots = async
+                .snapshots(groupIds, EnumSet.allOf(GroupSnapshot.Part.class), options)
+                .get(10, TimeUnit.SECONDS);
+
+        assertEquals(600, snapshots.size());
+        assertFalse(snapshots.get(699L).isComplete());
+        assertEquals(0, async.snapshots.limiter().getActive());
+        // 同一个实例之后的快照不会一直排队
+        GroupSnapshot next = async.snapshot(1L, EnumSet.of(GroupSnapshot.Part.GROUP),
+                new SnapshotOptions().maxConcurrency(1)).get(5, TimeUnit.SECONDS);
+        assertTrue(next.isComplete());
+        GroupSnapshot shared = async.snapshot(2L, EnumSet.of(GroupSnapshot.Part.GROUP),
+                options.deadlineMillis(5000)).get(5, TimeUnit.SECONDS);
+        assertTrue(shared.isComplete(), shared.getErrors().toString());
+    }
+
+    private MockResponse serve(String path) throws InterruptedException {
+        requested.add(path);
+        int now = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(now, Math::max);
+        try {
+            Thread.sleep(path.equals(slowPath) ? 1000 : 10);
+            if (path.equals(failingPath)) {
+                return new MockResponse().setBody(gson.toJson(Map.of("succeeded", false, "code", 1059)));
+            }
+            String groupId = path.startsWith("/v2/dashboard/") ? path.split("/")[4] : path.split("/")[3];
+            Object data;
+            if (path.endsWith("/menus")) {
+                data = Map.of("menus", List.of(Map.of("type", "topics")));
+            } else if (path.endsWith("/columns")) {
+                data = Map.of("columns", List.of(Map.of("column_id", 1)));
+            } else if (path.endsWith("/hashtags")) {
+                data = Map.of("hashtags", List.of(Map.of("hashtag_id", 1)));
+            } else if (path.endsWith("/renewal")) {
+                data = Map.of("renewal", Map.of());
+            } else if (path.endsWith("/role_members")) {
+                data = Map.of("owner", Map.of("user_id", 1));
+            } else if (path.equals("/v2/groups/" + groupId)) {
+                data = Map.of("group", Map.of("group_id", Long.parseLong(groupId)));
+            } else {
+                data = Map.of("group", groupId);
+            }
+            return new MockResponse().setBody(gson.toJson(Map.of("succeeded", true, "resp_data", data)));
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+}
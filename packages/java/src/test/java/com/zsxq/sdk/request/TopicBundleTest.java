@@ -0,0 +1,165 @@
+package com.zsxq.sdk.request;
+
+import com.google.gson.Gson;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.exception.ZsxqException;
+import com.zsxq.sdk.http.HttpClient;
+import com.zsxq.sdk.model.Topic;
+import com.zsxq.sdk.model.TopicBundle;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopicBundleTest {
+
+    private final Gson gson = new Gson();
+    private final Set<String> requested = ConcurrentHashMap.newKeySet();
+    private volatile CountDownLatch allArrived = new CountDownLatch(0);
+    private volatile String failingPath;
+    private volatile CountDownLatch held = new CountDownLatch(0);
+
+    private MockWebServer mockServer;
+    private TopicsRequest topicsRequest;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                return serve(request.getRequestUrl().encodedPath());
+            }
+        });
+        mockServer.start();
+        topicsRequest = new TopicsRequest(new HttpClient(ZsxqConfig.builder()
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(0)
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testSubRequestsRunConcurrently() {
+        // 每个请求都等到四个请求全部到达才响应：串行执行时会超时
+        allArrived = new CountDownLatch(4);
+
+        TopicBundle bundle = topicsRequest.getFull(100L);
+
+        assertEquals(100L, bundle.getTopic().getTopicId());
+        assertEquals(2, bundle.getComments().size());
+        assertEquals(1, bundle.getRewards().size());
+        assertEquals(1, bundle.getRecommendations().size());
+        assertEquals(Set.of("/v2/topics/100", "/v2/topics/100/comments", "/v2/topics/100/rewards",
+                "/v2/topics/100/recommendations"), requested);
+    }
+
+    @Test
+    void testKnownTopicSkipsEmptySubRequests() {
+        Topic topic = new Topic();
+        topic.setTopicId(200L);
+        topic.setCommentsCount(0);
+        topic.setRewardsCount(0);
+
+        TopicBundle bundle = topicsRequest.getFull(topic);
+
+        assertSame(topic, bundle.getTopic());
+        assertTrue(bundle.getComments().isEmpty());
+        assertTrue(bundle.getRewards().isEmpty());
+        assertEquals(1, bundle.getRecommendations().size());
+        assertEquals(Set.of("/v2/topics/200/recommendations"), requested);
+    }
+
+    @Test
+    void testKnownTopicWithCountsFetchesLists() {
+        Topic topic = new Topic();
+        topic.setTopicId(300L);
+        topic.setCommentsCount(2);
+
+        TopicBundle bundle = topicsRequest.getFull(topic);
+
+        assertEquals(2, bundle.getComments().size());
+        assertEquals(Set.of("/v2/topics/300/comments", "/v2/topics/300/rewards",
+                "/v2/topics/300/recommendations"), requested);
+    }
+
+    @Test
+    void testFailedSubRequestFailsBundle() {
+        failingPath = "/v2/topics/400/rewards";
+
+        ZsxqException e = assertThrows(ZsxqException.class, () -> topicsRequest.getFull(400L));
+        assertEquals(1059, e.getCode());
+    }
+
+    @Test
+    void testFailedSubRequestCancelsSiblings() throws Exception {
+        // 其余三个请求一直挂起，只有被取消时才会提前结束
+        failingPath = "/v2/topics/500/rewards";
+        held = new CountDownLatch(1);
+        OkHttpClient okHttp = new OkHttpClient();
+        AsyncTopicsRequest async = new AsyncTopicsRequest(new HttpClient(ZsxqConfig.builder()
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(0)
+                .okHttpClient(okHttp)
+                .build()));
+        try {
+            CompletableFuture<TopicBundle> future = async.getFull(500L);
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertEquals(1059, ((ZsxqException) e.getCause()).getCode());
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (okHttp.dispatcher().runningCallsCount() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, okHttp.dispatcher().runningCallsCount());
+        } finally {
+            held.countDown();
+        }
+    }
+
+    private MockResponse serve(String path) throws InterruptedException {
+        requested.add(path);
+        CountDownLatch latch = allArrived;
+        latch.countDown();
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            return new MockResponse().setResponseCode(504);
+        }
+        if (path.equals(failingPath)) {
+            return new MockResponse().setBody(gson.toJson(Map.of("succeeded", false, "code", 1059)));
+        }
+        held.await(5, TimeUnit.SECONDS);
+        long id = Long.parseLong(path.split("/")[3]);
+        Object data;
+        if (path.endsWith("/comments")) {
+            data = Map.of("comments", List.of(Map.of("comment_id", 1), Map.of("comment_id", 2)));
+        } else if (path.endsWith("/rewards")) {
+            data = Map.of("rewards", List.of(Map.of("amount", 100)));
+        } else if (path.endsWith("/recommendations")) {
+            data = Map.of("topics", List.of(Map.of("topic_id", id + 1)));
+        } else {
+            data = Map.of("topic", Map.of("topic_id", id, "comments_count", 2, "rewards_count", 1));
+        }
+        return new MockResponse().setBody(gson.toJson(Map.of("succeeded", true, "resp_data", data)));
+    }
+}
@@ -0,0 +1,202 @@
+package com.zsxq.sdk.request;
+
+import com.google.gson.Gson;
+import com.zsxq.sdk.client.ZsxqConfig;
+import com.zsxq.sdk.exception.ZsxqException;
+import com.zsxq.sdk.http.HttpClient;
+import com.zsxq.sdk.model.Topic;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopicCrawlerTest {
+
+    private static final OffsetDateTime BEGIN = OffsetDateTime.parse("2024-01-01T00:00:00.000+0800", TopicCrawler.TIME_FORMAT);
+    private static final OffsetDateTime END = OffsetDateTime.parse("2024-01-09T00:00:00.000+0800", TopicCrawler.TIME_FORMAT);
+
+    private final Gson gson = new Gson();
+    private final List<Map<String, Object>> dataset = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile boolean honorBeginTime = true;
+    private volatile String failEndTime;
+
+    private MockWebServer mockServer;
+    private TopicsRequest topicsRequest;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 每 6 小时一个话题，1 月 3 日集中 100 个；另有一个正好落在窗口边界上的话题
+        long id = 1;
+        for (OffsetDateTime t = BEGIN.plusHours(1); t.isBefore(END); t = t.plusHours(6)) {
+            dataset.add(topic(id++, t));
+        }
+        OffsetDateTime dense = BEGIN.plusDays(2);
+        for (int i = 0; i < 100; i++) {
+            dataset.add(topic(id++, dense.plusMinutes(i * 3L)));
+        }
+        dataset.add(topic(id, BEGIN.plusDays(4)));
+        // 与抓取结果相同的顺序：create_time 从新到旧，同一时刻 topic_id 大的在前
+        dataset.sort(Comparator.comparing((Map<String, Object> t) -> (String) t.get("create_time"))
+                .thenComparing(t -> (Long) t.get("topic_id"))
+                .reversed());
+
+        mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                return serve(request.getRequestUrl());
+            }
+        });
+        mockServer.start();
+        topicsRequest = new TopicsRequest(new HttpClient(ZsxqConfig.builder()
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .retryCount(0)
+                .build()));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testCrawlReturnsEveryTopicOnceNewestFirst() {
+        TopicCrawler crawler = topicsRequest.crawler("123", options()).parallelism(4);
+        List<Topic> topics = crawler.run();
+
+        assertEquals(dataset.size(), topics.size());
+        assertEquals(ids(dataset), topics.stream().map(Topic::getTopicId).collect(Collectors.toList()));
+        assertTrue(maxInFlight.get() > 1, "windows are fetched in parallel");
+        assertTrue(crawler.getWindowCount() > 4, "dense window is split: " + crawler.getWindowCount());
+        assertTrue(crawler.getPageCount() >= dataset.size() / 20);
+    }
+
+    @Test
+    void testTopicsBelowWindowAreLeftToOtherWindows() {
+        honorBeginTime = false;
+
+        List<Topic> topics = topicsRequest.crawl("123", options(), 3);
+
+        assertEquals(ids(dataset), topics.stream().map(Topic::getTopicId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testAsyncCrawl() throws Exception {
+        AsyncTopicsRequest async = new AsyncTopicsRequest(new HttpClient(ZsxqConfig.builder()
+                .token("test-token")
+                .baseUrl(mockServer.url("/").toString().replaceAll("/$", ""))
+                .build()));
+
+        List<Topic> topics = async.crawl("123", options(), 2).get(10, TimeUnit.SECONDS);
+
+        assertEquals(dataset.size(), topics.size());
+    }
+
+    @Test
+    void testPageErrorFailsCrawl() {
+        failEndTime = "2024-01-09T00:00:00.000+0800";
+
+        assertThrows(ZsxqException.class, () -> topicsRequest.crawl("123", options(), 4));
+    }
+
+    @Test
+    void testInlinePagesDoNotGrowStack() throws Exception {
+        // 缓存命中时每页都是已完成的 future；在 256KB 栈的线程上运行，逐页递归时会栈溢出
+        int minutes = 20_000;
+        TopicCrawler crawler = new TopicCrawler(params -> {
+            long end = OffsetDateTime.parse((String) params.get("end_time"), TopicCrawler.TIME_FORMAT)
+                    .toEpochSecond() / 60;
+            long begin = BEGIN.toEpochSecond() / 60;
+            List<Topic> page = new ArrayList<>();
+            for (long m = end; m > end - 2 && m >= begin; m--) {
+                Topic topic = new Topic();
+                topic.setTopicId(m);
+                topic.setCreateTime(BEGIN.plusMinutes(m - begin).format(TopicCrawler.TIME_FORMAT));
+                page.add(topic);
+            }
+            return CompletableFuture.completedFuture(page);
+        }, new TopicsRequest.ListTopicsOptions()
+                .beginTime(BEGIN.format(TopicCrawler.TIME_FORMAT))
+                .endTime(BEGIN.plusMinutes(minutes - 1).format(TopicCrawler.TIME_FORMAT))
+                .count(2))
+                .parallelism(1);
+        AtomicReference<CompletableFuture<List<Topic>>> future = new AtomicReference<>();
+        Thread thread = new Thread(null, () -> future.set(crawler.runAsync()), "small-stack", 256 * 1024);
+        thread.start();
+        thread.join();
+
+        assertEquals(minutes, future.get().get(5, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    void testBeginTimeIsRequired() {
+        assertThrows(IllegalArgumentException.class,
+                () -> topicsRequest.crawler("123", new TopicsRequest.ListTopicsOptions().count(20)));
+        assertThrows(IllegalArgumentException.class,
+                () -> topicsRequest.crawler("123", options().direction("forward")));
+    }
+
+    private TopicsRequest.ListTopicsOptions options() {
+        return new TopicsRequest.ListTopicsOptions()
+                .beginTime(BEGIN.format(TopicCrawler.TIME_FORMAT))
+                .endTime(END.format(TopicCrawler.TIME_FORMAT))
+                .count(20);
+    }
+
+    private MockResponse serve(HttpUrl url) throws InterruptedException {
+        int now = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(now, Math::max);
+        try {
+            Thread.sleep(10);
+            String end = url.queryParameter("end_time");
+            String begin = url.queryParameter("begin_time");
+            if (end.equals(failEndTime)) {
+                return new MockResponse().setBody(gson.toJson(Map.of("succeeded", false, "code", 1059)));
+            }
+            int count = Integer.parseInt(url.queryParameter("count"));
+            List<Map<String, Object>> page = dataset.stream()
+                    .filter(t -> ((String) t.get("create_time")).compareTo(end) <= 0)
+                    .filter(t -> !honorBeginTime || ((String) t.get("create_time")).compareTo(begin) >= 0)
+                    .limit(count)
+                    .collect(Collectors.toList());
+            Map<String, Object> body = new HashMap<>();
+            body.put("succeeded", true);
+            body.put("resp_data", Map.of("topics", page));
+            return new MockResponse().setBody(gson.toJson(body));
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static Map<String, Object> topic(long id, OffsetDateTime createTime) {
+        Map<String, Object> topic = new HashMap<>();
+        topic.put("topic_id", id);
+        topic.put("create_time", createTime.format(TopicCrawler.TIME_FORMAT));
+        return topic;
+    }
+
+    private static List<Long> ids(List<Map<String, Object>> topics) {
+        return topics.stream().map(t -> ((Number) t.get("topic_id")).longValue()).collect(Collectors.toList());
+    }
+}
@@ -2,18 +2,23 @@ package com.zsxq.sdk.request;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.zsxq.sdk.exception.ZsxqException;
 import com.zsxq.sdk.http.HttpClient;
 import com.zsxq.sdk.model.Comment;
 import com.zsxq.sdk.model.Topic;
+import okhttp3.HttpUrl;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -82,6 +87,31 @@ class TopicsRequestTest {
         assertNotNull(topic);
     }
 
+    @Test
+    void testGetKeepsLargeIdPrecision() {
+        mockServer.enqueue(new MockResponse()
+            .setResponseCode(200)
+            .setBody("{\"succeeded\":true,\"resp_data\":{\"topic\":{\"topic_id\":8855548424851242}}}")
+            .setHeader("Content-Type", "application/json"));
+
+        Topic topic = topicsRequest.get(8855548424851242L);
+
+        assertEquals(8855548424851242L, topic.getTopicId());
+    }
+
+    @Test
+    void testListMissingTopics() {
+        mockServer.enqueue(new MockResponse()
+            .setResponseCode(200)
+            .setBody("{\"succeeded\":true,\"resp_data\":{}}")
+            .setHeader("Content-Type", "application/json"));
+
+        List<Topic> topics = topicsRequest.list(123L);
+
+        assertNotNull(topics);
+        assertTrue(topics.isEmpty());
+    }
+
     @Test
     void testGetWithStringId() throws InterruptedException {
         Map<String, Object> respData = new HashMap<>();
@@ -230,6 +260,72 @@ class TopicsRequestTest {
         assertTrue(path.startsWith("/v2/groups/123/columns/200/topics"));
     }
 
+    @Test
+    void testIterateAdvancesCursorAndDropsBoundaryDuplicates() throws InterruptedException {
+        enqueueTopics(topic(5L, "2024-01-05T10:00:00.000+0800"),
+                topic(4L, "2024-01-04T10:00:00.000+0800"),
+                topic(3L, "2024-01-03T10:00:00.000+0800"));
+        enqueueTopics(topic(3L, "2024-01-03T10:00:00.000+0800"),
+                topic(2L, "2024-01-02T10:00:00.000+0800"),
+                topic(1L, "2024-01-01T10:00:00.000+0800"));
+        enqueueTopics(topic(1L, "2024-01-01T10:00:00.000+0800"));
+
+        List<Long> ids = new ArrayList<>();
+        TopicIterator it = topicsRequest.iterate(123L, new TopicsRequest.ListTopicsOptions().count(3));
+        it.forEachRemaining(t -> ids.add(t.getTopicId()));
+
+        assertEquals(List.of(5L, 4L, 3L, 2L, 1L), ids);
+        assertEquals(3, it.getPageCount());
+        assertEquals(3, mockServer.getRequestCount());
+
+        HttpUrl first = mockServer.takeRequest().getRequestUrl();
+        assertNull(first.queryParameter("end_time"));
+        assertEquals("3", first.queryParameter("count"));
+        assertEquals("2024-01-03T10:00:00.000+0800", mockServer.takeRequest().getRequestUrl().queryParameter("end_time"));
+        assertEquals("2024-01-01T10:00:00.000+0800", mockServer.takeRequest().getRequestUrl().queryParameter("end_time"));
+    }
+
+    @Test
+    void testStreamStopsEarlyWithoutPrefetch() {
+        enqueueTopics(topic(2L, "2024-01-02T10:00:00.000+0800"), topic(1L, "2024-01-01T10:00:00.000+0800"));
+
+        List<Topic> topics;
+        try (Stream<Topic> stream = topicsRequest.iterate("123", null, false).stream()) {
+            topics = stream.limit(1).collect(Collectors.toList());
+        }
+
+        assertEquals(1, topics.size());
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testIterateSurfacesPageError() {
+        enqueueTopics(topic(2L, "2024-01-02T10:00:00.000+0800"));
+        Map<String, Object> error = new HashMap<>();
+        error.put("succeeded", false);
+        error.put("code", 1059);
+        mockServer.enqueue(new MockResponse().setResponseCode(200).setBody(gson.toJson(error)));
+
+        TopicIterator it = topicsRequest.iterate("123", null);
+        assertEquals(2L, it.next().getTopicId());
+        assertThrows(ZsxqException.class, it::hasNext);
+    }
+
+    @SafeVarargs
+    private void enqueueTopics(Map<String, Object>... topics) {
+        Map<String, Object> respData = new HashMap<>();
+        respData.put("topics", List.of(topics));
+        mockServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setBody(gson.toJson(createSuccessResponse(respData))));
+    }
+
+    private Map<String, Object> topic(Long id, String createTime) {
+        Map<String, Object> topic = createTopicMap(id, "话题" + id);
+        topic.put("create_time", createTime);
+        return topic;
+    }
+
     // Helper methods
     private Map<String, Object> createSuccessResponse(Object respData) {
         Map<String, Object> response = new HashMap<>();